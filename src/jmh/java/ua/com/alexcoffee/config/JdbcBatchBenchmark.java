@@ -0,0 +1,135 @@
+package ua.com.alexcoffee.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ua.com.alexcoffee.model.category.Category;
+import ua.com.alexcoffee.model.order.Order;
+import ua.com.alexcoffee.model.order.OrderBuilder;
+import ua.com.alexcoffee.model.order.OrderStatus;
+import ua.com.alexcoffee.model.position.SalePosition;
+import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.model.user.User;
+import ua.com.alexcoffee.model.user.UserRole;
+import ua.com.alexcoffee.repository.CategoryRepository;
+import ua.com.alexcoffee.repository.OrderRepository;
+import ua.com.alexcoffee.repository.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checkout and bulk admin writes through the real DatabaseConfig
+ * against an in-memory H2 database, with and without JDBC batching.
+ * H2 runs in-process, so a saved round trip is far cheaper than
+ * on MySQL; the difference here is a lower bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JdbcBatchBenchmark {
+
+    private static final int CATALOG_SIZE = 200;
+
+    private static final int CART_SIZE = 5;
+
+    @Param({"1", "50"})
+    private String batchSize;
+
+    private AnnotationConfigApplicationContext context;
+
+    private TransactionTemplate transaction;
+
+    private ProductRepository productRepository;
+
+    private OrderRepository orderRepository;
+
+    private List<Long> productIds;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("jdbc.driver", "org.h2.Driver");
+        System.setProperty("jdbc.driver.url", "jdbc:h2:mem");
+        System.setProperty("database.name", "batch-" + this.batchSize + ";DB_CLOSE_DELAY=-1");
+        System.setProperty("database.username", "sa");
+        System.setProperty("database.password", "");
+        System.setProperty("database.pool.min-idle", "1");
+        System.setProperty("database.pool.max-size", "2");
+        System.setProperty("database.migration.enabled", "false");
+        System.setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        System.setProperty("hibernate.ddl-auto", "update");
+        System.setProperty("hibernate.jdbc.batch-size", this.batchSize);
+        this.context = new AnnotationConfigApplicationContext(RootConfig.class, DatabaseConfig.class);
+        this.transaction = new TransactionTemplate(this.context.getBean(PlatformTransactionManager.class));
+        this.productRepository = this.context.getBean(ProductRepository.class);
+        this.orderRepository = this.context.getBean(OrderRepository.class);
+        final CategoryRepository categoryRepository = this.context.getBean(CategoryRepository.class);
+        this.productIds = this.transaction.execute(status -> {
+            final Category category = categoryRepository.save(
+                    Category.getBuilder().addTitle("Coffee").addUrl("coffee").build()
+            );
+            final List<Product> products = new ArrayList<>();
+            for (int i = 1; i <= CATALOG_SIZE; i++) {
+                products.add(
+                        Product.getBuilder()
+                                .addArticle(i)
+                                .addTitle("Product " + i)
+                                .addUrl("product-" + i)
+                                .addCategory(category)
+                                .addPrice(i)
+                                .build()
+                );
+            }
+            final List<Long> ids = new ArrayList<>();
+            for (Product product : this.productRepository.save(products)) {
+                ids.add(product.getId());
+            }
+            return ids;
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Order checkout() {
+        return this.transaction.execute(status -> {
+            final List<SalePosition> positions = new ArrayList<>();
+            for (int i = 0; i < CART_SIZE; i++) {
+                final SalePosition position = new SalePosition();
+                position.setNumber(1);
+                position.setProduct(this.productRepository.findOne(this.productIds.get(i)));
+                positions.add(position);
+            }
+            final User client = User.getBuilder()
+                    .addRole(UserRole.CLIENT)
+                    .addName("Client")
+                    .addEmail("client@alexcoffee.com.ua")
+                    .addPhone("0000000000")
+                    .build();
+            final OrderBuilder builder = Order.getBuilder();
+            builder.addStatus(OrderStatus.NEW)
+                    .addClient(client)
+                    .addSalePositions(positions);
+            return this.orderRepository.save(builder.build());
+        });
+    }
+
+    @Benchmark
+    public int bulkPriceUpdate() {
+        return this.transaction.execute(status -> {
+            final List<Product> products = this.productRepository.findAll();
+            for (Product product : products) {
+                product.setPrice(product.getPrice() + 1);
+            }
+            return products.size();
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package ua.com.alexcoffee.model.basket;
+
+import org.openjdk.jmh.annotations.*;
+import ua.com.alexcoffee.model.position.SalePosition;
+import ua.com.alexcoffee.model.product.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShoppingCartBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ShoppingCart shoppingCart;
+
+    private SalePosition newPosition;
+
+    private SalePosition lastPosition;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        final List<SalePosition> positions = new ArrayList<>();
+        for (int i = 0; i < this.size; i++) {
+            positions.add(createPosition(i));
+        }
+        this.shoppingCart = new ShoppingCart();
+        this.shoppingCart.setSalePositions(positions);
+        this.newPosition = createPosition(this.size);
+        this.lastPosition = createPosition(this.size - 1);
+    }
+
+    @Benchmark
+    public int addNewSalePosition() {
+        this.shoppingCart.addSalePosition(this.newPosition);
+        final int size = this.shoppingCart.getSize();
+        this.shoppingCart.removeSalePosition(this.newPosition);
+        return size;
+    }
+
+    @Benchmark
+    public int addExistingSalePosition() {
+        this.shoppingCart.addSalePosition(this.lastPosition);
+        return this.shoppingCart.getSize();
+    }
+
+    @Benchmark
+    public double getPrice() {
+        return this.shoppingCart.getPrice();
+    }
+
+    @Benchmark
+    public int getSize() {
+        return this.shoppingCart.getSize();
+    }
+
+    @Benchmark
+    public int getSalePositions() {
+        return this.shoppingCart.getSalePositions().size();
+    }
+
+    private static SalePosition createPosition(final int id) {
+        final Product product = new Product();
+        product.setId((long) id);
+        product.setTitle("Product " + id);
+        product.setUrl("product-" + id);
+        product.setPrice(10.0 + id);
+        final SalePosition position = new SalePosition();
+        position.setId((long) id);
+        position.setNumber(1);
+        position.setProduct(product);
+        return position;
+    }
+}
@@ -0,0 +1,68 @@
+package ua.com.alexcoffee.model.order;
+
+import org.openjdk.jmh.annotations.*;
+import ua.com.alexcoffee.model.position.SalePosition;
+import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.model.user.User;
+import ua.com.alexcoffee.model.user.UserRole;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBenchmark {
+
+    @Param({"1", "10"})
+    private int positions;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        final User client = User.getBuilder()
+                .addName("Client")
+                .addEmail("client@alexcoffee.com.ua")
+                .addPhone("+380000000000")
+                .addRole(UserRole.CLIENT)
+                .build();
+        final User manager = User.getBuilder()
+                .addName("Manager")
+                .addRole(UserRole.MANAGER)
+                .build();
+        final OrderBuilder builder = Order.getBuilder()
+                .addNumber("AB12CD")
+                .addDate(new Date(0))
+                .addStatus(OrderStatus.NEW)
+                .addClient(client)
+                .addManager(manager)
+                .addShippingAddress("Kyiv")
+                .addShippingDetails("Nova Poshta")
+                .addDescription("Call before delivery");
+        for (int i = 0; i < this.positions; i++) {
+            builder.addSalePosition(createPosition(i));
+        }
+        this.order = builder.build();
+    }
+
+    @Benchmark
+    public String toStringBenchmark() {
+        return this.order.toString();
+    }
+
+    private static SalePosition createPosition(final int id) {
+        final Product product = new Product();
+        product.setId((long) id);
+        product.setTitle("Product " + id);
+        product.setPrice(10.0 + id);
+        final SalePosition position = new SalePosition();
+        position.setId((long) id);
+        position.setNumber(1);
+        position.setProduct(product);
+        return position;
+    }
+}
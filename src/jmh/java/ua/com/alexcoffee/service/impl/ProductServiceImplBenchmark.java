@@ -0,0 +1,70 @@
+package ua.com.alexcoffee.service.impl;
+
+import org.openjdk.jmh.annotations.*;
+import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.repository.ProductRepository;
+import ua.com.alexcoffee.service.cache.CatalogCache;
+import ua.com.alexcoffee.service.interfaces.ProductService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductServiceImplBenchmark {
+
+    private static final int CATALOG_SIZE = 1000;
+
+    @Param({"3", "12"})
+    private int size;
+
+    private ProductService cachedService;
+
+    private ProductService uncachedService;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        final List<Product> products = new ArrayList<>();
+        final List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= CATALOG_SIZE; id++) {
+            final Product product = new Product();
+            product.setId(id);
+            product.setTitle("Product " + id);
+            product.setUrl("product-" + id);
+            products.add(product);
+            ids.add(id);
+        }
+        final ProductRepository repository = mock(ProductRepository.class);
+        when(repository.findAllIds()).thenReturn(ids);
+        when(repository.findAll(any(Iterable.class))).thenAnswer(invocation -> {
+            final List<Product> result = new ArrayList<>();
+            for (Long id : (Iterable<Long>) invocation.getArguments()[0]) {
+                result.add(products.get((int) (id - 1)));
+            }
+            return result;
+        });
+        this.cachedService = new ProductServiceImpl(repository, new CatalogCache(CATALOG_SIZE, 60000));
+        this.uncachedService = new ProductServiceImpl(repository, new CatalogCache(1, 60000));
+    }
+
+    @Benchmark
+    public Collection<Product> getRandomCached() {
+        return this.cachedService.getRandom(this.size);
+    }
+
+    @Benchmark
+    public Collection<Product> getRandomUncached() {
+        return this.uncachedService.getRandom(this.size);
+    }
+}
@@ -0,0 +1,41 @@
+package ua.com.alexcoffee.util.compressor;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HtmlCompressorBenchmark {
+
+    @Param({"10", "100"})
+    private int rows;
+
+    private HtmlCompressor compressor;
+
+    private String html;
+
+    @Setup
+    public void setUp() {
+        this.compressor = new HtmlCompressor();
+        final StringBuilder sb = new StringBuilder("<html>\n  <head>\n    <title>Alex Coffee</title>\n  </head>\n  <body>\n");
+        for (int i = 0; i < this.rows; i++) {
+            sb.append("    <div class=\"product\">\n")
+                    .append("      <!-- product ").append(i).append(" -->\n")
+                    .append("      <a href=\"/product/product-").append(i).append("\">  Product ")
+                    .append(i).append("  </a>\n")
+                    .append("      <span class=\"price\">  ").append(100 + i).append(" UAH  </span>\n")
+                    .append("    </div>\n");
+        }
+        this.html = sb.append("  </body>\n</html>\n").toString();
+    }
+
+    @Benchmark
+    public String compress() {
+        return this.compressor.compress(this.html);
+    }
+}
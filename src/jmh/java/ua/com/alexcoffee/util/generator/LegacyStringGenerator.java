@@ -0,0 +1,31 @@
+package ua.com.alexcoffee.util.generator;
+
+import java.util.Random;
+
+/**
+ * The previous implementation of {@link StringGenerator}, kept as
+ * the baseline of {@link StringGeneratorBenchmark}: one static
+ * {@link Random} shared by all threads and a growing StringBuilder.
+ */
+final class LegacyStringGenerator implements Generator<String> {
+
+    private static final Random RANDOM = new Random();
+
+    private static final char[] PATTERN =
+            ("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789").toCharArray();
+
+    private final long length;
+
+    LegacyStringGenerator(final long length) {
+        this.length = length;
+    }
+
+    @Override
+    public String generate() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < this.length; i++) {
+            sb.append(PATTERN[RANDOM.nextInt(PATTERN.length)]);
+        }
+        return sb.toString();
+    }
+}
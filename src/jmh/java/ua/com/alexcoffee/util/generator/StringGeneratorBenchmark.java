@@ -0,0 +1,47 @@
+package ua.com.alexcoffee.util.generator;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringGeneratorBenchmark {
+
+    @Param({"legacy", "thread-local", "secure"})
+    private String mode;
+
+    @Param({"6", "32"})
+    private long length;
+
+    private Generator<String> generator;
+
+    @Setup
+    public void setUp() {
+        switch (this.mode) {
+            case "legacy":
+                this.generator = new LegacyStringGenerator(this.length);
+                break;
+            case "secure":
+                this.generator = StringGenerator.secure(this.length);
+                break;
+            default:
+                this.generator = new StringGenerator(this.length);
+        }
+    }
+
+    @Benchmark
+    public String generate() {
+        return this.generator.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateContended() {
+        return this.generator.generate();
+    }
+}
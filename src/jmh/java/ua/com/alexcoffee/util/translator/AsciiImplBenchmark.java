@@ -0,0 +1,37 @@
+package ua.com.alexcoffee.util.translator;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsciiImplBenchmark {
+
+    @Param({"AB12CD", "Alex Coffee order notification"})
+    private String value;
+
+    private Ascii to;
+
+    private Ascii from;
+
+    @Setup
+    public void setUp() {
+        this.to = new AsciiImpl(this.value);
+        this.from = new AsciiImpl(this.to.to());
+    }
+
+    @Benchmark
+    public String to() {
+        return this.to.to();
+    }
+
+    @Benchmark
+    public String from() {
+        return this.from.from();
+    }
+}
@@ -0,0 +1,33 @@
+package ua.com.alexcoffee.util.translator;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToLatinImplBenchmark {
+
+    private static final String SHORT_VALUE = "Кофе";
+
+    private static final String LONG_VALUE = "Свежеобжаренный зерновой кофе Эфиопия Иргачефф 250 г";
+
+    @Param({"short", "long"})
+    private String value;
+
+    private ToLatin translator;
+
+    @Setup
+    public void setUp() {
+        this.translator = new ToLatinImpl("short".equals(this.value) ? SHORT_VALUE : LONG_VALUE);
+    }
+
+    @Benchmark
+    public String fromCyrillic() {
+        return this.translator.fromCyrillic();
+    }
+}
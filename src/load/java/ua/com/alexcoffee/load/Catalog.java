@@ -0,0 +1,62 @@
+package ua.com.alexcoffee.load;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Product and category keys of the seeded database that the traffic picks from.
+ */
+final class Catalog {
+
+    private final List<Long> productIds;
+
+    private final List<String> productUrls;
+
+    private final List<String> categoryUrls;
+
+    Catalog(
+            final List<Long> productIds,
+            final List<String> productUrls,
+            final List<String> categoryUrls
+    ) {
+        if (productIds.isEmpty() || categoryUrls.isEmpty()) {
+            throw new IllegalStateException("The database has no products or categories!");
+        }
+        this.productIds = productIds;
+        this.productUrls = encode(productUrls);
+        this.categoryUrls = encode(categoryUrls);
+    }
+
+    long randomProductId(final Random random) {
+        return this.productIds.get(random.nextInt(this.productIds.size()));
+    }
+
+    String randomProductUrl(final Random random) {
+        return this.productUrls.get(random.nextInt(this.productUrls.size()));
+    }
+
+    String randomCategoryUrl(final Random random) {
+        return this.categoryUrls.get(random.nextInt(this.categoryUrls.size()));
+    }
+
+    int getProductCount() {
+        return this.productIds.size();
+    }
+
+    /**
+     * Encodes urls as path segments, some seeded urls have spaces.
+     */
+    private static List<String> encode(final List<String> urls) {
+        return urls.stream().map(url -> {
+            try {
+                return URLEncoder.encode(url, StandardCharsets.UTF_8.name()).replace("+", "%20");
+            } catch (UnsupportedEncodingException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,160 @@
+package ua.com.alexcoffee.load;
+
+import org.h2.tools.Server;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory H2 database in MySQL mode, served over a local TCP port so that
+ * the application reaches it through its own DatabaseConfig and connection pool.
+ * The schema and data come from the database/tables.sql and database/inserts.sql
+ * dumps with the MySQL-only statements stripped.
+ */
+final class EmbeddedDatabase implements AutoCloseable {
+
+    private static final String NAME = "mem:alexcoffee";
+
+    private static final String MODE = ";MODE=MySQL";
+
+    private static final String USERNAME = "sa";
+
+    private static final String PASSWORD = "";
+
+    private final Connection connection;
+
+    private final Server server;
+
+    EmbeddedDatabase() throws SQLException, IOException {
+        this.connection = DriverManager.getConnection(
+                "jdbc:h2:" + NAME + MODE + ";DB_CLOSE_DELAY=-1", USERNAME, PASSWORD
+        );
+        this.server = Server.createTcpServer(
+                "-tcpPort", String.valueOf(freePort()), "-tcpDaemon"
+        ).start();
+    }
+
+    /**
+     * Points the database.properties placeholders at this database.
+     * System properties take precedence over the property files.
+     */
+    void exportProperties() {
+        System.setProperty("jdbc.driver", "org.h2.Driver");
+        System.setProperty("jdbc.driver.url", "jdbc:h2:tcp");
+        System.setProperty("database.host.ip", "127.0.0.1");
+        System.setProperty("database.host.port", String.valueOf(this.server.getPort()));
+        System.setProperty("database.name", NAME + MODE);
+        System.setProperty("database.username", USERNAME);
+        System.setProperty("database.password", PASSWORD);
+        System.setProperty("database.migration.enabled", "false");
+        System.setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        System.setProperty("hibernate.ddl-auto", "update");
+    }
+
+    /**
+     * Runs a MySQL dump against the database.
+     *
+     * @param script the dump file.
+     */
+    void run(final File script) throws IOException, SQLException {
+        final List<String> lines = Files.readAllLines(script.toPath(), StandardCharsets.UTF_8);
+        final String sql = lines.stream()
+                .filter(line -> !isMySqlOnly(line.trim()))
+                .map(EmbeddedDatabase::stripTableOptions)
+                .collect(Collectors.joining("\n"));
+        final File converted = File.createTempFile("alexcoffee-", ".sql");
+        try {
+            Files.write(converted.toPath(), sql.getBytes(StandardCharsets.UTF_8));
+            try (Statement statement = this.connection.createStatement()) {
+                statement.execute("RUNSCRIPT FROM '" + converted.getAbsolutePath() + "' CHARSET 'UTF-8'");
+            }
+        } finally {
+            Files.deleteIfExists(converted.toPath());
+        }
+    }
+
+    /**
+     * Adds an administrator with a unique login, the seed data has
+     * two staff users sharing the same login.
+     */
+    void addAdministrator(final String username, final String password) throws SQLException {
+        try (PreparedStatement statement = this.connection.prepareStatement(
+                "INSERT INTO users (role, name, username, password, email, phone, description) " +
+                        "VALUES ('ADMIN', 'Load Test', ?, ?, 'load@alexcoffee.com.ua', '+380000000000', '')"
+        )) {
+            statement.setString(1, username);
+            statement.setString(2, password);
+            statement.executeUpdate();
+        }
+    }
+
+    Catalog loadCatalog() throws SQLException {
+        return new Catalog(
+                queryLongs("SELECT id FROM products ORDER BY id"),
+                queryStrings("SELECT url FROM products ORDER BY id"),
+                queryStrings("SELECT url FROM categories ORDER BY id")
+        );
+    }
+
+    @Override
+    public void close() throws SQLException {
+        this.server.stop();
+        this.connection.close();
+    }
+
+    private List<Long> queryLongs(final String sql) throws SQLException {
+        final List<Long> values = new ArrayList<>();
+        try (Statement statement = this.connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                values.add(resultSet.getLong(1));
+            }
+        }
+        return values;
+    }
+
+    private List<String> queryStrings(final String sql) throws SQLException {
+        final List<String> values = new ArrayList<>();
+        try (Statement statement = this.connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                values.add(resultSet.getString(1));
+            }
+        }
+        return values;
+    }
+
+    private static boolean isMySqlOnly(final String line) {
+        return line.startsWith("USE ") || line.startsWith("DROP DATABASE") ||
+                line.startsWith("CREATE DATABASE") || line.startsWith("/*!");
+    }
+
+    private static String stripTableOptions(final String line) {
+        final String trimmed = line.trim();
+        if (trimmed.startsWith("ENGINE")) {
+            return "";
+        }
+        if (trimmed.startsWith("DEFAULT CHARSET")) {
+            return ";";
+        }
+        return line;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
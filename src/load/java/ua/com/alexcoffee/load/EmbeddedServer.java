@@ -0,0 +1,54 @@
+package ua.com.alexcoffee.load;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.core.StandardContext;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.scan.StandardJarScanner;
+import org.springframework.web.SpringServletContainerInitializer;
+import ua.com.alexcoffee.config.AppInitializer;
+import ua.com.alexcoffee.config.SecurityInitializer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * Embedded Tomcat serving src/main/webapp with the application's own
+ * initializers, the same way the WAR is bootstrapped in a standalone container.
+ */
+final class EmbeddedServer implements AutoCloseable {
+
+    private final Tomcat tomcat;
+
+    EmbeddedServer(final File webapp, final int maxThreads) throws IOException, LifecycleException {
+        this.tomcat = new Tomcat();
+        this.tomcat.setBaseDir(Files.createTempDirectory("alexcoffee-tomcat").toString());
+        this.tomcat.setPort(0);
+        this.tomcat.getConnector().setProperty("maxThreads", String.valueOf(maxThreads));
+        final Context context = this.tomcat.addWebapp("", webapp.getAbsolutePath());
+        // Initializers are registered explicitly, the classes directory is not a jar to scan.
+        ((StandardContext) context).setContainerSciFilter(
+                SpringServletContainerInitializer.class.getName()
+        );
+        context.addServletContainerInitializer(
+                new SpringServletContainerInitializer(),
+                new HashSet<>(Arrays.asList(AppInitializer.class, SecurityInitializer.class))
+        );
+        // Dependencies are on the class path already, their manifests need not be followed.
+        ((StandardJarScanner) context.getJarScanner()).setScanManifest(false);
+        this.tomcat.start();
+    }
+
+    String getBaseUrl() {
+        return "http://127.0.0.1:" + this.tomcat.getConnector().getLocalPort();
+    }
+
+    @Override
+    public void close() throws LifecycleException {
+        this.tomcat.stop();
+        this.tomcat.destroy();
+    }
+}
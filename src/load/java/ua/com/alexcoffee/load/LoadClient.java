@@ -0,0 +1,126 @@
+package ua.com.alexcoffee.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * HTTP client of one virtual user. Keeps its own session cookie,
+ * so every user has its own shopping cart and login, and records
+ * the latency of every request under a route name.
+ */
+final class LoadClient {
+
+    private static final String SESSION_COOKIE = "JSESSIONID";
+
+    private static final String LOGIN_PAGE = "/login";
+
+    private static final int TIMEOUT = 30000;
+
+    private final String baseUrl;
+
+    private final LoadReport report;
+
+    private final byte[] buffer = new byte[8192];
+
+    private String session;
+
+    private boolean authenticated;
+
+    LoadClient(final String baseUrl, final LoadReport report) {
+        this.baseUrl = baseUrl;
+        this.report = report;
+    }
+
+    boolean get(final String route, final String path) {
+        return execute(route, "GET", path, null);
+    }
+
+    boolean post(final String route, final String path, final String... form) {
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i + 1 < form.length; i += 2) {
+            if (body.length() > 0) {
+                body.append('&');
+            }
+            body.append(encode(form[i])).append('=').append(encode(form[i + 1]));
+        }
+        return execute(route, "POST", path, body.toString());
+    }
+
+    boolean isAuthenticated() {
+        return this.authenticated;
+    }
+
+    void setAuthenticated(final boolean authenticated) {
+        this.authenticated = authenticated;
+    }
+
+    /**
+     * A redirect to the login page counts as a failure: the request was not served.
+     */
+    private boolean execute(final String route, final String method, final String path, final String body) {
+        final long start = System.nanoTime();
+        boolean success;
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) new URL(this.baseUrl + path).openConnection();
+            connection.setInstanceFollowRedirects(false);
+            connection.setConnectTimeout(TIMEOUT);
+            connection.setReadTimeout(TIMEOUT);
+            connection.setRequestMethod(method);
+            if (this.session != null) {
+                connection.setRequestProperty("Cookie", SESSION_COOKIE + "=" + this.session);
+            }
+            if (body != null) {
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+                try (OutputStream out = connection.getOutputStream()) {
+                    out.write(body.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            final int status = connection.getResponseCode();
+            readSession(connection.getHeaderFields().get("Set-Cookie"));
+            drain(status < 400 ? connection.getInputStream() : connection.getErrorStream());
+            final String location = connection.getHeaderField("Location");
+            success = status < 400 && (location == null || !location.contains(LOGIN_PAGE));
+        } catch (IOException ex) {
+            success = false;
+        }
+        this.report.record(route, System.nanoTime() - start, success);
+        return success;
+    }
+
+    private void readSession(final List<String> cookies) {
+        if (cookies == null) {
+            return;
+        }
+        for (String cookie : cookies) {
+            if (cookie.startsWith(SESSION_COOKIE + "=")) {
+                final int end = cookie.indexOf(';');
+                this.session = cookie.substring(SESSION_COOKIE.length() + 1, end < 0 ? cookie.length() : end);
+            }
+        }
+    }
+
+    private void drain(final InputStream in) throws IOException {
+        if (in != null) {
+            try (InputStream stream = in) {
+                while (stream.read(this.buffer) != -1) {
+                    // the body is read fully to keep the connection alive
+                }
+            }
+        }
+    }
+
+    private static String encode(final String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
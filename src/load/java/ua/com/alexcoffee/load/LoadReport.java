@@ -0,0 +1,124 @@
+package ua.com.alexcoffee.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-route latency histograms. Requests are recorded only between
+ * {@link #start()} and {@link #stop()}, so the warmup does not
+ * distort the figures.
+ */
+final class LoadReport {
+
+    private static final long MAX_LATENCY = TimeUnit.MINUTES.toNanos(1);
+
+    private static final String TOTAL = "TOTAL";
+
+    private final ConcurrentMap<String, Route> routes = new ConcurrentHashMap<>();
+
+    private volatile boolean recording;
+
+    private volatile long started;
+
+    private volatile long stopped;
+
+    void start() {
+        this.started = System.nanoTime();
+        this.recording = true;
+    }
+
+    void stop() {
+        this.recording = false;
+        this.stopped = System.nanoTime();
+    }
+
+    void record(final String route, final long latency, final boolean success) {
+        if (this.recording) {
+            this.routes.computeIfAbsent(route, key -> new Route()).record(latency, success);
+        }
+    }
+
+    void print(final PrintStream out) {
+        final double seconds = getSeconds();
+        out.printf("%n%-26s %9s %7s %9s %9s %9s %9s %9s%n",
+                "Route", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p99.9 ms", "Max ms");
+        for (Map.Entry<String, Route> entry : getRoutes().entrySet()) {
+            final Histogram histogram = entry.getValue().histogram;
+            out.printf("%-26s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    entry.getValue().errors.sum(),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+    }
+
+    void write(final Path file) throws IOException {
+        final double seconds = getSeconds();
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            writer.println("route,requests,errors,throughput,p50_ms,p99_ms,p999_ms,max_ms");
+            for (Map.Entry<String, Route> entry : getRoutes().entrySet()) {
+                final Histogram histogram = entry.getValue().histogram;
+                writer.printf("\"%s\",%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f%n",
+                        entry.getKey(),
+                        histogram.getTotalCount(),
+                        entry.getValue().errors.sum(),
+                        histogram.getTotalCount() / seconds,
+                        millis(histogram.getValueAtPercentile(50)),
+                        millis(histogram.getValueAtPercentile(99)),
+                        millis(histogram.getValueAtPercentile(99.9)),
+                        millis(histogram.getMaxValue()));
+            }
+        }
+    }
+
+    private Map<String, Route> getRoutes() {
+        final Map<String, Route> routes = new TreeMap<>(this.routes);
+        final Route total = new Route();
+        for (Route route : this.routes.values()) {
+            total.histogram.add(route.histogram);
+            total.errors.add(route.errors.sum());
+        }
+        routes.put(TOTAL, total);
+        return routes;
+    }
+
+    private double getSeconds() {
+        return Math.max(this.stopped - this.started, 1) / 1e9;
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static final class Route {
+
+        private final Histogram histogram = new ConcurrentHistogram(MAX_LATENCY, 3);
+
+        private final LongAdder errors = new LongAdder();
+
+        private void record(final long latency, final boolean success) {
+            this.histogram.recordValue(Math.min(latency, MAX_LATENCY));
+            if (!success) {
+                this.errors.increment();
+            }
+        }
+    }
+}
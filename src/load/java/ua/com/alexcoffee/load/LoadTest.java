@@ -0,0 +1,156 @@
+package ua.com.alexcoffee.load;
+
+import ua.com.alexcoffee.tools.MockSmtpServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load test. Boots the application in an embedded Tomcat against
+ * an in-memory database seeded from database/*.sql, replays storefront, cart,
+ * checkout and admin traffic from concurrent virtual users and prints the
+ * throughput and p50/p99/p99.9 latency of every route. Traffic starts once
+ * /health/ready reports that the pool and the catalog cache are warm.
+ * <p>
+ * Settings are system properties:
+ * <pre>
+ *     load.webapp   - webapp directory (src/main/webapp)
+ *     load.tables   - schema dump (database/tables.sql)
+ *     load.inserts  - data dump (database/inserts.sql)
+ *     load.users    - concurrent virtual users (16)
+ *     load.warmup   - warmup seconds, not recorded (15)
+ *     load.duration - measured seconds (60)
+ *     load.mix      - scenario weights (storefront=70,cart=15,checkout=10,admin=5)
+ *     load.report   - CSV report file (target/load-report.csv)
+ * </pre>
+ * Order notifications go to a local mock SMTP server, never to a real one.
+ */
+public final class LoadTest {
+
+    static final String ADMIN_USERNAME = "load-admin";
+
+    static final String ADMIN_PASSWORD = "load-password";
+
+    private static final long READY_TIMEOUT = TimeUnit.MINUTES.toNanos(2);
+
+    private LoadTest() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final File webapp = new File(System.getProperty("load.webapp", "src/main/webapp"));
+        final File inserts = new File(System.getProperty("load.inserts", "database/inserts.sql"));
+        final File tables = new File(System.getProperty("load.tables",
+                new File(inserts.getParentFile(), "tables.sql").getPath()));
+        final int users = Integer.getInteger("load.users", 16);
+        final int warmup = Integer.getInteger("load.warmup", 15);
+        final int duration = Integer.getInteger("load.duration", 60);
+        final Scenario[] mix = parseMix(System.getProperty("load.mix", "storefront=70,cart=15,checkout=10,admin=5"));
+        final String report = System.getProperty("load.report", "target/load-report.csv");
+
+        try (MockSmtpServer smtp = new MockSmtpServer();
+             EmbeddedDatabase database = new EmbeddedDatabase()) {
+            System.setProperty("mail.smtp.host", "127.0.0.1");
+            System.setProperty("mail.smtp.tls-port", String.valueOf(smtp.getPort()));
+            System.setProperty("cart.cookie.secret", "load-test-cart-secret");
+            database.exportProperties();
+            database.run(tables);
+            database.run(inserts);
+            database.addAdministrator(ADMIN_USERNAME, ADMIN_PASSWORD);
+            final Catalog catalog = database.loadCatalog();
+
+            final long booting = System.nanoTime();
+            try (EmbeddedServer server = new EmbeddedServer(webapp, Math.max(users * 2, 50))) {
+                System.out.printf("Started in %d ms at %s, %d products, %d users, mix %s%n",
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - booting),
+                        server.getBaseUrl(), catalog.getProductCount(), users,
+                        System.getProperty("load.mix", "default"));
+                awaitReady(server.getBaseUrl());
+                System.out.printf("Ready in %d ms%n", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - booting));
+                final LoadReport loadReport = new LoadReport();
+                run(server.getBaseUrl(), catalog, mix, users, warmup, duration, loadReport);
+                loadReport.print(System.out);
+                loadReport.write(Paths.get(report));
+                System.out.println("\nReport is saved to " + report);
+            }
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Polls the readiness endpoint until the application has warmed up its pool and caches.
+     */
+    private static void awaitReady(final String baseUrl) throws IOException, InterruptedException {
+        final long deadline = System.nanoTime() + READY_TIMEOUT;
+        while (System.nanoTime() < deadline) {
+            final HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + "/health/ready").openConnection();
+            try {
+                if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
+                    return;
+                }
+            } finally {
+                connection.disconnect();
+            }
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        throw new IllegalStateException("The application is not ready after " +
+                TimeUnit.NANOSECONDS.toSeconds(READY_TIMEOUT) + " s");
+    }
+
+    private static void run(
+            final String baseUrl,
+            final Catalog catalog,
+            final Scenario[] mix,
+            final int users,
+            final int warmup,
+            final int duration,
+            final LoadReport report
+    ) throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(users);
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmup + duration);
+        for (int i = 0; i < users; i++) {
+            final long seed = i;
+            executor.execute(() -> {
+                final Random random = new Random(seed);
+                final LoadClient client = new LoadClient(baseUrl, report);
+                while (System.nanoTime() < deadline) {
+                    mix[random.nextInt(mix.length)].run(client, catalog, random);
+                }
+            });
+        }
+        TimeUnit.SECONDS.sleep(warmup);
+        report.start();
+        TimeUnit.SECONDS.sleep(duration);
+        report.stop();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Expands "storefront=70,cart=15" into a table of scenarios where
+     * every scenario appears as many times as its weight.
+     */
+    private static Scenario[] parseMix(final String mix) {
+        final List<Scenario> table = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            final String[] pair = part.trim().split("=");
+            final Scenario scenario = Scenario.valueOf(pair[0].trim().toUpperCase());
+            final int weight = pair.length > 1 ? Integer.parseInt(pair[1].trim()) : 1;
+            for (int i = 0; i < weight; i++) {
+                table.add(scenario);
+            }
+        }
+        if (table.isEmpty()) {
+            throw new IllegalArgumentException("Empty traffic mix: " + mix);
+        }
+        return table.toArray(new Scenario[table.size()]);
+    }
+}
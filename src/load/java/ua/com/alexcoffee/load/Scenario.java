@@ -0,0 +1,86 @@
+package ua.com.alexcoffee.load;
+
+import java.util.Random;
+
+/**
+ * Traffic mixes replayed by virtual users. Every run of a scenario
+ * is one visit: a few requests a real visitor makes in a row.
+ */
+enum Scenario {
+
+    /**
+     * Browsing: home page, a category and a couple of products.
+     */
+    STOREFRONT {
+        @Override
+        void run(final LoadClient client, final Catalog catalog, final Random random) {
+            client.get("GET /", "/");
+            client.get("GET /category/{url}", "/category/" + catalog.randomCategoryUrl(random));
+            client.get("GET /product/{url}", "/product/" + catalog.randomProductUrl(random));
+            if (random.nextInt(4) == 0) {
+                client.get("GET /product/all", "/product/all");
+            }
+            client.get("GET /product/{url}", "/product/" + catalog.randomProductUrl(random));
+        }
+    },
+
+    /**
+     * Filling the cart without buying.
+     */
+    CART {
+        @Override
+        void run(final LoadClient client, final Catalog catalog, final Random random) {
+            client.get("GET /product/{url}", "/product/" + catalog.randomProductUrl(random));
+            client.post("POST /cart/add", "/cart/add", "id", String.valueOf(catalog.randomProductId(random)));
+            client.get("GET /cart", "/cart");
+            if (random.nextInt(3) == 0) {
+                client.get("GET /cart/clear", "/cart/clear");
+            }
+        }
+    },
+
+    /**
+     * Buying one to three products.
+     */
+    CHECKOUT {
+        @Override
+        void run(final LoadClient client, final Catalog catalog, final Random random) {
+            final int products = 1 + random.nextInt(3);
+            for (int i = 0; i < products; i++) {
+                client.post("POST /cart/add", "/cart/add", "id", String.valueOf(catalog.randomProductId(random)));
+            }
+            client.get("GET /cart", "/cart");
+            client.post(
+                    "POST /checkout", "/checkout",
+                    "user_name", "Load Test",
+                    "user_email", "client@alexcoffee.com.ua",
+                    "user_phone", "+380000000000"
+            );
+        }
+    },
+
+    /**
+     * Staff working with the admin lists.
+     */
+    ADMIN {
+        @Override
+        void run(final LoadClient client, final Catalog catalog, final Random random) {
+            if (!client.isAuthenticated()) {
+                client.setAuthenticated(client.post(
+                        "POST /login", "/login",
+                        "username", LoadTest.ADMIN_USERNAME,
+                        "password", LoadTest.ADMIN_PASSWORD
+                ));
+            }
+            client.get("GET /admin/order/all", "/admin/order/all");
+            client.get("GET /admin/product/all", "/admin/product/all");
+            if (random.nextInt(2) == 0) {
+                client.get("GET /admin/category/all", "/admin/category/all");
+            } else {
+                client.get("GET /admin/user/all", "/admin/user/all");
+            }
+        }
+    };
+
+    abstract void run(LoadClient client, Catalog catalog, Random random);
+}
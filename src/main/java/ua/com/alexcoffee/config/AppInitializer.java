@@ -20,6 +20,10 @@ import javax.servlet.ServletException;
  * @see RootConfig
  * @see SecurityConfig
  * @see SecurityInitializer
+ * @see CacheConfig
+ * @see CartConfig
+ * @see MailConfig
+ * @see MetricsConfig
  */
 public class AppInitializer extends AbstractAnnotationConfigDispatcherServletInitializer {
     /**
@@ -43,6 +47,10 @@ public class AppInitializer extends AbstractAnnotationConfigDispatcherServletIni
         return new Class<?>[] {
                 RootConfig.class,
                 DatabaseConfig.class,
+                CacheConfig.class,
+                CartConfig.class,
+                MailConfig.class,
+                MetricsConfig.class,
                 SecurityConfig.class
         };
     }
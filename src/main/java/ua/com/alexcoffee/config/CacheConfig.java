@@ -0,0 +1,149 @@
+package ua.com.alexcoffee.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import ua.com.alexcoffee.service.cache.CatalogCache;
+import ua.com.alexcoffee.service.cache.RoleDirectory;
+import ua.com.alexcoffee.service.cache.WarmUp;
+import ua.com.alexcoffee.service.interfaces.CategoryService;
+import ua.com.alexcoffee.service.interfaces.ProductService;
+import ua.com.alexcoffee.service.metrics.StartupMetrics;
+import ua.com.alexcoffee.service.sitemap.SiteMapStore;
+
+import javax.sql.DataSource;
+
+/**
+ * Класс конфигурации кэшей приложения.
+ * Настройки кэшей читаются из файла "cache.properties".
+ * Помечен аннотацией @Configuration - класс является
+ * источником определения бинов;
+ * аннотацией @PropertySource - указывает файл с настройками.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CatalogCache
+ * @see RoleDirectory
+ * @see SiteMapStore
+ * @see WarmUp
+ */
+@Configuration
+@PropertySource("classpath:cache.properties")
+public class CacheConfig {
+    /**
+     * Максимальное количество записей в каждом кэше каталога.
+     */
+    @Value("${cache.catalog.max-size}")
+    private int catalogMaxSize;
+
+    /**
+     * Время жизни записи кэша каталога в миллисекундах.
+     */
+    @Value("${cache.catalog.time-to-live}")
+    private long catalogTimeToLive;
+
+    /**
+     * Время жизни списков справочника пользователей в миллисекундах.
+     */
+    @Value("${cache.users.time-to-live}")
+    private long usersTimeToLive;
+
+    /**
+     * Каталог для файлов sitemap.
+     */
+    @Value("${cache.sitemap.directory}")
+    private String siteMapDirectory;
+
+    /**
+     * Адрес сайта для ссылок в sitemap.
+     */
+    @Value("${cache.sitemap.base-url}")
+    private String siteMapBaseUrl;
+
+    /**
+     * Максимальное количество ссылок в одном файле sitemap.
+     */
+    @Value("${cache.sitemap.max-urls}")
+    private int siteMapMaxUrls;
+
+    /**
+     * Прогревать ли пул соединений и кэши при старте.
+     */
+    @Value("${cache.warm-up.enabled}")
+    private boolean isWarmUpEnabled;
+
+    /**
+     * Количество соединений, которые открываются при прогреве.
+     */
+    @Value("${cache.warm-up.connections}")
+    private int warmUpConnections;
+
+    /**
+     * Количество товаров на странице, которые загружаются при прогреве.
+     */
+    @Value("${cache.warm-up.page-size}")
+    private int warmUpPageSize;
+
+    /**
+     * Пауза перед повтором неудачного прогрева в миллисекундах.
+     */
+    @Value("${cache.warm-up.retry-delay}")
+    private long warmUpRetryDelay;
+
+    /**
+     * Возвращает кэш каталога товаров, который
+     * используют сервисы товаров и категорий.
+     *
+     * @return Объект класса {@link CatalogCache}.
+     */
+    @Bean
+    public CatalogCache catalogCache() {
+        return new CatalogCache(this.catalogMaxSize, this.catalogTimeToLive);
+    }
+
+    /**
+     * Возвращает справочник пользователей по ролям,
+     * который использует сервис пользователей.
+     *
+     * @return Объект класса {@link RoleDirectory}.
+     */
+    @Bean
+    public RoleDirectory roleDirectory() {
+        return new RoleDirectory(this.usersTimeToLive);
+    }
+
+    /**
+     * Возвращает хранилище файлов sitemap на диске,
+     * которое использует сервис sitemap.
+     *
+     * @return Объект класса {@link SiteMapStore}.
+     */
+    @Bean
+    public SiteMapStore siteMapStore() {
+        return new SiteMapStore(this.siteMapDirectory, this.siteMapBaseUrl, this.siteMapMaxUrls);
+    }
+
+    /**
+     * Возвращает прогрев пула соединений и кэша каталога,
+     * который запускается после создания контекста.
+     *
+     * @param dataSource      Источник соединений с базой данных.
+     * @param categoryService Сервис категорий.
+     * @param productService  Сервис товаров.
+     * @param startupMetrics  Метрики запуска приложения.
+     * @return Объект класса {@link WarmUp}.
+     */
+    @Bean
+    public WarmUp warmUp(
+            final DataSource dataSource,
+            final CategoryService categoryService,
+            final ProductService productService,
+            final StartupMetrics startupMetrics
+    ) {
+        return new WarmUp(
+                dataSource, categoryService, productService, startupMetrics,
+                this.isWarmUpEnabled, this.warmUpConnections, this.warmUpPageSize, this.warmUpRetryDelay
+        );
+    }
+}
@@ -0,0 +1,89 @@
+package ua.com.alexcoffee.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import ua.com.alexcoffee.repository.cart.CartStore;
+import ua.com.alexcoffee.repository.cart.CookieCartStore;
+import ua.com.alexcoffee.repository.cart.ExternalCartStore;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isEmpty;
+
+/**
+ * Класс конфигурации хранилища корзин товаров.
+ * Настройки читаются из файла "cart.properties".
+ * Корзина не хранится в сессии, а целиком записывается в подписанную
+ * cookie, поэтому запросы посетителя может обслужить любой узел
+ * приложения. Секретный ключ подписи должен быть задан и одинаков
+ * на всех узлах, например через системное свойство "cart.cookie.secret"
+ * или переменную окружения CART_COOKIE_SECRET, иначе приложение
+ * не запустится. Хранилище {@link ExternalCartStore} не выбирается,
+ * пока нет общего для всех узлов хранилища ключ-значение.
+ * Помечен аннотацией @Configuration - класс является
+ * источником определения бинов;
+ * аннотацией @PropertySource - указывает файл с настройками.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CookieCartStore
+ * @see ExternalCartStore
+ */
+@Configuration
+@PropertySource("classpath:cart.properties")
+public class CartConfig {
+    /**
+     * Тип хранилища, поддерживается только "cookie" - корзина в подписанной cookie.
+     */
+    @Value("${cart.store}")
+    private String store;
+
+    /**
+     * Имя cookie корзины.
+     */
+    @Value("${cart.cookie.name}")
+    private String cookieName;
+
+    /**
+     * Секретный ключ подписи cookie, общий для всех узлов.
+     */
+    @Value("${cart.cookie.secret}")
+    private String cookieSecret;
+
+    /**
+     * Время жизни cookie в секундах.
+     */
+    @Value("${cart.cookie.max-age}")
+    private int cookieMaxAge;
+
+    /**
+     * Максимальное количество разных товаров в корзине.
+     */
+    @Value("${cart.max-lines}")
+    private int maxLines;
+
+    /**
+     * Возвращает хранилище корзин, которое использует
+     * репозиторий корзины.
+     *
+     * @return Объект типа {@link CartStore}.
+     * @throws IllegalStateException Бросает исключение, если выбрано неизвестное
+     *                               хранилище или не задан секретный ключ.
+     */
+    @Bean
+    public CartStore cartStore() throws IllegalStateException {
+        if (!"cookie".equalsIgnoreCase(this.store)) {
+            throw new IllegalStateException(
+                    "Unsupported cart store \"" + this.store + "\", only \"cookie\" is shared between nodes!"
+            );
+        }
+        if (isEmpty(this.cookieSecret)) {
+            throw new IllegalStateException(
+                    "Property cart.cookie.secret must be set to the same value on every node!"
+            );
+        }
+        return new CookieCartStore(
+                this.cookieName, this.cookieSecret, this.cookieMaxAge, this.maxLines
+        );
+    }
+}
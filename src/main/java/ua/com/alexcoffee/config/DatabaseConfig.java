@@ -1,19 +1,51 @@
 package ua.com.alexcoffee.config;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import org.apache.tomcat.dbcp.dbcp.BasicDataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.ehcache.SingletonEhCacheRegionFactory;
+import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import ua.com.alexcoffee.repository.OrderSequenceRepository;
+import ua.com.alexcoffee.service.checkout.OrderNumberGenerator;
+import ua.com.alexcoffee.service.metrics.BasicDataSourceStats;
+import ua.com.alexcoffee.service.metrics.CacheMetrics;
+import ua.com.alexcoffee.service.metrics.InstrumentedJpaTransactionManager;
+import ua.com.alexcoffee.service.metrics.PoolMetrics;
+import ua.com.alexcoffee.service.metrics.StatementCounter;
+import ua.com.alexcoffee.service.schema.CheckMode;
+import ua.com.alexcoffee.service.schema.IndexCheck;
+import ua.com.alexcoffee.service.schema.SchemaCheck;
+import ua.com.alexcoffee.service.schema.SchemaMigration;
 
 import javax.persistence.EntityManagerFactory;
+import javax.persistence.SharedCacheMode;
+import javax.persistence.metamodel.EntityType;
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotEmpty;
 
 @Configuration
 @EnableTransactionManagement
@@ -61,36 +93,112 @@ public class DatabaseConfig {
     @Value("${database.server-timezone}")
     private String serverTimezone;
 
-    @Value("${database.initial-size}")
-    private int initialSize;
+    @Value("${database.pool.type}")
+    private String poolType;
+
+    @Value("${database.pool.name}")
+    private String poolName;
+
+    @Value("${database.pool.min-idle}")
+    private int minIdle;
+
+    @Value("${database.pool.max-size}")
+    private int maxSize;
 
-    @Value("${database.max-active}")
-    private int maxActive;
+    @Value("${database.pool.connection-timeout}")
+    private long connectionTimeout;
 
-    @Value("${database.test-on-borrow}")
-    private boolean testOnBorrow;
+    @Value("${database.pool.validation-timeout}")
+    private long validationTimeout;
 
-    @Value("${database.validation-query}")
+    @Value("${database.pool.validation-query}")
     private String validationQuery;
 
+    @Value("${database.pool.idle-timeout}")
+    private long idleTimeout;
+
+    @Value("${database.pool.max-lifetime}")
+    private long maxLifetime;
+
+    @Value("${database.pool.leak-detection-threshold}")
+    private long leakDetectionThreshold;
+
+    @Value("${database.prep-stmt-cache-size}")
+    private int prepStmtCacheSize;
+
+    @Value("${database.prep-stmt-cache-sql-limit}")
+    private int prepStmtCacheSqlLimit;
+
+    @Value("${database.use-server-prep-stmts}")
+    private boolean useServerPrepStmts;
+
+    @Value("${database.rewrite-batched-statements}")
+    private boolean rewriteBatchedStatements;
+
+    @Value("${database.use-cursor-fetch}")
+    private boolean useCursorFetch;
+
+    @Value("${database.migration.enabled}")
+    private boolean isMigrationEnabled;
+
+    @Value("${database.migration.locations}")
+    private String migrationLocations;
+
+    @Value("${database.migration.baseline-version}")
+    private String migrationBaselineVersion;
+
+    @Value("${database.index-check}")
+    private String indexCheck;
+
+    @Value("${database.schema-check}")
+    private String schemaCheck;
+
+    @Value("${database.order-number.block-size}")
+    private int orderNumberBlockSize;
+
     @Value("${hibernate.dialect}")
     private String hibernateDialect;
 
     @Value("${hibernate.show-sql}")
     private boolean isShowSql;
 
-    @Value("${hibernate.generate-ddl}")
-    private boolean isGenerateDdl;
+    @Value("${hibernate.ddl-auto}")
+    private String ddlAuto;
 
     @Value("${hibernate.entity-packages}")
     private String entityPackages;
 
+    @Value("${hibernate.jdbc.batch-size}")
+    private int jdbcBatchSize;
+
+    @Value("${hibernate.jdbc.fetch-size}")
+    private int jdbcFetchSize;
+
+    @Value("${hibernate.order-inserts}")
+    private boolean isOrderInserts;
+
+    @Value("${hibernate.order-updates}")
+    private boolean isOrderUpdates;
+
+    @Value("${hibernate.cache.use-second-level-cache}")
+    private boolean useSecondLevelCache;
+
+    @Value("${hibernate.cache.use-query-cache}")
+    private boolean useQueryCache;
+
+    @Value("${hibernate.cache.config}")
+    private String cacheConfig;
+
+    @Value("${hibernate.generate-statistics}")
+    private boolean isGenerateStatistics;
+
     @Bean
     public JpaTransactionManager transactionManager(final EntityManagerFactory factory) {
-        return new JpaTransactionManager(factory);
+        return new InstrumentedJpaTransactionManager(factory);
     }
 
     @Bean
+    @DependsOn("schemaMigration")
     public LocalContainerEntityManagerFactoryBean entityManagerFactory(
             final DataSource dataSource,
             final HibernateJpaVendorAdapter adapter
@@ -100,29 +208,70 @@ public class DatabaseConfig {
         factory.setDataSource(dataSource);
         factory.setJpaVendorAdapter(adapter);
         factory.setPackagesToScan(this.entityPackages);
+        factory.setSharedCacheMode(SharedCacheMode.ENABLE_SELECTIVE);
+        factory.setJpaPropertyMap(createJpaProperties());
         return factory;
     }
 
+    @Bean(initMethod = "migrate")
+    public SchemaMigration schemaMigration(final DataSource dataSource) {
+        return new SchemaMigration(
+                dataSource, this.isMigrationEnabled, this.migrationLocations, this.migrationBaselineVersion
+        );
+    }
+
+    @Bean(initMethod = "verify")
+    public IndexCheck indexCheck(final DataSource dataSource, final EntityManagerFactory factory) {
+        final List<Class<?>> entities = new ArrayList<>();
+        for (EntityType<?> entity : factory.getMetamodel().getEntities()) {
+            entities.add(entity.getJavaType());
+        }
+        return new IndexCheck(dataSource, entities, CheckMode.valueOf(this.indexCheck.toUpperCase()));
+    }
+
+    @Bean(initMethod = "verify")
+    public SchemaCheck schemaCheck(final DataSource dataSource, final EntityManagerFactory factory) {
+        final Map<String, Collection<String>> tables = new TreeMap<>();
+        for (ClassMetadata metadata : factory.unwrap(SessionFactory.class).getAllClassMetadata().values()) {
+            final AbstractEntityPersister persister = (AbstractEntityPersister) metadata;
+            final Collection<String> columns = tables.computeIfAbsent(
+                    persister.getTableName(), key -> new LinkedHashSet<>()
+            );
+            columns.addAll(Arrays.asList(persister.getIdentifierColumnNames()));
+            for (int i = 0; i < persister.getPropertyNames().length; i++) {
+                columns.addAll(Arrays.asList(persister.getPropertyColumnNames(i)));
+            }
+        }
+        return new SchemaCheck(dataSource, tables, CheckMode.valueOf(this.schemaCheck.toUpperCase()));
+    }
+
+    @Bean
+    public OrderNumberGenerator orderNumberGenerator(
+            final OrderSequenceRepository repository,
+            final PlatformTransactionManager transactionManager
+    ) {
+        return new OrderNumberGenerator(repository, transactionManager, this.orderNumberBlockSize);
+    }
+
     @Bean
     public DataSource dataSource() {
-        final BasicDataSource dataSource = new BasicDataSource();
-        dataSource.setDriverClassName(this.jdbcDriver);
-        dataSource.setUrl(getDataSourceUrl());
-        dataSource.setConnectionProperties(createDatabaseConnectionProperties());
-        dataSource.setUsername(this.databaseUsername);
-        dataSource.setPassword(this.databasePassword);
-        dataSource.setInitialSize(this.initialSize);
-        dataSource.setMaxActive(this.maxActive);
-        dataSource.setTestOnBorrow(this.testOnBorrow);
-        dataSource.setValidationQuery(this.validationQuery);
-        return dataSource;
+        return "dbcp".equalsIgnoreCase(this.poolType) ? createBasicDataSource() : createHikariDataSource();
+    }
+
+    @Bean
+    public PoolMetrics poolMetrics() {
+        return new PoolMetrics();
+    }
+
+    @Bean
+    public CacheMetrics cacheMetrics(final EntityManagerFactory factory) {
+        return new CacheMetrics(factory.unwrap(SessionFactory.class).getStatistics());
     }
 
     @Bean
     public HibernateJpaVendorAdapter hibernateJpaVendorAdapter() {
         final HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter();
         adapter.setShowSql(this.isShowSql);
-        adapter.setGenerateDdl(this.isGenerateDdl);
         adapter.setDatabasePlatform(this.hibernateDialect);
         return adapter;
     }
@@ -132,12 +281,86 @@ public class DatabaseConfig {
                 ":" + this.hostPort + "/" + this.databaseName;
     }
 
-    private String createDatabaseConnectionProperties() {
-        return "useSSL=" + this.useSsl +
-                ";useUnicode=" + this.useUnicode +
-                ";characterEncoding=" + this.characterEncoding +
-                ";useJDBCCompliantTimezoneShift=" + this.useJdbcCompliantTimezoneShift +
-                ";useLegacyDatetimeCode=" + this.useLegacyDatetimeCode +
-                ";serverTimezone=" + this.serverTimezone;
+    private HikariDataSource createHikariDataSource() {
+        final HikariConfig config = new HikariConfig();
+        config.setPoolName(this.poolName);
+        config.setDriverClassName(this.jdbcDriver);
+        config.setJdbcUrl(getDataSourceUrl());
+        config.setDataSourceProperties(createDatabaseConnectionProperties());
+        config.setUsername(this.databaseUsername);
+        config.setPassword(this.databasePassword);
+        config.setMinimumIdle(this.minIdle);
+        config.setMaximumPoolSize(this.maxSize);
+        config.setConnectionTimeout(this.connectionTimeout);
+        config.setValidationTimeout(this.validationTimeout);
+        if (isNotEmpty(this.validationQuery)) {
+            config.setConnectionTestQuery(this.validationQuery);
+        }
+        config.setIdleTimeout(this.idleTimeout);
+        config.setMaxLifetime(this.maxLifetime);
+        config.setLeakDetectionThreshold(this.leakDetectionThreshold);
+        config.setMetricsTrackerFactory(poolMetrics());
+        return new HikariDataSource(config);
+    }
+
+    private BasicDataSource createBasicDataSource() {
+        final BasicDataSource dataSource = new BasicDataSource();
+        dataSource.setDriverClassName(this.jdbcDriver);
+        dataSource.setUrl(getDataSourceUrl());
+        createDatabaseConnectionProperties().forEach(
+                (key, value) -> dataSource.addConnectionProperty(key.toString(), value.toString())
+        );
+        dataSource.setUsername(this.databaseUsername);
+        dataSource.setPassword(this.databasePassword);
+        dataSource.setInitialSize(this.minIdle);
+        dataSource.setMinIdle(this.minIdle);
+        dataSource.setMaxActive(this.maxSize);
+        dataSource.setMaxIdle(this.maxSize);
+        dataSource.setMaxWait(this.connectionTimeout);
+        dataSource.setTestOnBorrow(true);
+        dataSource.setValidationQuery(isNotEmpty(this.validationQuery) ? this.validationQuery : "SELECT 1");
+        dataSource.setValidationQueryTimeout((int) (this.validationTimeout / 1000));
+        dataSource.setTimeBetweenEvictionRunsMillis(this.idleTimeout / 2);
+        dataSource.setMinEvictableIdleTimeMillis(this.idleTimeout);
+        poolMetrics().create(this.poolName, new BasicDataSourceStats(dataSource));
+        return dataSource;
+    }
+
+    private Properties createDatabaseConnectionProperties() {
+        final Properties properties = new Properties();
+        properties.setProperty("useSSL", String.valueOf(this.useSsl));
+        properties.setProperty("useUnicode", String.valueOf(this.useUnicode));
+        properties.setProperty("characterEncoding", this.characterEncoding);
+        properties.setProperty("useJDBCCompliantTimezoneShift", String.valueOf(this.useJdbcCompliantTimezoneShift));
+        properties.setProperty("useLegacyDatetimeCode", String.valueOf(this.useLegacyDatetimeCode));
+        properties.setProperty("serverTimezone", this.serverTimezone);
+        properties.setProperty("cachePrepStmts", String.valueOf(this.prepStmtCacheSize > 0));
+        properties.setProperty("prepStmtCacheSize", String.valueOf(this.prepStmtCacheSize));
+        properties.setProperty("prepStmtCacheSqlLimit", String.valueOf(this.prepStmtCacheSqlLimit));
+        properties.setProperty("useServerPrepStmts", String.valueOf(this.useServerPrepStmts));
+        properties.setProperty("rewriteBatchedStatements", String.valueOf(this.rewriteBatchedStatements));
+        properties.setProperty("useCursorFetch", String.valueOf(this.useCursorFetch));
+        return properties;
+    }
+
+    private Map<String, Object> createJpaProperties() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.session_factory.statement_inspector", StatementCounter.class.getName());
+        properties.put("hibernate.hbm2ddl.auto", this.ddlAuto);
+        properties.put("hibernate.jdbc.batch_size", this.jdbcBatchSize);
+        properties.put("hibernate.order_inserts", this.isOrderInserts);
+        properties.put("hibernate.order_updates", this.isOrderUpdates);
+        properties.put("hibernate.schema_update.unique_constraint_strategy", "RECREATE_QUIETLY");
+        if (this.jdbcFetchSize > 0) {
+            properties.put("hibernate.jdbc.fetch_size", this.jdbcFetchSize);
+        }
+        properties.put("hibernate.cache.use_second_level_cache", this.useSecondLevelCache);
+        properties.put("hibernate.cache.use_query_cache", this.useSecondLevelCache && this.useQueryCache);
+        if (this.useSecondLevelCache) {
+            properties.put("hibernate.cache.region.factory_class", SingletonEhCacheRegionFactory.class.getName());
+            properties.put("net.sf.ehcache.configurationResourceName", this.cacheConfig);
+        }
+        properties.put("hibernate.generate_statistics", this.isGenerateStatistics);
+        return properties;
     }
 }
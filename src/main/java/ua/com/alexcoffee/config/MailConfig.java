@@ -0,0 +1,103 @@
+package ua.com.alexcoffee.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import ua.com.alexcoffee.service.notification.DeadLetterStore;
+import ua.com.alexcoffee.service.notification.NotificationDispatcher;
+import ua.com.alexcoffee.service.notification.SmtpSettings;
+
+/**
+ * Класс конфигурации отправки уведомлений по электронной почте.
+ * Настройки читаются из файла "mail.properties".
+ * Помечен аннотацией @Configuration - класс является
+ * источником определения бинов;
+ * аннотацией @PropertySource - указывает файл с настройками.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see NotificationDispatcher
+ * @see SmtpSettings
+ */
+@Configuration
+@PropertySource("classpath:mail.properties")
+public class MailConfig {
+    /**
+     * Адрес SMTP сервера.
+     */
+    @Value("${mail.smtp.host}")
+    private String smtpHost;
+
+    /**
+     * Порт SMTP сервера для протокола TLS.
+     */
+    @Value("${mail.smtp.tls-port}")
+    private int smtpTlsPort;
+
+    /**
+     * Порт SMTP сервера для протокола SSL.
+     */
+    @Value("${mail.smtp.ssl-port}")
+    private int smtpSslPort;
+
+    /**
+     * Адрес электронной почты отправителя.
+     */
+    @Value("${mail.from}")
+    private String from;
+
+    /**
+     * Количество потоков доставки уведомлений.
+     */
+    @Value("${mail.notification.threads}")
+    private int threads;
+
+    /**
+     * Максимальное количество уведомлений в работе.
+     */
+    @Value("${mail.notification.capacity}")
+    private int capacity;
+
+    /**
+     * Максимальное количество попыток доставки уведомления.
+     */
+    @Value("${mail.notification.max-attempts}")
+    private int maxAttempts;
+
+    /**
+     * Задержка перед второй попыткой доставки в миллисекундах.
+     */
+    @Value("${mail.notification.backoff}")
+    private long backoff;
+
+    /**
+     * Максимальное количество хранимых недоставленных уведомлений.
+     */
+    @Value("${mail.notification.dead-letters}")
+    private int deadLetters;
+
+    /**
+     * Возвращает настройки SMTP сервера.
+     *
+     * @return Объект класса {@link SmtpSettings}.
+     */
+    @Bean
+    public SmtpSettings smtpSettings() {
+        return new SmtpSettings(this.smtpHost, this.smtpTlsPort, this.smtpSslPort, this.from);
+    }
+
+    /**
+     * Возвращает пул доставки уведомлений, который
+     * останавливается вместе с контекстом приложения.
+     *
+     * @return Объект класса {@link NotificationDispatcher}.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public NotificationDispatcher notificationDispatcher() {
+        return new NotificationDispatcher(
+                this.threads, this.capacity, this.maxAttempts, this.backoff,
+                new DeadLetterStore(this.deadLetters)
+        );
+    }
+}
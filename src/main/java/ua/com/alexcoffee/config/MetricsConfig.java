@@ -0,0 +1,90 @@
+package ua.com.alexcoffee.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import ua.com.alexcoffee.service.metrics.MethodMetricsPostProcessor;
+import ua.com.alexcoffee.service.metrics.RequestMetrics;
+import ua.com.alexcoffee.service.metrics.StartupMetrics;
+import ua.com.alexcoffee.service.metrics.StartupMetricsPostProcessor;
+
+/**
+ * Класс конфигурации метрик запросов, сервисов, репозиториев
+ * и запуска приложения.
+ * Настройки метрик читаются из файла "metrics.properties".
+ * Помечен аннотацией @Configuration - класс является
+ * источником определения бинов;
+ * аннотацией @PropertySource - указывает файл с настройками.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see RequestMetrics
+ * @see MethodMetricsPostProcessor
+ * @see StartupMetrics
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+    /**
+     * Количество повторов одного SQL запроса в одном запросе,
+     * начиная с которого запрос считается подозрительным на N+1.
+     */
+    @Value("${metrics.n-plus-one.threshold}")
+    private int nPlusOneThreshold;
+
+    /**
+     * Время инициализации бина в миллисекундах,
+     * начиная с которого бин считается медленным.
+     */
+    @Value("${metrics.startup.slow-bean-threshold}")
+    private long slowBeanThreshold;
+
+    /**
+     * Возвращает реестр метрик запросов, который используют
+     * интерсептор метрик, перехватчик исключений и
+     * контроллер метрик.
+     *
+     * @return Объект класса {@link RequestMetrics}.
+     */
+    @Bean
+    public RequestMetrics requestMetrics() {
+        return new RequestMetrics(this.nPlusOneThreshold);
+    }
+
+    /**
+     * Возвращает обработчик бинов, который измеряет время
+     * вызовов методов сервисов и репозиториев.
+     *
+     * @param requestMetrics Реестр метрик запросов.
+     * @return Объект класса {@link MethodMetricsPostProcessor}.
+     */
+    @Bean
+    public static BeanPostProcessor methodMetricsPostProcessor(final RequestMetrics requestMetrics) {
+        return new MethodMetricsPostProcessor(requestMetrics);
+    }
+
+    /**
+     * Возвращает метрики запуска приложения, которые использует
+     * прогрев приложения, контроллер метрик и контроллер готовности.
+     *
+     * @return Объект класса {@link StartupMetrics}.
+     */
+    @Bean
+    public StartupMetrics startupMetrics() {
+        return new StartupMetrics(this.slowBeanThreshold);
+    }
+
+    /**
+     * Возвращает обработчик бинов, который измеряет время
+     * инициализации бинов.
+     *
+     * @param startupMetrics Метрики запуска приложения.
+     * @return Объект класса {@link StartupMetricsPostProcessor}.
+     */
+    @Bean
+    public static BeanPostProcessor startupMetricsPostProcessor(final StartupMetrics startupMetrics) {
+        return new StartupMetricsPostProcessor(startupMetrics);
+    }
+}
@@ -1,5 +1,6 @@
 package ua.com.alexcoffee.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -8,11 +9,14 @@ import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.Ordered;
 import org.springframework.web.servlet.ViewResolver;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
 import org.springframework.web.servlet.view.InternalResourceViewResolver;
 import org.springframework.web.servlet.view.JstlView;
+import ua.com.alexcoffee.controller.interceptor.MetricsInterceptor;
+import ua.com.alexcoffee.service.metrics.RequestMetrics;
 
 /**
  * Класс конфигурации Spring компонентов представления , настройка MVC.
@@ -26,6 +30,7 @@ import org.springframework.web.servlet.view.JstlView;
  * @version 1.2
  * @see AppInitializer
  * @see RootConfig
+ * @see MetricsConfig
  */
 @Configuration
 @EnableWebMvc
@@ -62,6 +67,9 @@ public class WebConfig extends WebMvcConfigurerAdapter {
     @Value("${login.view}")
     private String loginView;
 
+    @Autowired
+    private RequestMetrics requestMetrics;
+
     /**
      * Указывает Spring'у где находятся компоненты представления, и как их отображать.
      * Вьюшкибудут лежать в директории /WEB-INF/views/ и иметь разширение *.jsp.
@@ -103,4 +111,15 @@ public class WebConfig extends WebMvcConfigurerAdapter {
         viewController.addViewController(this.loginUrl).setViewName(this.loginView);
         viewController.setOrder(Ordered.HIGHEST_PRECEDENCE);
     }
+
+    /**
+     * Регистрирует интерсептор, который измеряет время обработки
+     * запросов всех контроллеров.
+     *
+     * @param registry Объект класса InterceptorRegistry.
+     */
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new MetricsInterceptor(this.requestMetrics));
+    }
 }
@@ -2,6 +2,7 @@ package ua.com.alexcoffee.controller.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Page;
 import org.springframework.data.mapping.model.IllegalMappingException;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,6 +15,7 @@ import ua.com.alexcoffee.model.category.Category;
 import ua.com.alexcoffee.model.category.CategoryBuilder;
 import ua.com.alexcoffee.model.photo.Photo;
 import ua.com.alexcoffee.model.photo.PhotoBuilder;
+import ua.com.alexcoffee.model.projection.CategoryRow;
 import ua.com.alexcoffee.service.interfaces.CategoryService;
 import ua.com.alexcoffee.service.interfaces.PhotoService;
 import ua.com.alexcoffee.service.interfaces.UserService;
@@ -41,6 +43,11 @@ import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
 @RequestMapping(value = "/admin/category")
 @ComponentScan(basePackages = "ua.com.alexcoffee.service")
 public final class AdminCategoriesController {
+    /**
+     * Количество категорий на одной странице списка.
+     */
+    private static final String PAGE_SIZE = "20";
+
     /**
      * Объект сервиса для работы с категориями товаров.
      */
@@ -77,19 +84,30 @@ public final class AdminCategoriesController {
     }
 
     /**
-     * Возвращает все категории товаров на страницу "admin/category/all".
+     * Возвращает порцию категорий товаров на страницу "admin/category/all".
      * URL запроса {"/admin/category", "/admin/category/", "/admin/category/all"},
      * метод GET.
      *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Количество категорий на странице.
+     * @param sort Поле сортировки, префикс "-" задает сортировку по убыванию.
      * @return Объект класса {@link ModelAndView}.
      */
     @RequestMapping(
             value = { "", "/", "/all" },
             method = RequestMethod.GET
     )
-    public ModelAndView viewAllCategories() {
+    public ModelAndView viewAllCategories(
+            @RequestParam(value = "page", defaultValue = "0") final int page,
+            @RequestParam(value = "size", defaultValue = PAGE_SIZE) final int size,
+            @RequestParam(value = "sort", defaultValue = "id") final String sort
+    ) {
         final ModelAndView modelAndView = new ModelAndView();
-        modelAndView.addObject("categories", this.categoryService.getAll());
+        final Page<CategoryRow> models = this.categoryService.getRows(page, size, sort);
+        modelAndView.addObject("categories", models.getContent());
+        modelAndView.addObject("page", models);
+        modelAndView.addObject("page_url", "/admin/category/all");
+        modelAndView.addObject("page_sort", sort);
         modelAndView.addObject("auth_user", this.userService.getAuthenticatedUser());
         modelAndView.setViewName("category/admin/all");
         return modelAndView;
@@ -244,7 +262,7 @@ public final class AdminCategoriesController {
             final String smallIUrl = photoFile.getOriginalFilename();
             photo.setSmallUrl(smallIUrl);
         }
-        final Category category = this.categoryService.get(id);
+        final Category category = this.categoryService.getForUpdate(id);
         category.setTitle(title);
         category.setUrl(url);
         category.setDescription(description);
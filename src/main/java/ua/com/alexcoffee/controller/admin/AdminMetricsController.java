@@ -0,0 +1,127 @@
+package ua.com.alexcoffee.controller.admin;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseBody;
+import ua.com.alexcoffee.service.metrics.CacheMetrics;
+import ua.com.alexcoffee.service.metrics.PoolMetrics;
+import ua.com.alexcoffee.service.metrics.RequestMetrics;
+import ua.com.alexcoffee.service.metrics.StartupMetrics;
+import ua.com.alexcoffee.util.metrics.PrometheusWriter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Класс-контроллер метрик запросов. К даному контроллеру могут
+ * обращатсья пользователи, имеющие роль-админстратор.
+ * Аннотация @Controller служит для сообщения Spring'у о том, что данный класс является bean'ом
+ * и его необходимо подгрузить при старте приложения.
+ * Аннотацией @RequestMapping(value = "/admin/metrics") сообщаем, что данный контроллер будет
+ * обрабатывать запросы, URI которых начинается с "/admin/metrics".
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see RequestMetrics
+ * @see PoolMetrics
+ * @see CacheMetrics
+ * @see StartupMetrics
+ */
+@Controller
+@RequestMapping(value = "/admin/metrics")
+public final class AdminMetricsController {
+    /**
+     * Реестр метрик запросов.
+     */
+    private final RequestMetrics requestMetrics;
+
+    /**
+     * Метрики пула соединений с базой данных.
+     */
+    private final PoolMetrics poolMetrics;
+
+    /**
+     * Метрики второго уровня кэша hibernate.
+     */
+    private final CacheMetrics cacheMetrics;
+
+    /**
+     * Метрики запуска приложения.
+     */
+    private final StartupMetrics startupMetrics;
+
+    /**
+     * Конструктор для инициализации основных переменных контроллера метрик.
+     * Помечен аннотацией @Autowired, которая позволит Spring автоматически
+     * инициализировать объекты.
+     *
+     * @param requestMetrics Реестр метрик запросов.
+     * @param poolMetrics    Метрики пула соединений с базой данных.
+     * @param cacheMetrics   Метрики второго уровня кэша hibernate.
+     * @param startupMetrics Метрики запуска приложения.
+     */
+    @Autowired
+    public AdminMetricsController(
+            final RequestMetrics requestMetrics,
+            final PoolMetrics poolMetrics,
+            final CacheMetrics cacheMetrics,
+            final StartupMetrics startupMetrics
+    ) {
+        this.requestMetrics = requestMetrics;
+        this.poolMetrics = poolMetrics;
+        this.cacheMetrics = cacheMetrics;
+        this.startupMetrics = startupMetrics;
+    }
+
+    /**
+     * Возвращает метрики в формате JSON: для каждого маршрута количество
+     * запросов и ошибок, запросов в секунду, процентили времени обработки,
+     * статусы ответов, обработанные исключения, SQL запросы и время
+     * транзакций на запрос; для каждого метода сервиса и репозитория
+     * количество и время вызовов; состояние пула соединений;
+     * попадания и промахи второго уровня кэша; время запуска.
+     * URL запроса {"/admin/metrics", "/admin/metrics/"}, метод GET.
+     *
+     * @return Объект типа {@link Map} - метрики запросов.
+     */
+    @ResponseBody
+    @RequestMapping(
+            value = { "", "/" },
+            method = RequestMethod.GET,
+            produces = "application/json"
+    )
+    public Map<String, Object> getMetrics() {
+        final Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("uptime", this.requestMetrics.getUptimeSeconds());
+        metrics.put("startup", this.startupMetrics);
+        metrics.put("routes", this.requestMetrics.getRoutes());
+        metrics.put("methods", this.requestMetrics.getMethods());
+        metrics.put("pool", this.poolMetrics);
+        metrics.put("cache", this.cacheMetrics);
+        metrics.put("outcomes", this.requestMetrics.getOutcomes());
+        return metrics;
+    }
+
+    /**
+     * Возвращает метрики в текстовом формате Prometheus.
+     * URL запроса "/admin/metrics/prometheus", метод GET.
+     *
+     * @return Значение типа {@link String} - метрики в формате Prometheus.
+     */
+    @ResponseBody
+    @RequestMapping(
+            value = "/prometheus",
+            method = RequestMethod.GET,
+            produces = "text/plain; version=0.0.4"
+    )
+    public String getPrometheusMetrics() {
+        final PrometheusWriter writer = new PrometheusWriter(RequestMetrics.PROMETHEUS_PREFIX);
+        this.requestMetrics.writeTo(writer);
+        this.poolMetrics.writeTo(writer);
+        this.cacheMetrics.writeTo(writer);
+        this.startupMetrics.writeTo(writer);
+        return writer.toString();
+    }
+}
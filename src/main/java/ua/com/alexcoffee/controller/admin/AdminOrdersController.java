@@ -2,6 +2,7 @@ package ua.com.alexcoffee.controller.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Page;
 import org.springframework.data.mapping.model.IllegalMappingException;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.ModelAndView;
 import ua.com.alexcoffee.model.order.Order;
 import ua.com.alexcoffee.model.order.OrderStatus;
+import ua.com.alexcoffee.model.projection.OrderRow;
 import ua.com.alexcoffee.model.user.User;
 import ua.com.alexcoffee.model.user.UserRole;
 import ua.com.alexcoffee.service.interfaces.OrderService;
@@ -38,6 +40,11 @@ import java.util.Date;
 @RequestMapping(value = "/admin/order")
 @ComponentScan(basePackages = "ua.com.alexcoffee.service")
 public final class AdminOrdersController {
+    /**
+     * Количество заказов на одной странице списка.
+     */
+    private static final String PAGE_SIZE = "20";
+
     /**
      * Объект сервиса для работы с заказами клиентов.
      */
@@ -66,17 +73,28 @@ public final class AdminOrdersController {
     }
 
     /**
-     * Возвращает все заказы, сделаные клиентами, на страницу "admin/order/all".
+     * Возвращает порцию заказов, сделаных клиентами, на страницу "admin/order/all".
      * URL запроса {"/admin/order", "/admin/order/", "/admin/order/all", метод GET.
      *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Количество заказов на странице.
+     * @param sort Поле сортировки, префикс "-" задает сортировку по убыванию.
      * @return Объект класса {@link ModelAndView}.
      */
     @RequestMapping(
             value = { "", "/", "/all" },
             method = RequestMethod.GET)
-    public ModelAndView viewAllOrders() {
+    public ModelAndView viewAllOrders(
+            @RequestParam(value = "page", defaultValue = "0") final int page,
+            @RequestParam(value = "size", defaultValue = PAGE_SIZE) final int size,
+            @RequestParam(value = "sort", defaultValue = "-id") final String sort
+    ) {
         final ModelAndView modelAndView = new ModelAndView();
-        modelAndView.addObject("orders", this.orderService.getAll());
+        final Page<OrderRow> models = this.orderService.getRows(page, size, sort);
+        modelAndView.addObject("orders", models.getContent());
+        modelAndView.addObject("page", models);
+        modelAndView.addObject("page_url", "/admin/order/all");
+        modelAndView.addObject("page_sort", sort);
         modelAndView.addObject("status_new", OrderStatus.NEW);
         modelAndView.addObject("auth_user", this.userService.getAuthenticatedUser());
         modelAndView.setViewName("order/admin/all");
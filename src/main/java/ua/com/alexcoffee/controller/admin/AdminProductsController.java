@@ -2,6 +2,7 @@ package ua.com.alexcoffee.controller.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Page;
 import org.springframework.data.mapping.model.IllegalMappingException;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,6 +15,7 @@ import ua.com.alexcoffee.model.category.Category;
 import ua.com.alexcoffee.model.photo.Photo;
 import ua.com.alexcoffee.model.photo.PhotoBuilder;
 import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.model.projection.ProductRow;
 import ua.com.alexcoffee.service.interfaces.CategoryService;
 import ua.com.alexcoffee.service.interfaces.PhotoService;
 import ua.com.alexcoffee.service.interfaces.ProductService;
@@ -42,6 +44,11 @@ import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
 @RequestMapping(value = "/admin/product")
 @ComponentScan(basePackages = "ua.com.alexcoffee.service")
 public final class AdminProductsController {
+    /**
+     * Количество товаров на одной странице списка.
+     */
+    private static final String PAGE_SIZE = "20";
+
     /**
      * Объект сервиса для работы с товаров.
      */
@@ -86,19 +93,30 @@ public final class AdminProductsController {
     }
 
     /**
-     * Возвращает все товары на страницу "admin/product/all".
+     * Возвращает порцию товаров на страницу "admin/product/all".
      * URL запроса {"/admin/product", "/admin/product/", "/admin/product/all"},
      * метод GET.
      *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Количество товаров на странице.
+     * @param sort Поле сортировки, префикс "-" задает сортировку по убыванию.
      * @return Объект класса {@link ModelAndView}.
      */
     @RequestMapping(
             value = { "", "/", "/all" },
             method = RequestMethod.GET
     )
-    public ModelAndView viewAllProducts() {
+    public ModelAndView viewAllProducts(
+            @RequestParam(value = "page", defaultValue = "0") final int page,
+            @RequestParam(value = "size", defaultValue = PAGE_SIZE) final int size,
+            @RequestParam(value = "sort", defaultValue = "id") final String sort
+    ) {
         final ModelAndView modelAndView = new ModelAndView();
-        modelAndView.addObject("products", this.productService.getAll());
+        final Page<ProductRow> models = this.productService.getRows(page, size, sort);
+        modelAndView.addObject("products", models.getContent());
+        modelAndView.addObject("page", models);
+        modelAndView.addObject("page_url", "/admin/product/all");
+        modelAndView.addObject("page_sort", sort);
         modelAndView.addObject("auth_user", this.userService.getAuthenticatedUser());
         modelAndView.setViewName("product/admin/all");
         return modelAndView;
@@ -280,7 +298,7 @@ public final class AdminProductsController {
             @RequestParam(value = "big_photo") final MultipartFile bigPhotoFile,
             @RequestParam(value = "price") final double price
     ) {
-        final Product product = this.productService.get(id);
+        final Product product = this.productService.getForUpdate(id);
         product.setTitle(title);
         product.setUrl(url);
         product.setParameters(parameters);
@@ -13,6 +13,7 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 import ua.com.alexcoffee.exception.DuplicateException;
 import ua.com.alexcoffee.service.interfaces.ShoppingCartService;
 import ua.com.alexcoffee.service.interfaces.UserService;
+import ua.com.alexcoffee.service.metrics.RequestMetrics;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -84,6 +85,11 @@ public final class AdviceController {
      */
     private final UserService userService;
 
+    /**
+     * Реестр метрик запросов.
+     */
+    private final RequestMetrics requestMetrics;
+
     /**
      * Конструктор для инициализации основных переменных перехватчика исключений.
      * Помечен аннотацией @Autowired, которая позволит Spring автоматически
@@ -91,14 +97,17 @@ public final class AdviceController {
      *
      * @param shoppingCartService Объект сервиса для работы с корзиной.
      * @param userService         Объект сервиса для работы с пользователями.
+     * @param requestMetrics      Реестр метрик запросов.
      */
     @Autowired
     public AdviceController(
             final ShoppingCartService shoppingCartService,
-            final UserService userService
+            final UserService userService,
+            final RequestMetrics requestMetrics
     ) {
         this.shoppingCartService = shoppingCartService;
         this.userService = userService;
+        this.requestMetrics = requestMetrics;
     }
 
     /**
@@ -214,7 +223,7 @@ public final class AdviceController {
 
     /**
      * Обработака всех входящих исключений: логирование, печать стека,
-     * возврат модели с информациею.
+     * запись в метрики запросов, возврат модели с информациею.
      *
      * @param ex        Объект исключения наследника Exception.
      * @param request   Объект интерфейса HttpServletRequest.
@@ -227,6 +236,7 @@ public final class AdviceController {
             final String textError
     ) {
         logError(ex, request);
+        this.requestMetrics.recordOutcome(request, ex);
         final ModelAndView modelAndView = new ModelAndView();
         try {
             modelAndView.addObject("cart_size", this.shoppingCartService.getSize());
@@ -0,0 +1,79 @@
+package ua.com.alexcoffee.controller.client;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseBody;
+import ua.com.alexcoffee.service.metrics.StartupMetrics;
+
+/**
+ * Класс-контроллер проверок состояния приложения для балансировщика
+ * нагрузки и оркестратора. К даному контроллеру могут обращатсья
+ * все пользователи.
+ * Аннотация @Controller служит для сообщения Spring'у о том, что данный класс является bean'ом
+ * и его необходимо подгрузить при старте приложения.
+ * Аннотацией @RequestMapping(value = "/health") сообщаем, что данный контроллер будет
+ * обрабатывать запросы, URI которых начинается с "/health".
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see StartupMetrics
+ */
+@Controller
+@RequestMapping(value = "/health")
+public final class HealthController {
+    /**
+     * Метрики запуска приложения.
+     */
+    private final StartupMetrics startupMetrics;
+
+    /**
+     * Конструктор для инициализации основных переменных контроллера.
+     * Помечен аннотацией @Autowired, которая позволит Spring автоматически
+     * инициализировать объекты.
+     *
+     * @param startupMetrics Метрики запуска приложения.
+     */
+    @Autowired
+    public HealthController(final StartupMetrics startupMetrics) {
+        this.startupMetrics = startupMetrics;
+    }
+
+    /**
+     * Сообщает, что приложение запущено и обрабатывает запросы.
+     * URL запроса "/health/live", метод GET.
+     *
+     * @return Объект класса {@link ResponseEntity} - статус 200.
+     */
+    @ResponseBody
+    @RequestMapping(
+            value = "/live",
+            method = RequestMethod.GET,
+            produces = "text/plain"
+    )
+    public ResponseEntity<String> live() {
+        return new ResponseEntity<>("UP", HttpStatus.OK);
+    }
+
+    /**
+     * Сообщает, готово ли приложение принимать трафик: статус 200
+     * после прогрева пула соединений и кэша каталога, до этого 503.
+     * URL запроса "/health/ready", метод GET.
+     *
+     * @return Объект класса {@link ResponseEntity} - статус готовности.
+     */
+    @ResponseBody
+    @RequestMapping(
+            value = "/ready",
+            method = RequestMethod.GET,
+            produces = "text/plain"
+    )
+    public ResponseEntity<String> ready() {
+        return this.startupMetrics.isReady() ?
+                new ResponseEntity<>("READY", HttpStatus.OK) :
+                new ResponseEntity<>("STARTING", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
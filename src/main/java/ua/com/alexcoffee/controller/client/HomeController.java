@@ -1,26 +1,28 @@
 package ua.com.alexcoffee.controller.client;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mapping.model.IllegalMappingException;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.ModelAndView;
 import ua.com.alexcoffee.model.basket.ShoppingCart;
 import ua.com.alexcoffee.model.category.Category;
 import ua.com.alexcoffee.model.order.Order;
-import ua.com.alexcoffee.model.order.OrderBuilder;
-import ua.com.alexcoffee.model.order.OrderStatus;
 import ua.com.alexcoffee.model.position.SalePosition;
 import ua.com.alexcoffee.model.product.Product;
-import ua.com.alexcoffee.model.user.User;
-import ua.com.alexcoffee.model.user.UserBuilder;
-import ua.com.alexcoffee.model.user.UserRole;
 import ua.com.alexcoffee.service.interfaces.*;
 
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotEmpty;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+
 /**
  * Класс-контроллер домашних страниц. К даному контроллеру и соответствующим страницам
  * могут обращатсья все пользователи, независимо от ихних ролей.
@@ -38,13 +40,17 @@ import ua.com.alexcoffee.service.interfaces.*;
  * @see ShoppingCart
  * @see ProductService
  * @see CategoryService
- * @see OrderService
  * @see ShoppingCartService
- * @see SenderService
+ * @see CheckoutService
  */
 @Controller
 @ComponentScan(basePackages = "ua.com.alexcoffee.service")
 public final class HomeController {
+    /**
+     * Количество товаров в одной порции каталога.
+     */
+    private static final String PRODUCTS_PAGE_SIZE = "12";
+
     /**
      * Объект сервиса для работы с товарами.
      */
@@ -61,14 +67,9 @@ public final class HomeController {
     private final ShoppingCartService shoppingCartService;
 
     /**
-     * Объект сервиса для работы с заказами.
-     */
-    private final OrderService orderService;
-
-    /**
-     * Объект сервиса для работы с товарами.
+     * Объект сервиса для оформления заказов.
      */
-    private final SenderService senderService;
+    private final CheckoutService checkoutService;
 
     /**
      * Конструктор для инициализации основных переменных контроллера главных страниц сайта.
@@ -78,22 +79,19 @@ public final class HomeController {
      * @param productService      Объект сервиса для работы с товарами.
      * @param categoryService     Объект сервиса для работы с категориями товаров.
      * @param shoppingCartService Объект сервиса для работы с торговой корзиной.
-     * @param orderService        Объект сервиса для работы с заказами.
-     * @param senderService       Объект сервиса для работы с товарами.
+     * @param checkoutService     Объект сервиса для оформления заказов.
      */
     @Autowired
     public HomeController(
             final ProductService productService,
             final CategoryService categoryService,
             final ShoppingCartService shoppingCartService,
-            final OrderService orderService,
-            final SenderService senderService
+            final CheckoutService checkoutService
     ) {
         this.productService = productService;
         this.categoryService = categoryService;
         this.shoppingCartService = shoppingCartService;
-        this.orderService = orderService;
-        this.senderService = senderService;
+        this.checkoutService = checkoutService;
     }
 
     /**
@@ -119,39 +117,53 @@ public final class HomeController {
     }
 
     /**
-     * Возвращает страницу "client/category" с товарами, которые пренадлежат
-     * категории с url.
+     * Возвращает страницу "client/category" с порцией товаров, которые
+     * пренадлежат категории с url. Следующая порция запрашивается
+     * по коду последнего товара текущей порции.
      * URL запроса "/category/{url}", метод GET.
      *
-     * @param url          URL категории, товары которой нужно вернуть на странице.
+     * @param url   URL категории, товары которой нужно вернуть на странице.
+     * @param after Код последнего товара предыдущей порции.
+     * @param size  Количество товаров в порции.
      * @return Объект класса {@link ModelAndView}.
      */
     @RequestMapping(
             value = "/category/{url}",
             method = RequestMethod.GET
     )
-    public ModelAndView viewProductsInCategory(@PathVariable("url") final String url) {
+    public ModelAndView viewProductsInCategory(
+            @PathVariable("url") final String url,
+            @RequestParam(value = "after", defaultValue = "0") final long after,
+            @RequestParam(value = "size", defaultValue = PRODUCTS_PAGE_SIZE) final int size
+    ) {
         final ModelAndView modelAndView = new ModelAndView();
         modelAndView.addObject("category", this.categoryService.get(url));
-        modelAndView.addObject("products", this.productService.getByCategoryUrl(url));
+        addProducts(modelAndView, this.productService.getByCategoryUrlAfter(url, after, size));
         modelAndView.addObject("cart_size", this.shoppingCartService.getSize());
         modelAndView.setViewName("category/one");
         return modelAndView;
     }
 
     /**
-     * Возвращает страницу "client/products" с всема товарами.
+     * Возвращает страницу "client/products" с порцией всех товаров.
+     * Следующая порция запрашивается по коду последнего товара
+     * текущей порции.
      * URL запроса "/product/all", метод GET.
      *
+     * @param after Код последнего товара предыдущей порции.
+     * @param size  Количество товаров в порции.
      * @return Объект класса {@link ModelAndView}.
      */
     @RequestMapping(
             value = "/product/all",
             method = RequestMethod.GET
     )
-    public ModelAndView viewAllProducts() {
+    public ModelAndView viewAllProducts(
+            @RequestParam(value = "after", defaultValue = "0") final long after,
+            @RequestParam(value = "size", defaultValue = PRODUCTS_PAGE_SIZE) final int size
+    ) {
         final ModelAndView modelAndView = new ModelAndView();
-        modelAndView.addObject("products", this.productService.getAll());
+        addProducts(modelAndView, this.productService.getAfter(after, size));
         modelAndView.addObject("cart_size", this.shoppingCartService.getSize());
         modelAndView.setViewName("product/all");
         return modelAndView;
@@ -210,6 +222,7 @@ public final class HomeController {
         modelAndView.addObject("sale_positions", this.shoppingCartService.getSalePositions());
         modelAndView.addObject("price_of_cart", this.shoppingCartService.getPrice());
         modelAndView.addObject("cart_size", this.shoppingCartService.getSize());
+        modelAndView.addObject("checkout_key", this.checkoutService.createKey());
         modelAndView.setViewName("cart/cart");
         return modelAndView;
     }
@@ -312,38 +325,49 @@ public final class HomeController {
 
     /**
      * Оформляет и сохраняет заказ клиента, возвращает страницу "client/checkout".
-     * Если корзина пуста, по перенаправляет на главную страницу.
+     * Повторная отправка формы с тем же ключом оформления возвращает уже
+     * оформленный заказ. Если корзина пуста, по перенаправляет на главную страницу.
      * URL запроса "/checkout", метод POST.
      *
      * @param name         Имя клиента, сжелавшего заказ.
      * @param email        Электронная почта клиента.
      * @param phone        Номер телефона клиента.
+     * @param formKey      Ключ оформления заказа из формы заказа.
+     * @param headerKey    Ключ оформления заказа из заголовка "Idempotency-Key",
+     *                     используется вместо ключа из формы.
      * @return Объект класса {@link ModelAndView}.
+     * @throws DataIntegrityViolationException Бросает исключение, если заказ нарушает
+     *                                         другие ограничения базы данных.
      */
     @RequestMapping(value = "/checkout", method = RequestMethod.POST)
     public ModelAndView viewCheckout(
             @RequestParam(value = "user_name") final String name,
             @RequestParam(value = "user_email") final String email,
-            @RequestParam(value = "user_phone") final String phone
+            @RequestParam(value = "user_phone") final String phone,
+            @RequestParam(value = "checkout_key", required = false) final String formKey,
+            @RequestHeader(value = "Idempotency-Key", required = false) final String headerKey
     ) {
         final ModelAndView modelAndView = new ModelAndView();
         if (this.shoppingCartService.getSize() > 0) {
-            final UserBuilder userBuilder = User.getBuilder();
-            userBuilder.addRole(UserRole.CLIENT)
-                    .addName(name)
-                    .addEmail(email)
-                    .addPhone(phone);
-            final User client = userBuilder.build();
-            final OrderBuilder orderBuilder = Order.getBuilder();
-            orderBuilder.addStatus(OrderStatus.NEW)
-                    .addClient(client)
-                    .addSalePositions(this.shoppingCartService.getSalePositions());
-            final Order order = orderBuilder.build();
-            this.orderService.add(order);
-            this.senderService.send(order);
+            final String key = this.checkoutService.checkKey(
+                    isNotEmpty(headerKey) ? headerKey : formKey
+            );
+            Order order;
+            try {
+                order = this.checkoutService.checkout(
+                        key, name, email, phone,
+                        this.shoppingCartService.getSalePositions()
+                );
+            } catch (DataIntegrityViolationException ex) {
+                if (!isDuplicateKey(ex)) {
+                    throw ex;
+                }
+                // the same form was submitted twice at once, the other request saved the order
+                order = this.checkoutService.get(key);
+            }
             modelAndView.addObject("order", order);
             modelAndView.addObject("sale_positions", order.getSalePositions());
-            modelAndView.addObject("price_of_cart", this.shoppingCartService.getPrice());
+            modelAndView.addObject("price_of_cart", order.getPrice());
             this.shoppingCartService.clear();
             modelAndView.addObject("cart_size", this.shoppingCartService.getSize());
             modelAndView.setViewName("cart/checkout");
@@ -409,4 +433,41 @@ public final class HomeController {
     public String redirectToManagerPage() {
         return "redirect:/admin/order/all";
     }
+
+    /**
+     * Добавляет в модель порцию товаров и код последнего товара порции,
+     * если за ней есть следующая порция.
+     *
+     * @param modelAndView Объект класса {@link ModelAndView}.
+     * @param products     Порция товаров.
+     */
+    private static void addProducts(
+            final ModelAndView modelAndView,
+            final Slice<Product> products
+    ) {
+        modelAndView.addObject("products", products.getContent());
+        if (products.hasNext()) {
+            final int last = products.getNumberOfElements() - 1;
+            modelAndView.addObject("next_after", products.getContent().get(last).getId());
+        }
+    }
+
+    /**
+     * Проверяет, нарушен ли уникальный индекс ключа оформления заказа,
+     * то есть заказ с этим ключом уже сохранен другим запросом.
+     *
+     * @param ex Ошибка сохранения заказа.
+     * @return true, если ошибка вызвана повтором ключа оформления.
+     */
+    private static boolean isDuplicateKey(final DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; isNotNull(cause); cause = cause.getCause()) {
+            final String message = cause instanceof ConstraintViolationException ?
+                    ((ConstraintViolationException) cause).getConstraintName() :
+                    cause.getMessage();
+            if (isNotNull(message) && message.toLowerCase().contains(Order.CHECKOUT_KEY_INDEX)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
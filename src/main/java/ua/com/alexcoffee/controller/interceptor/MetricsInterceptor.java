@@ -0,0 +1,115 @@
+package ua.com.alexcoffee.controller.interceptor;
+
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+import ua.com.alexcoffee.service.metrics.QueryProfile;
+import ua.com.alexcoffee.service.metrics.RequestMetrics;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Интерсептор всех контроллеров, который измеряет время обработки
+ * запроса вместе с отображением страницы и записывает его в
+ * {@link RequestMetrics} по маршруту: методу запроса и шаблону
+ * адреса обработчика. На время обработки запроса открывает
+ * {@link QueryProfile}, чтобы записать количество SQL запросов
+ * и время внутри транзакций.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see RequestMetrics
+ */
+public final class MetricsInterceptor extends HandlerInterceptorAdapter {
+    /**
+     * Имя атрибута запроса со временем начала обработки.
+     */
+    private static final String START_ATTRIBUTE = MetricsInterceptor.class.getName() + ".START";
+
+    /**
+     * Маршрут запросов, для которых не найден шаблон адреса.
+     */
+    private static final String UNMAPPED = "UNMAPPED";
+
+    /**
+     * Реестр метрик запросов.
+     */
+    private final RequestMetrics metrics;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param metrics Реестр метрик запросов.
+     */
+    public MetricsInterceptor(final RequestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Запоминает время начала обработки запроса
+     * и открывает профиль обращений к базе данных.
+     *
+     * @param request  Запрос клиента.
+     * @param response Ответ сервера.
+     * @param handler  Обработчик запроса.
+     * @return true - продолжить обработку запроса.
+     */
+    @Override
+    public boolean preHandle(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler
+    ) {
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        QueryProfile.begin();
+        return true;
+    }
+
+    /**
+     * Записывает время обработки, статус ответа, обработанное
+     * исключение и обращения к базе данных запроса.
+     *
+     * @param request  Запрос клиента.
+     * @param response Ответ сервера.
+     * @param handler  Обработчик запроса.
+     * @param ex       Необработанное исключение или null.
+     */
+    @Override
+    public void afterCompletion(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler,
+            final Exception ex
+    ) {
+        final Object start = request.getAttribute(START_ATTRIBUTE);
+        final QueryProfile profile = QueryProfile.end();
+        if (isNull(start)) {
+            return;
+        }
+        final long nanos = System.nanoTime() - (Long) start;
+        int status = response.getStatus();
+        if (isNotNull(ex) && (status < 400)) {
+            status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        }
+        final Object outcome = request.getAttribute(RequestMetrics.OUTCOME_ATTRIBUTE);
+        final String route = getRoute(request);
+        this.metrics.record(route, nanos, status, isNotNull(outcome) ? outcome.toString() : null);
+        if (isNotNull(profile)) {
+            this.metrics.recordQueries(route, profile);
+        }
+    }
+
+    /**
+     * Возвращает маршрут запроса: метод и шаблон адреса обработчика.
+     *
+     * @param request Запрос клиента.
+     * @return Значение типа {@link String} - маршрут запроса.
+     */
+    private static String getRoute(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (isNotNull(pattern) ? pattern : UNMAPPED);
+    }
+}
@@ -68,7 +68,7 @@ public final class ManagerUsersController {
     )
     public ModelAndView viewAllPersonnel() {
         final ModelAndView modelAndView = new ModelAndView();
-        modelAndView.addObject("users", this.userService.getPersonnel());
+        modelAndView.addObject("users", this.userService.getPersonnelRows());
         modelAndView.addObject("admin_role", UserRole.ADMIN);
         modelAndView.addObject("manager_role", UserRole.MANAGER);
         modelAndView.addObject("auth_user", this.userService.getAuthenticatedUser());
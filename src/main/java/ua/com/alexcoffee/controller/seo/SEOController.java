@@ -2,12 +2,29 @@ package ua.com.alexcoffee.controller.seo;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.ModelAndView;
-import ua.com.alexcoffee.service.interfaces.CategoryService;
-import ua.com.alexcoffee.service.interfaces.ProductService;
+import ua.com.alexcoffee.service.interfaces.SiteMapService;
+import ua.com.alexcoffee.service.sitemap.SiteMapFile;
+import ua.com.alexcoffee.service.sitemap.SiteMapWriter;
+
+import java.io.File;
+import java.io.IOException;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotEmpty;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
 
 /**
  * Класс-контроллер для настройки поисковой оптимизации (SEO).
@@ -23,30 +40,20 @@ import ua.com.alexcoffee.service.interfaces.ProductService;
 public final class SEOController {
 
     /**
-     * Объект сервиса для работы с товарами.
-     */
-    private final ProductService productService;
-
-    /**
-     * Объект сервиса для работы с категориями товаров.
+     * Объект сервиса для работы с файлами sitemap.
      */
-    private final CategoryService categoryService;
+    private final SiteMapService siteMapService;
 
     /**
      * Конструктор для инициализации основных переменных SEO контроллера.
      * Помечен аннотацией @Autowired, которая позволит Spring автоматически
      * инициализировать объекты.
      *
-     * @param productService  Объект сервиса для работы с товарами.
-     * @param categoryService Объект сервиса для работы с категориями товаров.
+     * @param siteMapService Объект сервиса для работы с файлами sitemap.
      */
     @Autowired
-    public SEOController(
-            final ProductService productService,
-            final CategoryService categoryService
-    ) {
-        this.productService = productService;
-        this.categoryService = categoryService;
+    public SEOController(final SiteMapService siteMapService) {
+        this.siteMapService = siteMapService;
     }
 
     /**
@@ -69,23 +76,107 @@ public final class SEOController {
     }
 
     /**
-     * Возвращает файл sitemap.xml для поисковых систем.
-     * Аннотация @ResponseBody указывает на то, что результат работы метода в
-     * контроллере был выведен непосредственно в тело ответа на запрос,
-     * а не послужил адресом перехода и не был помещён как параметр в модель.
+     * Возвращает файл sitemap.xml для поисковых систем: список ссылок
+     * или, если ссылок больше 50 000, индекс файлов sitemap-N.xml.
+     * Файл отдается с диска без обращения к базе данных, пока не изменился
+     * каталог, в сжатом виде, если клиент его принимает. Запросы с
+     * заголовками If-None-Match или If-Modified-Since получают ответ 304.
      *
-     * @return Значение типа String - информация о ссылках на сайте для поисковых систем.
+     * @param request Запрос клиента.
+     * @return Объект класса {@link ResponseEntity} - содержимое файла
+     * или null, если файл не изменился.
+     * @throws IOException Ошибка генерации файлов.
      */
-    @ResponseBody
     @RequestMapping(
             value = {"/sitemap.xml", "/sitemap"},
-            produces = "application/xml"
+            method = RequestMethod.GET
     )
-    public ModelAndView getSiteMapXml() {
-        final ModelAndView modelAndView = new ModelAndView();
-        modelAndView.addObject("products", this.productService.getAll());
-        modelAndView.addObject("categories", this.categoryService.getAll());
-        modelAndView.setViewName("seo/sitemap");
-        return modelAndView;
+    public ResponseEntity<Resource> getSiteMapXml(final WebRequest request) throws IOException {
+        return getSiteMapFile(SiteMapWriter.INDEX_NAME, request);
+    }
+
+    /**
+     * Возвращает часть sitemap с номером number из индекса sitemap.xml.
+     *
+     * @param number  Номер части, начиная с 1.
+     * @param request Запрос клиента.
+     * @return Объект класса {@link ResponseEntity} - содержимое файла
+     * или null, если файл не изменился.
+     * @throws IOException Ошибка генерации файлов.
+     */
+    @RequestMapping(
+            value = "/sitemap-{number}.xml",
+            method = RequestMethod.GET
+    )
+    public ResponseEntity<Resource> getSiteMapPart(
+            @PathVariable(value = "number") final int number,
+            final WebRequest request
+    ) throws IOException {
+        return getSiteMapFile("sitemap-" + number + ".xml", request);
+    }
+
+    /**
+     * Возвращает файл sitemap с заголовками ETag и Last-Modified.
+     *
+     * @param name    Имя файла.
+     * @param request Запрос клиента.
+     * @return Объект класса {@link ResponseEntity} - содержимое файла,
+     * ответ 404, если файла нет, или null, если файл не изменился.
+     * @throws IOException Ошибка генерации файлов.
+     */
+    private ResponseEntity<Resource> getSiteMapFile(
+            final String name,
+            final WebRequest request
+    ) throws IOException {
+        final SiteMapFile siteMap = this.siteMapService.getFile(name);
+        if (isNull(siteMap)) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        final boolean gzip = acceptsGzip(request);
+        final String eTag = siteMap.getETag(gzip);
+        if (isNotModified(request, eTag, siteMap.getLastModified())) {
+            return null;
+        }
+        final File file = gzip ? siteMap.getGzipFile() : siteMap.getFile();
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_XML)
+                .contentLength(file.length())
+                .eTag(eTag)
+                .lastModified(siteMap.getLastModified())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(new FileSystemResource(file));
+    }
+
+    /**
+     * Проверяет условный запрос клиента. Если клиент прислал ETag,
+     * сравнивается только он, так как он вычислен по содержимому файла,
+     * иначе сравнивается время изменения файла.
+     *
+     * @param request      Запрос клиента.
+     * @param eTag         ETag файла.
+     * @param lastModified Время последнего изменения файла.
+     * @return true - файл не изменился, ответ 304 уже выставлен.
+     */
+    private static boolean isNotModified(
+            final WebRequest request,
+            final String eTag,
+            final long lastModified
+    ) {
+        return isNotEmpty(request.getHeader(HttpHeaders.IF_NONE_MATCH)) ?
+                request.checkNotModified(eTag) : request.checkNotModified(lastModified);
+    }
+
+    /**
+     * Проверяет, принимает ли клиент ответ, сжатый gzip.
+     *
+     * @param request Запрос клиента.
+     * @return true - клиент принимает сжатый ответ.
+     */
+    private static boolean acceptsGzip(final WebRequest request) {
+        final String encoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return isNotNull(encoding) && encoding.toLowerCase().contains("gzip");
     }
 }
@@ -1,48 +1,55 @@
 package ua.com.alexcoffee.model.basket;
 
-import org.springframework.context.annotation.Scope;
-import org.springframework.context.annotation.ScopedProxyMode;
-import org.springframework.stereotype.Component;
-import org.springframework.web.context.WebApplicationContext;
 import ua.com.alexcoffee.model.position.SalePosition;
+import ua.com.alexcoffee.util.money.Money;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotEmpty;
 import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
 
 /**
  * Класс описывает корзину товаров.
  * Реализует интерфейс Serializable, может быть сериализован.
- * Помечен аннотациями @Component указывает, что клас является
- * компонентом фреймворка Spring;
- * и @Scope - область видимости бина "session"
- * (один экземпляр бина для каждой сессии).
+ * Корзина не хранится в сессии: репозиторий корзины собирает ее
+ * при каждом запросе из кодов товаров и количества, которые
+ * хранятся в {@link ua.com.alexcoffee.repository.cart.CartStore}.
+ * Торговые позиции хранятся по коду товара, а размер и цена корзины
+ * пересчитываются при каждом изменении, поэтому добавление, удаление,
+ * размер и цена не зависят от количества позиций. Добавленные позиции
+ * принадлежат корзине, их количество меняется только через корзину.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
  * @see SalePosition
  */
-@Component
-@Scope(
-        value = WebApplicationContext.SCOPE_SESSION,
-        proxyMode = ScopedProxyMode.TARGET_CLASS
-)
 public class ShoppingCart implements Serializable {
 
     /**
      * Номер версии класса необходимый для десериализации и сериализации.
      */
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     /**
-     * Список торговых позиций,
+     * Торговые позиции по коду товара,
      * которые сделал клиент, но пока не оформил заказ.
      */
-    private List<SalePosition> salePositions = new ArrayList<>();
+    private final Map<Long, SalePosition> salePositions = new LinkedHashMap<>();
+
+    /**
+     * Количество товаров в корзине.
+     */
+    private int size;
+
+    /**
+     * Цена корзины в копейках.
+     */
+    private long price;
 
     /**
      * Возвращает описание корзины.
@@ -54,9 +61,9 @@ public class ShoppingCart implements Serializable {
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("Shopping Cart: ");
-        if (this.salePositions != null && !this.salePositions.isEmpty()) {
+        if (isNotEmpty(this.salePositions)) {
             int count = 1;
-            for (SalePosition salePosition : this.salePositions) {
+            for (SalePosition salePosition : this.salePositions.values()) {
                 sb.append("\n")
                         .append(count++)
                         .append(") ").append(salePosition.getProduct().getTitle())
@@ -76,23 +83,29 @@ public class ShoppingCart implements Serializable {
     }
 
     /**
-     * Добавляет торговую позицию в список корзины.
+     * Добавляет торговую позицию в корзину. Если товар позиции
+     * уже есть в корзине, количество товара увеличивается на 1.
      *
      * @param position Торговая позиция, которая будет добавлена в корзину.
      */
     public void addSalePosition(final SalePosition position) {
-        if (isNotNull(position)) {
-            if (!this.salePositions.contains(position)) {
-                this.salePositions.add(position);
-            } else {
-                final int index = this.salePositions.indexOf(position);
-                this.salePositions.get(index).numberIncrement();
-            }
+        if (isNull(position) || isNull(position.getProduct())) {
+            return;
+        }
+        final SalePosition existing = this.salePositions.get(position.getProduct().getId());
+        if (isNull(existing)) {
+            this.salePositions.put(position.getProduct().getId(), position);
+            this.size += position.getNumber();
+            this.price = Money.add(this.price, position.getPriceMinor());
+        } else {
+            existing.numberIncrement();
+            this.size++;
+            this.price = Money.add(this.price, existing.getProduct().getPriceMinor());
         }
     }
 
     /**
-     * Добавляет список торговых позиций в список корзины.
+     * Добавляет список торговых позиций в корзину.
      *
      * @param positions Список торговых позиций,
      *                  которые будут добавлены в корзину.
@@ -104,13 +117,18 @@ public class ShoppingCart implements Serializable {
     }
 
     /**
-     * Удаляет торговую позицию из корзины.
+     * Удаляет торговую позицию с тем же товаром из корзины.
      *
      * @param position Торговая позиция для удаления из корзины.
      */
     public void removeSalePosition(final SalePosition position) {
-        if (isNotNull(position)) {
-            this.salePositions.remove(position);
+        if (isNull(position) || isNull(position.getProduct())) {
+            return;
+        }
+        final SalePosition removed = this.salePositions.remove(position.getProduct().getId());
+        if (isNotNull(removed)) {
+            this.size -= removed.getNumber();
+            this.price = Money.subtract(this.price, removed.getPriceMinor());
         }
     }
 
@@ -121,7 +139,7 @@ public class ShoppingCart implements Serializable {
      */
     public void removeSalePositions(final Collection<SalePosition> positions) {
         if (isNotEmpty(positions)) {
-            this.salePositions.removeAll(positions);
+            positions.forEach(this::removeSalePosition);
         }
     }
 
@@ -131,24 +149,20 @@ public class ShoppingCart implements Serializable {
      */
     public void clearSalePositions() {
         this.salePositions.clear();
+        this.size = 0;
+        this.price = 0;
     }
 
     /**
-     * Возвращает список всех торговых позиций в корзине.
-     * Метод конвертирует список торговых позиций
-     * в корзине в список только для чтений и возвращает его.
+     * Возвращает все торговые позиции в корзине в порядке добавления.
+     * Возвращается представление только для чтения без копирования,
+     * которое отражает последующие изменения корзины.
      *
-     * @return Объект типа {@link List} - список торговых позиций только
-     * для чтения или пустой список.
+     * @return Объект типа {@link Collection} - торговые позиции только
+     * для чтения или пустая коллекция.
      */
     public Collection<SalePosition> getSalePositions() {
-        final Collection<SalePosition> positions;
-        if (isNotEmpty(this.salePositions)) {
-            positions = new ArrayList<>(this.salePositions);
-        } else {
-            positions = new ArrayList<>();
-        }
-        return positions;
+        return Collections.unmodifiableCollection(this.salePositions.values());
     }
 
     /**
@@ -167,11 +181,16 @@ public class ShoppingCart implements Serializable {
      * @return Значение типа double - цена корзины.
      */
     public double getPrice() {
-        double price = 0;
-        for (SalePosition salePosition : this.salePositions) {
-            price += salePosition.getPrice();
-        }
-        return price;
+        return Money.toDouble(this.price);
+    }
+
+    /**
+     * Возвращает цену корзины в копейках.
+     *
+     * @return Значение типа long - цена корзины в копейках.
+     */
+    public long getPriceMinor() {
+        return this.price;
     }
 
     /**
@@ -180,10 +199,6 @@ public class ShoppingCart implements Serializable {
      * @return Значение типа int - количество товаров в корзине.
      */
     public int getSize() {
-        int size = 0;
-        for (SalePosition salePosition : this.salePositions) {
-            size += salePosition.getNumber();
-        }
-        return size;
+        return this.size;
     }
 }
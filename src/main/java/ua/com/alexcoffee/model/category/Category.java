@@ -1,5 +1,7 @@
 package ua.com.alexcoffee.model.category;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ua.com.alexcoffee.model.model.Model;
 import ua.com.alexcoffee.model.photo.Photo;
 import ua.com.alexcoffee.model.product.Product;
@@ -19,6 +21,8 @@ import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
  * обрабатываться hibernate.
  * Аннотация @Table(name = "categories") указывает на таблицу "categories",
  * в которой будут храниться объекты.
+ * Аннотации @Cacheable и @Cache включают хранение объектов во
+ * втором уровне кэша hibernate.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -26,13 +30,28 @@ import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
  * @see Photo
  */
 @Entity
-@Table(name = "categories")
-public final class Category extends Model {
+@Table(
+        name = "categories",
+        indexes = @Index(name = "uk_categories_url", columnList = "url", unique = true)
+)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NamedEntityGraph(
+        name = Category.CARD_GRAPH,
+        attributeNodes = @NamedAttributeNode("photo")
+)
+public class Category extends Model {
     /**
      * Номер версии класса необходимый для десериализации и сериализации.
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * План выборки для карточки категории: категория
+     * и изображение одним запросом.
+     */
+    public static final String CARD_GRAPH = "Category.card";
+
     /**
      * Название категории. Значение поля сохраняется
      * в колонке "title". Не может быть null.
@@ -58,11 +77,11 @@ public final class Category extends Model {
      * Изображение категории. Значение поля (id объекта photo) сохраняется
      * в колонке "photo_id". Между объектами классов {@link Category} и {@link Photo}
      * связь один-к-одному, а именно каждая запись в одной таблице напрямую связана
-     * с отдельной записью в другой таблице. Выборка объекта photo до первого доступа нему,
-     * при первом доступе к текущему объекту. Сущности связаны полностью каскадным обновлением
+     * с отдельной записью в другой таблице. Выборка объекта photo при первом доступе к
+     * нему или по плану выборки репозитория. Сущности связаны полностью каскадным обновлением
      * записей в базе данных.
      */
-    @OneToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinColumn(name = "photo_id", referencedColumnName = "id")
     private Photo photo;
 
@@ -18,6 +18,11 @@ import ua.com.alexcoffee.util.generator.StringGenerator;
  */
 public abstract class ModelBuilder<T extends Model, B extends ModelBuilder<T, B>> implements Builder<T> {
 
+    /**
+     * The generator of random strings shared by all builders.
+     */
+    private static final Generator<String> STRING_GENERATOR = new StringGenerator();
+
     /**
      * The unique identifier for each object.
      */
@@ -51,8 +56,7 @@ public abstract class ModelBuilder<T extends Model, B extends ModelBuilder<T, B>
      * @return The random string.
      */
     protected String generateRandomString() {
-        final Generator<String> generator = new StringGenerator();
-        return generator.generate();
+        return STRING_GENERATOR.generate();
     }
 
     /**
@@ -3,6 +3,7 @@ package ua.com.alexcoffee.model.order;
 import ua.com.alexcoffee.model.model.Model;
 import ua.com.alexcoffee.model.position.SalePosition;
 import ua.com.alexcoffee.model.user.User;
+import ua.com.alexcoffee.util.money.Money;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -26,13 +27,81 @@ import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
  * @see SalePosition
  */
 @Entity
-@Table(name = "orders")
-public final class Order extends Model {
+@Table(
+        name = "orders",
+        indexes = {
+                @Index(name = "uk_orders_number", columnList = "number", unique = true),
+                @Index(name = Order.CHECKOUT_KEY_INDEX, columnList = "checkout_key", unique = true)
+        }
+)
+@NamedEntityGraphs({
+        @NamedEntityGraph(
+                name = Order.LIST_GRAPH,
+                attributeNodes = @NamedAttributeNode("manager")
+        ),
+        @NamedEntityGraph(
+                name = Order.DETAIL_GRAPH,
+                attributeNodes = {
+                        @NamedAttributeNode("client"),
+                        @NamedAttributeNode("manager"),
+                        @NamedAttributeNode(value = "salePositions", subgraph = "positions")
+                },
+                subgraphs = @NamedSubgraph(
+                        name = "positions",
+                        attributeNodes = @NamedAttributeNode("product")
+                )
+        ),
+        @NamedEntityGraph(
+                name = Order.CHECKOUT_GRAPH,
+                attributeNodes = {
+                        @NamedAttributeNode("client"),
+                        @NamedAttributeNode(value = "salePositions", subgraph = "positions")
+                },
+                subgraphs = {
+                        @NamedSubgraph(
+                                name = "positions",
+                                attributeNodes = @NamedAttributeNode(value = "product", subgraph = "product")
+                        ),
+                        @NamedSubgraph(
+                                name = "product",
+                                attributeNodes = {
+                                        @NamedAttributeNode("category"),
+                                        @NamedAttributeNode("photo")
+                                }
+                        )
+                }
+        )
+})
+public class Order extends Model {
     /**
      * Номер версии класса необходимый для десериализации и сериализации.
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * План выборки для списка заказов: заказ и менеджер,
+     * который его обработал, одним запросом.
+     */
+    public static final String LIST_GRAPH = "Order.list";
+
+    /**
+     * План выборки для страницы заказа: заказ, клиент, менеджер
+     * и торговые позиции вместе с товарами одним запросом.
+     */
+    public static final String DETAIL_GRAPH = "Order.detail";
+
+    /**
+     * План выборки для страницы оформленного заказа: заказ, клиент
+     * и торговые позиции вместе с товарами, их категориями и
+     * изображениями одним запросом.
+     */
+    public static final String CHECKOUT_GRAPH = "Order.checkout";
+
+    /**
+     * Имя уникального индекса ключа оформления заказа.
+     */
+    public static final String CHECKOUT_KEY_INDEX = "uk_orders_checkout_key";
+
     /**
      * Номер заказа. Значение поля сохраняется
      * в колонке "number". Не может быть null.
@@ -74,6 +143,18 @@ public final class Order extends Model {
     @Column(name = "description")
     private String description = "";
 
+    /**
+     * Ключ оформления заказа, с которым клиент отправил форму заказа.
+     * Значение поля сохраняется в колонке "checkout_key" с уникальным
+     * индексом, поэтому повторная отправка формы не создает второй заказ.
+     * Может быть null у заказов, созданных без ключа.
+     */
+    @Column(
+            name = "checkout_key",
+            length = 32
+    )
+    private String checkoutKey;
+
     /**
      * Статус заказа.
      */
@@ -86,12 +167,12 @@ public final class Order extends Model {
      * Значение поля (id объекта client) сохраняется в колонке "client_id".
      * Между объектами классов {@link Order} и {@link User} связь
      * один-к-одному, а именно каждая запись в одной таблице напрямую связана
-     * с отдельной записью в другой таблице. Выборка объекта client до первого
-     * доступа нему, при первом доступе к текущему объекту. Сущности связаны
+     * с отдельной записью в другой таблице. Выборка объекта client при первом
+     * доступе к нему или по плану выборки репозитория. Сущности связаны
      * полностью каскадным обновлением записей в базе данных.
      */
     @OneToOne(
-            fetch = FetchType.EAGER,
+            fetch = FetchType.LAZY,
             cascade = CascadeType.ALL
     )
     @JoinColumn(
@@ -105,9 +186,9 @@ public final class Order extends Model {
      * сохраняется в колонке "manager_id". Между объектами классов {@link Order}
      * и {@link User} связь много-к-одному, а именно каждая запись в одной таблице
      * напрямую связана с отдельной записью в другой таблице. Выборка объекта manager
-     * до первого доступа нему, при первом доступе к текущему объекту.
+     * при первом доступе к нему или по плану выборки репозитория.
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
             name = "manager_id",
             referencedColumnName = "id"
@@ -117,16 +198,23 @@ public final class Order extends Model {
     /**
      * Список торговых позиция текущего заказу. К текущему заказу можно добраться через
      * поле "order" в объекте класса {@link SalePosition}. Выборка продаж при первом
-     * доступе к текущему объекту. Сущности связаны полностью каскадным
+     * доступе к ним или по плану выборки репозитория. Сущности связаны полностью каскадным
      * обновлением записей в базе данных.
      */
     @OneToMany(
-            fetch = FetchType.EAGER,
+            fetch = FetchType.LAZY,
             mappedBy = "order",
             cascade = CascadeType.ALL
     )
     private Collection<SalePosition> salePositions = new ArrayList<>();
 
+    /**
+     * Цена заказа в копейках, -1 - цена еще не посчитана.
+     * Сбрасывается при изменении списка торговых позиций.
+     */
+    @Transient
+    private long price = -1;
+
     protected Order() {
     }
 
@@ -242,6 +330,7 @@ public final class Order extends Model {
     public void addSalePosition(final SalePosition position) {
         if (isNotNull(position)) {
             this.salePositions.add(position);
+            this.price = -1;
             if (position.getOrder() != this) {
                 position.setOrder(this);
             }
@@ -268,6 +357,7 @@ public final class Order extends Model {
     public void removeSalePosition(final SalePosition position) {
         if (isNotNull(position)) {
             this.salePositions.remove(position);
+            this.price = -1;
         }
     }
 
@@ -279,6 +369,7 @@ public final class Order extends Model {
     public void removeSalePositions(final Collection<SalePosition> positions) {
         if (isNotEmpty(positions)) {
             this.salePositions.removeAll(positions);
+            this.price = -1;
         }
     }
 
@@ -287,6 +378,7 @@ public final class Order extends Model {
      */
     public void clearSalePositions() {
         this.salePositions.clear();
+        this.price = -1;
     }
 
     /**
@@ -307,6 +399,7 @@ public final class Order extends Model {
      */
     public void setSalePositions(final Collection<SalePosition> positions) {
         this.salePositions = positions;
+        this.price = -1;
     }
 
     /**
@@ -453,17 +546,48 @@ public final class Order extends Model {
         this.description = description;
     }
 
+    /**
+     * Возвращает ключ оформления заказа.
+     *
+     * @return Значение типа {@link String} - ключ оформления заказа или null.
+     */
+    public String getCheckoutKey() {
+        return this.checkoutKey;
+    }
+
+    /**
+     * Устанавливает ключ оформления заказа.
+     *
+     * @param checkoutKey Ключ оформления заказа.
+     */
+    public void setCheckoutKey(final String checkoutKey) {
+        this.checkoutKey = checkoutKey;
+    }
+
     /**
      * Возвращает цену заказа - общую стоимость всех торговых позиция.
      *
      * @return Значение типа double - цена заказа.
      */
     public double getPrice() {
-        double price = 0;
-        for (SalePosition salePosition : this.salePositions) {
-            price += salePosition.getPrice();
+        return Money.toDouble(getPriceMinor());
+    }
+
+    /**
+     * Возвращает цену заказа в копейках. Цена считается при первом
+     * обращении и запоминается до изменения списка торговых позиций.
+     *
+     * @return Значение типа long - цена заказа в копейках.
+     */
+    public long getPriceMinor() {
+        if (this.price < 0) {
+            long price = 0;
+            for (SalePosition salePosition : this.salePositions) {
+                price = Money.add(price, salePosition.getPriceMinor());
+            }
+            this.price = price;
         }
-        return price;
+        return this.price;
     }
 
     public static OrderBuilder getBuilder() {
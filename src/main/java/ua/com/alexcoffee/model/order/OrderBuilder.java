@@ -21,6 +21,8 @@ import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
  */
 public final class OrderBuilder extends ModelBuilder<Order, OrderBuilder> {
 
+    private static final Generator<String> NUMBER_GENERATOR = new StringGenerator();
+
     private String number;
 
     private Date date;
@@ -136,8 +138,7 @@ public final class OrderBuilder extends ModelBuilder<Order, OrderBuilder> {
         if (isNotEmpty(this.number)) {
             number = this.number;
         } else {
-            final Generator<String> stringGenerator = new StringGenerator();
-            number = stringGenerator.generate();
+            number = NUMBER_GENERATOR.generate();
         }
         return number;
     }
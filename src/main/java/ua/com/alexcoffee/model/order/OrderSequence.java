@@ -0,0 +1,104 @@
+package ua.com.alexcoffee.model.order;
+
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+
+/**
+ * Класс описывает счетчик номеров заказов. В таблице "order_sequence"
+ * хранится следующий свободный номер, узлы приложения резервируют
+ * из него блоки номеров и раздают их из памяти.
+ * Аннотация @Entity говорит о том что объекты этого класса будет
+ * обрабатываться hibernate. Аннотация @Table(name = "order_sequence")
+ * указывает на таблицу "order_sequence", в которой будут храниться объекты.
+ * Код счетчика задается вручную, поэтому новый счетчик сообщает о себе
+ * через {@link Persistable#isNew()} и всегда вставляется, а не сливается
+ * с записью, которую мог одновременно создать другой узел.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Order
+ * @see ua.com.alexcoffee.service.checkout.OrderNumberGenerator
+ */
+@Entity
+@Table(name = "order_sequence")
+public class OrderSequence implements Persistable<Integer> {
+    /**
+     * Номер версии класса необходимый для десериализации и сериализации.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Код счетчика. Значение поля сохраняется в колонке "id".
+     */
+    @Id
+    @Column(name = "id")
+    private int id;
+
+    /**
+     * Следующий свободный номер заказа. Значение поля
+     * сохраняется в колонке "next_value". Не может быть null.
+     */
+    @Column(
+            name = "next_value",
+            nullable = false
+    )
+    private long nextValue;
+
+    /**
+     * Создан ли счетчик приложением и еще не сохранен.
+     */
+    @Transient
+    private boolean isNew;
+
+    /**
+     * Конструктор без параметров для hibernate.
+     */
+    protected OrderSequence() {
+    }
+
+    /**
+     * Конструктор для инициализации основных переменных счетчика.
+     *
+     * @param id        Код счетчика.
+     * @param nextValue Следующий свободный номер заказа.
+     */
+    public OrderSequence(final int id, final long nextValue) {
+        this.id = id;
+        this.nextValue = nextValue;
+        this.isNew = true;
+    }
+
+    /**
+     * Возвращает код счетчика.
+     *
+     * @return Значение типа {@link Integer} - код счетчика.
+     */
+    @Override
+    public Integer getId() {
+        return this.id;
+    }
+
+    /**
+     * Возвращает следующий свободный номер заказа.
+     *
+     * @return Значение типа long - следующий номер.
+     */
+    public long getNextValue() {
+        return this.nextValue;
+    }
+
+    /**
+     * Сообщает, что счетчик создан приложением и его нужно вставить.
+     *
+     * @return true, если счетчик еще не сохранен.
+     */
+    @Override
+    public boolean isNew() {
+        return this.isNew;
+    }
+}
@@ -1,11 +1,15 @@
 package ua.com.alexcoffee.model.photo;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ua.com.alexcoffee.model.category.Category;
 import ua.com.alexcoffee.model.model.Model;
 import ua.com.alexcoffee.model.product.Product;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.Table;
 
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
@@ -16,6 +20,8 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
  * Аннотация @Entity говорит о том что объекты этого класса будет обрабатываться hibernate.
  * Аннотация @Table(name = "photos") указывает на таблицу "photos",
  * в которой будут храниться объекты.
+ * Аннотации @Cacheable и @Cache включают хранение объектов во
+ * втором уровне кэша hibernate.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -23,8 +29,13 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
  * @see Product
  */
 @Entity
-@Table(name = "photos")
-public final class Photo extends Model {
+@Table(
+        name = "photos",
+        indexes = @Index(name = "uk_photos_title", columnList = "title", unique = true)
+)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+public class Photo extends Model {
     /**
      * Номер версии класса необходимый
      * для десериализации и сериализации.
@@ -4,6 +4,7 @@ import ua.com.alexcoffee.model.basket.ShoppingCart;
 import ua.com.alexcoffee.model.model.Model;
 import ua.com.alexcoffee.model.order.Order;
 import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.util.money.Money;
 
 import javax.persistence.*;
 
@@ -26,7 +27,15 @@ import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
  */
 @Entity
 @Table(name = "sales")
+@NamedEntityGraph(
+        name = SalePosition.PRODUCT_GRAPH,
+        attributeNodes = @NamedAttributeNode("product")
+)
 public class SalePosition extends Model {
+    /**
+     * План выборки торговой позиции вместе с товаром.
+     */
+    public static final String PRODUCT_GRAPH = "SalePosition.product";
 
     /**
      * Товар текущей торговой позици.
@@ -35,9 +44,9 @@ public class SalePosition extends Model {
      * Между объектами классов {@link Product} и {@link SalePosition}
      * связь один-к-одному, а именно каждая запись в одной таблице напрямую
      * связана с отдельной записью в другой таблице. Выборка объекта product
-     * до первого доступа нему, при первом доступе к текущему объекту.
+     * при первом доступе к нему или по плану выборки репозитория.
      */
-    @OneToOne(fetch = FetchType.EAGER)
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(
             name = "product_id",
             referencedColumnName = "id",
@@ -136,7 +145,16 @@ public class SalePosition extends Model {
      * @return Значение типа double - цена торговой пзиции.
      */
     public double getPrice() {
-        return this.number * this.product.getPrice();
+        return Money.toDouble(getPriceMinor());
+    }
+
+    /**
+     * Возвращает общую стоимость торговой позиции в копейках.
+     *
+     * @return Значение типа long - цена торговой пзиции в копейках.
+     */
+    public long getPriceMinor() {
+        return Money.multiply(this.product.getPriceMinor(), this.number);
     }
 
     /**
@@ -0,0 +1,43 @@
+package ua.com.alexcoffee.model.product;
+
+import ua.com.alexcoffee.util.money.Money;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.math.BigDecimal;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Класс преобразует цену в копейках в колонку DECIMAL(7, 2)
+ * в гривнах и обратно без округления через double.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Product
+ * @see Money
+ */
+@Converter
+public final class PriceConverter implements AttributeConverter<Long, BigDecimal> {
+    /**
+     * Преобразует цену в копейках в значение колонки.
+     *
+     * @param price Цена в копейках.
+     * @return Объект класса {@link BigDecimal} - цена в гривнах.
+     */
+    @Override
+    public BigDecimal convertToDatabaseColumn(final Long price) {
+        return isNull(price) ? null : Money.toDecimal(price);
+    }
+
+    /**
+     * Преобразует значение колонки в цену в копейках.
+     *
+     * @param price Цена в гривнах.
+     * @return Значение типа {@link Long} - цена в копейках.
+     */
+    @Override
+    public Long convertToEntityAttribute(final BigDecimal price) {
+        return isNull(price) ? null : Money.toMinor(price);
+    }
+}
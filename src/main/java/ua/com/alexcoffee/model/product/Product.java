@@ -1,9 +1,12 @@
 package ua.com.alexcoffee.model.product;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ua.com.alexcoffee.model.category.Category;
 import ua.com.alexcoffee.model.model.Model;
 import ua.com.alexcoffee.model.photo.Photo;
 import ua.com.alexcoffee.model.position.SalePosition;
+import ua.com.alexcoffee.util.money.Money;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -16,6 +19,8 @@ import java.util.List;
  * обрабатываться hibernate.
  * Аннотация @Table(name = "products") указывает на таблицу "products",
  * в которой будут храниться объекты.
+ * Аннотации @Cacheable и @Cache включают хранение объектов во
+ * втором уровне кэша hibernate.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -24,13 +29,46 @@ import java.util.List;
  * @see SalePosition
  */
 @Entity
-@Table(name = "products")
-public final class Product extends Model {
+@Table(
+        name = "products",
+        indexes = {
+                @Index(name = "uk_products_url", columnList = "url", unique = true),
+                @Index(name = "uk_products_article", columnList = "article", unique = true)
+        }
+)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NamedEntityGraphs({
+        @NamedEntityGraph(
+                name = Product.CARD_GRAPH,
+                attributeNodes = {
+                        @NamedAttributeNode("category"),
+                        @NamedAttributeNode("photo")
+                }
+        ),
+        @NamedEntityGraph(
+                name = Product.LIST_GRAPH,
+                attributeNodes = @NamedAttributeNode("category")
+        )
+})
+public class Product extends Model {
     /**
      * Номер версии класса необходимый для десериализации и сериализации.
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * План выборки для карточки товара: товар, категория
+     * и изображение одним запросом.
+     */
+    public static final String CARD_GRAPH = "Product.card";
+
+    /**
+     * План выборки для списка товаров в админ-панели:
+     * товар и категория без изображения.
+     */
+    public static final String LIST_GRAPH = "Product.list";
+
     /**
      * Артикль товара.
      * Значение поля сохраняется в колонке "article".
@@ -83,9 +121,9 @@ public final class Product extends Model {
      * Значение поля (id объекта category) сохраняется в колонке "category_id".
      * Не может быть null. Между объектами классов {@link Product} и {@link Category}
      * связь многие-к-одному, а именно каждая много заказов могут иметь одинаковый статус
-     * выполнения. Выборка объекта category до первого доступа нему, при первом доступе к текущему объекту.
+     * выполнения. Выборка объекта category при первом доступе к нему или по плану выборки репозитория.
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
             name = "category_id",
             referencedColumnName = "id"
@@ -97,11 +135,11 @@ public final class Product extends Model {
      * Значение поля (id объекта photo) сохраняется в колонке "photo_id".
      * Между объектами классов {@link Product} и {@link Photo} связь один-к-одному,
      * а именно каждая запись в одной таблице напрямую связана с отдельной записью в
-     * другой таблице. Выборка объекта photo до первого доступа нему, при первом доступе
-     * к текущему объекту. Сущности связаны полностью каскадным обновлением записей в базе данных.
+     * другой таблице. Выборка объекта photo при первом доступе к нему или по
+     * плану выборки репозитория. Сущности связаны полностью каскадным обновлением записей в базе данных.
      */
     @OneToOne(
-            fetch = FetchType.EAGER,
+            fetch = FetchType.LAZY,
             cascade = CascadeType.ALL
     )
     @JoinColumn(
@@ -111,13 +149,15 @@ public final class Product extends Model {
     private Photo photo;
 
     /**
-     * Цена товара. Значение поля сохраняется в колонке "description". Не может быть null.
+     * Цена товара в копейках. Значение поля сохраняется в колонке "price"
+     * в гривнах через {@link PriceConverter}. Не может быть null.
      */
     @Column(
             name = "price",
             nullable = false
     )
-    private double price = 0;
+    @Convert(converter = PriceConverter.class)
+    private long price = 0;
 
     /**
      * Изображение товара.
@@ -149,7 +189,7 @@ public final class Product extends Model {
                 .append("\nDescription: ")
                 .append(this.description)
                 .append("\nPrice = ")
-                .append(this.price)
+                .append(getPrice())
                 .append(" UAH");
         if (this.category != null) {
             sb.append("\nCategory: ")
@@ -194,8 +234,7 @@ public final class Product extends Model {
         result = 31 * result + this.url.hashCode();
         result = 31 * result + this.parameters.hashCode();
         result = 31 * result + this.description.hashCode();
-        long temp = Double.doubleToLongBits(this.price);
-        result = 31 * result + (int) (temp ^ (temp >>> 32));
+        result = 31 * result + Long.hashCode(this.price);
         return result;
     }
 
@@ -326,20 +365,39 @@ public final class Product extends Model {
     }
 
     /**
-     * Возвращает цену товара.
+     * Возвращает цену товара в гривнах.
      *
      * @return Значение типа double - цена товара.
      */
     public double getPrice() {
-        return this.price;
+        return Money.toDouble(this.price);
     }
 
     /**
-     * Устанавливает цену товара.
+     * Устанавливает цену товара в гривнах,
+     * цена округляется до копейки.
      *
      * @param price Цена товара.
      */
     public void setPrice(final double price) {
+        this.price = Money.toMinor(price);
+    }
+
+    /**
+     * Возвращает цену товара в копейках.
+     *
+     * @return Значение типа long - цена товара в копейках.
+     */
+    public long getPriceMinor() {
+        return this.price;
+    }
+
+    /**
+     * Устанавливает цену товара в копейках.
+     *
+     * @param price Цена товара в копейках.
+     */
+    public void setPriceMinor(final long price) {
         this.price = price;
     }
 
@@ -22,6 +22,8 @@ public final class ProductBuilder extends ModelBuilder<Product, ProductBuilder>
 
     private static final int CODE_LENGTH = 5;
 
+    private static final Generator<String> CODE_GENERATOR = new StringGenerator(CODE_PATTERN, CODE_LENGTH);
+
     private int article = 0;
 
     private String title = "";
@@ -100,8 +102,7 @@ public final class ProductBuilder extends ModelBuilder<Product, ProductBuilder>
         if (this.article > 0) {
           article = this.article;
         } else {
-            final Generator<String> stringGenerator = new StringGenerator(CODE_PATTERN, CODE_LENGTH);
-            final String strintArticle = stringGenerator.generate();
+            final String strintArticle = CODE_GENERATOR.generate();
             article = Integer.parseInt(strintArticle);
         }
         return article;
@@ -0,0 +1,70 @@
+package ua.com.alexcoffee.model.projection;
+
+import ua.com.alexcoffee.model.category.Category;
+
+/**
+ * Класс описывает строку списка категорий в админ-панели.
+ * Объекты создаются запросом-проекцией и содержат только
+ * колонки, которые выводятся в списке, без загрузки
+ * сущности {@link Category} и её изображения.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Category
+ */
+public final class CategoryRow {
+    /**
+     * Код категории.
+     */
+    private final long id;
+
+    /**
+     * Название категории.
+     */
+    private final String title;
+
+    /**
+     * URL категории.
+     */
+    private final String url;
+
+    /**
+     * Конструктор для инициализации основных переменных строки.
+     *
+     * @param id    Код категории.
+     * @param title Название категории.
+     * @param url   URL категории.
+     */
+    public CategoryRow(final long id, final String title, final String url) {
+        this.id = id;
+        this.title = title;
+        this.url = url;
+    }
+
+    /**
+     * Возвращает код категории.
+     *
+     * @return Значение типа long - код категории.
+     */
+    public long getId() {
+        return this.id;
+    }
+
+    /**
+     * Возвращает название категории.
+     *
+     * @return Значение типа {@link String} - название категории.
+     */
+    public String getTitle() {
+        return this.title;
+    }
+
+    /**
+     * Возвращает URL категории.
+     *
+     * @return Значение типа {@link String} - URL категории.
+     */
+    public String getUrl() {
+        return this.url;
+    }
+}
@@ -0,0 +1,111 @@
+package ua.com.alexcoffee.model.projection;
+
+import ua.com.alexcoffee.model.order.Order;
+import ua.com.alexcoffee.model.order.OrderStatus;
+
+import java.util.Date;
+
+/**
+ * Класс описывает строку списка заказов.
+ * Объекты создаются запросом-проекцией и содержат только
+ * колонки, которые выводятся в списке, без загрузки
+ * сущности {@link Order}, клиента, менеджера и торговых позиций.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Order
+ */
+public final class OrderRow {
+    /**
+     * Код заказа.
+     */
+    private final long id;
+
+    /**
+     * Номер заказа.
+     */
+    private final String number;
+
+    /**
+     * Дата модификации заказа.
+     */
+    private final Date date;
+
+    /**
+     * Статус заказа.
+     */
+    private final OrderStatus status;
+
+    /**
+     * Код менеджера, обработавшего заказ, null если заказ не обработан.
+     */
+    private final Long managerId;
+
+    /**
+     * Конструктор для инициализации основных переменных строки.
+     *
+     * @param id        Код заказа.
+     * @param number    Номер заказа.
+     * @param date      Дата модификации заказа.
+     * @param status    Статус заказа.
+     * @param managerId Код менеджера, обработавшего заказ.
+     */
+    public OrderRow(
+            final long id,
+            final String number,
+            final Date date,
+            final OrderStatus status,
+            final Long managerId
+    ) {
+        this.id = id;
+        this.number = number;
+        this.date = date;
+        this.status = status;
+        this.managerId = managerId;
+    }
+
+    /**
+     * Возвращает код заказа.
+     *
+     * @return Значение типа long - код заказа.
+     */
+    public long getId() {
+        return this.id;
+    }
+
+    /**
+     * Возвращает номер заказа.
+     *
+     * @return Значение типа {@link String} - номер заказа.
+     */
+    public String getNumber() {
+        return this.number;
+    }
+
+    /**
+     * Возвращает дату модификации заказа.
+     *
+     * @return Объект класса {@link Date} - дата модификации заказа.
+     */
+    public Date getDate() {
+        return this.date;
+    }
+
+    /**
+     * Возвращает статус заказа.
+     *
+     * @return Объект перечисления {@link OrderStatus} - статус заказа.
+     */
+    public OrderStatus getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Возвращает код менеджера, обработавшего заказ.
+     *
+     * @return Значение типа {@link Long} - код менеджера.
+     */
+    public Long getManagerId() {
+        return this.managerId;
+    }
+}
@@ -0,0 +1,137 @@
+package ua.com.alexcoffee.model.projection;
+
+import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.util.money.Money;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Класс описывает строку списка товаров в админ-панели.
+ * Объекты создаются запросом-проекцией и содержат только
+ * колонки, которые выводятся в списке, без загрузки
+ * сущности {@link Product}, её изображения и категории.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Product
+ */
+public final class ProductRow {
+    /**
+     * Код товара.
+     */
+    private final long id;
+
+    /**
+     * Название товара.
+     */
+    private final String title;
+
+    /**
+     * URL товара.
+     */
+    private final String url;
+
+    /**
+     * Цена товара в копейках.
+     */
+    private final long price;
+
+    /**
+     * Код категории товара, null если у товара нет категории.
+     */
+    private final Long categoryId;
+
+    /**
+     * Название категории товара, null если у товара нет категории.
+     */
+    private final String categoryTitle;
+
+    /**
+     * Конструктор для инициализации основных переменных строки.
+     *
+     * @param id            Код товара.
+     * @param title         Название товара.
+     * @param url           URL товара.
+     * @param price         Цена товара в копейках.
+     * @param categoryId    Код категории товара.
+     * @param categoryTitle Название категории товара.
+     */
+    public ProductRow(
+            final long id,
+            final String title,
+            final String url,
+            final Long price,
+            final Long categoryId,
+            final String categoryTitle
+    ) {
+        this.id = id;
+        this.title = title;
+        this.url = url;
+        this.price = isNull(price) ? 0 : price;
+        this.categoryId = categoryId;
+        this.categoryTitle = categoryTitle;
+    }
+
+    /**
+     * Возвращает код товара.
+     *
+     * @return Значение типа long - код товара.
+     */
+    public long getId() {
+        return this.id;
+    }
+
+    /**
+     * Возвращает название товара.
+     *
+     * @return Значение типа {@link String} - название товара.
+     */
+    public String getTitle() {
+        return this.title;
+    }
+
+    /**
+     * Возвращает URL товара.
+     *
+     * @return Значение типа {@link String} - URL товара.
+     */
+    public String getUrl() {
+        return this.url;
+    }
+
+    /**
+     * Возвращает цену товара.
+     *
+     * @return Значение типа double - цена товара.
+     */
+    public double getPrice() {
+        return Money.toDouble(this.price);
+    }
+
+    /**
+     * Возвращает цену товара в копейках.
+     *
+     * @return Значение типа long - цена товара в копейках.
+     */
+    public long getPriceMinor() {
+        return this.price;
+    }
+
+    /**
+     * Возвращает код категории товара.
+     *
+     * @return Значение типа {@link Long} - код категории.
+     */
+    public Long getCategoryId() {
+        return this.categoryId;
+    }
+
+    /**
+     * Возвращает название категории товара.
+     *
+     * @return Значение типа {@link String} - название категории.
+     */
+    public String getCategoryTitle() {
+        return this.categoryTitle;
+    }
+}
@@ -0,0 +1,109 @@
+package ua.com.alexcoffee.model.projection;
+
+import ua.com.alexcoffee.model.user.User;
+import ua.com.alexcoffee.model.user.UserRole;
+
+/**
+ * Класс описывает строку списка пользователей.
+ * Объекты создаются запросом-проекцией и содержат только
+ * колонки, которые выводятся в списке, без загрузки
+ * сущности {@link User}.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see User
+ */
+public final class UserRow {
+    /**
+     * Код пользователя.
+     */
+    private final long id;
+
+    /**
+     * Имя пользователя.
+     */
+    private final String name;
+
+    /**
+     * Логин пользователя.
+     */
+    private final String username;
+
+    /**
+     * Номер телефона пользователя.
+     */
+    private final String phone;
+
+    /**
+     * Роль пользователя.
+     */
+    private final UserRole role;
+
+    /**
+     * Конструктор для инициализации основных переменных строки.
+     *
+     * @param id       Код пользователя.
+     * @param name     Имя пользователя.
+     * @param username Логин пользователя.
+     * @param phone    Номер телефона пользователя.
+     * @param role     Роль пользователя.
+     */
+    public UserRow(
+            final long id,
+            final String name,
+            final String username,
+            final String phone,
+            final UserRole role
+    ) {
+        this.id = id;
+        this.name = name;
+        this.username = username;
+        this.phone = phone;
+        this.role = role;
+    }
+
+    /**
+     * Возвращает код пользователя.
+     *
+     * @return Значение типа long - код пользователя.
+     */
+    public long getId() {
+        return this.id;
+    }
+
+    /**
+     * Возвращает имя пользователя.
+     *
+     * @return Значение типа {@link String} - имя пользователя.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Возвращает логин пользователя.
+     *
+     * @return Значение типа {@link String} - логин пользователя.
+     */
+    public String getUsername() {
+        return this.username;
+    }
+
+    /**
+     * Возвращает номер телефона пользователя.
+     *
+     * @return Значение типа {@link String} - номер телефона.
+     */
+    public String getPhone() {
+        return this.phone;
+    }
+
+    /**
+     * Возвращает роль пользователя.
+     *
+     * @return Объект перечисления {@link UserRole} - роль пользователя.
+     */
+    public UserRole getRole() {
+        return this.role;
+    }
+}
@@ -26,8 +26,15 @@ import java.util.List;
  * @see Order
  */
 @Entity
-@Table(name = "users")
-public final class User extends Model implements UserDetails {
+@Table(
+        name = "users",
+        indexes = {
+                @Index(name = "idx_users_username", columnList = "username"),
+                @Index(name = "idx_users_name", columnList = "name"),
+                @Index(name = "idx_users_role", columnList = "role")
+        }
+)
+public class User extends Model implements UserDetails {
     /**
      * Номер версии класса необходимый для десериализации и сериализации.
      */
@@ -1,10 +1,22 @@
 package ua.com.alexcoffee.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import ua.com.alexcoffee.model.category.Category;
+import ua.com.alexcoffee.model.projection.CategoryRow;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Репозиторий для объектов класса {@link Category}, предоставляющий
  * набор методов JPA для работы с БД. Наследует интерфейс {@link MainRepository}.
+ * Категории для витрины загружаются по плану {@link Category#CARD_GRAPH},
+ * страницы категорий в админ-панели - без изображений.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -12,12 +24,34 @@ import ua.com.alexcoffee.model.category.Category;
  * @see Category
  */
 public interface CategoryRepository extends MainRepository<Category> {
+    /**
+     * Возвращает категорию с уникальным кодом вместе с изображением.
+     *
+     * @param id Код категории.
+     * @return Объект класса {@link Category} - категория с уникальным кодом.
+     */
+    @Override
+    @EntityGraph(Category.CARD_GRAPH)
+    Category findOne(Long id);
+
+    /**
+     * Возвращает все категории вместе с изображениями.
+     *
+     * @return Объект типа {@link List} - список категорий.
+     */
+    @Override
+    @EntityGraph(Category.CARD_GRAPH)
+    List<Category> findAll();
+
     /**
      * Возвращает категорию из базы данных, у которой совпадает параметр url.
+     * Результат хранится в кэше запросов.
      *
      * @param url URL категории для возврата.
      * @return Объект класса {@link Category} - категория с уникальным url полем.
      */
+    @EntityGraph(Category.CARD_GRAPH)
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
     Category findByUrl(String url);
 
     /**
@@ -26,4 +60,30 @@ public interface CategoryRepository extends MainRepository<Category> {
      * @param url URL категории для удаления.
      */
     void deleteByUrl(String url);
+
+    /**
+     * Возвращает страницу строк списка категорий: только колонки,
+     * которые выводятся в списке, без загрузки сущностей.
+     *
+     * @param pageable Номер и размер страницы, сортировка.
+     * @return Объект типа {@link Page} - страница строк категорий.
+     */
+    @Query(
+            value = "select new ua.com.alexcoffee.model.projection.CategoryRow(" +
+                    "c.id, c.title, c.url) from Category c",
+            countQuery = "select count(c) from Category c"
+    )
+    Page<CategoryRow> findAllRows(Pageable pageable);
+
+    /**
+     * Возвращает поток URL всех категорий без загрузки самих категорий.
+     * Строки читаются из курсора базы данных порциями, поэтому
+     * память не зависит от количества категорий. Поток нужно читать
+     * внутри транзакции и закрывать после чтения.
+     *
+     * @return Объект типа {@link Stream} - поток URL категорий.
+     */
+    @Query("select c.url from Category c order by c.id")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = STREAM_FETCH_SIZE))
+    Stream<String> streamAllUrls();
 }
@@ -29,4 +29,16 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 @NoRepositoryBean
 public interface MainRepository<T extends Model> extends JpaRepository<T, Long> {
+    /**
+     * Количество строк, которые драйвер базы данных читает за одно
+     * обращение при потоковой выборке. Драйвер MySQL читает строки
+     * порциями через курсор сервера только с настройкой соединения
+     * useCursorFetch=true, без неё он загружает в память весь результат.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * Подсказка hibernate хранить результат запроса в кэше запросов.
+     */
+    String CACHEABLE = "org.hibernate.cacheable";
 }
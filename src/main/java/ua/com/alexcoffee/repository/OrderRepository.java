@@ -1,10 +1,19 @@
 package ua.com.alexcoffee.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
 import ua.com.alexcoffee.model.order.Order;
+import ua.com.alexcoffee.model.projection.OrderRow;
+
+import java.util.List;
 
 /**
  * Репозиторий для объектов класса {@link Order}, предоставляющий
  * набор методов JPA для работы с БД. Наследует интерфейс {@link MainRepository}.
+ * Списки заказов загружаются по плану {@link Order#LIST_GRAPH},
+ * отдельные заказы - по плану {@link Order#DETAIL_GRAPH}.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -12,6 +21,36 @@ import ua.com.alexcoffee.model.order.Order;
  * @see Order
  */
 public interface OrderRepository extends MainRepository<Order> {
+    /**
+     * Возвращает заказ с уникальным кодом вместе с клиентом,
+     * менеджером и торговыми позициями.
+     *
+     * @param id Код заказа.
+     * @return Объект класса {@link Order} - заказ с уникальным кодом.
+     */
+    @Override
+    @EntityGraph(Order.DETAIL_GRAPH)
+    Order findOne(Long id);
+
+    /**
+     * Возвращает все заказы вместе с менеджерами.
+     *
+     * @return Объект типа {@link List} - список заказов.
+     */
+    @Override
+    @EntityGraph(Order.LIST_GRAPH)
+    List<Order> findAll();
+
+    /**
+     * Возвращает страницу заказов вместе с менеджерами.
+     *
+     * @param pageable Номер и размер страницы, сортировка.
+     * @return Объект типа {@link Page} - страница заказов.
+     */
+    @Override
+    @EntityGraph(Order.LIST_GRAPH)
+    Page<Order> findAll(Pageable pageable);
+
     /**
      * Возвращает заказ из базы даных, у которого совпадает
      * уникальный номером с значением входящего параметра.
@@ -20,8 +59,21 @@ public interface OrderRepository extends MainRepository<Order> {
      * @return Объект класса {@link Order} - заказ с уникальным номером
      * для возвращения.
      */
+    @EntityGraph(Order.DETAIL_GRAPH)
     Order findByNumber(String number);
 
+    /**
+     * Возвращает заказ, оформленный с ключом оформления заказа,
+     * вместе с клиентом и торговыми позициями, товары которых
+     * загружаются с категориями и изображениями для страницы заказа.
+     *
+     * @param checkoutKey Ключ оформления заказа.
+     * @return Объект класса {@link Order} - заказ или null, если
+     * с таким ключом заказ не оформлялся.
+     */
+    @EntityGraph(Order.CHECKOUT_GRAPH)
+    Order findByCheckoutKey(String checkoutKey);
+
     /**
      * Удаляет заказ из базы даных, у которого совпадает уникальный номером
      * с значением входящего параметра.
@@ -29,4 +81,19 @@ public interface OrderRepository extends MainRepository<Order> {
      * @param number Номер заказа для удаление.
      */
     void deleteByNumber(String number);
+
+    /**
+     * Возвращает страницу строк списка заказов: только колонки,
+     * которые выводятся в списке, и код менеджера без загрузки сущностей.
+     *
+     * @param pageable Номер и размер страницы, сортировка.
+     * @return Объект типа {@link Page} - страница строк заказов.
+     */
+    @Query(
+            value = "select new ua.com.alexcoffee.model.projection.OrderRow(" +
+                    "o.id, o.number, o.date, o.status, m.id) " +
+                    "from Order o left join o.manager m",
+            countQuery = "select count(o) from Order o"
+    )
+    Page<OrderRow> findAllRows(Pageable pageable);
 }
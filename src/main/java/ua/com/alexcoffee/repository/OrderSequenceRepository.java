@@ -0,0 +1,39 @@
+package ua.com.alexcoffee.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ua.com.alexcoffee.model.order.OrderSequence;
+
+/**
+ * Репозиторий для объектов класса {@link OrderSequence}, предоставляющий
+ * набор методов JPA для работы с БД. Наследует интерфейс {@link JpaRepository}.
+ * Методы вызываются в транзакции, в которой резервируется блок номеров.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see OrderSequence
+ */
+public interface OrderSequenceRepository extends JpaRepository<OrderSequence, Integer> {
+    /**
+     * Увеличивает следующий свободный номер счетчика одним запросом.
+     * Запись счетчика блокируется до конца транзакции.
+     *
+     * @param id   Код счетчика.
+     * @param size На сколько увеличить номер.
+     * @return Значение типа int - количество измененных записей, 0 если счетчика нет.
+     */
+    @Modifying
+    @Query("update OrderSequence s set s.nextValue = s.nextValue + :size where s.id = :id")
+    int increment(@Param("id") int id, @Param("size") long size);
+
+    /**
+     * Возвращает следующий свободный номер счетчика из базы данных.
+     *
+     * @param id Код счетчика.
+     * @return Значение типа {@link Long} - следующий номер или null, если счетчика нет.
+     */
+    @Query("select s.nextValue from OrderSequence s where s.id = :id")
+    Long findNextValue(@Param("id") int id);
+}
@@ -1,13 +1,24 @@
 package ua.com.alexcoffee.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.model.projection.ProductRow;
 
+import javax.persistence.QueryHint;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Репозиторий для объектов класса {@link Product}, предоставляющий
  * набор методов JPA для работы с БД. Наследует интерфейс {@link MainRepository}.
+ * Товары для витрины загружаются по плану {@link Product#CARD_GRAPH},
+ * страницы товаров в админ-панели - по плану {@link Product#LIST_GRAPH}.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -15,21 +26,67 @@ import java.util.List;
  * @see Product
  */
 public interface ProductRepository extends MainRepository<Product> {
+    /**
+     * Возвращает товар с уникальным кодом вместе с категорией и изображением.
+     *
+     * @param id Код товара.
+     * @return Объект класса {@link Product} - товар с уникальным кодом.
+     */
+    @Override
+    @EntityGraph(Product.CARD_GRAPH)
+    Product findOne(Long id);
+
+    /**
+     * Возвращает все товары вместе с категориями и изображениями.
+     *
+     * @return Объект типа {@link List} - список товаров.
+     */
+    @Override
+    @EntityGraph(Product.CARD_GRAPH)
+    List<Product> findAll();
+
+    /**
+     * Возвращает товары с уникальными кодами вместе
+     * с категориями и изображениями.
+     *
+     * @param ids Коды товаров.
+     * @return Объект типа {@link List} - список товаров.
+     */
+    @Override
+    @EntityGraph(Product.CARD_GRAPH)
+    List<Product> findAll(Iterable<Long> ids);
+
+    /**
+     * Возвращает страницу товаров вместе с категориями.
+     *
+     * @param pageable Номер и размер страницы, сортировка.
+     * @return Объект типа {@link Page} - страница товаров.
+     */
+    @Override
+    @EntityGraph(Product.LIST_GRAPH)
+    Page<Product> findAll(Pageable pageable);
+
     /**
      * Возвращает товар из базы данных, у которого совпадает параметр url.
+     * Результат хранится в кэше запросов.
      *
      * @param url URL товара для возврата.
      * @return Объект класса {@link Product} - товар с уникальным url полем.
      */
+    @EntityGraph(Product.CARD_GRAPH)
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
     Product findByUrl(String url);
 
     /**
      * Возвращает товар из базы даных, у которого совпадает уникальный
      * артикль с значением входящего параметра.
+     * Результат хранится в кэше запросов.
      *
      * @param article Артикль товара для возврата.
      * @return Объект класса {@link Product} - товара с уникальным артиклем.
      */
+    @EntityGraph(Product.CARD_GRAPH)
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
     Product findByArticle(int article);
 
     /**
@@ -64,19 +121,102 @@ public interface ProductRepository extends MainRepository<Product> {
 
     /**
      * Возвращает список товаров, которые пренадлежат категории
-     * с уникальным кодом - входным параметром.
+     * с уникальным кодом - входным параметром. Условие стоит на
+     * внешнем ключе товара, чтобы выборка шла по его индексу.
      *
      * @param id Код категории.
      * @return Объект типа {@link List} - список товаров.
      */
+    @EntityGraph(Product.CARD_GRAPH)
+    @Query("select p from Product p where p.category.id = ?1")
     Collection<Product> findByCategoryId(long id);
 
     /**
      * Возвращает список товаров, которые пренадлежат категории
-     * с уникальным URL - входным параметром.
+     * с уникальным URL - входным параметром. Код категории находится
+     * подзапросом по индексу URL, а товары - по индексу кода категории.
+     * Результат хранится в кэше запросов.
      *
      * @param url URL категории.
      * @return Объект типа {@link List} - список товаров.
      */
+    @EntityGraph(Product.CARD_GRAPH)
+    @Query("select p from Product p where p.category.id = (select c.id from Category c where c.url = ?1)")
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
     Collection<Product> findByCategoryUrl(String url);
+
+    /**
+     * Возвращает коды всех товаров из базы данных
+     * без загрузки самих товаров.
+     *
+     * @return Объект типа {@link List} - список кодов товаров.
+     */
+    @Query("select p.id from Product p")
+    List<Long> findAllIds();
+
+    /**
+     * Возвращает коды товаров, которые пренадлежат категории
+     * с уникальным кодом - входным параметром, без загрузки самих товаров.
+     *
+     * @param id Код категории.
+     * @return Объект типа {@link List} - список кодов товаров.
+     */
+    @Query("select p.id from Product p where p.category.id = ?1")
+    List<Long> findIdsByCategoryId(long id);
+
+    /**
+     * Возвращает порцию товаров, код которых больше входного параметра.
+     * Поиск идет по индексу первичного ключа, поэтому время выборки
+     * не зависит от того, насколько далеко пролистан каталог.
+     *
+     * @param id       Код последнего товара предыдущей порции.
+     * @param pageable Размер порции и сортировка.
+     * @return Объект типа {@link Slice} - порция товаров.
+     */
+    @EntityGraph(Product.CARD_GRAPH)
+    Slice<Product> findByIdGreaterThan(long id, Pageable pageable);
+
+    /**
+     * Возвращает порцию товаров категории с уникальным URL,
+     * код которых больше входного параметра. Код категории находится
+     * подзапросом, как в {@link #findByCategoryUrl(String)}.
+     *
+     * @param url      URL категории.
+     * @param id       Код последнего товара предыдущей порции.
+     * @param pageable Размер порции и сортировка.
+     * @return Объект типа {@link Slice} - порция товаров.
+     */
+    @EntityGraph(Product.CARD_GRAPH)
+    @Query(
+            "select p from Product p " +
+                    "where p.category.id = (select c.id from Category c where c.url = ?1) and p.id > ?2"
+    )
+    Slice<Product> findByCategoryUrlAndIdGreaterThan(String url, long id, Pageable pageable);
+
+    /**
+     * Возвращает страницу строк списка товаров: только колонки,
+     * которые выводятся в списке, без загрузки сущностей.
+     *
+     * @param pageable Номер и размер страницы, сортировка.
+     * @return Объект типа {@link Page} - страница строк товаров.
+     */
+    @Query(
+            value = "select new ua.com.alexcoffee.model.projection.ProductRow(" +
+                    "p.id, p.title, p.url, p.price, c.id, c.title) " +
+                    "from Product p left join p.category c",
+            countQuery = "select count(p) from Product p"
+    )
+    Page<ProductRow> findAllRows(Pageable pageable);
+
+    /**
+     * Возвращает поток URL всех товаров без загрузки самих товаров.
+     * Строки читаются из курсора базы данных порциями, поэтому
+     * память не зависит от количества товаров. Поток нужно читать
+     * внутри транзакции и закрывать после чтения.
+     *
+     * @return Объект типа {@link Stream} - поток URL товаров.
+     */
+    @Query("select p.url from Product p order by p.id")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = STREAM_FETCH_SIZE))
+    Stream<String> streamAllUrls();
 }
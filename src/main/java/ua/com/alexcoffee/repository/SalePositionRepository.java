@@ -1,7 +1,10 @@
 package ua.com.alexcoffee.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import ua.com.alexcoffee.model.position.SalePosition;
 
+import java.util.List;
+
 /**
  * Репозиторий для объектов класса {@link SalePosition}, предоставляющий
  * набор методов JPA для работы с БД. Наследует интерфейс {@link MainRepository}.
@@ -12,4 +15,22 @@ import ua.com.alexcoffee.model.position.SalePosition;
  * @see SalePosition
  */
 public interface SalePositionRepository extends MainRepository<SalePosition> {
+    /**
+     * Возвращает торговую позицию с уникальным кодом вместе с товаром.
+     *
+     * @param id Код торговой позиции.
+     * @return Объект класса {@link SalePosition} - торговая позиция.
+     */
+    @Override
+    @EntityGraph(SalePosition.PRODUCT_GRAPH)
+    SalePosition findOne(Long id);
+
+    /**
+     * Возвращает все торговые позиции вместе с товарами.
+     *
+     * @return Объект типа {@link List} - список торговых позиций.
+     */
+    @Override
+    @EntityGraph(SalePosition.PRODUCT_GRAPH)
+    List<SalePosition> findAll();
 }
@@ -1,42 +1,70 @@
 package ua.com.alexcoffee.repository;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.stereotype.Repository;
-import ua.com.alexcoffee.model.position.SalePosition;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import ua.com.alexcoffee.model.basket.ShoppingCart;
+import ua.com.alexcoffee.model.position.SalePosition;
+import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.repository.cart.CartStore;
+import ua.com.alexcoffee.service.interfaces.ProductService;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
 
 /**
  * Класс реализует методы интерфейса {@link ShoppingCartRepository} для работы с корзиной.
+ * Корзина не хранится в сессии: в {@link CartStore} хранятся только коды
+ * товаров и количество, а торговые позиции собираются при обращении
+ * из товаров каталога, поэтому цены всегда актуальны. Корзина текущего
+ * запроса запоминается в атрибуте запроса, чтобы хранилище читалось
+ * один раз, а изменения были видны до конца запроса.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
  * @see ShoppingCartRepository
  * @see ShoppingCart
+ * @see CartStore
  */
 @Repository
-@ComponentScan(basePackages = "ua.com.alexcoffee.model")
 public final class ShoppingCartRepositoryImpl implements ShoppingCartRepository {
     /**
-     * Объект корзина, в которой
-     * хранятся торговые позиции клиента.
+     * Имя атрибута запроса, в котором запоминается корзина.
+     */
+    private static final String ATTRIBUTE = ShoppingCartRepositoryImpl.class.getName() + ".LINES";
+
+    /**
+     * Хранилище корзин.
      */
-    private final ShoppingCart shoppingCart;
+    private final CartStore cartStore;
+
+    /**
+     * Сервис товаров, из которых собираются торговые позиции.
+     */
+    private final ProductService productService;
 
     /**
      * Конструктор для инициализации основных переменных.
      * Помечаный аннотацией @Autowired, которая позволит Spring
      * автоматически инициализировать объект.
      *
-     * @param shoppingCart Объект класса {@link ShoppingCart} для работы с товарной
-     *                     корзиной.
+     * @param cartStore      Хранилище корзин.
+     * @param productService Сервис товаров.
      */
     @Autowired
-    public ShoppingCartRepositoryImpl(final ShoppingCart shoppingCart) {
-        this.shoppingCart = shoppingCart;
+    public ShoppingCartRepositoryImpl(
+            final CartStore cartStore,
+            final ProductService productService
+    ) {
+        this.cartStore = cartStore;
+        this.productService = productService;
     }
 
     /**
@@ -46,18 +74,28 @@ public final class ShoppingCartRepositoryImpl implements ShoppingCartRepository
      */
     @Override
     public Collection<SalePosition> getSalePositions() {
-        return this.shoppingCart.getSalePositions();
+        return get().getSalePositions();
     }
 
     /**
      * Добавляет торговую позицию в список корзины.
+     * Количество товара, который уже есть в корзине, увеличивается.
      *
      * @param salePosition Торговая позиция, которая будет добавлена
      *                     в корзину.
      */
     @Override
     public void addSalePosition(final SalePosition salePosition) {
-        this.shoppingCart.addSalePosition(salePosition);
+        if (isNull(salePosition) || isNull(salePosition.getProduct())) {
+            return;
+        }
+        final Map<Long, Integer> lines = load();
+        lines.merge(
+                salePosition.getProduct().getId(),
+                Math.max(salePosition.getNumber(), 1),
+                Integer::sum
+        );
+        save(lines);
     }
 
     /**
@@ -67,7 +105,13 @@ public final class ShoppingCartRepositoryImpl implements ShoppingCartRepository
      */
     @Override
     public void removeSalePosition(final SalePosition salePosition) {
-        this.shoppingCart.removeSalePosition(salePosition);
+        if (isNull(salePosition) || isNull(salePosition.getProduct())) {
+            return;
+        }
+        final Map<Long, Integer> lines = load();
+        if (isNotNull(lines.remove(salePosition.getProduct().getId()))) {
+            save(lines);
+        }
     }
 
     /**
@@ -76,27 +120,46 @@ public final class ShoppingCartRepositoryImpl implements ShoppingCartRepository
      */
     @Override
     public void clearSalePositions() {
-        this.shoppingCart.clearSalePositions();
+        save(new LinkedHashMap<>());
     }
 
     /**
-     * Возвращает объект-корзину целиком.
+     * Возвращает объект-корзину целиком. Товары, которых
+     * больше нет в каталоге, пропускаются.
      *
      * @return Объект класса {@link ShoppingCart} - корзина.
      */
     @Override
     public ShoppingCart get() {
-        return this.shoppingCart;
+        final ShoppingCart shoppingCart = new ShoppingCart();
+        for (Map.Entry<Long, Integer> line : load().entrySet()) {
+            final Product product;
+            try {
+                product = this.productService.get(line.getKey());
+            } catch (NullPointerException ex) {
+                continue;
+            }
+            final SalePosition position = new SalePosition();
+            position.setProduct(product);
+            position.setNumber(line.getValue());
+            shoppingCart.addSalePosition(position);
+        }
+        return shoppingCart;
     }
 
     /**
      * Возвращает размер корзины, то есть количество товаров в корзине.
+     * Товары из каталога не загружаются.
      *
      * @return Значение типа int - количество товаров в корзине.
      */
     @Override
     public int getSize() {
-        return this.shoppingCart.getSize();
+        int size = 0;
+        for (int number : load().values()) {
+            size += number;
+        }
+        return size;
     }
 
     /**
@@ -106,6 +169,44 @@ public final class ShoppingCartRepositoryImpl implements ShoppingCartRepository
      */
     @Override
     public double getPrice() {
-        return this.shoppingCart.getPrice();
+        return get().getPrice();
+    }
+
+    /**
+     * Возвращает корзину текущего запроса.
+     *
+     * @return Объект типа {@link Map} - количество товара по коду товара.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, Integer> load() {
+        final HttpServletRequest request = attributes().getRequest();
+        Map<Long, Integer> lines = (Map<Long, Integer>) request.getAttribute(ATTRIBUTE);
+        if (isNull(lines)) {
+            lines = this.cartStore.load(request);
+            request.setAttribute(ATTRIBUTE, lines);
+        }
+        return new LinkedHashMap<>(lines);
+    }
+
+    /**
+     * Сохраняет корзину текущего запроса.
+     *
+     * @param lines Количество товара по коду товара.
+     */
+    private void save(final Map<Long, Integer> lines) {
+        final ServletRequestAttributes attributes = attributes();
+        attributes.getRequest().setAttribute(ATTRIBUTE, lines);
+        this.cartStore.save(attributes.getRequest(), attributes.getResponse(), lines);
+    }
+
+    /**
+     * Возвращает запрос и ответ текущего потока.
+     *
+     * @return Объект класса {@link ServletRequestAttributes}.
+     * @throws IllegalStateException Бросает исключение, если метод
+     *                               вызван вне обработки запроса.
+     */
+    private static ServletRequestAttributes attributes() throws IllegalStateException {
+        return (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
     }
 }
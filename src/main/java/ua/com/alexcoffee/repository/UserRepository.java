@@ -1,5 +1,7 @@
 package ua.com.alexcoffee.repository;
 
+import org.springframework.data.jpa.repository.Query;
+import ua.com.alexcoffee.model.projection.UserRow;
 import ua.com.alexcoffee.model.user.User;
 import ua.com.alexcoffee.model.user.UserRole;
 
@@ -69,4 +71,19 @@ public interface UserRepository extends MainRepository<User> {
      * @param name Имя пользователя для удаления.
      */
     void deleteByName(String name);
+
+    /**
+     * Возвращает строки списка пользователей с ролями из входного
+     * параметра без загрузки сущностей. Строки отсортированы по роли
+     * и по коду пользователя.
+     *
+     * @param roles Роли пользователей.
+     * @return Объект типа {@link List} - список строк пользователей.
+     */
+    @Query(
+            "select new ua.com.alexcoffee.model.projection.UserRow(" +
+                    "u.id, u.name, u.username, u.phone, u.role) " +
+                    "from User u where u.role in ?1 order by u.role, u.id"
+    )
+    List<UserRow> findAllRowsByRoleIn(Collection<UserRole> roles);
 }
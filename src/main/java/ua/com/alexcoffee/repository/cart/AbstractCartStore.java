@@ -0,0 +1,148 @@
+package ua.com.alexcoffee.repository.cart;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isEmpty;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Базовый класс хранилищ корзины, которые связывают корзину
+ * с посетителем через cookie. Содержит запись корзины в строку
+ * вида "код x количество", разделенные точкой, например "12x1.15x3",
+ * которая допустима в значении cookie без экранирования.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CookieCartStore
+ * @see ExternalCartStore
+ */
+public abstract class AbstractCartStore implements CartStore {
+    /**
+     * Максимальное количество одного товара в корзине.
+     */
+    private static final int MAX_QUANTITY = 999;
+
+    /**
+     * Имя cookie.
+     */
+    private final String cookieName;
+
+    /**
+     * Время жизни cookie в секундах.
+     */
+    private final int maxAge;
+
+    /**
+     * Максимальное количество разных товаров в корзине.
+     */
+    private final int maxLines;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param cookieName Имя cookie.
+     * @param maxAge     Время жизни cookie в секундах.
+     * @param maxLines   Максимальное количество разных товаров в корзине.
+     */
+    protected AbstractCartStore(final String cookieName, final int maxAge, final int maxLines) {
+        this.cookieName = cookieName;
+        this.maxAge = maxAge;
+        this.maxLines = maxLines;
+    }
+
+    /**
+     * Возвращает значение cookie из запроса.
+     *
+     * @param request Запрос посетителя.
+     * @return Значение типа {@link String} - значение cookie или null, если cookie нет.
+     */
+    protected String readCookie(final HttpServletRequest request) {
+        final Cookie[] cookies = request.getCookies();
+        if (isNull(cookies)) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (this.cookieName.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Записывает cookie в ответ, пустое значение удаляет cookie.
+     *
+     * @param request  Запрос посетителя.
+     * @param response Ответ посетителю.
+     * @param value    Значение cookie.
+     */
+    protected void writeCookie(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final String value
+    ) {
+        final Cookie cookie = new Cookie(this.cookieName, isEmpty(value) ? "" : value);
+        final String path = request.getContextPath();
+        cookie.setPath(isEmpty(path) ? "/" : path);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(request.isSecure());
+        cookie.setMaxAge(isEmpty(value) ? 0 : this.maxAge);
+        response.addCookie(cookie);
+    }
+
+    /**
+     * Записывает корзину в строку. Товары сверх максимального
+     * количества разных товаров не записываются.
+     *
+     * @param lines Количество товара по коду товара.
+     * @return Значение типа {@link String} - корзина в виде "12x1.15x3",
+     * пустая строка для пустой корзины.
+     */
+    protected String encode(final Map<Long, Integer> lines) {
+        final StringBuilder sb = new StringBuilder();
+        int count = 0;
+        for (Map.Entry<Long, Integer> line : lines.entrySet()) {
+            if (count++ == this.maxLines) {
+                break;
+            }
+            if (sb.length() > 0) {
+                sb.append('.');
+            }
+            sb.append(line.getKey()).append('x').append(Math.min(line.getValue(), MAX_QUANTITY));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Читает корзину из строки. Неверные позиции пропускаются.
+     *
+     * @param value Корзина в виде "12x1.15x3".
+     * @return Объект типа {@link Map} - количество товара по коду товара.
+     */
+    protected Map<Long, Integer> decode(final String value) {
+        final Map<Long, Integer> lines = new LinkedHashMap<>();
+        if (isEmpty(value)) {
+            return lines;
+        }
+        for (String line : value.split("\\.")) {
+            if (lines.size() == this.maxLines) {
+                break;
+            }
+            final int separator = line.indexOf('x');
+            try {
+                final long id = Long.parseLong(line.substring(0, separator));
+                final int quantity = Integer.parseInt(line.substring(separator + 1));
+                if ((id > 0) && (quantity > 0)) {
+                    lines.put(id, Math.min(quantity, MAX_QUANTITY));
+                }
+            } catch (NumberFormatException | StringIndexOutOfBoundsException ex) {
+                // the line is damaged and skipped
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,37 @@
+package ua.com.alexcoffee.repository.cart;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+/**
+ * Интерфейс хранилища корзины товаров. Корзина хранится в компактном
+ * виде - код товара и количество, без сущностей, поэтому сессия
+ * посетителя не занимает памяти, а корзину может обслужить любой
+ * узел приложения.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CookieCartStore
+ * @see ExternalCartStore
+ */
+public interface CartStore {
+    /**
+     * Возвращает корзину посетителя, который сделал запрос.
+     *
+     * @param request Запрос посетителя.
+     * @return Объект типа {@link Map} - количество товара по коду товара
+     * в порядке добавления, пустой, если корзины нет.
+     */
+    Map<Long, Integer> load(HttpServletRequest request);
+
+    /**
+     * Сохраняет корзину посетителя, который сделал запрос.
+     * Пустая корзина удаляется.
+     *
+     * @param request  Запрос посетителя.
+     * @param response Ответ посетителю.
+     * @param lines    Количество товара по коду товара.
+     */
+    void save(HttpServletRequest request, HttpServletResponse response, Map<Long, Integer> lines);
+}
@@ -0,0 +1,118 @@
+package ua.com.alexcoffee.repository.cart;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Map;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isEmpty;
+
+/**
+ * Класс хранит корзину целиком в cookie посетителя: коды товаров
+ * и количество, подписанные HMAC-SHA256. Цены и описания товаров
+ * в cookie не попадают, они загружаются из каталога при каждом
+ * обращении, поэтому посетитель не может изменить цену, а измененная
+ * cookie считается пустой корзиной. Все узлы приложения должны
+ * использовать один и тот же секретный ключ, без ключа хранилище
+ * не создается.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CartStore
+ */
+public final class CookieCartStore extends AbstractCartStore {
+    /**
+     * Алгоритм подписи.
+     */
+    private static final String ALGORITHM = "HmacSHA256";
+
+    /**
+     * Разделитель корзины и подписи в значении cookie.
+     */
+    private static final char SEPARATOR = '~';
+
+    /**
+     * Ключ подписи.
+     */
+    private final SecretKeySpec key;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param cookieName Имя cookie.
+     * @param secret     Секретный ключ подписи, общий для всех узлов.
+     * @param maxAge     Время жизни cookie в секундах.
+     * @param maxLines   Максимальное количество разных товаров в корзине.
+     * @throws IllegalArgumentException Бросает исключение, если секретный ключ не задан.
+     */
+    public CookieCartStore(
+            final String cookieName,
+            final String secret,
+            final int maxAge,
+            final int maxLines
+    ) throws IllegalArgumentException {
+        super(cookieName, maxAge, maxLines);
+        if (isEmpty(secret)) {
+            throw new IllegalArgumentException("Cart cookie secret is not set!");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * Возвращает корзину из cookie, если подпись верна.
+     *
+     * @param request Запрос посетителя.
+     * @return Объект типа {@link Map} - количество товара по коду товара.
+     */
+    @Override
+    public Map<Long, Integer> load(final HttpServletRequest request) {
+        final String value = readCookie(request);
+        final int separator = isEmpty(value) ? -1 : value.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            return decode(null);
+        }
+        final String payload = value.substring(0, separator);
+        final byte[] expected = sign(payload).getBytes(StandardCharsets.US_ASCII);
+        final byte[] actual = value.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual) ? decode(payload) : decode(null);
+    }
+
+    /**
+     * Записывает подписанную корзину в cookie.
+     *
+     * @param request  Запрос посетителя.
+     * @param response Ответ посетителю.
+     * @param lines    Количество товара по коду товара.
+     */
+    @Override
+    public void save(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Map<Long, Integer> lines
+    ) {
+        final String payload = encode(lines);
+        writeCookie(request, response, isEmpty(payload) ? null : payload + SEPARATOR + sign(payload));
+    }
+
+    /**
+     * Подписывает строку.
+     *
+     * @param payload Строка для подписи.
+     * @return Значение типа {@link String} - подпись в кодировке base64url.
+     */
+    private String sign(final String payload) {
+        try {
+            final Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(this.key);
+            final byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package ua.com.alexcoffee.repository.cart;
+
+import ua.com.alexcoffee.util.cache.Cache;
+import ua.com.alexcoffee.util.generator.Generator;
+import ua.com.alexcoffee.util.generator.StringGenerator;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isEmpty;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Класс хранит корзины во внешнем хранилище ключ-значение,
+ * а в cookie посетителя - только случайный код корзины.
+ * Подходит, если корзина не должна покидать сервер. Хранилище
+ * должно быть общим для всех узлов приложения, локальный
+ * {@link ua.com.alexcoffee.util.cache.LruCache} годится только
+ * для одного узла, поэтому {@link ua.com.alexcoffee.config.CartConfig}
+ * не выбирает это хранилище, пока нет общего хранилища.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CartStore
+ */
+public final class ExternalCartStore extends AbstractCartStore {
+    /**
+     * Генератор случайных кодов корзин длиной 22 символа base64url.
+     */
+    private static final Generator<String> ID_GENERATOR = StringGenerator.secure(22);
+
+    /**
+     * Хранилище корзин по коду корзины.
+     */
+    private final Cache<String, String> store;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param store      Хранилище корзин по коду корзины.
+     * @param cookieName Имя cookie.
+     * @param maxAge     Время жизни cookie в секундах.
+     * @param maxLines   Максимальное количество разных товаров в корзине.
+     */
+    public ExternalCartStore(
+            final Cache<String, String> store,
+            final String cookieName,
+            final int maxAge,
+            final int maxLines
+    ) {
+        super(cookieName, maxAge, maxLines);
+        this.store = store;
+    }
+
+    /**
+     * Возвращает корзину по коду корзины из cookie.
+     *
+     * @param request Запрос посетителя.
+     * @return Объект типа {@link Map} - количество товара по коду товара.
+     */
+    @Override
+    public Map<Long, Integer> load(final HttpServletRequest request) {
+        final String id = readCookie(request);
+        return decode(isEmpty(id) ? null : this.store.get(id));
+    }
+
+    /**
+     * Сохраняет корзину в хранилище. Новой корзине присваивается
+     * код, который записывается в cookie, пустая корзина удаляется.
+     *
+     * @param request  Запрос посетителя.
+     * @param response Ответ посетителю.
+     * @param lines    Количество товара по коду товара.
+     */
+    @Override
+    public void save(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Map<Long, Integer> lines
+    ) {
+        String id = readCookie(request);
+        final String value = encode(lines);
+        if (isEmpty(value)) {
+            if (!isEmpty(id)) {
+                this.store.remove(id);
+                writeCookie(request, response, null);
+            }
+            return;
+        }
+        if (isEmpty(id) || isNull(this.store.get(id))) {
+            id = ID_GENERATOR.generate();
+            writeCookie(request, response, id);
+        }
+        this.store.put(id, value);
+    }
+}
@@ -0,0 +1,459 @@
+package ua.com.alexcoffee.service.cache;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ua.com.alexcoffee.model.category.Category;
+import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.util.cache.Cache;
+import ua.com.alexcoffee.util.cache.LruCache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotEmpty;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Класс описывает кэш каталога товаров в памяти приложения.
+ * Товары и категории хранятся по уникальному коду, поиск по URL и
+ * артиклю проходит через вторичные индексы, которые проверяются
+ * при каждом обращении, поэтому устаревший индекс приводит к промаху,
+ * а не к возврату чужой модели. Списки товаров хранятся неизменяемыми.
+ * Для выборки случайных товаров кэш хранит компактные массивы кодов
+ * всех товаров и товаров каждой категории, которые сбрасываются
+ * при любом изменении каталога.
+ * Все кэши ограничены по размеру и по времени жизни записей.
+ * Каждое изменение каталога увеличивает номер версии, по которому
+ * производные данные, например sitemap.xml, узнают об устаревании.
+ * Изменения внутри транзакции удаляют записи после её фиксации.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Cache
+ * @see Product
+ * @see Category
+ */
+public final class CatalogCache {
+    /**
+     * Ключ списка всех моделей.
+     */
+    private static final String ALL_KEY = "all";
+
+    /**
+     * Товары по уникальному коду.
+     */
+    private final Cache<Long, Product> products;
+
+    /**
+     * Коды товаров по URL.
+     */
+    private final Cache<String, Long> productUrls;
+
+    /**
+     * Коды товаров по артиклю.
+     */
+    private final Cache<Integer, Long> productArticles;
+
+    /**
+     * Списки всех товаров и товаров категорий по URL категории.
+     */
+    private final Cache<String, Collection<Product>> productLists;
+
+    /**
+     * Списки товаров категорий по коду категории.
+     */
+    private final Cache<Long, Collection<Product>> productCategoryLists;
+
+    /**
+     * Коды всех товаров.
+     */
+    private volatile long[] productIds;
+
+    /**
+     * Коды товаров категорий по коду категории.
+     */
+    private final Cache<Long, long[]> categoryProductIds;
+
+    /**
+     * Категории по уникальному коду.
+     */
+    private final Cache<Long, Category> categories;
+
+    /**
+     * Коды категорий по URL.
+     */
+    private final Cache<String, Long> categoryUrls;
+
+    /**
+     * Список всех категорий.
+     */
+    private final Cache<String, Collection<Category>> categoryLists;
+
+    /**
+     * Номер версии каталога.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Конструктор для инициализации основных переменных кэша.
+     *
+     * @param maxSize    Максимальное количество записей в каждом кэше.
+     * @param timeToLive Время жизни записи в миллисекундах.
+     */
+    public CatalogCache(final int maxSize, final long timeToLive) {
+        this.products = new LruCache<>(maxSize, timeToLive);
+        this.productUrls = new LruCache<>(maxSize, timeToLive);
+        this.productArticles = new LruCache<>(maxSize, timeToLive);
+        this.productLists = new LruCache<>(maxSize, timeToLive);
+        this.productCategoryLists = new LruCache<>(maxSize, timeToLive);
+        this.categoryProductIds = new LruCache<>(maxSize, timeToLive);
+        this.categories = new LruCache<>(maxSize, timeToLive);
+        this.categoryUrls = new LruCache<>(maxSize, timeToLive);
+        this.categoryLists = new LruCache<>(maxSize, timeToLive);
+    }
+
+    /**
+     * Возвращает товар по уникальному коду.
+     *
+     * @param id Код товара.
+     * @return Объект класса {@link Product} или null, если товара нет в кэше.
+     */
+    public Product getProduct(final long id) {
+        return this.products.get(id);
+    }
+
+    /**
+     * Возвращает товар по URL.
+     *
+     * @param url URL товара.
+     * @return Объект класса {@link Product} или null, если товара нет в кэше.
+     */
+    public Product getProductByUrl(final String url) {
+        final Long id = this.productUrls.get(url);
+        final Product product = isNotNull(id) ? this.products.get(id) : null;
+        return isNotNull(product) && url.equals(product.getUrl()) ? product : null;
+    }
+
+    /**
+     * Возвращает товар по артиклю.
+     *
+     * @param article Артикль товара.
+     * @return Объект класса {@link Product} или null, если товара нет в кэше.
+     */
+    public Product getProductByArticle(final int article) {
+        final Long id = this.productArticles.get(article);
+        final Product product = isNotNull(id) ? this.products.get(id) : null;
+        return isNotNull(product) && (product.getArticle() == article) ? product : null;
+    }
+
+    /**
+     * Добавляет товар в кэш и индексирует его по URL и артиклю.
+     *
+     * @param product Товар для добавления.
+     */
+    public void putProduct(final Product product) {
+        if (isNull(product)) {
+            return;
+        }
+        this.products.put(product.getId(), product);
+        this.productUrls.put(product.getUrl(), product.getId());
+        this.productArticles.put(product.getArticle(), product.getId());
+    }
+
+    /**
+     * Возвращает список всех товаров.
+     *
+     * @return Неизменяемый список товаров или null, если списка нет в кэше.
+     */
+    public Collection<Product> getAllProducts() {
+        return this.productLists.get(ALL_KEY);
+    }
+
+    /**
+     * Добавляет в кэш список всех товаров.
+     *
+     * @param products Список всех товаров.
+     * @return Неизменяемая копия списка, которая была добавлена в кэш.
+     */
+    public Collection<Product> putAllProducts(final Collection<Product> products) {
+        final Collection<Product> result = toUnmodifiableList(products);
+        this.productLists.put(ALL_KEY, result);
+        return result;
+    }
+
+    /**
+     * Возвращает список товаров категории по URL категории.
+     *
+     * @param url URL категории.
+     * @return Неизменяемый список товаров или null, если списка нет в кэше.
+     */
+    public Collection<Product> getProductsByCategoryUrl(final String url) {
+        return isNotNull(url) ? this.productLists.get(categoryKey(url)) : null;
+    }
+
+    /**
+     * Добавляет в кэш список товаров категории по URL категории.
+     *
+     * @param url      URL категории.
+     * @param products Список товаров категории.
+     * @return Неизменяемая копия списка, которая была добавлена в кэш.
+     */
+    public Collection<Product> putProductsByCategoryUrl(
+            final String url,
+            final Collection<Product> products
+    ) {
+        final Collection<Product> result = toUnmodifiableList(products);
+        this.productLists.put(categoryKey(url), result);
+        return result;
+    }
+
+    /**
+     * Возвращает список товаров категории по коду категории.
+     *
+     * @param id Код категории.
+     * @return Неизменяемый список товаров или null, если списка нет в кэше.
+     */
+    public Collection<Product> getProductsByCategoryId(final long id) {
+        return this.productCategoryLists.get(id);
+    }
+
+    /**
+     * Добавляет в кэш список товаров категории по коду категории.
+     *
+     * @param id       Код категории.
+     * @param products Список товаров категории.
+     * @return Неизменяемая копия списка, которая была добавлена в кэш.
+     */
+    public Collection<Product> putProductsByCategoryId(
+            final long id,
+            final Collection<Product> products
+    ) {
+        final Collection<Product> result = toUnmodifiableList(products);
+        this.productCategoryLists.put(id, result);
+        return result;
+    }
+
+    /**
+     * Возвращает массив кодов всех товаров.
+     *
+     * @return Массив кодов товаров или null, если массива нет в кэше.
+     */
+    public long[] getProductIds() {
+        return this.productIds;
+    }
+
+    /**
+     * Добавляет в кэш массив кодов всех товаров.
+     *
+     * @param ids Коды всех товаров.
+     */
+    public void putProductIds(final long[] ids) {
+        this.productIds = ids;
+    }
+
+    /**
+     * Возвращает массив кодов товаров категории.
+     *
+     * @param categoryId Код категории.
+     * @return Массив кодов товаров или null, если массива нет в кэше.
+     */
+    public long[] getProductIds(final long categoryId) {
+        return this.categoryProductIds.get(categoryId);
+    }
+
+    /**
+     * Добавляет в кэш массив кодов товаров категории.
+     *
+     * @param categoryId Код категории.
+     * @param ids        Коды товаров категории.
+     */
+    public void putProductIds(final long categoryId, final long[] ids) {
+        this.categoryProductIds.put(categoryId, ids);
+    }
+
+    /**
+     * Удаляет из кэша товар с уникальным кодом и все списки товаров,
+     * в которые он мог входить. Внутри транзакции товар удаляется
+     * после её фиксации.
+     *
+     * @param id Код товара.
+     */
+    public void evictProduct(final long id) {
+        afterCommit(() -> {
+            this.products.remove(id);
+            evictProductLists();
+        });
+    }
+
+    /**
+     * Удаляет из кэша все товары. Внутри транзакции товары
+     * удаляются после её фиксации.
+     */
+    public void evictProducts() {
+        afterCommit(this::removeProducts);
+    }
+
+    /**
+     * Возвращает категорию по уникальному коду.
+     *
+     * @param id Код категории.
+     * @return Объект класса {@link Category} или null, если категории нет в кэше.
+     */
+    public Category getCategory(final long id) {
+        return this.categories.get(id);
+    }
+
+    /**
+     * Возвращает категорию по URL.
+     *
+     * @param url URL категории.
+     * @return Объект класса {@link Category} или null, если категории нет в кэше.
+     */
+    public Category getCategoryByUrl(final String url) {
+        final Long id = this.categoryUrls.get(url);
+        final Category category = isNotNull(id) ? this.categories.get(id) : null;
+        return isNotNull(category) && url.equals(category.getUrl()) ? category : null;
+    }
+
+    /**
+     * Добавляет категорию в кэш и индексирует её по URL.
+     *
+     * @param category Категория для добавления.
+     */
+    public void putCategory(final Category category) {
+        if (isNull(category)) {
+            return;
+        }
+        this.categories.put(category.getId(), category);
+        this.categoryUrls.put(category.getUrl(), category.getId());
+    }
+
+    /**
+     * Возвращает список всех категорий.
+     *
+     * @return Неизменяемый список категорий или null, если списка нет в кэше.
+     */
+    public Collection<Category> getAllCategories() {
+        return this.categoryLists.get(ALL_KEY);
+    }
+
+    /**
+     * Добавляет в кэш список всех категорий.
+     *
+     * @param categories Список всех категорий.
+     * @return Неизменяемая копия списка, которая была добавлена в кэш.
+     */
+    public Collection<Category> putAllCategories(final Collection<Category> categories) {
+        final Collection<Category> result = toUnmodifiableList(categories);
+        this.categoryLists.put(ALL_KEY, result);
+        return result;
+    }
+
+    /**
+     * Удаляет из кэша все категории. Товары ссылаются на свои категории,
+     * поэтому вместе с категориями удаляются и все товары.
+     * Внутри транзакции категории удаляются после её фиксации.
+     */
+    public void evictCategories() {
+        afterCommit(this::removeCategories);
+    }
+
+    /**
+     * Возвращает номер версии каталога, который увеличивается
+     * при каждом удалении товаров или категорий из кэша,
+     * то есть при каждом изменении каталога.
+     *
+     * @return Значение типа long - номер версии каталога.
+     */
+    public long getVersion() {
+        return this.version.get();
+    }
+
+    /**
+     * Очищает весь кэш каталога.
+     */
+    public void clear() {
+        removeCategories();
+    }
+
+    /**
+     * Выполняет удаление из кэша после фиксации текущей транзакции,
+     * чтобы параллельный запрос между удалением и фиксацией не вернул
+     * в кэш старые строки базы данных. Вне транзакции удаление
+     * выполняется сразу, при откате транзакции кэш не меняется.
+     *
+     * @param eviction Удаление из кэша.
+     */
+    private static void afterCommit(final Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronizationAdapter() {
+                    @Override
+                    public void afterCommit() {
+                        eviction.run();
+                    }
+                }
+        );
+    }
+
+    /**
+     * Удаляет из кэша все категории и все товары.
+     */
+    private void removeCategories() {
+        this.categories.clear();
+        this.categoryUrls.clear();
+        this.categoryLists.clear();
+        removeProducts();
+    }
+
+    /**
+     * Удаляет из кэша все товары.
+     */
+    private void removeProducts() {
+        this.products.clear();
+        this.productUrls.clear();
+        this.productArticles.clear();
+        evictProductLists();
+    }
+
+    /**
+     * Удаляет из кэша все списки и индексы товаров.
+     */
+    private void evictProductLists() {
+        this.version.incrementAndGet();
+        this.productIds = null;
+        this.categoryProductIds.clear();
+        this.productLists.clear();
+        this.productCategoryLists.clear();
+    }
+
+    /**
+     * Возвращает ключ списка товаров категории.
+     *
+     * @param url URL категории.
+     * @return Значение типа {@link String} - ключ списка.
+     */
+    private static String categoryKey(final String url) {
+        return "category:" + url;
+    }
+
+    /**
+     * Возвращает неизменяемую копию коллекции.
+     *
+     * @param collection Коллекция для копирования.
+     * @param <T>        Тип элементов коллекции.
+     * @return Неизменяемый список.
+     */
+    private static <T> Collection<T> toUnmodifiableList(final Collection<T> collection) {
+        if (isNotEmpty(collection)) {
+            return Collections.unmodifiableList(new ArrayList<>(collection));
+        }
+        return Collections.emptyList();
+    }
+}
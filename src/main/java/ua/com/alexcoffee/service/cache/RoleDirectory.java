@@ -0,0 +1,89 @@
+package ua.com.alexcoffee.service.cache;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ua.com.alexcoffee.model.user.User;
+import ua.com.alexcoffee.model.user.UserRole;
+import ua.com.alexcoffee.util.cache.Cache;
+import ua.com.alexcoffee.util.cache.LruCache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotEmpty;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Класс описывает справочник пользователей по ролям в памяти приложения.
+ * Списки пользователей хранятся неизменяемыми и сбрасываются целиком
+ * при любом изменении пользователей. Справочник рассчитан на персонал
+ * сайта, список клиентов в нем не хранится, так как растет
+ * с каждым заказом.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see User
+ * @see UserRole
+ */
+public final class RoleDirectory {
+    /**
+     * Списки пользователей по ролям.
+     */
+    private final Cache<UserRole, Collection<User>> users;
+
+    /**
+     * Конструктор для инициализации основных переменных справочника.
+     *
+     * @param timeToLive Время жизни списка в миллисекундах.
+     */
+    public RoleDirectory(final long timeToLive) {
+        this.users = new LruCache<>(UserRole.values().length, timeToLive);
+    }
+
+    /**
+     * Возвращает список пользователей с ролью.
+     *
+     * @param role Роль пользователей.
+     * @return Неизменяемый список пользователей или null, если списка нет в справочнике.
+     */
+    public Collection<User> get(final UserRole role) {
+        return isNull(role) ? null : this.users.get(role);
+    }
+
+    /**
+     * Добавляет в справочник список пользователей с ролью.
+     *
+     * @param role  Роль пользователей.
+     * @param users Список пользователей с ролью.
+     * @return Неизменяемая копия списка, которая была добавлена в справочник.
+     */
+    public Collection<User> put(final UserRole role, final Collection<User> users) {
+        final Collection<User> result = isNotEmpty(users) ?
+                Collections.unmodifiableList(new ArrayList<>(users)) :
+                Collections.<User>emptyList();
+        this.users.put(role, result);
+        return result;
+    }
+
+    /**
+     * Очищает справочник. Внутри транзакции справочник очищается
+     * после её фиксации, чтобы параллельный запрос между очисткой
+     * и фиксацией не вернул в справочник старый список персонала.
+     * При откате транзакции справочник не меняется.
+     */
+    public void clear() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.users.clear();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronizationAdapter() {
+                    @Override
+                    public void afterCommit() {
+                        RoleDirectory.this.users.clear();
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,224 @@
+package ua.com.alexcoffee.service.cache;
+
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import ua.com.alexcoffee.model.category.Category;
+import ua.com.alexcoffee.service.interfaces.CategoryService;
+import ua.com.alexcoffee.service.interfaces.ProductService;
+import ua.com.alexcoffee.service.metrics.StartupMetrics;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+
+/**
+ * Класс прогревает приложение после создания контекста Spring:
+ * открывает минимальное количество соединений пула и заполняет
+ * кэш каталога {@link CatalogCache} и второй уровень кэша hibernate
+ * списком категорий и первыми страницами товаров, которые первыми
+ * запрашивают посетители. Прогрев выполняется в отдельном потоке,
+ * после его окончания приложение помечается готовым принимать трафик
+ * в {@link StartupMetrics}. Если база данных недоступна, прогрев
+ * повторяется с паузой, а приложение остается не готовым.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CatalogCache
+ * @see StartupMetrics
+ */
+public final class WarmUp implements ApplicationListener<ContextRefreshedEvent>,
+        ApplicationContextAware, DisposableBean {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(WarmUp.class);
+
+    /**
+     * Источник соединений с базой данных.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Сервис категорий.
+     */
+    private final CategoryService categoryService;
+
+    /**
+     * Сервис товаров.
+     */
+    private final ProductService productService;
+
+    /**
+     * Метрики запуска приложения.
+     */
+    private final StartupMetrics metrics;
+
+    /**
+     * Прогревать ли приложение.
+     */
+    private final boolean enabled;
+
+    /**
+     * Количество соединений, которые открываются при прогреве.
+     */
+    private final int connections;
+
+    /**
+     * Количество товаров на странице.
+     */
+    private final int pageSize;
+
+    /**
+     * Пауза перед повтором неудачного прогрева в миллисекундах.
+     */
+    private final long retryDelay;
+
+    /**
+     * Контекст, после создания которого выполняется прогрев.
+     */
+    private ApplicationContext context;
+
+    /**
+     * Поток прогрева, null до создания контекста.
+     */
+    private volatile Thread thread;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param dataSource      Источник соединений с базой данных.
+     * @param categoryService Сервис категорий.
+     * @param productService  Сервис товаров.
+     * @param metrics         Метрики запуска приложения.
+     * @param enabled         Прогревать ли приложение.
+     * @param connections     Количество соединений, которые открываются при прогреве.
+     * @param pageSize        Количество товаров на странице.
+     * @param retryDelay      Пауза перед повтором неудачного прогрева в миллисекундах.
+     */
+    public WarmUp(
+            final DataSource dataSource,
+            final CategoryService categoryService,
+            final ProductService productService,
+            final StartupMetrics metrics,
+            final boolean enabled,
+            final int connections,
+            final int pageSize,
+            final long retryDelay
+    ) {
+        this.dataSource = dataSource;
+        this.categoryService = categoryService;
+        this.productService = productService;
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.connections = connections;
+        this.pageSize = pageSize;
+        this.retryDelay = retryDelay;
+    }
+
+    /**
+     * Запоминает контекст, в котором создан бин.
+     *
+     * @param context Контекст Spring.
+     */
+    @Override
+    public void setApplicationContext(final ApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Записывает время создания контекста и запускает прогрев.
+     * События дочерних контекстов пропускаются, каждый контекст
+     * прогревает свои бины сам.
+     *
+     * @param event Событие создания контекста.
+     */
+    @Override
+    public void onApplicationEvent(final ContextRefreshedEvent event) {
+        if ((event.getApplicationContext() != this.context) || isNotNull(this.thread)) {
+            return;
+        }
+        this.metrics.markStarted(System.currentTimeMillis() - this.context.getStartupDate());
+        if (!this.enabled) {
+            this.metrics.markReady(0);
+            return;
+        }
+        this.thread = new Thread(this::run, "warm-up");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Останавливает прогрев при закрытии контекста.
+     */
+    @Override
+    public void destroy() {
+        if (isNotNull(this.thread)) {
+            this.thread.interrupt();
+        }
+    }
+
+    /**
+     * Прогревает приложение, пока прогрев не закончится успешно
+     * или контекст не будет закрыт.
+     */
+    private void run() {
+        final long started = System.nanoTime();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                warmPool();
+                warmCatalog();
+                this.metrics.markReady(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+                return;
+            } catch (SQLException | RuntimeException ex) {
+                LOGGER.warn("Warm-up failed, retrying in " + this.retryDelay + " ms: " + ex.getMessage());
+            }
+            try {
+                Thread.sleep(this.retryDelay);
+            } catch (InterruptedException ex) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Открывает одновременно заданное количество соединений,
+     * чтобы пул создал их до первых запросов.
+     *
+     * @throws SQLException Ошибка соединения с базой данных.
+     */
+    private void warmPool() throws SQLException {
+        final List<Connection> opened = new ArrayList<>(this.connections);
+        try {
+            for (int i = 0; i < this.connections; i++) {
+                opened.add(this.dataSource.getConnection());
+            }
+        } finally {
+            for (Connection connection : opened) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * Загружает категории и первые страницы товаров главной страницы,
+     * списка товаров и каждой категории. Заодно hibernate строит
+     * планы этих запросов.
+     */
+    private void warmCatalog() {
+        this.productService.getRandom(this.pageSize);
+        this.productService.getAfter(0, this.pageSize);
+        for (Category category : this.categoryService.getAll()) {
+            this.categoryService.get(category.getUrl());
+            this.productService.getByCategoryUrlAfter(category.getUrl(), 0, this.pageSize);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ua.com.alexcoffee.service.checkout;
+
+import org.springframework.context.ApplicationEvent;
+import ua.com.alexcoffee.model.order.Order;
+
+/**
+ * Событие оформления нового заказа. Публикуется сервисом оформления
+ * заказов в транзакции, в которой сохраняется заказ. Источник события -
+ * контекст Spring, опубликовавший событие, по нему слушатели отличают
+ * события своего контекста от событий дочернего.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see OrderMailListener
+ * @see ua.com.alexcoffee.service.impl.CheckoutServiceImpl
+ */
+public final class OrderCreatedEvent extends ApplicationEvent {
+    /**
+     * Номер версии класса необходимый для десериализации и сериализации.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Оформленный заказ.
+     */
+    private final Order order;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param source Контекст, опубликовавший событие.
+     * @param order  Оформленный заказ.
+     */
+    public OrderCreatedEvent(final Object source, final Order order) {
+        super(source);
+        this.order = order;
+    }
+
+    /**
+     * Возвращает оформленный заказ.
+     *
+     * @return Объект класса {@link Order} - заказ.
+     */
+    public Order getOrder() {
+        return this.order;
+    }
+}
@@ -0,0 +1,69 @@
+package ua.com.alexcoffee.service.checkout;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ua.com.alexcoffee.service.interfaces.SenderService;
+
+/**
+ * Класс отправляет менеджерам информацию о новом заказе после
+ * фиксации транзакции, в которой заказ сохранен. Если транзакция
+ * откатилась, письмо не отправляется. Само письмо отправляется
+ * в фоновом потоке сервисом {@link SenderService}, поэтому оформление
+ * заказа не ждет почтового сервера.
+ * Событие из дочернего контекста доходит и до родительского, поэтому
+ * обрабатываются только события, опубликованные своим контекстом.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see OrderCreatedEvent
+ * @see SenderService
+ */
+@Component
+public final class OrderMailListener implements ApplicationContextAware {
+    /**
+     * Объект сервиса для работы с электронной почтой.
+     */
+    private final SenderService senderService;
+
+    /**
+     * Контекст, в котором создан бин.
+     */
+    private ApplicationContext context;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     * Помечаный аннотацией @Autowired, которая позволит Spring
+     * автоматически инициализировать объект.
+     *
+     * @param senderService Объект сервиса для работы с электронной почтой.
+     */
+    @Autowired
+    public OrderMailListener(final SenderService senderService) {
+        this.senderService = senderService;
+    }
+
+    /**
+     * Запоминает контекст, в котором создан бин.
+     *
+     * @param context Контекст Spring.
+     */
+    @Override
+    public void setApplicationContext(final ApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Отправляет информацию о заказе менеджерам после фиксации транзакции.
+     *
+     * @param event Событие оформления заказа.
+     */
+    @TransactionalEventListener
+    public void onOrderCreated(final OrderCreatedEvent event) {
+        if (event.getSource() == this.context) {
+            this.senderService.send(event.getOrder());
+        }
+    }
+}
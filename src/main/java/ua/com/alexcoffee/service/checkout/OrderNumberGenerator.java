@@ -0,0 +1,182 @@
+package ua.com.alexcoffee.service.checkout;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import ua.com.alexcoffee.model.order.OrderSequence;
+import ua.com.alexcoffee.repository.OrderSequenceRepository;
+import ua.com.alexcoffee.util.generator.Generator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Класс выдает номера заказов из блоков, которые резервируются
+ * в таблице счетчика {@link OrderSequence}. Резервирование блока -
+ * одно увеличение счетчика в отдельной транзакции, поэтому блоки
+ * разных узлов приложения никогда не пересекаются и номер не нужно
+ * проверять на уникальность запросом. Номера из блока раздаются
+ * из памяти без блокировок, поток ждет только когда блок закончился
+ * и резервируется следующий.
+ * Номера - десятизначные числа от 1000000000, поэтому они короткие,
+ * не совпадают со старыми буквенными номерами и сортируются строкой
+ * в порядке резервирования блоков. Номера неиспользованного остатка
+ * блока при остановке узла пропускаются.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see OrderSequence
+ * @see OrderSequenceRepository
+ */
+public final class OrderNumberGenerator implements Generator<String> {
+    /**
+     * Код счетчика номеров заказов.
+     */
+    private static final int SEQUENCE_ID = 1;
+
+    /**
+     * Первый номер заказа.
+     */
+    private static final long FIRST_VALUE = 1_000_000_000L;
+
+    /**
+     * Пустой блок, с которого начинает генератор.
+     */
+    private static final Block EMPTY = new Block(0, 0);
+
+    /**
+     * Репозиторий счетчика номеров заказов.
+     */
+    private final OrderSequenceRepository repository;
+
+    /**
+     * Транзакция резервирования блока, отдельная от транзакции заказа.
+     */
+    private final TransactionTemplate transaction;
+
+    /**
+     * Количество номеров в блоке.
+     */
+    private final int blockSize;
+
+    /**
+     * Текущий блок номеров.
+     */
+    private final AtomicReference<Block> block = new AtomicReference<>(EMPTY);
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param repository         Репозиторий счетчика номеров заказов.
+     * @param transactionManager Менеджер транзакций.
+     * @param blockSize          Количество номеров в блоке.
+     * @throws IllegalArgumentException Бросает исключение, если размер блока меньше 1.
+     */
+    public OrderNumberGenerator(
+            final OrderSequenceRepository repository,
+            final PlatformTransactionManager transactionManager,
+            final int blockSize
+    ) throws IllegalArgumentException {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Order number block size must be positive!");
+        }
+        this.repository = repository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Возвращает следующий номер заказа.
+     *
+     * @return Значение типа {@link String} - номер заказа.
+     */
+    @Override
+    public String generate() {
+        while (true) {
+            final Block current = this.block.get();
+            final long value = current.next();
+            if (value >= 0) {
+                return Long.toString(value);
+            }
+            synchronized (this.block) {
+                if (this.block.get() == current) {
+                    this.block.set(reserve());
+                }
+            }
+        }
+    }
+
+    /**
+     * Резервирует в базе данных следующий блок номеров. Если счетчика
+     * еще нет, создает его. Если счетчик одновременно создал другой узел,
+     * резервирование повторяется.
+     *
+     * @return Объект класса {@link Block} - зарезервированный блок.
+     */
+    private Block reserve() {
+        try {
+            return this.transaction.execute(status -> reserveInTransaction());
+        } catch (DataIntegrityViolationException ex) {
+            return this.transaction.execute(status -> reserveInTransaction());
+        }
+    }
+
+    /**
+     * Увеличивает счетчик на размер блока и возвращает блок
+     * от старого значения счетчика до нового.
+     *
+     * @return Объект класса {@link Block} - зарезервированный блок.
+     */
+    private Block reserveInTransaction() {
+        if (this.repository.increment(SEQUENCE_ID, this.blockSize) == 0) {
+            this.repository.saveAndFlush(new OrderSequence(SEQUENCE_ID, FIRST_VALUE + this.blockSize));
+            return new Block(FIRST_VALUE, FIRST_VALUE + this.blockSize);
+        }
+        final Long end = this.repository.findNextValue(SEQUENCE_ID);
+        if (isNull(end)) {
+            throw new IllegalStateException("Order number sequence disappeared!");
+        }
+        return new Block(end - this.blockSize, end);
+    }
+
+    /**
+     * Блок номеров от начального включительно до конечного,
+     * номера раздаются атомарным счетчиком.
+     */
+    private static final class Block {
+        /**
+         * Следующий номер блока.
+         */
+        private final AtomicLong next;
+
+        /**
+         * Первый номер за пределами блока.
+         */
+        private final long end;
+
+        /**
+         * Конструктор.
+         *
+         * @param start Первый номер блока.
+         * @param end   Первый номер за пределами блока.
+         */
+        private Block(final long start, final long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+
+        /**
+         * Возвращает следующий номер блока.
+         *
+         * @return Значение типа long - номер или -1, если блок закончился.
+         */
+        private long next() {
+            final long value = this.next.getAndIncrement();
+            return (value < this.end) ? value : -1;
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package ua.com.alexcoffee.service.impl;
 
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ua.com.alexcoffee.model.category.Category;
+import ua.com.alexcoffee.model.projection.CategoryRow;
 import ua.com.alexcoffee.repository.CategoryRepository;
+import ua.com.alexcoffee.service.cache.CatalogCache;
 import ua.com.alexcoffee.service.interfaces.CategoryService;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static ua.com.alexcoffee.util.validator.ObjectValidator.isEmpty;
 import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
@@ -22,6 +32,9 @@ import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
  * Методы класса помечены аннотацией @Transactional - перед исполнением метода помеченного
  * данной аннотацией начинается транзакция, после выполнения метода транзакция коммитится,
  * при выбрасывании RuntimeException откатывается.
+ * Чтение категорий проходит через кэш каталога {@link CatalogCache},
+ * любое изменение категорий очищает кэш каталога, так как товары
+ * ссылаются на свои категории.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -29,16 +42,29 @@ import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
  * @see CategoryService
  * @see Category
  * @see CategoryRepository
+ * @see CatalogCache
  */
 @Service
 @ComponentScan(basePackages = "ua.com.alexcoffee.repository")
 public final class CategoryServiceImpl extends MainServiceImpl<Category> implements CategoryService {
+    /**
+     * Поля категорий, по которым разрешена сортировка страниц.
+     */
+    private static final Collection<String> SORT_PROPERTIES = Arrays.asList(
+            DEFAULT_SORT, "title", "url"
+    );
+
     /**
      * Реализация интерфейса {@link CategoryRepository}
      * для работы категорий с базой данных.
      */
     private final CategoryRepository repository;
 
+    /**
+     * Кэш каталога товаров.
+     */
+    private final CatalogCache cache;
+
     /**
      * Конструктор для инициализации основных переменных сервиса.
      * Помечаный аннотацией @Autowired, которая позволит Spring
@@ -46,12 +72,126 @@ public final class CategoryServiceImpl extends MainServiceImpl<Category> impleme
      *
      * @param repository Реализация интерфейса {@link CategoryRepository}
      *                   для работы категорий с базой данных.
+     * @param cache      Кэш каталога товаров.
      */
     @Autowired
     @SuppressWarnings("SpringJavaAutowiringInspection")
-    public CategoryServiceImpl(final CategoryRepository repository) {
+    public CategoryServiceImpl(
+            final CategoryRepository repository,
+            final CatalogCache cache
+    ) {
         super(repository);
         this.repository = repository;
+        this.cache = cache;
+    }
+
+    /**
+     * Добавление категории в базу данных и очистка кэша каталога.
+     *
+     * @param category Категория для добавления.
+     */
+    @Override
+    @Transactional
+    public void add(final Category category) {
+        super.add(category);
+        this.cache.evictCategories();
+    }
+
+    /**
+     * Добавление коллекции категорий в базу данных и очистка кэша каталога.
+     *
+     * @param categories Коллекция категорий для добавления.
+     */
+    @Override
+    @Transactional
+    public void add(final Collection<Category> categories) {
+        super.add(categories);
+        this.cache.evictCategories();
+    }
+
+    /**
+     * Получение категории по уникальному коду id.
+     * Категория ищется в кэше, при отсутствии загружается из базы данных.
+     * Режим только для чтения.
+     *
+     * @param id Уникальный код категории.
+     * @return Объект класса {@link Category} - категория с кодом id.
+     * @throws NullPointerException Бросает исключение,
+     *                              если не найдена категория с входящим параметром id.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Category get(final long id) throws NullPointerException {
+        Category category = this.cache.getCategory(id);
+        if (isNull(category)) {
+            category = fetchCard(super.get(id));
+            this.cache.putCategory(category);
+        }
+        return category;
+    }
+
+    /**
+     * Получение всех категорий.
+     * Список ищется в кэше, при отсутствии загружается из базы данных.
+     * Режим только для чтения.
+     *
+     * @return Объект типа {@link List} - неизменяемый список всех категорий.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Collection<Category> getAll() {
+        Collection<Category> categories = this.cache.getAllCategories();
+        if (isNull(categories)) {
+            categories = this.cache.putAllCategories(super.getAll());
+        }
+        return categories;
+    }
+
+    /**
+     * Удаление категории из базы данных и очистка кэша каталога.
+     *
+     * @param category Категория для удаления.
+     */
+    @Override
+    @Transactional
+    public void remove(final Category category) {
+        super.remove(category);
+        this.cache.evictCategories();
+    }
+
+    /**
+     * Удаление категории из базы данных по уникальному коду
+     * и очистка кэша каталога.
+     *
+     * @param id Уникальный код категории.
+     */
+    @Override
+    @Transactional
+    public void remove(final long id) {
+        super.remove(id);
+        this.cache.evictCategories();
+    }
+
+    /**
+     * Удаление коллекции категорий из базы данных и очистка кэша каталога.
+     *
+     * @param categories Коллекция категорий для удаления.
+     */
+    @Override
+    @Transactional
+    public void remove(final Collection<Category> categories) {
+        super.remove(categories);
+        this.cache.evictCategories();
+    }
+
+    /**
+     * Удаление всех категорий из базы данных и очистка кэша каталога.
+     */
+    @Override
+    @Transactional
+    public void removeAll() {
+        super.removeAll();
+        this.cache.evictCategories();
     }
 
     /**
@@ -71,9 +211,13 @@ public final class CategoryServiceImpl extends MainServiceImpl<Category> impleme
         if (isEmpty(url)) {
             throw new IllegalArgumentException("No category URL!");
         }
-        final Category category = this.repository.findByUrl(url);
+        Category category = this.cache.getCategoryByUrl(url);
         if (isNull(category)) {
-            throw new NullPointerException("Can't find category by url " + url + "!");
+            category = this.repository.findByUrl(url);
+            if (isNull(category)) {
+                throw new NullPointerException("Can't find category by url " + url + "!");
+            }
+            this.cache.putCategory(fetchCard(category));
         }
         return category;
     }
@@ -88,6 +232,61 @@ public final class CategoryServiceImpl extends MainServiceImpl<Category> impleme
     public void remove(final String url) {
         if (isNotEmpty(url)) {
             this.repository.deleteByUrl(url);
+            this.cache.evictCategories();
+        }
+    }
+
+    /**
+     * Возвращает страницу строк списка категорий без загрузки самих категорий.
+     * Режим только для чтения.
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Количество категорий на странице.
+     * @param sort Поле сортировки, префикс "-" задает сортировку по убыванию.
+     * @return Объект типа {@link Page} - страница строк категорий.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CategoryRow> getRows(final int page, final int size, final String sort) {
+        return this.repository.findAllRows(toPageable(page, size, sort));
+    }
+
+    /**
+     * Передает URL всех категорий по одному в обработчик, читая их
+     * потоком из базы данных без загрузки самих категорий.
+     * Режим только для чтения.
+     *
+     * @param consumer Обработчик URL.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachUrl(final Consumer<String> consumer) {
+        try (Stream<String> urls = this.repository.streamAllUrls()) {
+            urls.forEach(consumer);
         }
     }
+
+    /**
+     * Возвращает поля категорий, по которым разрешена сортировка страниц.
+     *
+     * @return Объект типа {@link Collection} - список полей.
+     */
+    @Override
+    protected Collection<String> getSortProperties() {
+        return SORT_PROPERTIES;
+    }
+
+    /**
+     * Загружает изображение категории, пока открыта транзакция.
+     * Категория, найденная во втором уровне кэша или в кэше запросов
+     * hibernate, возвращается без выборки по плану {@link Category#CARD_GRAPH},
+     * и её изображение без этого осталось бы незагруженным.
+     *
+     * @param category Категория.
+     * @return Объект класса {@link Category} - та же категория.
+     */
+    private static Category fetchCard(final Category category) {
+        Hibernate.initialize(category.getPhoto());
+        return category;
+    }
 }
@@ -0,0 +1,202 @@
+package ua.com.alexcoffee.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ua.com.alexcoffee.model.order.Order;
+import ua.com.alexcoffee.model.order.OrderStatus;
+import ua.com.alexcoffee.model.position.SalePosition;
+import ua.com.alexcoffee.model.user.User;
+import ua.com.alexcoffee.model.user.UserRole;
+import ua.com.alexcoffee.repository.OrderRepository;
+import ua.com.alexcoffee.service.checkout.OrderCreatedEvent;
+import ua.com.alexcoffee.service.interfaces.CheckoutService;
+import ua.com.alexcoffee.util.generator.Generator;
+import ua.com.alexcoffee.util.generator.StringGenerator;
+
+import java.util.Collection;
+import java.util.regex.Pattern;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isEmpty;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Класс сервисного слоя реализует методы интерфейса {@link CheckoutService}.
+ * Заказ оформляется одной транзакцией: поиск заказа по ключу оформления,
+ * выдача номера заказа, сохранение клиента, заказа и торговых позиций
+ * и публикация события
+ * {@link OrderCreatedEvent}. Письмо менеджерам отправляется слушателем
+ * события после фиксации транзакции. Ключ оформления хранится в заказе
+ * с уникальным индексом, поэтому повторная отправка формы находит заказ
+ * на любом узле приложения, а одновременная отправка не создаст второй
+ * заказ: второе сохранение завершится ошибкой уникального индекса.
+ * Класс помечан аннотацией @Service - аннотация обьявляющая, что этот класс представляет
+ * собой сервис – компонент сервис-слоя.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CheckoutService
+ * @see Order
+ * @see OrderRepository
+ * @see OrderCreatedEvent
+ * @see ua.com.alexcoffee.service.checkout.OrderNumberGenerator
+ */
+@Service
+@ComponentScan(basePackages = "ua.com.alexcoffee.repository")
+public final class CheckoutServiceImpl implements CheckoutService {
+
+    /**
+     * Допустимый ключ оформления заказа: base64url не короче
+     * 16 символов, чтобы чужой ключ нельзя было подобрать.
+     */
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_-]{16,32}");
+
+    /**
+     * Генератор случайных ключей длиной 22 символа base64url.
+     */
+    private static final Generator<String> KEY_GENERATOR = StringGenerator.secure(22);
+
+    /**
+     * Реализация интерфейса {@link OrderRepository}
+     * для работы заказов с базой данных.
+     */
+    private final OrderRepository repository;
+
+    /**
+     * Генератор номеров заказов.
+     */
+    private final Generator<String> numberGenerator;
+
+    /**
+     * Публикатор событий контекста Spring.
+     */
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * Конструктор для инициализации основных переменных сервиса.
+     * Помечаный аннотацией @Autowired, которая позволит Spring
+     * автоматически инициализировать объект.
+     *
+     * @param repository      Реализация интерфейса {@link OrderRepository}
+     *                        для работы заказов с базой данных.
+     * @param numberGenerator Генератор номеров заказов.
+     * @param publisher       Публикатор событий контекста Spring.
+     */
+    @Autowired
+    @SuppressWarnings("SpringJavaAutowiringInspection")
+    public CheckoutServiceImpl(
+            final OrderRepository repository,
+            final Generator<String> numberGenerator,
+            final ApplicationEventPublisher publisher
+    ) {
+        this.repository = repository;
+        this.numberGenerator = numberGenerator;
+        this.publisher = publisher;
+    }
+
+    /**
+     * Возвращает новый ключ оформления заказа для формы заказа.
+     *
+     * @return Значение типа {@link String} - случайный ключ в кодировке base64url.
+     */
+    @Override
+    public String createKey() {
+        return KEY_GENERATOR.generate();
+    }
+
+    /**
+     * Возвращает ключ оформления заказа, с которым будет оформлен заказ:
+     * переданный ключ, если он допустимый, иначе новый ключ.
+     *
+     * @param key Ключ оформления заказа из формы или заголовка.
+     * @return Значение типа {@link String} - допустимый ключ.
+     */
+    @Override
+    public String checkKey(final String key) {
+        return isKey(key) ? key : createKey();
+    }
+
+    /**
+     * Оформляет заказ клиента с торговыми позициями в одной транзакции.
+     * Если заказ с ключом оформления уже есть, возвращает его,
+     * а событие оформления заказа не публикуется.
+     *
+     * @param key           Ключ оформления заказа, неверный или пустой
+     *                      ключ заменяется новым.
+     * @param name          Имя клиента.
+     * @param email         Электронная почта клиента.
+     * @param phone         Номер телефона клиента.
+     * @param salePositions Торговые позиции заказа.
+     * @return Объект класса {@link Order} - оформленный заказ.
+     * @throws IllegalArgumentException Бросает исключение, если нет торговых позиций.
+     */
+    @Override
+    @Transactional
+    public Order checkout(
+            final String key,
+            final String name,
+            final String email,
+            final String phone,
+            final Collection<SalePosition> salePositions
+    ) throws IllegalArgumentException {
+        if (isEmpty(salePositions)) {
+            throw new IllegalArgumentException("No sale positions to checkout!");
+        }
+        final String checkoutKey = checkKey(key);
+        final Order existing = this.repository.findByCheckoutKey(checkoutKey);
+        if (isNotNull(existing)) {
+            return existing;
+        }
+        final User client = User.getBuilder()
+                .addRole(UserRole.CLIENT)
+                .addName(name)
+                .addEmail(email)
+                .addPhone(phone)
+                .build();
+        final Order order = Order.getBuilder()
+                .addNumber(this.numberGenerator.generate())
+                .addStatus(OrderStatus.NEW)
+                .addClient(client)
+                .addSalePositions(salePositions)
+                .build();
+        order.setCheckoutKey(checkoutKey);
+        this.repository.save(order);
+        this.publisher.publishEvent(new OrderCreatedEvent(this.publisher, order));
+        return order;
+    }
+
+    /**
+     * Возвращает заказ, оформленный с ключом оформления, вместе
+     * с клиентом и торговыми позициями. Режим только для чтения.
+     *
+     * @param key Ключ оформления заказа.
+     * @return Объект класса {@link Order} - заказ.
+     * @throws IllegalArgumentException Бросает исключение, если ключ пустой или неверный.
+     * @throws NullPointerException     Бросает исключение, если заказ с ключом не найден.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Order get(final String key) throws IllegalArgumentException, NullPointerException {
+        if (!isKey(key)) {
+            throw new IllegalArgumentException("Invalid checkout key!");
+        }
+        final Order order = this.repository.findByCheckoutKey(key);
+        if (isNull(order)) {
+            throw new NullPointerException("Can't find order by checkout key!");
+        }
+        return order;
+    }
+
+    /**
+     * Проверяет ключ оформления заказа.
+     *
+     * @param key Ключ оформления заказа.
+     * @return true, если ключ допустимый.
+     */
+    private static boolean isKey(final String key) {
+        return !isEmpty(key) && KEY_PATTERN.matcher(key).matches();
+    }
+}
@@ -1,11 +1,16 @@
 package ua.com.alexcoffee.service.impl;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 import ua.com.alexcoffee.model.model.Model;
 import ua.com.alexcoffee.repository.MainRepository;
 import ua.com.alexcoffee.service.interfaces.MainService;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import static ua.com.alexcoffee.util.validator.ObjectValidator.*;
@@ -38,6 +43,21 @@ import static ua.com.alexcoffee.util.validator.ObjectValidator.*;
  */
 public abstract class MainServiceImpl<T extends Model>
         implements MainService<T> {
+    /**
+     * Максимальное количество моделей на одной странице.
+     */
+    protected static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Поле сортировки по умолчанию.
+     */
+    protected static final String DEFAULT_SORT = "id";
+
+    /**
+     * Префикс поля сортировки, который задает сортировку по убыванию.
+     */
+    private static final String DESCENDING_PREFIX = "-";
+
     /**
      * Реализация интерфейса {@link MainRepository}
      * для работы моделей с базой данных.
@@ -104,11 +124,23 @@ public abstract class MainServiceImpl<T extends Model>
     @Override
     @Transactional(readOnly = true)
     public T get(final long id) throws NullPointerException {
-        final T model = this.repository.findOne(id);
-        if (isNull(model)) {
-            throw new NullPointerException("Can't find model by id " + id + "!");
-        }
-        return model;
+        return find(id);
+    }
+
+    /**
+     * Получение модели по уникальному коду id в базе данных для изменения.
+     * Модель всегда загружается из базы данных в обход кэша.
+     * Режим только для чтения.
+     *
+     * @param id Уникальный код модели.
+     * @return Объект класса {@link Model} -  модель с кодом id.
+     * @throws NullPointerException Бросает исключение,
+     *                              если не найдена модель с входящим параметром id.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public T getForUpdate(final long id) throws NullPointerException {
+        return find(id);
     }
 
     /**
@@ -123,6 +155,23 @@ public abstract class MainServiceImpl<T extends Model>
         return this.repository.findAll();
     }
 
+    /**
+     * Получение страницы моделей из базы данных.
+     * Поле сортировки проверяется по списку разрешенных полей,
+     * неизвестное поле заменяется сортировкой по коду модели.
+     * Режим только для чтения.
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Количество моделей на странице.
+     * @param sort Поле сортировки, префикс "-" задает сортировку по убыванию.
+     * @return Объект типа {@link Page} - страница моделей.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<T> getPage(final int page, final int size, final String sort) {
+        return this.repository.findAll(toPageable(page, size, sort));
+    }
+
     /**
      * Удаление модели из базы данных.
      *
@@ -168,4 +217,76 @@ public abstract class MainServiceImpl<T extends Model>
     public void removeAll() {
         this.repository.deleteAll();
     }
+
+    /**
+     * Возвращает поля моделей, по которым разрешена сортировка страниц.
+     * Наследники расширяют список своими полями.
+     *
+     * @return Объект типа {@link Collection} - список полей.
+     */
+    protected Collection<String> getSortProperties() {
+        return Collections.singletonList(DEFAULT_SORT);
+    }
+
+    /**
+     * Возвращает параметры запроса страницы: номер страницы не меньше 0,
+     * размер в допустимых пределах и проверенное поле сортировки.
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Количество моделей на странице.
+     * @param sort Поле сортировки, префикс "-" задает сортировку по убыванию.
+     * @return Объект типа {@link Pageable} - параметры запроса страницы.
+     */
+    protected Pageable toPageable(final int page, final int size, final String sort) {
+        return new PageRequest(Math.max(page, 0), toPageSize(size), toSort(sort));
+    }
+
+    /**
+     * Возвращает количество моделей на странице в допустимых пределах
+     * от 1 до {@link #MAX_PAGE_SIZE}.
+     *
+     * @param size Запрошенное количество моделей на странице.
+     * @return Значение типа int - количество моделей на странице.
+     */
+    protected static int toPageSize(final int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Преобразует поле сортировки в объект {@link Sort}.
+     * Для стабильного порядка страниц модели с одинаковым
+     * значением поля дополнительно сортируются по коду.
+     *
+     * @param sort Поле сортировки, префикс "-" задает сортировку по убыванию.
+     * @return Объект класса {@link Sort}.
+     */
+    private Sort toSort(final String sort) {
+        if (isEmpty(sort)) {
+            return new Sort(Sort.Direction.ASC, DEFAULT_SORT);
+        }
+        final boolean descending = sort.startsWith(DESCENDING_PREFIX);
+        final String property = descending ? sort.substring(DESCENDING_PREFIX.length()) : sort;
+        if (!getSortProperties().contains(property)) {
+            return new Sort(Sort.Direction.ASC, DEFAULT_SORT);
+        }
+        final Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        final Sort result = new Sort(direction, property);
+        return DEFAULT_SORT.equals(property) ? result : result.and(new Sort(direction, DEFAULT_SORT));
+    }
+
+    /**
+     * Поиск модели по уникальному коду id в базе данных.
+     *
+     * @param id Уникальный код модели.
+     * @return Объект класса {@link Model} -  модель с кодом id.
+     * @throws NullPointerException Бросает исключение,
+     *                              если не найдена модель с входящим параметром id.
+     */
+    private T find(final long id) throws NullPointerException {
+        final T model = this.repository.findOne(id);
+        if (isNull(model)) {
+            throw new NullPointerException("Can't find model by id " + id + "!");
+        }
+        return model;
+    }
 }
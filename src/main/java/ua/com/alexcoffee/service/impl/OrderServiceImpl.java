@@ -2,12 +2,17 @@ package ua.com.alexcoffee.service.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ua.com.alexcoffee.model.order.Order;
+import ua.com.alexcoffee.model.projection.OrderRow;
 import ua.com.alexcoffee.repository.OrderRepository;
 import ua.com.alexcoffee.service.interfaces.OrderService;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 import static ua.com.alexcoffee.util.validator.ObjectValidator.*;
 
 /**
@@ -31,6 +36,13 @@ import static ua.com.alexcoffee.util.validator.ObjectValidator.*;
 @Service
 @ComponentScan(basePackages = "ua.com.alexcoffee.repository")
 public final class OrderServiceImpl extends MainServiceImpl<Order> implements OrderService {
+    /**
+     * Поля заказов, по которым разрешена сортировка страниц.
+     */
+    private static final Collection<String> SORT_PROPERTIES = Arrays.asList(
+            DEFAULT_SORT, "number", "date"
+    );
+
     /**
      * Реализация интерфейса {@link OrderRepository}
      * для работы заказов с базой данных.
@@ -90,4 +102,29 @@ public final class OrderServiceImpl extends MainServiceImpl<Order> implements Or
             this.repository.deleteByNumber(number);
         }
     }
+
+    /**
+     * Возвращает страницу строк списка заказов без загрузки самих заказов.
+     * Режим только для чтения.
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Количество заказов на странице.
+     * @param sort Поле сортировки, префикс "-" задает сортировку по убыванию.
+     * @return Объект типа {@link Page} - страница строк заказов.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<OrderRow> getRows(final int page, final int size, final String sort) {
+        return this.repository.findAllRows(toPageable(page, size, sort));
+    }
+
+    /**
+     * Возвращает поля заказов, по которым разрешена сортировка страниц.
+     *
+     * @return Объект типа {@link Collection} - список полей.
+     */
+    @Override
+    protected Collection<String> getSortProperties() {
+        return SORT_PROPERTIES;
+    }
 }
@@ -1,17 +1,30 @@
 package ua.com.alexcoffee.service.impl;
 
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.model.projection.ProductRow;
 import ua.com.alexcoffee.repository.ProductRepository;
+import ua.com.alexcoffee.service.cache.CatalogCache;
 import ua.com.alexcoffee.service.interfaces.ProductService;
+import ua.com.alexcoffee.util.sampler.RandomSampler;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static ua.com.alexcoffee.util.validator.ObjectValidator.*;
 
@@ -25,23 +38,38 @@ import static ua.com.alexcoffee.util.validator.ObjectValidator.*;
  * Методы класса помечены аннотацией @Transactional - перед исполнением метода помеченного
  * данной аннотацией начинается транзакция, после выполнения метода транзакция коммитится,
  * при выбрасывании RuntimeException откатывается.
+ * Чтение товаров проходит через кэш каталога {@link CatalogCache},
+ * методы изменения товаров удаляют из кэша соответствующие записи.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
  * @see MainServiceImpl
  * @see ProductService
  * @see ProductRepository
+ * @see CatalogCache
  * @see Product
  */
 @Service
 @ComponentScan(basePackages = "ua.com.alexcoffee.repository")
 public final class ProductServiceImpl extends MainServiceImpl<Product> implements ProductService {
+    /**
+     * Поля товаров, по которым разрешена сортировка страниц.
+     */
+    private static final Collection<String> SORT_PROPERTIES = Arrays.asList(
+            DEFAULT_SORT, "title", "article", "price"
+    );
+
     /**
      * Реализация интерфейса {@link ProductRepository}
      * для работы с товаров базой данных.
      */
     private final ProductRepository repository;
 
+    /**
+     * Кэш каталога товаров.
+     */
+    private final CatalogCache cache;
+
     /**
      * Конструктор для инициализации основных переменных сервиса.
      * Помечаный аннотацией @Autowired, которая позволит Spring
@@ -49,12 +77,131 @@ public final class ProductServiceImpl extends MainServiceImpl<Product> implement
      *
      * @param repository Реализация интерфейса {@link ProductRepository}
      *                   для работы с товаров базой данных.
+     * @param cache      Кэш каталога товаров.
      */
     @Autowired
     @SuppressWarnings("SpringJavaAutowiringInspection")
-    public ProductServiceImpl(final ProductRepository repository) {
+    public ProductServiceImpl(
+            final ProductRepository repository,
+            final CatalogCache cache
+    ) {
         super(repository);
         this.repository = repository;
+        this.cache = cache;
+    }
+
+    /**
+     * Добавление товара в базу данных и удаление
+     * устаревших записей из кэша.
+     *
+     * @param product Товар для добавления.
+     */
+    @Override
+    @Transactional
+    public void add(final Product product) {
+        super.add(product);
+        if (isNotNull(product)) {
+            this.cache.evictProduct(product.getId());
+        }
+    }
+
+    /**
+     * Добавление коллекции товаров в базу данных и удаление
+     * устаревших записей из кэша.
+     *
+     * @param products Коллекция товаров для добавления.
+     */
+    @Override
+    @Transactional
+    public void add(final Collection<Product> products) {
+        super.add(products);
+        this.cache.evictProducts();
+    }
+
+    /**
+     * Получение товара по уникальному коду id.
+     * Товар ищется в кэше, при отсутствии загружается из базы данных.
+     * Режим только для чтения.
+     *
+     * @param id Уникальный код товара.
+     * @return Объект класса {@link Product} - товар с кодом id.
+     * @throws NullPointerException Бросает исключение,
+     *                              если не найден товар с входящим параметром id.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Product get(final long id) throws NullPointerException {
+        Product product = this.cache.getProduct(id);
+        if (isNull(product)) {
+            product = fetchCard(super.get(id));
+            this.cache.putProduct(product);
+        }
+        return product;
+    }
+
+    /**
+     * Получение всех товаров.
+     * Список ищется в кэше, при отсутствии загружается из базы данных.
+     * Режим только для чтения.
+     *
+     * @return Объект типа {@link List} - неизменяемый список всех товаров.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Collection<Product> getAll() {
+        Collection<Product> products = this.cache.getAllProducts();
+        if (isNull(products)) {
+            products = this.cache.putAllProducts(super.getAll());
+        }
+        return products;
+    }
+
+    /**
+     * Удаление товара из базы данных и из кэша.
+     *
+     * @param product Товар для удаления.
+     */
+    @Override
+    @Transactional
+    public void remove(final Product product) {
+        super.remove(product);
+        if (isNotNull(product)) {
+            this.cache.evictProduct(product.getId());
+        }
+    }
+
+    /**
+     * Удаление товара из базы данных и из кэша по уникальному коду.
+     *
+     * @param id Уникальный код товара.
+     */
+    @Override
+    @Transactional
+    public void remove(final long id) {
+        super.remove(id);
+        this.cache.evictProduct(id);
+    }
+
+    /**
+     * Удаление коллекции товаров из базы данных и из кэша.
+     *
+     * @param products Коллекция товаров для удаления.
+     */
+    @Override
+    @Transactional
+    public void remove(final Collection<Product> products) {
+        super.remove(products);
+        this.cache.evictProducts();
+    }
+
+    /**
+     * Удаление всех товаров из базы данных и из кэша.
+     */
+    @Override
+    @Transactional
+    public void removeAll() {
+        super.removeAll();
+        this.cache.evictProducts();
     }
 
     /**
@@ -73,9 +220,13 @@ public final class ProductServiceImpl extends MainServiceImpl<Product> implement
         if (isEmpty(url)) {
             throw new IllegalArgumentException("No product URL!");
         }
-        final Product product = this.repository.findByUrl(url);
+        Product product = this.cache.getProductByUrl(url);
         if (isNull(product)) {
-            throw new NullPointerException("Can't find product by url " + url + "!");
+            product = this.repository.findByUrl(url);
+            if (isNull(product)) {
+                throw new NullPointerException("Can't find product by url " + url + "!");
+            }
+            this.cache.putProduct(fetchCard(product));
         }
         return product;
     }
@@ -92,9 +243,13 @@ public final class ProductServiceImpl extends MainServiceImpl<Product> implement
     @Override
     @Transactional(readOnly = true)
     public Product getByArticle(final int article) throws NullPointerException {
-        final Product product = this.repository.findByArticle(article);
+        Product product = this.cache.getProductByArticle(article);
         if (isNull(product)) {
-            throw new NullPointerException("Can't find product by article " + article + "!");
+            product = this.repository.findByArticle(article);
+            if (isNull(product)) {
+                throw new NullPointerException("Can't find product by article " + article + "!");
+            }
+            this.cache.putProduct(fetchCard(product));
         }
         return product;
     }
@@ -116,7 +271,51 @@ public final class ProductServiceImpl extends MainServiceImpl<Product> implement
         if (isEmpty(url)) {
             throw new IllegalArgumentException("No category URL!");
         }
-        return this.repository.findByCategoryUrl(url);
+        Collection<Product> products = this.cache.getProductsByCategoryUrl(url);
+        if (isNull(products)) {
+            final Collection<Product> found = this.repository.findByCategoryUrl(url);
+            found.forEach(ProductServiceImpl::fetchCard);
+            products = this.cache.putProductsByCategoryUrl(url, found);
+        }
+        return products;
+    }
+
+    /**
+     * Возвращает порцию товаров, следующих за товаром с кодом id,
+     * в порядке возрастания кода. Порция выбирается по индексу
+     * первичного ключа без подсчета общего количества товаров.
+     * Режим только для чтения.
+     *
+     * @param id   Код последнего товара предыдущей порции, 0 - первая порция.
+     * @param size Количество товаров в порции.
+     * @return Объект типа {@link Slice} - порция товаров.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Product> getAfter(final long id, final int size) {
+        return this.repository.findByIdGreaterThan(id, toKeysetPage(size));
+    }
+
+    /**
+     * Возвращает порцию товаров категории с уникальным URL, следующих
+     * за товаром с кодом id, в порядке возрастания кода.
+     * Режим только для чтения.
+     *
+     * @param url  URL категории, товары которой будут возвращены.
+     * @param id   Код последнего товара предыдущей порции, 0 - первая порция.
+     * @param size Количество товаров в порции.
+     * @return Объект типа {@link Slice} - порция товаров.
+     * @throws IllegalArgumentException Бросает исключение,
+     *                                  если пустой входной параметр url.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Product> getByCategoryUrlAfter(final String url, final long id, final int size)
+            throws IllegalArgumentException {
+        if (isEmpty(url)) {
+            throw new IllegalArgumentException("No category URL!");
+        }
+        return this.repository.findByCategoryUrlAndIdGreaterThan(url, id, toKeysetPage(size));
     }
 
     /**
@@ -130,7 +329,13 @@ public final class ProductServiceImpl extends MainServiceImpl<Product> implement
     @Override
     @Transactional(readOnly = true)
     public Collection<Product> getByCategoryId(final long id) {
-        return this.repository.findByCategoryId(id);
+        Collection<Product> products = this.cache.getProductsByCategoryId(id);
+        if (isNull(products)) {
+            products = this.cache.putProductsByCategoryId(
+                    id, this.repository.findByCategoryId(id)
+            );
+        }
+        return products;
     }
 
     /**
@@ -150,14 +355,14 @@ public final class ProductServiceImpl extends MainServiceImpl<Product> implement
     /**
      * Возвращает список рандомных товаров, которые относятся к категории
      * с уникальным кодом id - входным параметром.
+     * Коды товаров выбираются из закэшированного массива кодов категории,
+     * товар с кодом differentProductId пропускается без обращения к базе данных.
      * Режим только для чтения.
      *
      * @param size               Количество товаров в списке.
      * @param categoryId         Код категории, товары которой будут возвращены.
      * @param differentProductId Код товара, который точно не будет включен в список.
      * @return Объект типа {@link List} - список товаров.
-     * @throws IllegalArgumentException Бросает исключение,
-     *                                  если несли пустой хотя бы одис с параметров.
      */
     @Override
     @Transactional(readOnly = true)
@@ -165,17 +370,19 @@ public final class ProductServiceImpl extends MainServiceImpl<Product> implement
             final int size,
             final long categoryId,
             final long differentProductId
-    ) throws IllegalArgumentException {
-        final Collection<Product> products = this.repository.findByCategoryId(categoryId);
-        if (isEmpty(products)) {
-            return new ArrayList<>();
+    ) {
+        long[] ids = this.cache.getProductIds(categoryId);
+        if (isNull(ids)) {
+            ids = toArray(this.repository.findIdsByCategoryId(categoryId));
+            this.cache.putProductIds(categoryId, ids);
         }
-        products.remove(this.repository.findOne(differentProductId));
-        return getShuffleSubList(new ArrayList<>(products), 0, size);
+        return getByIds(RandomSampler.sample(ids, size, differentProductId));
     }
 
     /**
      * Возвращает список рандомных товаров.
+     * Коды товаров выбираются из закэшированного массива кодов всех товаров,
+     * сами товары берутся из кэша, недостающие загружаются одним запросом.
      * Режим только для чтения.
      *
      * @param size Количество товаров в списке.
@@ -184,11 +391,12 @@ public final class ProductServiceImpl extends MainServiceImpl<Product> implement
     @Override
     @Transactional(readOnly = true)
     public Collection<Product> getRandom(final int size) {
-        final Collection<Product> products = this.repository.findAll();
-        if (isNotEmpty(products)) {
-            return getShuffleSubList(new ArrayList<>(products), 0, size);
+        long[] ids = this.cache.getProductIds();
+        if (isNull(ids)) {
+            ids = toArray(this.repository.findAllIds());
+            this.cache.putProductIds(ids);
         }
-        return new ArrayList<>(products);
+        return getByIds(RandomSampler.sample(ids, size));
     }
 
     /**
@@ -201,6 +409,7 @@ public final class ProductServiceImpl extends MainServiceImpl<Product> implement
     public void removeByUrl(final String url) {
         if (isNotEmpty(url)) {
             this.repository.deleteByUrl(url);
+            this.cache.evictProducts();
         }
     }
 
@@ -213,6 +422,7 @@ public final class ProductServiceImpl extends MainServiceImpl<Product> implement
     @Transactional
     public void removeByArticle(final int article) {
         this.repository.deleteByArticle(article);
+        this.cache.evictProducts();
     }
 
     /**
@@ -226,6 +436,7 @@ public final class ProductServiceImpl extends MainServiceImpl<Product> implement
     public void removeByCategoryUrl(final String url) {
         if (isNotEmpty(url)) {
             this.repository.deleteByCategoryUrl(url);
+            this.cache.evictProducts();
         }
     }
 
@@ -239,28 +450,125 @@ public final class ProductServiceImpl extends MainServiceImpl<Product> implement
     @Transactional
     public void removeByCategoryId(final long id) throws NullPointerException {
         this.repository.deleteByCategoryId(id);
+        this.cache.evictProducts();
     }
 
     /**
-     * Возвращает список перемешаных товаров
-     * начиная с позиции start и заканчиваю позицеей end.
+     * Возвращает список товаров с кодами из массива в том же порядке.
+     * Товары, которых нет в кэше, загружаются из базы данных одним запросом
+     * и добавляются в кэш. Коды удаленных товаров пропускаются.
      *
-     * @param products Список товаров для обработки.
-     * @param start    Начальная позиция выборки товаров из списка.
-     * @param end      Конечная позиция выборки товаров из списка.
-     * @return Объект типа {@link List} -список перемешаных товаров
-     * или пустой лист.
-     */
-    private static List<Product> getShuffleSubList(
-            final Collection<Product> products,
-            final int start,
-            final int end
-    ) {
-        if (isEmpty(products) || (start > products.size()) || (start > end) || (start < 0) || (end < 0)) {
-            return new ArrayList<>();
+     * @param ids Коды товаров.
+     * @return Объект типа {@link List} - список товаров.
+     */
+    private List<Product> getByIds(final long[] ids) {
+        final Map<Long, Product> found = new HashMap<>(ids.length * 2);
+        final List<Long> missingIds = new ArrayList<>();
+        for (long id : ids) {
+            final Product product = this.cache.getProduct(id);
+            if (isNotNull(product)) {
+                found.put(id, product);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        if (isNotEmpty(missingIds)) {
+            for (Product product : this.repository.findAll(missingIds)) {
+                found.put(product.getId(), product);
+                this.cache.putProduct(product);
+            }
+        }
+        final List<Product> products = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            final Product product = found.get(id);
+            if (isNotNull(product)) {
+                products.add(product);
+            }
+        }
+        return products;
+    }
+
+    /**
+     * Переводит список кодов в массив.
+     *
+     * @param ids Список кодов.
+     * @return Массив кодов.
+     */
+    private static long[] toArray(final List<Long> ids) {
+        if (isEmpty(ids)) {
+            return new long[0];
         }
-        final List<Product> result = new ArrayList<>(products);
-        Collections.shuffle(result);
-        return result.subList(start, end <= result.size() ? end : result.size());
+        final long[] result = new long[ids.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает страницу строк списка товаров без загрузки самих товаров.
+     * Режим только для чтения.
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Количество товаров на странице.
+     * @param sort Поле сортировки, префикс "-" задает сортировку по убыванию.
+     * @return Объект типа {@link Page} - страница строк товаров.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProductRow> getRows(final int page, final int size, final String sort) {
+        return this.repository.findAllRows(toPageable(page, size, sort));
+    }
+
+    /**
+     * Передает URL всех товаров по одному в обработчик, читая их
+     * потоком из базы данных без загрузки самих товаров.
+     * Режим только для чтения.
+     *
+     * @param consumer Обработчик URL.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachUrl(final Consumer<String> consumer) {
+        try (Stream<String> urls = this.repository.streamAllUrls()) {
+            urls.forEach(consumer);
+        }
+    }
+
+    /**
+     * Возвращает поля товаров, по которым разрешена сортировка страниц.
+     *
+     * @return Объект типа {@link Collection} - список полей.
+     */
+    @Override
+    protected Collection<String> getSortProperties() {
+        return SORT_PROPERTIES;
+    }
+
+    /**
+     * Возвращает первую страницу заданного размера с сортировкой
+     * по возрастанию кода - порядок, на котором держится
+     * выборка порций товаров по последнему коду.
+     *
+     * @param size Количество товаров в порции.
+     * @return Объект типа {@link Pageable}.
+     */
+    private static Pageable toKeysetPage(final int size) {
+        return new PageRequest(0, toPageSize(size), new Sort(Sort.Direction.ASC, DEFAULT_SORT));
+    }
+
+    /**
+     * Загружает категорию и изображение товара, пока открыта транзакция.
+     * Товар, найденный во втором уровне кэша или в кэше запросов
+     * hibernate, возвращается без выборки по плану {@link Product#CARD_GRAPH},
+     * и его связи без этого остались бы незагруженными.
+     *
+     * @param product Товар.
+     * @return Объект класса {@link Product} - тот же товар.
+     */
+    private static Product fetchCard(final Product product) {
+        Hibernate.initialize(product.getCategory());
+        Hibernate.initialize(product.getPhoto());
+        return product;
     }
 }
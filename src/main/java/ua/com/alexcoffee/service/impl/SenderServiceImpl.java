@@ -8,31 +8,47 @@ import ua.com.alexcoffee.model.order.Order;
 import ua.com.alexcoffee.model.user.User;
 import ua.com.alexcoffee.service.interfaces.SenderService;
 import ua.com.alexcoffee.service.interfaces.UserService;
+import ua.com.alexcoffee.service.notification.Notification;
+import ua.com.alexcoffee.service.notification.NotificationDispatcher;
+import ua.com.alexcoffee.service.notification.SmtpSettings;
 
-import javax.mail.*;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
 import javax.mail.internet.MimeUtility;
 import java.io.UnsupportedEncodingException;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Properties;
 
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isEmpty;
 import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotEmpty;
-import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
 
 /**
  * Класс сервисного слоя реализует методы интерфейса {@link SenderService}
- * для работы с электронной почтой. Также реализует интерфейс {@link Runnable},
- * то есть можно отправлять сообщения в отдельном потоке.
+ * для работы с электронной почтой. Информация о заказе отправляется
+ * менеджерам в фоновом пуле потоков {@link NotificationDispatcher},
+ * поэтому оформление заказа не ждет ответа почтового сервера.
+ * Уведомление отправляется одним сообщением всем менеджерам через
+ * одно соединение с SMTP сервером. Протокол (TLS или SSL), с которым
+ * удалась последняя отправка, запоминается и используется первым.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
  * @see SenderService
+ * @see NotificationDispatcher
  * @see User
  * @see Order
  */
 @Service
 @ComponentScan(basePackages = "ua.com.alexcoffee.service")
-public final class SenderServiceImpl implements SenderService, Runnable {
+public final class SenderServiceImpl implements SenderService {
 
     /**
      * Объект для логирования информации.
@@ -49,26 +65,30 @@ public final class SenderServiceImpl implements SenderService, Runnable {
      */
     private static final String ENCODING = "Q";
 
+    /**
+     * Протокол отправки сообщений.
+     */
+    private static final String PROTOCOL = "smtp";
+
     /**
      * Объект сервиса для работы с пользователями.
      */
     private final UserService userService;
 
     /**
-     * Администратор сайта, от имени которого будут отправлятся
-     * сообщения менеджерам.
+     * Пул доставки уведомлений.
      */
-    private User admin;
+    private final NotificationDispatcher dispatcher;
 
     /**
-     * Список менеджеров, которым будет приходить сообщение о заказе.
+     * Настройки SMTP сервера.
      */
-    private Collection<User> managers;
+    private final SmtpSettings settings;
 
     /**
-     * Заказ, информация о котором будет приходить на почту менеджерам.
+     * Признак того, что последняя отправка удалась по протоколу SSL.
      */
-    private Order orderEntity;
+    private volatile boolean sslPreferred;
 
     /**
      * Конструктор для инициализации основных переменных сервиса.
@@ -76,71 +96,39 @@ public final class SenderServiceImpl implements SenderService, Runnable {
      * автоматически инициализировать объект.
      *
      * @param userService Реализация интерфейса для работы з пользователями.
+     * @param dispatcher  Пул доставки уведомлений.
+     * @param settings    Настройки SMTP сервера.
      */
     @Autowired
     @SuppressWarnings("SpringJavaAutowiringInspection")
-    public SenderServiceImpl(final UserService userService) {
+    public SenderServiceImpl(
+            final UserService userService,
+            final NotificationDispatcher dispatcher,
+            final SmtpSettings settings
+    ) {
         this.userService = userService;
+        this.dispatcher = dispatcher;
+        this.settings = settings;
     }
 
     /**
      * Отсылает информацию о заказе менеджерам на электронную почту.
-     * Запускает отдельный поток.
+     * Тема и текст сообщения формируются в текущем потоке, доставка
+     * ставится в очередь и выполняется в фоновом пуле потоков.
      *
      * @param orderEntity Заказ для отправке менеджерам.
      */
     @Override
     public void send(final Order orderEntity) {
-        this.orderEntity = orderEntity;
-        new Thread(this).start();
-    }
-
-    /**
-     * Запускает текущий поток.
-     * Переопределенный метод класса {@link Thread}.
-     */
-    @Override
-    public void run() {
-        if (this.orderEntity != null) {
-            this.admin = this.userService.getMainAdministrator();
-            this.managers = this.userService.getManagers();
-            if (isNotNull(this.admin) && isNotEmpty(this.managers)) {
-                choosePropertiesAndSend();
-            }
-        }
-    }
-
-    /**
-     * Выбирает подходящие настройки и отправляет сообщение.
-     */
-    private void choosePropertiesAndSend() {
-        Properties properties;
-        final String subject = "AlexCoffee || New Order " + this.orderEntity.getNumber();
-        final String text = this.orderEntity.toString();
-        for (User manager : this.managers) {
-            try {
-                try {
-                    properties = getTLSProperties();
-                    sendMessage(
-                            properties,
-                            manager.getEmail(),
-                            subject, text
-                    );
-                } catch (MessagingException ex) {
-                    ex.printStackTrace();
-                    LOGGER.error(ex.getMessage(), ex);
-                    properties = getSSLProperties();
-                    sendMessage(
-                            properties,
-                            manager.getEmail(),
-                            subject, text
-                    );
-                }
-            } catch (Exception ex) {
-                ex.printStackTrace();
-                LOGGER.error(ex.getMessage(), ex);
-            }
+        if (isNull(orderEntity)) {
+            return;
         }
+        this.dispatcher.submit(
+                new OrderNotification(
+                        "AlexCoffee || New Order " + orderEntity.getNumber(),
+                        orderEntity.toString()
+                )
+        );
     }
 
     /**
@@ -154,8 +142,8 @@ public final class SenderServiceImpl implements SenderService, Runnable {
         final Properties properties = new Properties();
         properties.put("mail.smtp.auth", "true");
         properties.put("mail.smtp.starttls.enable", "true");
-        properties.put("mail.smtp.host", "smtp.gmail.com");
-        properties.put("mail.smtp.port", "587");
+        properties.put("mail.smtp.host", this.settings.getHost());
+        properties.put("mail.smtp.port", String.valueOf(this.settings.getTlsPort()));
         return properties;
     }
 
@@ -168,16 +156,18 @@ public final class SenderServiceImpl implements SenderService, Runnable {
     @Override
     public Properties getSSLProperties() {
         final Properties properties = new Properties();
-        properties.put("mail.smtp.host", "smtp.gmail.com");
-        properties.put("mail.smtp.socketFactory.port", "465");
+        final String port = String.valueOf(this.settings.getSslPort());
+        properties.put("mail.smtp.host", this.settings.getHost());
+        properties.put("mail.smtp.socketFactory.port", port);
         properties.put("mail.smtp.socketFactory.class", "javax.net.ssl.SSLSocketFactory");
         properties.put("mail.smtp.auth", "true");
-        properties.put("mail.smtp.port", "465");
+        properties.put("mail.smtp.port", port);
         return properties;
     }
 
     /**
-     * Отправляет сообщение по заданым параметрам.
+     * Отправляет сообщение по заданым параметрам
+     * от имени главного администратора сайта.
      *
      * @param properties Настройки протокола для сессии.
      * @param toEmail    Адрес электронной почты, на который будет отправлено сообщение.
@@ -193,77 +183,189 @@ public final class SenderServiceImpl implements SenderService, Runnable {
             final String subject,
             final String text
     ) throws MessagingException, UnsupportedEncodingException {
-        final Session session = Session.getDefaultInstance(
+        sendMessages(
                 properties,
-                new Authenticator() {
-                    @Override
-                    protected PasswordAuthentication getPasswordAuthentication() {
-                        return new PasswordAuthentication(
-                                admin.getEmail(), admin.getPassword()
-                        );
-                    }
-                }
+                this.userService.getMainAdministrator(),
+                Collections.singletonList(toEmail),
+                subject, text
         );
-        final Message message = new MimeMessage(session);
-        message.setFrom(new InternetAddress("info@alexcoffee.com.ua"));
-        message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(toEmail));
-        message.setSubject(MimeUtility.encodeText(subject, CHARSET, ENCODING));
-        message.setContent(text, "text/plain;charset=" + CHARSET);
-        message.setSentDate(new Date());
-        Transport.send(message);
     }
 
     /**
-     * Возвращает заказ для отправки менеджерам.
+     * Доставляет сообщение всем менеджерам. Сначала используется
+     * протокол последней удачной отправки, при ошибке - другой протокол,
+     * который запоминается, если отправка через него удалась.
+     * Исключение передается в пул доставки, который повторит попытку.
      *
-     * @return Объект класса {@link Order} - заказ для обработки.
+     * @param subject Тема сообщения.
+     * @param text    Текст сообщения.
+     * @throws MessagingException           Исключение при отправке сообщения.
+     * @throws UnsupportedEncodingException Исключение кодировки метдом MimeUtility.encodeText().
      */
-    public Order getOrderEntity() {
-        return this.orderEntity;
+    private void deliver(
+            final String subject,
+            final String text
+    ) throws MessagingException, UnsupportedEncodingException {
+        final User admin = this.userService.getMainAdministrator();
+        final Collection<String> emails = getManagerEmails();
+        if (isNull(admin) || isEmpty(emails)) {
+            return;
+        }
+        final boolean ssl = this.sslPreferred;
+        try {
+            sendMessages(getProperties(ssl), admin, emails, subject, text);
+        } catch (MessagingException ex) {
+            LOGGER.warn((ssl ? "SSL" : "TLS") + " sending failed, trying another protocol: " + ex.getMessage());
+            sendMessages(getProperties(!ssl), admin, emails, subject, text);
+            this.sslPreferred = !ssl;
+        }
     }
 
     /**
-     * Устанавливает заказ для отправки менеджерам.
+     * Возвращает настройки протокола SSL или TLS.
      *
-     * @param orderEntity Заказ для обработки.
+     * @param ssl true - настройки SSL, false - настройки TLS.
+     * @return Объект класса {@link Properties} - настройки протокола.
      */
-    public void setOrderEntity(final Order orderEntity) {
-        this.orderEntity = orderEntity;
+    private Properties getProperties(final boolean ssl) {
+        return ssl ? getSSLProperties() : getTLSProperties();
     }
 
     /**
-     * Возвращает администратора, от имени которого отсылаются сообщения.
+     * Отправляет одно сообщение всем получателям через
+     * одну сессию и одно соединение с SMTP сервером.
      *
-     * @return Объект класса {@link User} - администратор сайта.
+     * @param properties Настройки протокола для сессии.
+     * @param admin      Администратор, от имени которого отправляется сообщение.
+     * @param emails     Адреса электронной почты получателей.
+     * @param subject    Тема сообщения.
+     * @param text       Текст сообщения.
+     * @throws MessagingException           Исключение при отправке сообщения.
+     * @throws UnsupportedEncodingException Исключение кодировки метдом MimeUtility.encodeText().
      */
-    public User getAdmin() {
-        return this.admin;
+    private void sendMessages(
+            final Properties properties,
+            final User admin,
+            final Collection<String> emails,
+            final String subject,
+            final String text
+    ) throws MessagingException, UnsupportedEncodingException {
+        final Session session = Session.getInstance(properties);
+        final Message message = createMessage(session, emails, subject, text);
+        final Transport transport = session.getTransport(PROTOCOL);
+        transport.connect(admin.getEmail(), admin.getPassword());
+        try {
+            transport.sendMessage(message, message.getAllRecipients());
+        } finally {
+            transport.close();
+        }
     }
 
     /**
-     * Устанавливает администратора, от имени которого отсылаются сообщения.
+     * Создает сообщение по заданым параметрам.
      *
-     * @param admin Администратор сайта.
+     * @param session Почтовая сессия.
+     * @param emails  Адреса электронной почты получателей.
+     * @param subject Тема сообщения.
+     * @param text    Текст сообщения.
+     * @return Объект класса {@link Message} - сообщение.
+     * @throws MessagingException           Исключение класса InternetAddress.
+     * @throws UnsupportedEncodingException Исключение кодировки метдом MimeUtility.encodeText().
      */
-    public void setAdmin(final User admin) {
-        this.admin = admin;
+    private Message createMessage(
+            final Session session,
+            final Collection<String> emails,
+            final String subject,
+            final String text
+    ) throws MessagingException, UnsupportedEncodingException {
+        final Message message = new MimeMessage(session);
+        message.setFrom(new InternetAddress(this.settings.getFrom()));
+        message.setRecipients(Message.RecipientType.TO, toAddresses(emails));
+        message.setSubject(MimeUtility.encodeText(subject, CHARSET, ENCODING));
+        message.setContent(text, "text/plain;charset=" + CHARSET);
+        message.setSentDate(new Date());
+        return message;
     }
 
     /**
-     * Возвращает список менеджеров, которым будет отправлятся сообщения.
+     * Преобразует адреса электронной почты в массив {@link InternetAddress}.
      *
-     * @return Объект класса {@link List} - список менеджеров.
+     * @param emails Адреса электронной почты.
+     * @return Массив адресов.
+     * @throws MessagingException Исключение класса InternetAddress.
      */
-    public Collection<User> getManagers() {
-        return this.managers;
+    private static InternetAddress[] toAddresses(final Collection<String> emails)
+            throws MessagingException {
+        final Collection<InternetAddress> addresses = new ArrayList<>(emails.size());
+        for (String email : emails) {
+            Collections.addAll(addresses, InternetAddress.parse(email));
+        }
+        return addresses.toArray(new InternetAddress[addresses.size()]);
     }
 
     /**
-     * Устанавливает список менеджеров, которым будет отправлятся сообщения.
+     * Возвращает адреса электронной почты менеджеров.
      *
-     * @param managers список менеджеров.
+     * @return Объект типа {@link Collection} - список адресов.
+     */
+    private Collection<String> getManagerEmails() {
+        final Collection<User> managers = this.userService.getManagers();
+        final Collection<String> emails = new ArrayList<>();
+        if (isNotEmpty(managers)) {
+            for (User manager : managers) {
+                if (isNotEmpty(manager.getEmail())) {
+                    emails.add(manager.getEmail());
+                }
+            }
+        }
+        return emails;
+    }
+
+    /**
+     * Уведомление менеджеров о новом заказе. Хранит готовые тему
+     * и текст сообщения, поэтому не зависит от состояния сервиса
+     * и может доставляться повторно.
      */
-    public void setManagers(final Collection<User> managers) {
-        this.managers = managers;
+    private final class OrderNotification implements Notification {
+        /**
+         * Тема сообщения.
+         */
+        private final String subject;
+
+        /**
+         * Текст сообщения.
+         */
+        private final String text;
+
+        /**
+         * Конструктор для инициализации основных переменных.
+         *
+         * @param subject Тема сообщения.
+         * @param text    Текст сообщения.
+         */
+        private OrderNotification(final String subject, final String text) {
+            this.subject = subject;
+            this.text = text;
+        }
+
+        /**
+         * Возвращает название уведомления.
+         *
+         * @return Значение типа {@link String} - тема сообщения.
+         */
+        @Override
+        public String getName() {
+            return this.subject;
+        }
+
+        /**
+         * Доставляет сообщение менеджерам.
+         *
+         * @throws Exception Исключение при отправке сообщения.
+         */
+        @Override
+        public void deliver() throws Exception {
+            SenderServiceImpl.this.deliver(this.subject, this.text);
+        }
     }
 }
@@ -0,0 +1,135 @@
+package ua.com.alexcoffee.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import ua.com.alexcoffee.service.cache.CatalogCache;
+import ua.com.alexcoffee.service.interfaces.CategoryService;
+import ua.com.alexcoffee.service.interfaces.ProductService;
+import ua.com.alexcoffee.service.interfaces.SiteMapService;
+import ua.com.alexcoffee.service.sitemap.SiteMapFile;
+import ua.com.alexcoffee.service.sitemap.SiteMapStore;
+import ua.com.alexcoffee.service.sitemap.SiteMapWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Класс сервисного слоя, реализует методы интерфейса {@link SiteMapService}.
+ * Ссылки на категории и товары читаются потоком из базы данных и сразу
+ * записываются в файлы {@link SiteMapStore}. Файлы генерируются заново
+ * только после изменения каталога, которое отслеживается по номеру
+ * версии кэша каталога {@link CatalogCache}.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SiteMapService
+ * @see SiteMapStore
+ * @see CatalogCache
+ */
+@Service
+public final class SiteMapServiceImpl implements SiteMapService {
+    /**
+     * Объект сервиса для работы с товарами.
+     */
+    private final ProductService productService;
+
+    /**
+     * Объект сервиса для работы с категориями товаров.
+     */
+    private final CategoryService categoryService;
+
+    /**
+     * Кэш каталога товаров, номер версии которого
+     * показывает изменения каталога.
+     */
+    private final CatalogCache cache;
+
+    /**
+     * Хранилище файлов sitemap.
+     */
+    private final SiteMapStore store;
+
+    /**
+     * Конструктор для инициализации основных переменных сервиса.
+     * Помечаный аннотацией @Autowired, которая позволит Spring
+     * автоматически инициализировать объект.
+     *
+     * @param productService  Объект сервиса для работы с товарами.
+     * @param categoryService Объект сервиса для работы с категориями товаров.
+     * @param cache           Кэш каталога товаров.
+     * @param store           Хранилище файлов sitemap.
+     */
+    @Autowired
+    @SuppressWarnings("SpringJavaAutowiringInspection")
+    public SiteMapServiceImpl(
+            final ProductService productService,
+            final CategoryService categoryService,
+            final CatalogCache cache,
+            final SiteMapStore store
+    ) {
+        this.productService = productService;
+        this.categoryService = categoryService;
+        this.cache = cache;
+        this.store = store;
+    }
+
+    /**
+     * Возвращает файл sitemap с указанным именем, при изменении
+     * каталога файлы предварительно генерируются заново.
+     *
+     * @param name Имя файла, например "sitemap.xml" или "sitemap-2.xml".
+     * @return Объект класса {@link SiteMapFile} или null, если файла с таким именем нет.
+     * @throws IOException Ошибка записи файлов.
+     */
+    @Override
+    public SiteMapFile getFile(final String name) throws IOException {
+        return this.store.get(name, this.cache.getVersion(), this::writeTo);
+    }
+
+    /**
+     * Записывает все ссылки сайта: главные страницы,
+     * категории и товары.
+     *
+     * @param writer Объект для записи ссылок.
+     * @throws IOException Ошибка записи файла.
+     */
+    private void writeTo(final SiteMapWriter writer) throws IOException {
+        final String baseUrl = this.store.getBaseUrl();
+        writer.write(baseUrl + "/", "1.0");
+        writer.write(baseUrl + "/index", "1.0");
+        writer.write(baseUrl + "/home", "1.0");
+        writer.write(baseUrl + "/category/all", "0.6");
+        try {
+            this.categoryService.forEachUrl(
+                    url -> write(writer, baseUrl + "/category/" + url, "0.7")
+            );
+            writer.write(baseUrl + "/product/all", "0.7");
+            this.productService.forEachUrl(
+                    url -> write(writer, baseUrl + "/product/" + url, "0.8")
+            );
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.write("https://yuriisalimov.github.io", "0.5");
+    }
+
+    /**
+     * Записывает ссылку из обработчика потока, который
+     * не может бросать проверяемые исключения.
+     *
+     * @param writer   Объект для записи ссылок.
+     * @param location Абсолютный адрес страницы.
+     * @param priority Приоритет страницы.
+     */
+    private static void write(
+            final SiteMapWriter writer,
+            final String location,
+            final String priority
+    ) {
+        try {
+            writer.write(location, priority);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -10,13 +10,17 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ua.com.alexcoffee.model.projection.UserRow;
 import ua.com.alexcoffee.model.user.User;
 import ua.com.alexcoffee.model.user.UserRole;
 import ua.com.alexcoffee.repository.UserRepository;
+import ua.com.alexcoffee.service.cache.RoleDirectory;
 import ua.com.alexcoffee.service.interfaces.UserService;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 import static ua.com.alexcoffee.util.validator.ObjectValidator.*;
@@ -39,6 +43,7 @@ import static ua.com.alexcoffee.util.validator.ObjectValidator.*;
  * @see UserService
  * @see User
  * @see UserRepository
+ * @see RoleDirectory
  */
 @Service
 @ComponentScan(basePackages = "ua.com.alexcoffee.repository")
@@ -59,12 +64,24 @@ public final class UserServiceImpl extends MainServiceImpl<User> implements User
      */
     private final static Long MANAGER_ROLE_ID = 3L;
 
+    /**
+     * Роли персонала сайта.
+     */
+    private final static Collection<UserRole> PERSONNEL_ROLES = Arrays.asList(
+            UserRole.ADMIN, UserRole.MANAGER
+    );
+
     /**
      * Реализация интерфейса {@link UserRepository}
      * для работы пользователей с базой данных.
      */
     private final UserRepository repository;
 
+    /**
+     * Справочник персонала по ролям.
+     */
+    private final RoleDirectory directory;
+
     /**
      * Конструктор для инициализации основных переменных сервиса.
      * Помечаный аннотацией @Autowired, которая позволит Spring
@@ -72,12 +89,90 @@ public final class UserServiceImpl extends MainServiceImpl<User> implements User
      *
      * @param repository     Реализация интерфейса {@link UserRepository}
      *                       для работы пользователей с базой данных.
+     * @param directory      Справочник персонала по ролям.
      */
     @Autowired
     @SuppressWarnings("SpringJavaAutowiringInspection")
-    public UserServiceImpl(final UserRepository repository) {
+    public UserServiceImpl(
+            final UserRepository repository,
+            final RoleDirectory directory
+    ) {
         super(repository);
         this.repository = repository;
+        this.directory = directory;
+    }
+
+    /**
+     * Добавление пользователя в базу данных и очистка справочника персонала.
+     *
+     * @param user Пользователь для добавления.
+     */
+    @Override
+    @Transactional
+    public void add(final User user) {
+        super.add(user);
+        this.directory.clear();
+    }
+
+    /**
+     * Добавление коллекции пользователей в базу данных
+     * и очистка справочника персонала.
+     *
+     * @param users Коллекция пользователей для добавления.
+     */
+    @Override
+    @Transactional
+    public void add(final Collection<User> users) {
+        super.add(users);
+        this.directory.clear();
+    }
+
+    /**
+     * Удаление пользователя из базы данных и очистка справочника персонала.
+     *
+     * @param user Пользователь для удаления.
+     */
+    @Override
+    @Transactional
+    public void remove(final User user) {
+        super.remove(user);
+        this.directory.clear();
+    }
+
+    /**
+     * Удаление пользователя из базы данных по уникальному коду
+     * и очистка справочника персонала.
+     *
+     * @param id Уникальный код пользователя.
+     */
+    @Override
+    @Transactional
+    public void remove(final long id) {
+        super.remove(id);
+        this.directory.clear();
+    }
+
+    /**
+     * Удаление коллекции пользователей из базы данных
+     * и очистка справочника персонала.
+     *
+     * @param users Коллекция пользователей для удаления.
+     */
+    @Override
+    @Transactional
+    public void remove(final Collection<User> users) {
+        super.remove(users);
+        this.directory.clear();
+    }
+
+    /**
+     * Удаление всех пользователей из базы данных и очистка справочника персонала.
+     */
+    @Override
+    @Transactional
+    public void removeAll() {
+        super.removeAll();
+        this.directory.clear();
     }
 
     /**
@@ -140,7 +235,8 @@ public final class UserServiceImpl extends MainServiceImpl<User> implements User
     @Override
     @Transactional(readOnly = true)
     public User getMainAdministrator() throws NullPointerException {
-        final User user = new ArrayList<>(getAdministrators()).get(0);
+        final Iterator<User> administrators = getAdministrators().iterator();
+        final User user = administrators.hasNext() ? administrators.next() : null;
         if (isNull(user)) {
             throw new NullPointerException("Can't find administrator!");
         }
@@ -149,6 +245,7 @@ public final class UserServiceImpl extends MainServiceImpl<User> implements User
 
     /**
      * Возвращает список всех администраторов сайта.
+     * Список берется из справочника персонала.
      * Режим только для чтения.
      *
      * @return Объект типа {@link List} - список администраторов.
@@ -156,11 +253,12 @@ public final class UserServiceImpl extends MainServiceImpl<User> implements User
     @Override
     @Transactional(readOnly = true)
     public Collection<User> getAdministrators() {
-        return this.repository.findAllByRole(UserRole.ADMIN);
+        return getByRole(UserRole.ADMIN);
     }
 
     /**
      * Возвращает список всех менеджеров сайта.
+     * Список берется из справочника персонала.
      * Режим только для чтения.
      *
      * @return Объект типа {@link List} - список менеджеров.
@@ -168,7 +266,7 @@ public final class UserServiceImpl extends MainServiceImpl<User> implements User
     @Override
     @Transactional(readOnly = true)
     public Collection<User> getManagers() {
-        return this.repository.findAllByRole(UserRole.MANAGER);
+        return getByRole(UserRole.MANAGER);
     }
 
     /**
@@ -199,6 +297,19 @@ public final class UserServiceImpl extends MainServiceImpl<User> implements User
         return users;
     }
 
+    /**
+     * Возвращает строки списка персонала сайта без загрузки
+     * самих пользователей: сначала администраторы, затем менеджеры.
+     * Режим только для чтения.
+     *
+     * @return Объект типа {@link Collection} - список строк персонала.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Collection<UserRow> getPersonnelRows() {
+        return this.repository.findAllRowsByRoleIn(PERSONNEL_ROLES);
+    }
+
     /**
      * Возвращает авторизированого пользователя.
      * Режим только для чтения.
@@ -230,6 +341,7 @@ public final class UserServiceImpl extends MainServiceImpl<User> implements User
     public void removeByName(final String name) {
         if (isNotEmpty(name)) {
             this.repository.deleteByName(name);
+            this.directory.clear();
         }
     }
 
@@ -244,6 +356,7 @@ public final class UserServiceImpl extends MainServiceImpl<User> implements User
     public void removeByRole(final UserRole role) {
         if (isNotNull(role)) {
             this.repository.deleteAllByRole(role);
+            this.directory.clear();
         }
     }
 
@@ -258,6 +371,7 @@ public final class UserServiceImpl extends MainServiceImpl<User> implements User
             final User mainAdmin = getMainAdministrator();
             personnel.remove(mainAdmin);
             this.repository.delete(personnel);
+            this.directory.clear();
         }
     }
 
@@ -280,4 +394,19 @@ public final class UserServiceImpl extends MainServiceImpl<User> implements User
             throw new UsernameNotFoundException(ex.getMessage(), ex);
         }
     }
+
+    /**
+     * Возвращает список пользователей с ролью. Список ищется
+     * в справочнике, при отсутствии загружается из базы данных.
+     *
+     * @param role Роль пользователей.
+     * @return Объект типа {@link Collection} - неизменяемый список пользователей.
+     */
+    private Collection<User> getByRole(final UserRole role) {
+        Collection<User> users = this.directory.get(role);
+        if (isNull(users)) {
+            users = this.directory.put(role, this.repository.findAllByRole(role));
+        }
+        return users;
+    }
 }
@@ -1,6 +1,10 @@
 package ua.com.alexcoffee.service.interfaces;
 
+import org.springframework.data.domain.Page;
 import ua.com.alexcoffee.model.category.Category;
+import ua.com.alexcoffee.model.projection.CategoryRow;
+
+import java.util.function.Consumer;
 
 /**
  * Интерфейс сервисного слоя, описывает набор методов для работы
@@ -28,4 +32,22 @@ public interface CategoryService extends MainService<Category> {
      * @param url URL категории для удаления.
      */
     void remove(String url);
+
+    /**
+     * Возвращает страницу строк списка категорий без загрузки самих категорий.
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Количество категорий на странице.
+     * @param sort Поле сортировки, префикс "-" задает сортировку по убыванию.
+     * @return Объект типа {@link Page} - страница строк категорий.
+     */
+    Page<CategoryRow> getRows(int page, int size, String sort);
+
+    /**
+     * Передает URL всех категорий по одному в обработчик, читая их
+     * потоком из базы данных без загрузки самих категорий.
+     *
+     * @param consumer Обработчик URL.
+     */
+    void forEachUrl(Consumer<String> consumer);
 }
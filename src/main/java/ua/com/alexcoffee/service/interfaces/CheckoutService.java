@@ -0,0 +1,63 @@
+package ua.com.alexcoffee.service.interfaces;
+
+import ua.com.alexcoffee.model.order.Order;
+import ua.com.alexcoffee.model.position.SalePosition;
+
+import java.util.Collection;
+
+/**
+ * Интерфейс сервисного слоя, описывает набор методов для оформления
+ * заказов клиентами. Форма заказа отправляется с ключом оформления,
+ * повторная отправка формы с тем же ключом возвращает уже оформленный
+ * заказ, а не создает новый.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Order
+ * @see ua.com.alexcoffee.service.impl.CheckoutServiceImpl
+ */
+public interface CheckoutService {
+    /**
+     * Возвращает новый ключ оформления заказа для формы заказа.
+     *
+     * @return Значение типа {@link String} - случайный ключ.
+     */
+    String createKey();
+
+    /**
+     * Возвращает ключ оформления заказа, с которым будет оформлен заказ:
+     * переданный ключ, если он допустимый, иначе новый ключ.
+     *
+     * @param key Ключ оформления заказа из формы или заголовка.
+     * @return Значение типа {@link String} - допустимый ключ.
+     */
+    String checkKey(String key);
+
+    /**
+     * Оформляет заказ клиента с торговыми позициями. Если заказ
+     * с ключом оформления уже есть, возвращает его.
+     *
+     * @param key           Ключ оформления заказа, неверный или пустой
+     *                      ключ заменяется новым.
+     * @param name          Имя клиента.
+     * @param email         Электронная почта клиента.
+     * @param phone         Номер телефона клиента.
+     * @param salePositions Торговые позиции заказа.
+     * @return Объект класса {@link Order} - оформленный заказ.
+     */
+    Order checkout(
+            String key,
+            String name,
+            String email,
+            String phone,
+            Collection<SalePosition> salePositions
+    );
+
+    /**
+     * Возвращает заказ, оформленный с ключом оформления.
+     *
+     * @param key Ключ оформления заказа.
+     * @return Объект класса {@link Order} - заказ.
+     */
+    Order get(String key);
+}
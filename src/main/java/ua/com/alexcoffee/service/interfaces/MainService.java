@@ -1,5 +1,6 @@
 package ua.com.alexcoffee.service.interfaces;
 
+import org.springframework.data.domain.Page;
 import ua.com.alexcoffee.model.model.Model;
 import ua.com.alexcoffee.service.impl.MainServiceImpl;
 
@@ -55,6 +56,16 @@ public interface MainService<T extends Model> {
      */
     T get(long id);
 
+    /**
+     * Получение модели по уникальному коду id для изменения.
+     * Модель всегда загружается заново, а не берется из кэша,
+     * поэтому её изменения не видны другим запросам до сохранения.
+     *
+     * @param id Уникальный код модели.
+     * @return Объект класса {@link Model} - модель с кодом id.
+     */
+    T getForUpdate(long id);
+
     /**
      * Получение всех моделей.
      *
@@ -62,6 +73,16 @@ public interface MainService<T extends Model> {
      */
     Collection<T> getAll();
 
+    /**
+     * Получение страницы моделей.
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Количество моделей на странице.
+     * @param sort Поле сортировки, префикс "-" задает сортировку по убыванию.
+     * @return Объект типа {@link Page} - страница моделей.
+     */
+    Page<T> getPage(int page, int size, String sort);
+
     /**
      * Удаление модели.
      *
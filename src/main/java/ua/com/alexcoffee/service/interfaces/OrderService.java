@@ -1,6 +1,8 @@
 package ua.com.alexcoffee.service.interfaces;
 
+import org.springframework.data.domain.Page;
 import ua.com.alexcoffee.model.order.Order;
+import ua.com.alexcoffee.model.projection.OrderRow;
 
 /**
  * Интерфейс сервисного слоя, описывает набор методов для работы
@@ -30,4 +32,14 @@ public interface OrderService extends MainService<Order> {
      * @param number Номер заказа для удаление.
      */
     void remove(String number);
+
+    /**
+     * Возвращает страницу строк списка заказов без загрузки самих заказов.
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Количество заказов на странице.
+     * @param sort Поле сортировки, префикс "-" задает сортировку по убыванию.
+     * @return Объект типа {@link Page} - страница строк заказов.
+     */
+    Page<OrderRow> getRows(int page, int size, String sort);
 }
@@ -1,9 +1,13 @@
 package ua.com.alexcoffee.service.interfaces;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.model.projection.ProductRow;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Интерфейс сервисного слоя, описывает набор методов для работы
@@ -43,6 +47,45 @@ public interface ProductService extends MainService<Product> {
      */
     Collection<Product> getByCategoryUrl(String url);
 
+    /**
+     * Возвращает порцию товаров, следующих за товаром с кодом id,
+     * в порядке возрастания кода.
+     *
+     * @param id   Код последнего товара предыдущей порции, 0 - первая порция.
+     * @param size Количество товаров в порции.
+     * @return Объект типа {@link Slice} - порция товаров.
+     */
+    Slice<Product> getAfter(long id, int size);
+
+    /**
+     * Возвращает порцию товаров категории с уникальным URL, следующих
+     * за товаром с кодом id, в порядке возрастания кода.
+     *
+     * @param url  URL категории, товары которой будут возвращены.
+     * @param id   Код последнего товара предыдущей порции, 0 - первая порция.
+     * @param size Количество товаров в порции.
+     * @return Объект типа {@link Slice} - порция товаров.
+     */
+    Slice<Product> getByCategoryUrlAfter(String url, long id, int size);
+
+    /**
+     * Возвращает страницу строк списка товаров без загрузки самих товаров.
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Количество товаров на странице.
+     * @param sort Поле сортировки, префикс "-" задает сортировку по убыванию.
+     * @return Объект типа {@link Page} - страница строк товаров.
+     */
+    Page<ProductRow> getRows(int page, int size, String sort);
+
+    /**
+     * Передает URL всех товаров по одному в обработчик, читая их
+     * потоком из базы данных без загрузки самих товаров.
+     *
+     * @param consumer Обработчик URL.
+     */
+    void forEachUrl(Consumer<String> consumer);
+
     /**
      * Возвращает список товаров, которые относятся к категории
      * с уникальным кодом id - входным параметром.
@@ -0,0 +1,26 @@
+package ua.com.alexcoffee.service.interfaces;
+
+import ua.com.alexcoffee.service.sitemap.SiteMapFile;
+
+import java.io.IOException;
+
+/**
+ * Интерфейс сервисного слоя для работы с файлами sitemap.xml
+ * для поисковых систем.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SiteMapFile
+ * @see ua.com.alexcoffee.service.impl.SiteMapServiceImpl
+ */
+public interface SiteMapService {
+    /**
+     * Возвращает файл sitemap с указанным именем, при изменении
+     * каталога файлы предварительно генерируются заново.
+     *
+     * @param name Имя файла, например "sitemap.xml" или "sitemap-2.xml".
+     * @return Объект класса {@link SiteMapFile} или null, если файла с таким именем нет.
+     * @throws IOException Ошибка записи файлов.
+     */
+    SiteMapFile getFile(String name) throws IOException;
+}
@@ -1,5 +1,6 @@
 package ua.com.alexcoffee.service.interfaces;
 
+import ua.com.alexcoffee.model.projection.UserRow;
 import ua.com.alexcoffee.model.user.User;
 import ua.com.alexcoffee.model.user.UserRole;
 
@@ -71,6 +72,14 @@ public interface UserService extends MainService<User> {
      */
     Collection<User> getPersonnel();
 
+    /**
+     * Возвращает строки списка персонала сайта без загрузки
+     * самих пользователей: сначала администраторы, затем менеджеры.
+     *
+     * @return Объект типа {@link Collection} - список строк персонала.
+     */
+    Collection<UserRow> getPersonnelRows();
+
     /**
      * Возвращает авторизированого пользователя.
      *
@@ -0,0 +1,49 @@
+package ua.com.alexcoffee.service.metrics;
+
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.apache.tomcat.dbcp.dbcp.BasicDataSource;
+
+/**
+ * Класс передает состояние пула соединений Tomcat DBCP
+ * в {@link PoolMetrics}. Пул DBCP не сообщает количество
+ * ожидающих потоков и время получения соединения, поэтому
+ * эти метрики для него не записываются.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see PoolMetrics
+ */
+public final class BasicDataSourceStats extends PoolStats {
+    /**
+     * Время, в течение которого состояние пула не перечитывается, в миллисекундах.
+     */
+    private static final long RELOAD_TIMEOUT = 1000;
+
+    /**
+     * Пул соединений Tomcat DBCP.
+     */
+    private final BasicDataSource dataSource;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param dataSource Пул соединений Tomcat DBCP.
+     */
+    public BasicDataSourceStats(final BasicDataSource dataSource) {
+        super(RELOAD_TIMEOUT);
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Перечитывает состояние пула.
+     */
+    @Override
+    protected void update() {
+        this.activeConnections = this.dataSource.getNumActive();
+        this.idleConnections = this.dataSource.getNumIdle();
+        this.totalConnections = this.activeConnections + this.idleConnections;
+        this.maxConnections = this.dataSource.getMaxActive();
+        this.minConnections = this.dataSource.getMinIdle();
+        this.pendingThreads = 0;
+    }
+}
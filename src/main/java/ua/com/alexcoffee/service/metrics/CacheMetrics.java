@@ -0,0 +1,146 @@
+package ua.com.alexcoffee.service.metrics;
+
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+import ua.com.alexcoffee.util.metrics.PrometheusWriter;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static ua.com.alexcoffee.util.metrics.PrometheusWriter.label;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Класс отдает метрики второго уровня кэша и кэша запросов hibernate:
+ * количество попаданий, промахов и записей по каждому региону кэша
+ * и количество объектов в регионе. Счетчики ведет сам hibernate,
+ * если включен сбор статистики (hibernate.generate_statistics),
+ * иначе все значения равны 0.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Statistics
+ */
+public final class CacheMetrics {
+    /**
+     * Статистика фабрики сессий hibernate.
+     */
+    private final Statistics statistics;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param statistics Статистика фабрики сессий hibernate.
+     */
+    public CacheMetrics(final Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Возвращает количество попаданий во второй уровень кэша.
+     *
+     * @return Значение типа long - количество попаданий.
+     */
+    public long getHits() {
+        return this.statistics.getSecondLevelCacheHitCount();
+    }
+
+    /**
+     * Возвращает количество промахов второго уровня кэша.
+     *
+     * @return Значение типа long - количество промахов.
+     */
+    public long getMisses() {
+        return this.statistics.getSecondLevelCacheMissCount();
+    }
+
+    /**
+     * Возвращает количество записей во второй уровень кэша.
+     *
+     * @return Значение типа long - количество записей.
+     */
+    public long getPuts() {
+        return this.statistics.getSecondLevelCachePutCount();
+    }
+
+    /**
+     * Возвращает количество попаданий в кэш запросов.
+     *
+     * @return Значение типа long - количество попаданий.
+     */
+    public long getQueryHits() {
+        return this.statistics.getQueryCacheHitCount();
+    }
+
+    /**
+     * Возвращает количество промахов кэша запросов.
+     *
+     * @return Значение типа long - количество промахов.
+     */
+    public long getQueryMisses() {
+        return this.statistics.getQueryCacheMissCount();
+    }
+
+    /**
+     * Возвращает долю попаданий во второй уровень кэша.
+     *
+     * @return Значение типа double - доля от 0 до 1, 0 - если обращений не было.
+     */
+    public double getHitRatio() {
+        final long hits = getHits();
+        final long total = hits + getMisses();
+        return total > 0 ? (double) hits / total : 0;
+    }
+
+    /**
+     * Возвращает метрики каждого региона второго уровня кэша.
+     *
+     * @return Объект типа {@link Map} - метрики по имени региона.
+     */
+    public Map<String, Map<String, Long>> getRegions() {
+        final Map<String, Map<String, Long>> regions = new TreeMap<>();
+        final String[] names = this.statistics.getSecondLevelCacheRegionNames();
+        if (isNull(names)) {
+            return regions;
+        }
+        for (String name : names) {
+            final SecondLevelCacheStatistics region = this.statistics.getSecondLevelCacheStatistics(name);
+            if (isNull(region)) {
+                continue;
+            }
+            final Map<String, Long> metrics = new TreeMap<>();
+            metrics.put("hits", region.getHitCount());
+            metrics.put("misses", region.getMissCount());
+            metrics.put("puts", region.getPutCount());
+            metrics.put("size", region.getElementCountInMemory());
+            regions.put(name, metrics);
+        }
+        return regions;
+    }
+
+    /**
+     * Записывает метрики в формате Prometheus.
+     *
+     * @param writer Объект для записи метрик в формате Prometheus.
+     */
+    public void writeTo(final PrometheusWriter writer) {
+        final Map<String, Map<String, Long>> regions = getRegions();
+        writer.header("cache_requests_total", "counter", "Second-level cache lookups by region and result.");
+        for (Map.Entry<String, Map<String, Long>> region : regions.entrySet()) {
+            final String name = label("region", region.getKey());
+            writer.sample("cache_requests_total", name + "," + label("result", "hit"), region.getValue().get("hits"))
+                    .sample("cache_requests_total", name + "," + label("result", "miss"), region.getValue().get("misses"));
+        }
+        writer.header("cache_puts_total", "counter", "Entries put into the second-level cache by region.");
+        for (Map.Entry<String, Map<String, Long>> region : regions.entrySet()) {
+            writer.sample("cache_puts_total", label("region", region.getKey()), region.getValue().get("puts"));
+        }
+        writer.header("cache_size", "gauge", "Entries held in memory by region.");
+        for (Map.Entry<String, Map<String, Long>> region : regions.entrySet()) {
+            writer.sample("cache_size", label("region", region.getKey()), region.getValue().get("size"));
+        }
+        writer.header("query_cache_requests_total", "counter", "Query cache lookups by result.")
+                .sample("query_cache_requests_total", label("result", "hit"), getQueryHits())
+                .sample("query_cache_requests_total", label("result", "miss"), getQueryMisses());
+    }
+}
@@ -0,0 +1,52 @@
+package ua.com.alexcoffee.service.metrics;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Менеджер транзакций JPA, который записывает время каждой
+ * транзакции от начала до завершения, включая коммит или откат,
+ * в {@link QueryProfile} текущего потока.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see QueryProfile
+ */
+public final class InstrumentedJpaTransactionManager extends JpaTransactionManager {
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param factory Фабрика EntityManager.
+     */
+    public InstrumentedJpaTransactionManager(final EntityManagerFactory factory) {
+        super(factory);
+    }
+
+    /**
+     * Начинает транзакцию и записывает время ее начала.
+     *
+     * @param transaction Объект транзакции.
+     * @param definition  Параметры транзакции.
+     */
+    @Override
+    protected void doBegin(final Object transaction, final TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        QueryProfile.onTransactionBegin();
+    }
+
+    /**
+     * Освобождает ресурсы транзакции и записывает ее время.
+     *
+     * @param transaction Объект транзакции.
+     */
+    @Override
+    protected void doCleanupAfterCompletion(final Object transaction) {
+        try {
+            super.doCleanupAfterCompletion(transaction);
+        } finally {
+            QueryProfile.onTransactionEnd();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package ua.com.alexcoffee.service.metrics;
+
+import ua.com.alexcoffee.util.metrics.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс хранит метрики одного метода сервиса или репозитория:
+ * гистограмму времени вызовов и количество вызовов, завершившихся
+ * исключением. Все методы потокобезопасны.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see RequestMetrics
+ * @see MethodMetricsPostProcessor
+ */
+public final class MethodMetrics {
+    /**
+     * Количество наносекунд в миллисекунде.
+     */
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Имя метода, например "ProductRepository.findByUrl".
+     */
+    private final String name;
+
+    /**
+     * Гистограмма времени вызовов в наносекундах.
+     */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Количество вызовов, завершившихся исключением.
+     */
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param name Имя метода.
+     */
+    MethodMetrics(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Записывает вызов метода.
+     *
+     * @param nanos  Время вызова в наносекундах.
+     * @param failed true - вызов завершился исключением.
+     */
+    void record(final long nanos, final boolean failed) {
+        this.latency.record(nanos);
+        if (failed) {
+            this.errors.increment();
+        }
+    }
+
+    /**
+     * Возвращает имя метода.
+     *
+     * @return Значение типа {@link String} - имя интерфейса и метода.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Возвращает количество вызовов.
+     *
+     * @return Значение типа long - количество вызовов.
+     */
+    public long getCalls() {
+        return this.latency.getCount();
+    }
+
+    /**
+     * Возвращает количество вызовов, завершившихся исключением.
+     *
+     * @return Значение типа long - количество вызовов с исключением.
+     */
+    public long getErrors() {
+        return this.errors.sum();
+    }
+
+    /**
+     * Возвращает суммарное время всех вызовов.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getTotalMillis() {
+        return this.latency.getSum() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Возвращает среднее время вызова.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getMeanMillis() {
+        return this.latency.getMean() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Возвращает 99-й процентиль времени вызова.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getP99Millis() {
+        return getMillisAtPercentile(99);
+    }
+
+    /**
+     * Возвращает максимальное время вызова.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getMaxMillis() {
+        return this.latency.getMax() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Возвращает время вызова для процентиля.
+     *
+     * @param percentile Процентиль от 0 до 100.
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getMillisAtPercentile(final double percentile) {
+        return this.latency.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,156 @@
+package ua.com.alexcoffee.service.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+
+/**
+ * Класс добавляет в прокси сервисов и репозиториев перехватчик,
+ * который записывает время каждого вызова метода в {@link RequestMetrics}.
+ * Перехватчик добавляется первым, поэтому время метода сервиса
+ * включает начало и коммит его транзакции. Обрабатываются только
+ * бины, которые уже являются прокси (транзакции, Spring Data)
+ * и реализуют интерфейс из пакетов "ua.com.alexcoffee.service.interfaces"
+ * или "ua.com.alexcoffee.repository".
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see MethodMetrics
+ */
+public final class MethodMetricsPostProcessor implements BeanPostProcessor {
+    /**
+     * Пакеты интерфейсов, методы которых измеряются.
+     */
+    private static final String[] PACKAGES = {
+            "ua.com.alexcoffee.service.interfaces",
+            "ua.com.alexcoffee.repository"
+    };
+
+    /**
+     * Реестр метрик.
+     */
+    private final RequestMetrics metrics;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param metrics Реестр метрик.
+     */
+    public MethodMetricsPostProcessor(final RequestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Возвращает бин без изменений.
+     *
+     * @param bean     Бин.
+     * @param beanName Имя бина.
+     * @return Тот же бин.
+     */
+    @Override
+    public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+        return bean;
+    }
+
+    /**
+     * Добавляет перехватчик в прокси сервиса или репозитория.
+     *
+     * @param bean     Бин.
+     * @param beanName Имя бина.
+     * @return Тот же бин.
+     */
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof Advised) {
+            final Advised advised = (Advised) bean;
+            final Class<?> type = getInstrumentedInterface(advised);
+            if (isNotNull(type) && !advised.isFrozen()) {
+                advised.addAdvice(0, new Timer(type.getSimpleName(), this.metrics));
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Возвращает первый интерфейс прокси из измеряемых пакетов.
+     *
+     * @param advised Прокси.
+     * @return Объект класса {@link Class} - интерфейс или null.
+     */
+    private static Class<?> getInstrumentedInterface(final Advised advised) {
+        for (Class<?> type : advised.getProxiedInterfaces()) {
+            for (String name : PACKAGES) {
+                if (type.getName().startsWith(name + ".")) {
+                    return type;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Перехватчик, который измеряет время вызова метода.
+     */
+    private static final class Timer implements MethodInterceptor {
+        /**
+         * Имя интерфейса бина.
+         */
+        private final String prefix;
+
+        /**
+         * Реестр метрик.
+         */
+        private final RequestMetrics metrics;
+
+        /**
+         * Имена методов вида "Интерфейс.метод".
+         */
+        private final ConcurrentMap<Method, String> names = new ConcurrentHashMap<>();
+
+        /**
+         * Конструктор для инициализации основных переменных.
+         *
+         * @param prefix  Имя интерфейса бина.
+         * @param metrics Реестр метрик.
+         */
+        private Timer(final String prefix, final RequestMetrics metrics) {
+            this.prefix = prefix;
+            this.metrics = metrics;
+        }
+
+        /**
+         * Вызывает метод и записывает время вызова.
+         *
+         * @param invocation Вызов метода.
+         * @return Результат вызова метода.
+         * @throws Throwable Исключение метода.
+         */
+        @Override
+        public Object invoke(final MethodInvocation invocation) throws Throwable {
+            final Method method = invocation.getMethod();
+            if (method.getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+            final long started = System.nanoTime();
+            boolean failed = true;
+            try {
+                final Object result = invocation.proceed();
+                failed = false;
+                return result;
+            } finally {
+                this.metrics.recordMethod(
+                        this.names.computeIfAbsent(method, key -> this.prefix + "." + key.getName()),
+                        System.nanoTime() - started,
+                        failed
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package ua.com.alexcoffee.service.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import ua.com.alexcoffee.util.metrics.LatencyHistogram;
+import ua.com.alexcoffee.util.metrics.PrometheusWriter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static ua.com.alexcoffee.util.metrics.PrometheusWriter.label;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Класс хранит метрики пула соединений с базой данных: количество
+ * активных, свободных соединений и потоков, ожидающих соединение,
+ * время получения и использования соединения и количество
+ * таймаутов. Пул HikariCP сам передает события через
+ * {@link MetricsTrackerFactory}, для других пулов достаточно
+ * вызвать {@link #create(String, PoolStats)} с их состоянием.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see BasicDataSourceStats
+ */
+public final class PoolMetrics implements MetricsTrackerFactory {
+    /**
+     * Количество наносекунд в миллисекунде.
+     */
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Время получения соединения из пула в наносекундах.
+     */
+    private final LatencyHistogram acquire = new LatencyHistogram();
+
+    /**
+     * Время использования соединения в миллисекундах.
+     */
+    private final LatencyHistogram usage = new LatencyHistogram();
+
+    /**
+     * Время создания нового соединения в миллисекундах.
+     */
+    private final LatencyHistogram creation = new LatencyHistogram();
+
+    /**
+     * Количество запросов соединения, завершившихся таймаутом.
+     */
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * Имя пула, null до запуска пула.
+     */
+    private volatile String name;
+
+    /**
+     * Состояние пула, null до запуска пула.
+     */
+    private volatile PoolStats stats;
+
+    /**
+     * Подключает пул соединений и возвращает объект для записи его событий.
+     *
+     * @param poolName  Имя пула.
+     * @param poolStats Состояние пула.
+     * @return Объект интерфейса {@link IMetricsTracker}.
+     */
+    @Override
+    public IMetricsTracker create(final String poolName, final PoolStats poolStats) {
+        this.name = poolName;
+        this.stats = poolStats;
+        return new Tracker();
+    }
+
+    /**
+     * Возвращает имя пула.
+     *
+     * @return Значение типа {@link String} - имя пула или null, если пул не запущен.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Возвращает количество активных соединений.
+     *
+     * @return Значение типа int - количество соединений, выданных из пула.
+     */
+    public int getActive() {
+        return isNull(this.stats) ? 0 : this.stats.getActiveConnections();
+    }
+
+    /**
+     * Возвращает количество свободных соединений.
+     *
+     * @return Значение типа int - количество соединений в пуле.
+     */
+    public int getIdle() {
+        return isNull(this.stats) ? 0 : this.stats.getIdleConnections();
+    }
+
+    /**
+     * Возвращает количество потоков, ожидающих соединение.
+     *
+     * @return Значение типа int - количество потоков.
+     */
+    public int getWaiting() {
+        return isNull(this.stats) ? 0 : this.stats.getPendingThreads();
+    }
+
+    /**
+     * Возвращает количество открытых соединений.
+     *
+     * @return Значение типа int - количество соединений.
+     */
+    public int getTotal() {
+        return isNull(this.stats) ? 0 : this.stats.getTotalConnections();
+    }
+
+    /**
+     * Возвращает максимальный размер пула.
+     *
+     * @return Значение типа int - максимальное количество соединений.
+     */
+    public int getMax() {
+        return isNull(this.stats) ? 0 : this.stats.getMaxConnections();
+    }
+
+    /**
+     * Возвращает количество полученных соединений.
+     *
+     * @return Значение типа long - количество соединений.
+     */
+    public long getAcquired() {
+        return this.acquire.getCount();
+    }
+
+    /**
+     * Возвращает среднее время получения соединения.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getAcquireMeanMillis() {
+        return this.acquire.getMean() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Возвращает 99-й процентиль времени получения соединения.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getAcquireP99Millis() {
+        return this.acquire.getValueAtPercentile(99) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Возвращает максимальное время получения соединения.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getAcquireMaxMillis() {
+        return this.acquire.getMax() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Возвращает 99-й процентиль времени использования соединения.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    public long getUsageP99Millis() {
+        return this.usage.getValueAtPercentile(99);
+    }
+
+    /**
+     * Возвращает количество созданных соединений.
+     *
+     * @return Значение типа long - количество соединений.
+     */
+    public long getCreated() {
+        return this.creation.getCount();
+    }
+
+    /**
+     * Возвращает количество таймаутов получения соединения.
+     *
+     * @return Значение типа long - количество таймаутов.
+     */
+    public long getTimeouts() {
+        return this.timeouts.sum();
+    }
+
+    /**
+     * Записывает метрики в формате Prometheus.
+     *
+     * @param writer Объект для записи метрик в формате Prometheus.
+     */
+    public void writeTo(final PrometheusWriter writer) {
+        final String pool = label("pool", this.name);
+        writer.header("pool_connections", "gauge", "Connections by state.")
+                .sample("pool_connections", pool + "," + label("state", "active"), getActive())
+                .sample("pool_connections", pool + "," + label("state", "idle"), getIdle())
+                .sample("pool_connections", pool + "," + label("state", "max"), getMax());
+        writer.header("pool_waiting_threads", "gauge", "Threads waiting for a connection.")
+                .sample("pool_waiting_threads", pool, getWaiting());
+        writer.header("pool_acquire_seconds", "summary", "Time to get a connection from the pool.")
+                .sample("pool_acquire_seconds", pool + "," + label("quantile", 0.99), getAcquireP99Millis() / 1000)
+                .sample("pool_acquire_seconds_sum", pool, this.acquire.getSum() / 1e9)
+                .sample("pool_acquire_seconds_count", pool, getAcquired());
+        writer.header("pool_usage_seconds", "summary", "Time a connection is held by the application.")
+                .sample("pool_usage_seconds_sum", pool, this.usage.getSum() / 1e3)
+                .sample("pool_usage_seconds_count", pool, this.usage.getCount());
+        writer.header("pool_created_total", "counter", "Connections opened by the pool.")
+                .sample("pool_created_total", pool, getCreated());
+        writer.header("pool_timeouts_total", "counter", "Requests for a connection that timed out.")
+                .sample("pool_timeouts_total", pool, getTimeouts());
+    }
+
+    /**
+     * Объект, который записывает события пула.
+     */
+    private final class Tracker implements IMetricsTracker {
+        /**
+         * Записывает время создания соединения.
+         *
+         * @param millis Время в миллисекундах.
+         */
+        @Override
+        public void recordConnectionCreatedMillis(final long millis) {
+            PoolMetrics.this.creation.record(millis);
+        }
+
+        /**
+         * Записывает время получения соединения.
+         *
+         * @param nanos Время в наносекундах.
+         */
+        @Override
+        public void recordConnectionAcquiredNanos(final long nanos) {
+            PoolMetrics.this.acquire.record(nanos);
+        }
+
+        /**
+         * Записывает время использования соединения.
+         *
+         * @param millis Время в миллисекундах.
+         */
+        @Override
+        public void recordConnectionUsageMillis(final long millis) {
+            PoolMetrics.this.usage.record(millis);
+        }
+
+        /**
+         * Записывает таймаут получения соединения.
+         */
+        @Override
+        public void recordConnectionTimeout() {
+            PoolMetrics.this.timeouts.increment();
+        }
+
+        /**
+         * Ничего не делает, метрики хранятся до остановки приложения.
+         */
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package ua.com.alexcoffee.service.metrics;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Класс собирает статистику обращений к базе данных за время
+ * обработки одного запроса в текущем потоке: количество SQL
+ * запросов, количество повторов каждого запроса и время внутри
+ * транзакций. Профиль открывает и закрывает
+ * {@link ua.com.alexcoffee.controller.interceptor.MetricsInterceptor},
+ * запросы записывает {@link StatementCounter}, транзакции -
+ * {@link InstrumentedJpaTransactionManager}. Если профиль в потоке
+ * не открыт, обращения к базе данных не записываются.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see RequestMetrics
+ */
+public final class QueryProfile {
+    /**
+     * Профиль текущего потока.
+     */
+    private static final ThreadLocal<QueryProfile> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Количество повторов каждого SQL запроса.
+     */
+    private final Map<String, Integer> statements = new HashMap<>();
+
+    /**
+     * Время начала открытых транзакций в наносекундах.
+     */
+    private final Deque<Long> transactionStarts = new ArrayDeque<>();
+
+    /**
+     * Количество SQL запросов.
+     */
+    private int statementCount;
+
+    /**
+     * Количество транзакций.
+     */
+    private int transactionCount;
+
+    /**
+     * Время внутри транзакций в наносекундах.
+     */
+    private long transactionNanos;
+
+    /**
+     * Открывает новый профиль в текущем потоке.
+     *
+     * @return Объект класса {@link QueryProfile} - открытый профиль.
+     */
+    public static QueryProfile begin() {
+        final QueryProfile profile = new QueryProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    /**
+     * Закрывает профиль текущего потока.
+     *
+     * @return Объект класса {@link QueryProfile} - закрытый профиль
+     * или null, если профиль не был открыт.
+     */
+    public static QueryProfile end() {
+        final QueryProfile profile = CURRENT.get();
+        CURRENT.remove();
+        return profile;
+    }
+
+    /**
+     * Записывает SQL запрос в профиль текущего потока.
+     *
+     * @param sql SQL запрос.
+     */
+    static void onStatement(final String sql) {
+        final QueryProfile profile = CURRENT.get();
+        if (isNotNull(profile)) {
+            profile.statementCount++;
+            profile.statements.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Записывает начало транзакции в профиль текущего потока.
+     */
+    static void onTransactionBegin() {
+        final QueryProfile profile = CURRENT.get();
+        if (isNotNull(profile)) {
+            profile.transactionCount++;
+            profile.transactionStarts.push(System.nanoTime());
+        }
+    }
+
+    /**
+     * Записывает завершение транзакции в профиль текущего потока.
+     * Время вложенных транзакций не добавляется к времени внешней.
+     */
+    static void onTransactionEnd() {
+        final QueryProfile profile = CURRENT.get();
+        if (isNull(profile) || profile.transactionStarts.isEmpty()) {
+            return;
+        }
+        final long started = profile.transactionStarts.pop();
+        if (profile.transactionStarts.isEmpty()) {
+            profile.transactionNanos += System.nanoTime() - started;
+        }
+    }
+
+    /**
+     * Возвращает количество SQL запросов.
+     *
+     * @return Значение типа int - количество SQL запросов.
+     */
+    public int getStatementCount() {
+        return this.statementCount;
+    }
+
+    /**
+     * Возвращает количество транзакций.
+     *
+     * @return Значение типа int - количество транзакций.
+     */
+    public int getTransactionCount() {
+        return this.transactionCount;
+    }
+
+    /**
+     * Возвращает время внутри транзакций.
+     *
+     * @return Значение типа long - время в наносекундах.
+     */
+    public long getTransactionNanos() {
+        return this.transactionNanos;
+    }
+
+    /**
+     * Возвращает выполненные SQL запросы.
+     *
+     * @return Объект типа {@link Map} - SQL запросы и количество повторов.
+     */
+    public Map<String, Integer> getStatements() {
+        return Collections.unmodifiableMap(this.statements);
+    }
+
+    /**
+     * Возвращает SQL запрос, который повторялся чаще всех.
+     *
+     * @return Объект типа {@link Map.Entry} - SQL запрос и количество
+     * повторов или null, если запросов не было.
+     */
+    public Map.Entry<String, Integer> getMostRepeated() {
+        Map.Entry<String, Integer> result = null;
+        for (Map.Entry<String, Integer> entry : this.statements.entrySet()) {
+            if (isNull(result) || (entry.getValue() > result.getValue())) {
+                result = entry;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,302 @@
+package ua.com.alexcoffee.service.metrics;
+
+import org.apache.log4j.Logger;
+import ua.com.alexcoffee.util.metrics.PrometheusWriter;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static ua.com.alexcoffee.util.metrics.PrometheusWriter.label;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+
+/**
+ * Класс-реестр метрик запросов: время обработки, статусы ответов,
+ * исключения и обращения к базе данных для каждого маршрута, а также
+ * время вызовов методов сервисов и репозиториев. Маршрут - это метод
+ * запроса и шаблон адреса обработчика, поэтому все товары попадают
+ * в один маршрут "GET /product/{url}". Запросы записывает
+ * {@link ua.com.alexcoffee.controller.interceptor.MetricsInterceptor},
+ * исключения - {@link ua.com.alexcoffee.controller.advice.AdviceController},
+ * вызовы методов - {@link MethodMetricsPostProcessor}.
+ * Если в одном запросе один и тот же SQL запрос выполнился не меньше
+ * порога N+1 раз, запрос считается подозрительным на проблему N+1
+ * и записывается в лог.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see RouteMetrics
+ * @see MethodMetrics
+ * @see QueryProfile
+ */
+public final class RequestMetrics {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(RequestMetrics.class);
+
+    /**
+     * Имя атрибута запроса, в котором хранится класс
+     * исключения, обработанного AdviceController.
+     */
+    public static final String OUTCOME_ATTRIBUTE = RequestMetrics.class.getName() + ".OUTCOME";
+
+    /**
+     * Префикс имен метрик в формате Prometheus.
+     */
+    public static final String PROMETHEUS_PREFIX = "alexcoffee_";
+
+    /**
+     * Процентили, которые выводятся в формате Prometheus.
+     */
+    private static final double[] QUANTILES = { 0.5, 0.99, 0.999 };
+
+    /**
+     * Время начала сбора метрик в наносекундах.
+     */
+    private final long started = System.nanoTime();
+
+    /**
+     * Метрики по маршрутам.
+     */
+    private final ConcurrentMap<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Количество обработанных исключений по классам для всех маршрутов.
+     */
+    private final ConcurrentMap<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    /**
+     * Метрики методов сервисов и репозиториев.
+     */
+    private final ConcurrentMap<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    /**
+     * Количество повторов одного SQL запроса в одном запросе,
+     * начиная с которого запрос считается подозрительным на N+1.
+     */
+    private final int nPlusOneThreshold;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param nPlusOneThreshold Порог повторов одного SQL запроса
+     *                          для признака проблемы N+1.
+     */
+    public RequestMetrics(final int nPlusOneThreshold) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    /**
+     * Записывает обработанный запрос.
+     *
+     * @param route   Маршрут: метод и шаблон адреса.
+     * @param nanos   Время обработки в наносекундах.
+     * @param status  Статус ответа.
+     * @param outcome Класс исключения, обработанного AdviceController, или null.
+     */
+    public void record(
+            final String route,
+            final long nanos,
+            final int status,
+            final String outcome
+    ) {
+        this.routes.computeIfAbsent(route, key -> new RouteMetrics(key, this.started))
+                .record(nanos, status, outcome);
+    }
+
+    /**
+     * Записывает обращения к базе данных одного запроса и
+     * проверяет их на признаки проблемы N+1.
+     *
+     * @param route   Маршрут: метод и шаблон адреса.
+     * @param profile Профиль обращений к базе данных.
+     */
+    public void recordQueries(final String route, final QueryProfile profile) {
+        final Map.Entry<String, Integer> repeated = profile.getMostRepeated();
+        final boolean nPlusOne = isNotNull(repeated) && (repeated.getValue() >= this.nPlusOneThreshold);
+        if (nPlusOne) {
+            LOGGER.warn("Suspected N+1 in " + route + ": " + profile.getStatementCount() +
+                    " statements, " + repeated.getValue() + " times: " + repeated.getKey());
+        }
+        this.routes.computeIfAbsent(route, key -> new RouteMetrics(key, this.started))
+                .record(profile, nPlusOne);
+    }
+
+    /**
+     * Записывает вызов метода сервиса или репозитория.
+     *
+     * @param method Имя интерфейса и метода.
+     * @param nanos  Время вызова в наносекундах.
+     * @param failed true - вызов завершился исключением.
+     */
+    public void recordMethod(final String method, final long nanos, final boolean failed) {
+        this.methods.computeIfAbsent(method, MethodMetrics::new).record(nanos, failed);
+    }
+
+    /**
+     * Записывает исключение, обработанное AdviceController,
+     * и запоминает его класс в атрибуте запроса, чтобы
+     * интерсептор отнес его к маршруту запроса.
+     *
+     * @param request Запрос клиента.
+     * @param ex      Обработанное исключение.
+     */
+    public void recordOutcome(final HttpServletRequest request, final Exception ex) {
+        final String outcome = ex.getClass().getSimpleName();
+        this.outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        if (isNotNull(request)) {
+            request.setAttribute(OUTCOME_ATTRIBUTE, outcome);
+        }
+    }
+
+    /**
+     * Возвращает метрики маршрутов, отсортированные по
+     * убыванию 99-го процентиля времени обработки.
+     *
+     * @return Объект типа {@link List} - метрики маршрутов.
+     */
+    public List<RouteMetrics> getRoutes() {
+        final List<RouteMetrics> result = new ArrayList<>(this.routes.values());
+        result.sort(Comparator.comparingDouble(RouteMetrics::getP99Millis).reversed());
+        return result;
+    }
+
+    /**
+     * Возвращает метрики маршрута.
+     *
+     * @param route Маршрут: метод и шаблон адреса.
+     * @return Объект класса {@link RouteMetrics} или null, если запросов не было.
+     */
+    public RouteMetrics getRoute(final String route) {
+        return this.routes.get(route);
+    }
+
+    /**
+     * Возвращает метрики методов сервисов и репозиториев,
+     * отсортированные по убыванию суммарного времени вызовов.
+     *
+     * @return Объект типа {@link List} - метрики методов.
+     */
+    public List<MethodMetrics> getMethods() {
+        final List<MethodMetrics> result = new ArrayList<>(this.methods.values());
+        result.sort(Comparator.comparingDouble(MethodMetrics::getTotalMillis).reversed());
+        return result;
+    }
+
+    /**
+     * Возвращает метрики метода сервиса или репозитория.
+     *
+     * @param method Имя интерфейса и метода.
+     * @return Объект класса {@link MethodMetrics} или null, если вызовов не было.
+     */
+    public MethodMetrics getMethod(final String method) {
+        return this.methods.get(method);
+    }
+
+    /**
+     * Возвращает количество обработанных исключений по классам.
+     *
+     * @return Объект типа {@link Map} - класс исключения и количество.
+     */
+    public Map<String, Long> getOutcomes() {
+        final Map<String, Long> result = new TreeMap<>();
+        this.outcomes.forEach((key, counter) -> result.put(key, counter.sum()));
+        return result;
+    }
+
+    /**
+     * Возвращает время с начала сбора метрик.
+     *
+     * @return Значение типа long - время в секундах.
+     */
+    public long getUptimeSeconds() {
+        return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - this.started);
+    }
+
+    /**
+     * Возвращает метрики в текстовом формате Prometheus.
+     *
+     * @return Значение типа {@link String} - метрики в формате Prometheus.
+     */
+    public String toPrometheus() {
+        final PrometheusWriter writer = new PrometheusWriter(PROMETHEUS_PREFIX);
+        writeTo(writer);
+        return writer.toString();
+    }
+
+    /**
+     * Записывает метрики в формате Prometheus.
+     *
+     * @param writer Объект для записи метрик в формате Prometheus.
+     */
+    public void writeTo(final PrometheusWriter writer) {
+        final List<RouteMetrics> routes = new ArrayList<>(this.routes.values());
+        routes.sort(Comparator.comparing(RouteMetrics::getRoute));
+        writer.header("http_request_duration_seconds", "summary", "Request latency by route.");
+        for (RouteMetrics metrics : routes) {
+            final String route = label("route", metrics.getRoute());
+            for (double quantile : QUANTILES) {
+                writer.sample("http_request_duration_seconds", route + "," + label("quantile", quantile),
+                        metrics.getMillisAtPercentile(quantile * 100) / 1000);
+            }
+            writer.sample("http_request_duration_seconds_sum", route, metrics.getTotalSeconds());
+            writer.sample("http_request_duration_seconds_count", route, metrics.getRequests());
+        }
+        writer.header("http_requests_total", "counter", "Requests by route and status.");
+        for (RouteMetrics metrics : routes) {
+            final String route = label("route", metrics.getRoute());
+            for (Map.Entry<Integer, Long> entry : metrics.getStatuses().entrySet()) {
+                writer.sample("http_requests_total", route + "," + label("status", entry.getKey()), entry.getValue());
+            }
+        }
+        writer.header("http_request_errors_total", "counter", "Responses with status 400 and above by route.");
+        for (RouteMetrics metrics : routes) {
+            writer.sample("http_request_errors_total", label("route", metrics.getRoute()), metrics.getErrors());
+        }
+        writer.header("http_request_statements", "summary", "SQL statements per request by route.");
+        for (RouteMetrics metrics : routes) {
+            final String route = label("route", metrics.getRoute());
+            writer.sample("http_request_statements_sum", route, metrics.getTotalStatements());
+            writer.sample("http_request_statements_count", route, metrics.getProfiledRequests());
+        }
+        writer.header("http_request_transaction_seconds", "summary", "Time inside transactions per request by route.");
+        for (RouteMetrics metrics : routes) {
+            final String route = label("route", metrics.getRoute());
+            writer.sample("http_request_transaction_seconds_sum", route, metrics.getTotalTransactionSeconds());
+            writer.sample("http_request_transaction_seconds_count", route, metrics.getProfiledRequests());
+        }
+        writer.header("http_request_n_plus_one_total", "counter", "Requests suspected of N+1 queries.");
+        for (RouteMetrics metrics : routes) {
+            writer.sample("http_request_n_plus_one_total", label("route", metrics.getRoute()),
+                    metrics.getSuspectedNPlusOne());
+        }
+        final List<MethodMetrics> methods = new ArrayList<>(this.methods.values());
+        methods.sort(Comparator.comparing(MethodMetrics::getName));
+        writer.header("method_duration_seconds", "summary", "Service and repository method latency.");
+        for (MethodMetrics metrics : methods) {
+            final String method = label("method", metrics.getName());
+            for (double quantile : QUANTILES) {
+                writer.sample("method_duration_seconds", method + "," + label("quantile", quantile),
+                        metrics.getMillisAtPercentile(quantile * 100) / 1000);
+            }
+            writer.sample("method_duration_seconds_sum", method, metrics.getTotalMillis() / 1000);
+            writer.sample("method_duration_seconds_count", method, metrics.getCalls());
+        }
+        writer.header("method_errors_total", "counter", "Service and repository calls that threw an exception.");
+        for (MethodMetrics metrics : methods) {
+            writer.sample("method_errors_total", label("method", metrics.getName()), metrics.getErrors());
+        }
+        writer.header("http_exceptions_total", "counter", "Exceptions handled by the controller advice.");
+        for (Map.Entry<String, Long> entry : getOutcomes().entrySet()) {
+            writer.sample("http_exceptions_total", label("outcome", entry.getKey()), entry.getValue());
+        }
+    }
+}
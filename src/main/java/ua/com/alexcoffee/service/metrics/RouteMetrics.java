@@ -0,0 +1,316 @@
+package ua.com.alexcoffee.service.metrics;
+
+import ua.com.alexcoffee.util.metrics.LatencyHistogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс хранит метрики одного маршрута: гистограмму времени
+ * обработки запросов, количество ответов по статусам, количество
+ * исключений, обработанных {@link ua.com.alexcoffee.controller.advice.AdviceController},
+ * по их классам, количество SQL запросов и время внутри транзакций
+ * на запрос и количество запросов с признаками проблемы N+1.
+ * Все методы потокобезопасны.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see RequestMetrics
+ * @see LatencyHistogram
+ */
+public final class RouteMetrics {
+    /**
+     * Количество наносекунд в миллисекунде.
+     */
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Маршрут: метод и шаблон адреса, например "GET /product/{url}".
+     */
+    private final String route;
+
+    /**
+     * Время начала сбора метрик в наносекундах.
+     */
+    private final long started;
+
+    /**
+     * Гистограмма времени обработки запросов в наносекундах.
+     */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Количество ответов с ошибкой (статус 400 и выше).
+     */
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * Количество ответов по статусам.
+     */
+    private final ConcurrentMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    /**
+     * Количество обработанных исключений по классам.
+     */
+    private final ConcurrentMap<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    /**
+     * Гистограмма количества SQL запросов на запрос.
+     */
+    private final LatencyHistogram statements = new LatencyHistogram();
+
+    /**
+     * Гистограмма времени внутри транзакций на запрос в наносекундах.
+     */
+    private final LatencyHistogram transactions = new LatencyHistogram();
+
+    /**
+     * Количество запросов, в которых один SQL запрос повторялся
+     * не меньше порога N+1.
+     */
+    private final LongAdder suspectedNPlusOne = new LongAdder();
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param route   Маршрут.
+     * @param started Время начала сбора метрик в наносекундах.
+     */
+    RouteMetrics(final String route, final long started) {
+        this.route = route;
+        this.started = started;
+    }
+
+    /**
+     * Записывает обработанный запрос.
+     *
+     * @param nanos   Время обработки в наносекундах.
+     * @param status  Статус ответа.
+     * @param outcome Класс исключения, обработанного AdviceController, или null.
+     */
+    void record(final long nanos, final int status, final String outcome) {
+        this.latency.record(nanos);
+        if (status >= 400) {
+            this.errors.increment();
+        }
+        this.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (outcome != null) {
+            this.outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Записывает обращения к базе данных одного запроса.
+     *
+     * @param profile  Профиль обращений к базе данных.
+     * @param nPlusOne true - в запросе обнаружены признаки проблемы N+1.
+     */
+    void record(final QueryProfile profile, final boolean nPlusOne) {
+        this.statements.record(profile.getStatementCount());
+        this.transactions.record(profile.getTransactionNanos());
+        if (nPlusOne) {
+            this.suspectedNPlusOne.increment();
+        }
+    }
+
+    /**
+     * Возвращает маршрут.
+     *
+     * @return Значение типа {@link String} - метод и шаблон адреса.
+     */
+    public String getRoute() {
+        return this.route;
+    }
+
+    /**
+     * Возвращает количество запросов.
+     *
+     * @return Значение типа long - количество запросов.
+     */
+    public long getRequests() {
+        return this.latency.getCount();
+    }
+
+    /**
+     * Возвращает количество ответов с ошибкой.
+     *
+     * @return Значение типа long - количество ответов со статусом 400 и выше.
+     */
+    public long getErrors() {
+        return this.errors.sum();
+    }
+
+    /**
+     * Возвращает среднее количество запросов в секунду
+     * с начала сбора метрик.
+     *
+     * @return Значение типа double - запросов в секунду.
+     */
+    public double getThroughput() {
+        final double seconds = (System.nanoTime() - this.started) / 1e9;
+        return (seconds > 0) ? getRequests() / seconds : 0;
+    }
+
+    /**
+     * Возвращает среднее время обработки запроса.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getMeanMillis() {
+        return this.latency.getMean() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Возвращает медиану времени обработки запроса.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getP50Millis() {
+        return getMillisAtPercentile(50);
+    }
+
+    /**
+     * Возвращает 99-й процентиль времени обработки запроса.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getP99Millis() {
+        return getMillisAtPercentile(99);
+    }
+
+    /**
+     * Возвращает 99.9-й процентиль времени обработки запроса.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getP999Millis() {
+        return getMillisAtPercentile(99.9);
+    }
+
+    /**
+     * Возвращает максимальное время обработки запроса.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getMaxMillis() {
+        return this.latency.getMax() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Возвращает среднее количество SQL запросов на запрос.
+     *
+     * @return Значение типа double - количество SQL запросов.
+     */
+    public double getStatementsMean() {
+        return this.statements.getMean();
+    }
+
+    /**
+     * Возвращает максимальное количество SQL запросов на запрос.
+     *
+     * @return Значение типа long - количество SQL запросов.
+     */
+    public long getStatementsMax() {
+        return this.statements.getMax();
+    }
+
+    /**
+     * Возвращает среднее время внутри транзакций на запрос.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getTransactionMeanMillis() {
+        return this.transactions.getMean() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Возвращает количество запросов с признаками проблемы N+1.
+     *
+     * @return Значение типа long - количество запросов.
+     */
+    public long getSuspectedNPlusOne() {
+        return this.suspectedNPlusOne.sum();
+    }
+
+    /**
+     * Возвращает количество ответов по статусам.
+     *
+     * @return Объект типа {@link Map} - статус и количество ответов.
+     */
+    public Map<Integer, Long> getStatuses() {
+        return toMap(this.statuses);
+    }
+
+    /**
+     * Возвращает количество обработанных исключений по классам.
+     *
+     * @return Объект типа {@link Map} - класс исключения и количество.
+     */
+    public Map<String, Long> getOutcomes() {
+        return toMap(this.outcomes);
+    }
+
+    /**
+     * Возвращает время обработки запроса для процентиля.
+     *
+     * @param percentile Процентиль от 0 до 100.
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getMillisAtPercentile(final double percentile) {
+        return this.latency.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Возвращает сумму времени обработки всех запросов.
+     *
+     * @return Значение типа double - время в секундах.
+     */
+    double getTotalSeconds() {
+        return this.latency.getSum() / 1e9;
+    }
+
+    /**
+     * Возвращает количество SQL запросов всех запросов маршрута.
+     *
+     * @return Значение типа long - количество SQL запросов.
+     */
+    long getTotalStatements() {
+        return this.statements.getSum();
+    }
+
+    /**
+     * Возвращает количество запросов маршрута с записанными
+     * обращениями к базе данных.
+     *
+     * @return Значение типа long - количество запросов.
+     */
+    long getProfiledRequests() {
+        return this.statements.getCount();
+    }
+
+    /**
+     * Возвращает время внутри транзакций всех запросов маршрута.
+     *
+     * @return Значение типа double - время в секундах.
+     */
+    double getTotalTransactionSeconds() {
+        return this.transactions.getSum() / 1e9;
+    }
+
+    /**
+     * Копирует счетчики в упорядоченный словарь.
+     *
+     * @param counters Счетчики.
+     * @param <K>      Тип ключа.
+     * @return Объект типа {@link Map} - ключ и значение счетчика.
+     */
+    private static <K> Map<K, Long> toMap(final Map<K, LongAdder> counters) {
+        final Map<K, Long> result = new TreeMap<>();
+        counters.forEach((key, counter) -> result.put(key, counter.sum()));
+        return result;
+    }
+}
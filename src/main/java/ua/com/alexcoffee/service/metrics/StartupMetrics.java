@@ -0,0 +1,195 @@
+package ua.com.alexcoffee.service.metrics;
+
+import org.apache.log4j.Logger;
+import ua.com.alexcoffee.util.metrics.PrometheusWriter;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import static ua.com.alexcoffee.util.metrics.PrometheusWriter.label;
+
+/**
+ * Класс хранит время запуска приложения: время от старта JVM
+ * до готовности, время создания контекста Spring, время прогрева
+ * пула соединений и кэшей и время инициализации медленных бинов.
+ * Также хранит признак готовности приложения принимать трафик,
+ * который устанавливается только после прогрева.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see StartupMetricsPostProcessor
+ */
+public final class StartupMetrics {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(StartupMetrics.class);
+
+    /**
+     * Время инициализации бина в наносекундах,
+     * начиная с которого бин считается медленным.
+     */
+    private final long slowBeanThreshold;
+
+    /**
+     * Время инициализации медленных бинов в наносекундах по имени бина.
+     */
+    private final ConcurrentMap<String, Long> beans = new ConcurrentHashMap<>();
+
+    /**
+     * Время создания контекста Spring в миллисекундах, -1 до создания.
+     */
+    private volatile long contextMillis = -1;
+
+    /**
+     * Время прогрева в миллисекундах, -1 до окончания прогрева.
+     */
+    private volatile long warmUpMillis = -1;
+
+    /**
+     * Время от старта JVM до готовности в миллисекундах, -1 до готовности.
+     */
+    private volatile long totalMillis = -1;
+
+    /**
+     * Готово ли приложение принимать трафик.
+     */
+    private volatile boolean ready;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param slowBeanThreshold Время инициализации бина в миллисекундах,
+     *                          начиная с которого бин считается медленным.
+     */
+    public StartupMetrics(final long slowBeanThreshold) {
+        this.slowBeanThreshold = TimeUnit.MILLISECONDS.toNanos(slowBeanThreshold);
+    }
+
+    /**
+     * Записывает время инициализации бина, если бин медленный.
+     *
+     * @param name  Имя бина.
+     * @param nanos Время инициализации в наносекундах.
+     */
+    public void recordBean(final String name, final long nanos) {
+        if (nanos >= this.slowBeanThreshold) {
+            this.beans.put(name, nanos);
+        }
+    }
+
+    /**
+     * Записывает время создания контекста Spring.
+     *
+     * @param millis Время создания контекста в миллисекундах.
+     */
+    public void markStarted(final long millis) {
+        this.contextMillis = millis;
+    }
+
+    /**
+     * Записывает время прогрева и помечает приложение готовым
+     * принимать трафик.
+     *
+     * @param millis Время прогрева в миллисекундах.
+     */
+    public void markReady(final long millis) {
+        this.warmUpMillis = millis;
+        this.totalMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        this.ready = true;
+        LOGGER.info(
+                "Application is ready in " + this.totalMillis + " ms since JVM start (context " +
+                        this.contextMillis + " ms, warm-up " + this.warmUpMillis + " ms), slow beans: " +
+                        getSlowBeans()
+        );
+    }
+
+    /**
+     * Возвращает признак готовности приложения принимать трафик.
+     *
+     * @return true - прогрев закончен.
+     */
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    /**
+     * Возвращает время создания контекста Spring.
+     *
+     * @return Значение типа long - время в миллисекундах, -1 до создания.
+     */
+    public long getContextMillis() {
+        return this.contextMillis;
+    }
+
+    /**
+     * Возвращает время прогрева пула соединений и кэшей.
+     *
+     * @return Значение типа long - время в миллисекундах, -1 до окончания.
+     */
+    public long getWarmUpMillis() {
+        return this.warmUpMillis;
+    }
+
+    /**
+     * Возвращает время от старта JVM до готовности приложения.
+     *
+     * @return Значение типа long - время в миллисекундах, -1 до готовности.
+     */
+    public long getTotalMillis() {
+        return this.totalMillis;
+    }
+
+    /**
+     * Возвращает время инициализации медленных бинов,
+     * начиная с самого медленного.
+     *
+     * @return Объект типа {@link Map} - время в миллисекундах по имени бина.
+     */
+    public Map<String, Long> getSlowBeans() {
+        final List<Map.Entry<String, Long>> entries = new ArrayList<>(this.beans.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        final Map<String, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : entries) {
+            result.put(entry.getKey(), TimeUnit.NANOSECONDS.toMillis(entry.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Записывает метрики в формате Prometheus.
+     *
+     * @param writer Объект для записи метрик в формате Prometheus.
+     */
+    public void writeTo(final PrometheusWriter writer) {
+        writer.header("ready", "gauge", "Whether the application has warmed up and accepts traffic.")
+                .sample("ready", "", this.ready ? 1 : 0);
+        writer.header("startup_seconds", "gauge", "Startup time by finished phase.");
+        writePhase(writer, "context", this.contextMillis);
+        writePhase(writer, "warm_up", this.warmUpMillis);
+        writePhase(writer, "total", this.totalMillis);
+        writer.header("startup_bean_init_seconds", "gauge", "Initialization time of slow beans.");
+        for (Map.Entry<String, Long> bean : getSlowBeans().entrySet()) {
+            writer.sample("startup_bean_init_seconds", label("bean", bean.getKey()), bean.getValue() / 1e3);
+        }
+    }
+
+    /**
+     * Записывает время фазы запуска, если фаза закончена.
+     *
+     * @param writer Объект для записи метрик в формате Prometheus.
+     * @param phase  Имя фазы.
+     * @param millis Время фазы в миллисекундах, -1 - фаза не закончена.
+     */
+    private static void writePhase(final PrometheusWriter writer, final String phase, final long millis) {
+        if (millis >= 0) {
+            writer.sample("startup_seconds", label("phase", phase), millis / 1e3);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package ua.com.alexcoffee.service.metrics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+
+/**
+ * Класс измеряет время инициализации каждого бина (init-методы,
+ * afterPropertiesSet, в том числе построение фабрики менеджеров
+ * сущностей и миграции схемы) и записывает его в {@link StartupMetrics}.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see StartupMetrics
+ */
+public final class StartupMetricsPostProcessor implements BeanPostProcessor {
+    /**
+     * Метрики запуска приложения.
+     */
+    private final StartupMetrics metrics;
+
+    /**
+     * Время начала инициализации бинов в наносекундах по имени бина.
+     */
+    private final ConcurrentMap<String, Long> started = new ConcurrentHashMap<>();
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param metrics Метрики запуска приложения.
+     */
+    public StartupMetricsPostProcessor(final StartupMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Запоминает время начала инициализации бина.
+     *
+     * @param bean     Бин.
+     * @param beanName Имя бина.
+     * @return Тот же бин.
+     */
+    @Override
+    public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+        this.started.put(beanName, System.nanoTime());
+        return bean;
+    }
+
+    /**
+     * Записывает время инициализации бина.
+     *
+     * @param bean     Бин.
+     * @param beanName Имя бина.
+     * @return Тот же бин.
+     */
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        final Long start = this.started.remove(beanName);
+        if (isNotNull(start)) {
+            this.metrics.recordBean(beanName, System.nanoTime() - start);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,27 @@
+package ua.com.alexcoffee.service.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Класс получает от Hibernate каждый SQL запрос перед его
+ * подготовкой и записывает его в {@link QueryProfile} текущего
+ * потока. Сам запрос не изменяется. Подключается свойством
+ * "hibernate.session_factory.statement_inspector".
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see QueryProfile
+ */
+public final class StatementCounter implements StatementInspector {
+    /**
+     * Записывает SQL запрос в профиль текущего потока.
+     *
+     * @param sql SQL запрос.
+     * @return Значение типа {@link String} - тот же SQL запрос.
+     */
+    @Override
+    public String inspect(final String sql) {
+        QueryProfile.onStatement(sql);
+        return sql;
+    }
+}
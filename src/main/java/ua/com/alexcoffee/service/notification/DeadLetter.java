@@ -0,0 +1,101 @@
+package ua.com.alexcoffee.service.notification;
+
+import java.util.Date;
+
+/**
+ * Класс описывает уведомление, которое не удалось доставить,
+ * вместе с причиной неудачи и количеством сделанных попыток.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Notification
+ * @see DeadLetterStore
+ */
+public final class DeadLetter {
+    /**
+     * Недоставленное уведомление.
+     */
+    private final Notification notification;
+
+    /**
+     * Причина неудачи.
+     */
+    private final String reason;
+
+    /**
+     * Количество сделанных попыток доставки.
+     */
+    private final int attempts;
+
+    /**
+     * Время, когда уведомление признано недоставленным.
+     */
+    private final Date date;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param notification Недоставленное уведомление.
+     * @param reason       Причина неудачи.
+     * @param attempts     Количество сделанных попыток доставки.
+     */
+    public DeadLetter(
+            final Notification notification,
+            final String reason,
+            final int attempts
+    ) {
+        this.notification = notification;
+        this.reason = reason;
+        this.attempts = attempts;
+        this.date = new Date();
+    }
+
+    /**
+     * Возвращает описание недоставленного уведомления.
+     *
+     * @return Значение типа {@link String} - описание уведомления.
+     */
+    @Override
+    public String toString() {
+        return "Notification: " + this.notification.getName()
+                + "\nReason: " + this.reason
+                + "\nAttempts: " + this.attempts
+                + "\nDate: " + this.date;
+    }
+
+    /**
+     * Возвращает недоставленное уведомление.
+     *
+     * @return Объект, реализующий интерфейс {@link Notification}.
+     */
+    public Notification getNotification() {
+        return this.notification;
+    }
+
+    /**
+     * Возвращает причину неудачи.
+     *
+     * @return Значение типа {@link String} - причина неудачи.
+     */
+    public String getReason() {
+        return this.reason;
+    }
+
+    /**
+     * Возвращает количество сделанных попыток доставки.
+     *
+     * @return Значение типа int - количество попыток.
+     */
+    public int getAttempts() {
+        return this.attempts;
+    }
+
+    /**
+     * Возвращает время, когда уведомление признано недоставленным.
+     *
+     * @return Объект класса {@link Date} - время неудачи.
+     */
+    public Date getDate() {
+        return new Date(this.date.getTime());
+    }
+}
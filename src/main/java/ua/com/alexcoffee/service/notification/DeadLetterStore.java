@@ -0,0 +1,86 @@
+package ua.com.alexcoffee.service.notification;
+
+import org.apache.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * Класс описывает ограниченное по размеру хранилище недоставленных
+ * уведомлений. При переполнении вытесняется самое старое уведомление.
+ * Все методы синхронизированы.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see DeadLetter
+ * @see NotificationDispatcher
+ */
+public final class DeadLetterStore {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(DeadLetterStore.class);
+
+    /**
+     * Максимальное количество хранимых уведомлений.
+     */
+    private final int maxSize;
+
+    /**
+     * Недоставленные уведомления в порядке поступления.
+     */
+    private final Deque<DeadLetter> letters;
+
+    /**
+     * Конструктор для инициализации основных переменных хранилища.
+     *
+     * @param maxSize Максимальное количество хранимых уведомлений.
+     */
+    public DeadLetterStore(final int maxSize) {
+        this.maxSize = Math.max(maxSize, 1);
+        this.letters = new ArrayDeque<>();
+    }
+
+    /**
+     * Добавляет недоставленное уведомление в хранилище.
+     *
+     * @param letter Недоставленное уведомление.
+     */
+    public synchronized void add(final DeadLetter letter) {
+        if (this.letters.size() >= this.maxSize) {
+            LOGGER.error("Dead letter store is full, dropped:\n" + this.letters.pollFirst());
+        }
+        this.letters.addLast(letter);
+    }
+
+    /**
+     * Возвращает копию списка недоставленных уведомлений.
+     *
+     * @return Объект типа {@link Collection} - список уведомлений.
+     */
+    public synchronized Collection<DeadLetter> getAll() {
+        return new ArrayList<>(this.letters);
+    }
+
+    /**
+     * Извлекает из хранилища все недоставленные уведомления.
+     *
+     * @return Объект типа {@link Collection} - список уведомлений.
+     */
+    public synchronized Collection<DeadLetter> drain() {
+        final Collection<DeadLetter> result = new ArrayList<>(this.letters);
+        this.letters.clear();
+        return result;
+    }
+
+    /**
+     * Возвращает количество недоставленных уведомлений.
+     *
+     * @return Значение типа int - количество уведомлений.
+     */
+    public synchronized int size() {
+        return this.letters.size();
+    }
+}
@@ -0,0 +1,30 @@
+package ua.com.alexcoffee.service.notification;
+
+/**
+ * Интерфейс описывает уведомление, которое доставляется
+ * в фоновом потоке объектом класса {@link NotificationDispatcher}.
+ * Уведомление хранит все данные, нужные для доставки, поэтому
+ * его можно повторно отправить после неудачной попытки.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see NotificationDispatcher
+ * @see DeadLetterStore
+ */
+public interface Notification {
+    /**
+     * Возвращает название уведомления для журнала и хранилища
+     * недоставленных уведомлений.
+     *
+     * @return Значение типа {@link String} - название уведомления.
+     */
+    String getName();
+
+    /**
+     * Доставляет уведомление.
+     *
+     * @throws Exception Бросает исключение, если уведомление не доставлено
+     *                   и попытку нужно повторить.
+     */
+    void deliver() throws Exception;
+}
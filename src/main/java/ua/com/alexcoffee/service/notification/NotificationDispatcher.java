@@ -0,0 +1,337 @@
+package ua.com.alexcoffee.service.notification;
+
+import org.apache.log4j.Logger;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Класс доставляет уведомления в фоновом пуле потоков.
+ * Количество уведомлений в работе ограничено: если очередь заполнена,
+ * новое уведомление сразу попадает в хранилище недоставленных,
+ * а вызывающий поток не блокируется. Неудачная доставка повторяется
+ * с экспоненциально растущей задержкой, после последней попытки
+ * уведомление попадает в хранилище недоставленных. При остановке
+ * в хранилище недоставленных попадают и уведомления, доставка
+ * которых так и не началась.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Notification
+ * @see DeadLetterStore
+ */
+public final class NotificationDispatcher {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(NotificationDispatcher.class);
+
+    /**
+     * Максимальный сдвиг задержки между попытками,
+     * ограничивает рост задержки при большом количестве попыток.
+     */
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    /**
+     * Время ожидания завершения уведомлений при остановке в секундах.
+     */
+    private static final long SHUTDOWN_TIMEOUT = 10;
+
+    /**
+     * Пул потоков доставки и повторных попыток.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Попытки доставки, которые поставлены в пул, но еще не начались.
+     */
+    private final Set<Delivery> queued = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Разрешения на уведомления в работе, количество
+     * разрешений равно емкости очереди.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Емкость очереди.
+     */
+    private final int capacity;
+
+    /**
+     * Максимальное количество попыток доставки одного уведомления.
+     */
+    private final int maxAttempts;
+
+    /**
+     * Задержка перед второй попыткой в миллисекундах,
+     * каждая следующая задержка в два раза больше.
+     */
+    private final long backoff;
+
+    /**
+     * Хранилище недоставленных уведомлений.
+     */
+    private final DeadLetterStore deadLetters;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param threads     Количество потоков доставки.
+     * @param capacity    Максимальное количество уведомлений в работе.
+     * @param maxAttempts Максимальное количество попыток доставки.
+     * @param backoff     Задержка перед второй попыткой в миллисекундах.
+     * @param deadLetters Хранилище недоставленных уведомлений.
+     */
+    public NotificationDispatcher(
+            final int threads,
+            final int capacity,
+            final int maxAttempts,
+            final long backoff,
+            final DeadLetterStore deadLetters
+    ) {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                Math.max(threads, 1), new NotificationThreadFactory()
+        );
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.executor = executor;
+        this.capacity = Math.max(capacity, 1);
+        this.permits = new Semaphore(this.capacity);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.backoff = Math.max(backoff, 0);
+        this.deadLetters = deadLetters;
+    }
+
+    /**
+     * Ставит уведомление в очередь на доставку и сразу возвращает управление.
+     *
+     * @param notification Уведомление для доставки.
+     * @return true - уведомление принято в очередь,
+     * false - очередь заполнена и уведомление отправлено
+     * в хранилище недоставленных.
+     */
+    public boolean submit(final Notification notification) {
+        if (isNull(notification)) {
+            return false;
+        }
+        if (!this.permits.tryAcquire()) {
+            reject(notification, "Notification queue is full", 0);
+            return false;
+        }
+        try {
+            schedule(new Delivery(notification, 1), 0);
+            return true;
+        } catch (RejectedExecutionException ex) {
+            this.permits.release();
+            reject(notification, "Notification dispatcher is shut down", 0);
+            return false;
+        }
+    }
+
+    /**
+     * Повторно ставит в очередь все недоставленные уведомления.
+     *
+     * @return Значение типа int - количество принятых уведомлений.
+     */
+    public int retryDeadLetters() {
+        int count = 0;
+        for (DeadLetter letter : this.deadLetters.drain()) {
+            if (submit(letter.getNotification())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Возвращает количество уведомлений в работе,
+     * включая ожидающие повторной попытки.
+     *
+     * @return Значение типа int - количество уведомлений.
+     */
+    public int getPending() {
+        return this.capacity - this.permits.availablePermits();
+    }
+
+    /**
+     * Возвращает хранилище недоставленных уведомлений.
+     *
+     * @return Объект класса {@link DeadLetterStore}.
+     */
+    public DeadLetterStore getDeadLetters() {
+        return this.deadLetters;
+    }
+
+    /**
+     * Останавливает пул потоков, дожидаясь окончания попыток
+     * доставки, которые уже начались. Попытки в очереди и отложенные
+     * повторные попытки отменяются сразу, а их уведомления
+     * отправляются в хранилище недоставленных.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                this.executor.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            this.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        for (Delivery delivery : this.queued) {
+            if (this.queued.remove(delivery)) {
+                this.permits.release();
+                reject(delivery.notification, "Notification dispatcher is shut down", delivery.attempt - 1);
+            }
+        }
+    }
+
+    /**
+     * Делает попытку доставки уведомления. При неудаче планирует
+     * следующую попытку или отправляет уведомление в хранилище
+     * недоставленных, если попытки закончились. Ошибка виртуальной
+     * машины ({@link Error}) не повторяется: уведомление сразу
+     * отправляется в хранилище недоставленных, а место в очереди
+     * освобождается.
+     *
+     * @param notification Уведомление для доставки.
+     * @param attempt      Номер попытки, начиная с 1.
+     */
+    private void attempt(final Notification notification, final int attempt) {
+        try {
+            notification.deliver();
+            this.permits.release();
+        } catch (Exception ex) {
+            LOGGER.warn("Attempt " + attempt + " to deliver " + notification.getName() + " failed", ex);
+            if (attempt >= this.maxAttempts) {
+                this.permits.release();
+                reject(notification, ex.getMessage(), attempt);
+                return;
+            }
+            try {
+                schedule(new Delivery(notification, attempt + 1), getDelay(attempt));
+            } catch (RejectedExecutionException e) {
+                this.permits.release();
+                reject(notification, "Notification dispatcher is shut down", attempt);
+            }
+        } catch (Error ex) {
+            LOGGER.error("Attempt " + attempt + " to deliver " + notification.getName() + " failed", ex);
+            this.permits.release();
+            reject(notification, ex.toString(), attempt);
+        }
+    }
+
+    /**
+     * Ставит попытку доставки в пул. Если попытку уже забрала остановка
+     * пула, она считается обработанной.
+     *
+     * @param delivery Попытка доставки.
+     * @param delay    Задержка в миллисекундах.
+     * @throws RejectedExecutionException Бросает исключение, если пул остановлен.
+     */
+    private void schedule(final Delivery delivery, final long delay) throws RejectedExecutionException {
+        this.queued.add(delivery);
+        try {
+            this.executor.schedule(delivery, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            if (this.queued.remove(delivery)) {
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Возвращает задержку перед следующей попыткой.
+     *
+     * @param attempt Номер неудачной попытки, начиная с 1.
+     * @return Значение типа long - задержка в миллисекундах.
+     */
+    private long getDelay(final int attempt) {
+        return this.backoff << Math.min(attempt - 1, MAX_BACKOFF_SHIFT);
+    }
+
+    /**
+     * Отправляет уведомление в хранилище недоставленных.
+     *
+     * @param notification Недоставленное уведомление.
+     * @param reason       Причина неудачи.
+     * @param attempts     Количество сделанных попыток.
+     */
+    private void reject(
+            final Notification notification,
+            final String reason,
+            final int attempts
+    ) {
+        final DeadLetter letter = new DeadLetter(notification, reason, attempts);
+        LOGGER.error("Notification is not delivered:\n" + letter);
+        this.deadLetters.add(letter);
+    }
+
+    /**
+     * Попытка доставки уведомления, поставленная в пул.
+     */
+    private final class Delivery implements Runnable {
+        /**
+         * Уведомление для доставки.
+         */
+        private final Notification notification;
+
+        /**
+         * Номер попытки, начиная с 1.
+         */
+        private final int attempt;
+
+        /**
+         * Конструктор для инициализации основных переменных.
+         *
+         * @param notification Уведомление для доставки.
+         * @param attempt      Номер попытки, начиная с 1.
+         */
+        private Delivery(final Notification notification, final int attempt) {
+            this.notification = notification;
+            this.attempt = attempt;
+        }
+
+        /**
+         * Делает попытку доставки, если её еще не забрала остановка пула.
+         */
+        @Override
+        public void run() {
+            if (queued.remove(this)) {
+                attempt(this.notification, this.attempt);
+            }
+        }
+    }
+
+    /**
+     * Фабрика фоновых потоков доставки с понятными именами.
+     */
+    private static final class NotificationThreadFactory implements ThreadFactory {
+        /**
+         * Номер следующего потока.
+         */
+        private final AtomicInteger number = new AtomicInteger(1);
+
+        /**
+         * Создает новый фоновый поток.
+         *
+         * @param runnable Задача потока.
+         * @return Объект класса {@link Thread}.
+         */
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "notification-" + this.number.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
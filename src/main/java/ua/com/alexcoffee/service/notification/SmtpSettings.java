@@ -0,0 +1,86 @@
+package ua.com.alexcoffee.service.notification;
+
+/**
+ * Класс описывает настройки SMTP сервера, через который
+ * отправляются уведомления по электронной почте.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ */
+public final class SmtpSettings {
+    /**
+     * Адрес SMTP сервера.
+     */
+    private final String host;
+
+    /**
+     * Порт SMTP сервера для протокола TLS.
+     */
+    private final int tlsPort;
+
+    /**
+     * Порт SMTP сервера для протокола SSL.
+     */
+    private final int sslPort;
+
+    /**
+     * Адрес электронной почты отправителя.
+     */
+    private final String from;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param host    Адрес SMTP сервера.
+     * @param tlsPort Порт SMTP сервера для протокола TLS.
+     * @param sslPort Порт SMTP сервера для протокола SSL.
+     * @param from    Адрес электронной почты отправителя.
+     */
+    public SmtpSettings(
+            final String host,
+            final int tlsPort,
+            final int sslPort,
+            final String from
+    ) {
+        this.host = host;
+        this.tlsPort = tlsPort;
+        this.sslPort = sslPort;
+        this.from = from;
+    }
+
+    /**
+     * Возвращает адрес SMTP сервера.
+     *
+     * @return Значение типа {@link String} - адрес сервера.
+     */
+    public String getHost() {
+        return this.host;
+    }
+
+    /**
+     * Возвращает порт SMTP сервера для протокола TLS.
+     *
+     * @return Значение типа int - порт сервера.
+     */
+    public int getTlsPort() {
+        return this.tlsPort;
+    }
+
+    /**
+     * Возвращает порт SMTP сервера для протокола SSL.
+     *
+     * @return Значение типа int - порт сервера.
+     */
+    public int getSslPort() {
+        return this.sslPort;
+    }
+
+    /**
+     * Возвращает адрес электронной почты отправителя.
+     *
+     * @return Значение типа {@link String} - адрес отправителя.
+     */
+    public String getFrom() {
+        return this.from;
+    }
+}
@@ -0,0 +1,27 @@
+package ua.com.alexcoffee.service.schema;
+
+/**
+ * Реакция проверок схемы базы данных при старте приложения
+ * на найденные расхождения с сущностями.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see IndexCheck
+ * @see SchemaCheck
+ */
+public enum CheckMode {
+    /**
+     * Остановить запуск приложения.
+     */
+    FAIL,
+
+    /**
+     * Записать предупреждение в лог.
+     */
+    WARN,
+
+    /**
+     * Не проверять схему.
+     */
+    OFF
+}
@@ -0,0 +1,232 @@
+package ua.com.alexcoffee.service.schema;
+
+import org.apache.log4j.Logger;
+
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Класс проверяет при старте приложения, что в базе данных есть
+ * индексы, объявленные в аннотациях @Table(indexes = ...) сущностей.
+ * Индекс считается найденным, если в таблице есть индекс, который
+ * начинается с тех же колонок, а для уникального индекса - уникальный
+ * индекс ровно на этих колонках. Имена индексов не сравниваются,
+ * поэтому проверка проходит и для схемы, созданной hibernate,
+ * и для схемы, созданной миграциями.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SchemaMigration
+ * @see SchemaCheck
+ */
+public final class IndexCheck {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(IndexCheck.class);
+
+    /**
+     * Источник соединений с базой данных.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Классы сущностей.
+     */
+    private final Collection<Class<?>> entities;
+
+    /**
+     * Реакция на отсутствующие индексы.
+     */
+    private final CheckMode mode;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param dataSource Источник соединений с базой данных.
+     * @param entities   Классы сущностей.
+     * @param mode       Реакция на отсутствующие индексы.
+     */
+    public IndexCheck(
+            final DataSource dataSource,
+            final Collection<Class<?>> entities,
+            final CheckMode mode
+    ) {
+        this.dataSource = dataSource;
+        this.entities = entities;
+        this.mode = mode;
+    }
+
+    /**
+     * Проверяет индексы и, если каких-то нет, записывает их в лог
+     * или останавливает запуск приложения, в зависимости от режима.
+     *
+     * @throws SQLException          Ошибка чтения метаданных базы данных.
+     * @throws IllegalStateException Нет индексов в режиме {@link CheckMode#FAIL}.
+     */
+    public void verify() throws SQLException {
+        if (this.mode == CheckMode.OFF) {
+            return;
+        }
+        final List<String> missing = findMissing();
+        if (missing.isEmpty()) {
+            LOGGER.info("All declared database indexes are present");
+            return;
+        }
+        final String message = "Missing database indexes: " + String.join(", ", missing);
+        if (this.mode == CheckMode.FAIL) {
+            throw new IllegalStateException(message);
+        }
+        LOGGER.warn(message);
+    }
+
+    /**
+     * Возвращает объявленные индексы, которых нет в базе данных.
+     *
+     * @return Объект типа {@link List} - индексы в виде "таблица(колонки)".
+     * @throws SQLException Ошибка чтения метаданных базы данных.
+     */
+    public List<String> findMissing() throws SQLException {
+        final List<String> missing = new ArrayList<>();
+        try (Connection connection = this.dataSource.getConnection()) {
+            final DatabaseMetaData metaData = connection.getMetaData();
+            for (Class<?> entity : this.entities) {
+                final Table table = entity.getAnnotation(Table.class);
+                if (isNull(table) || (table.indexes().length == 0)) {
+                    continue;
+                }
+                final Collection<Columns> existing = readIndexes(metaData, connection.getCatalog(), table.name());
+                for (Index index : table.indexes()) {
+                    final List<String> columns = parseColumns(index.columnList());
+                    if (!isCovered(existing, columns, index.unique())) {
+                        missing.add(table.name() + "(" + String.join(", ", columns) + ")");
+                    }
+                }
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Проверяет, покрывает ли один из индексов таблицы нужные колонки.
+     *
+     * @param existing Индексы таблицы.
+     * @param columns  Колонки объявленного индекса.
+     * @param unique   Объявлен ли индекс уникальным.
+     * @return true - подходящий индекс есть.
+     */
+    private static boolean isCovered(
+            final Collection<Columns> existing,
+            final List<String> columns,
+            final boolean unique
+    ) {
+        for (Columns index : existing) {
+            if (unique ? index.unique && index.names.equals(columns) :
+                    (index.names.size() >= columns.size()) &&
+                            index.names.subList(0, columns.size()).equals(columns)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Читает индексы таблицы из метаданных базы данных. Имя таблицы
+     * пробуется как есть и в верхнем и нижнем регистре, так как базы
+     * данных хранят имена по-разному.
+     *
+     * @param metaData Метаданные базы данных.
+     * @param catalog  Каталог базы данных.
+     * @param table    Имя таблицы.
+     * @return Объект типа {@link Collection} - колонки индексов таблицы.
+     * @throws SQLException Ошибка чтения метаданных базы данных.
+     */
+    private static Collection<Columns> readIndexes(
+            final DatabaseMetaData metaData,
+            final String catalog,
+            final String table
+    ) throws SQLException {
+        final String[] names = {
+                table, table.toUpperCase(Locale.ROOT), table.toLowerCase(Locale.ROOT)
+        };
+        for (String name : names) {
+            final Map<String, Columns> indexes = new HashMap<>();
+            try (ResultSet resultSet = metaData.getIndexInfo(catalog, null, name, false, false)) {
+                while (resultSet.next()) {
+                    final String index = resultSet.getString("INDEX_NAME");
+                    final String column = resultSet.getString("COLUMN_NAME");
+                    if (isNull(index) || isNull(column)) {
+                        continue;
+                    }
+                    indexes.computeIfAbsent(index, key -> new Columns())
+                            .add(
+                                    resultSet.getShort("ORDINAL_POSITION"),
+                                    column.toLowerCase(Locale.ROOT),
+                                    !resultSet.getBoolean("NON_UNIQUE")
+                            );
+                }
+            }
+            if (!indexes.isEmpty()) {
+                return indexes.values();
+            }
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Разбирает список колонок аннотации @Index.
+     *
+     * @param columnList Колонки через запятую, возможно с ASC или DESC.
+     * @return Объект типа {@link List} - имена колонок в нижнем регистре.
+     */
+    private static List<String> parseColumns(final String columnList) {
+        final List<String> columns = new ArrayList<>();
+        for (String column : columnList.split(",")) {
+            columns.add(column.trim().split("\\s+")[0].toLowerCase(Locale.ROOT));
+        }
+        return columns;
+    }
+
+    /**
+     * Колонки одного индекса в порядке их следования.
+     */
+    private static final class Columns {
+        /**
+         * Имена колонок.
+         */
+        private final List<String> names = new ArrayList<>();
+
+        /**
+         * Уникален ли индекс.
+         */
+        private boolean unique;
+
+        /**
+         * Добавляет колонку индекса на её позицию.
+         *
+         * @param position Позиция колонки, начиная с 1.
+         * @param name     Имя колонки.
+         * @param unique   Уникален ли индекс.
+         */
+        private void add(final int position, final String name, final boolean unique) {
+            while (this.names.size() < position) {
+                this.names.add(null);
+            }
+            this.names.set(position - 1, name);
+            this.unique = unique;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package ua.com.alexcoffee.service.schema;
+
+import org.apache.log4j.Logger;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Класс проверяет при старте приложения, что в базе данных есть
+ * все таблицы и колонки, на которые отображены сущности. Схема при
+ * этом не изменяется: её создают и изменяют только миграции
+ * {@link SchemaMigration}. Сравниваются только имена, а не типы
+ * колонок, так как схема MySQL намеренно использует типы ENUM,
+ * TEXT и INT UNSIGNED, которые hibernate не считает совпадающими
+ * с отображением сущностей.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SchemaMigration
+ * @see IndexCheck
+ */
+public final class SchemaCheck {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SchemaCheck.class);
+
+    /**
+     * Источник соединений с базой данных.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Колонки сущностей по имени таблицы.
+     */
+    private final Map<String, Collection<String>> tables;
+
+    /**
+     * Реакция на отсутствующие таблицы и колонки.
+     */
+    private final CheckMode mode;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param dataSource Источник соединений с базой данных.
+     * @param tables     Колонки сущностей по имени таблицы.
+     * @param mode       Реакция на отсутствующие таблицы и колонки.
+     */
+    public SchemaCheck(
+            final DataSource dataSource,
+            final Map<String, Collection<String>> tables,
+            final CheckMode mode
+    ) {
+        this.dataSource = dataSource;
+        this.tables = tables;
+        this.mode = mode;
+    }
+
+    /**
+     * Проверяет схему и, если каких-то таблиц или колонок нет,
+     * записывает их в лог или останавливает запуск приложения,
+     * в зависимости от режима.
+     *
+     * @throws SQLException          Ошибка чтения метаданных базы данных.
+     * @throws IllegalStateException Нет таблиц или колонок в режиме {@link CheckMode#FAIL}.
+     */
+    public void verify() throws SQLException {
+        if (this.mode == CheckMode.OFF) {
+            return;
+        }
+        final long started = System.nanoTime();
+        final List<String> missing = findMissing();
+        if (missing.isEmpty()) {
+            LOGGER.info(
+                    "Database schema matches " + this.tables.size() + " mapped tables, checked in " +
+                            (System.nanoTime() - started) / 1000000 + " ms"
+            );
+            return;
+        }
+        final String message = "Missing database tables or columns: " + String.join(", ", missing);
+        if (this.mode == CheckMode.FAIL) {
+            throw new IllegalStateException(message);
+        }
+        LOGGER.warn(message);
+    }
+
+    /**
+     * Возвращает таблицы и колонки сущностей, которых нет в базе данных.
+     *
+     * @return Объект типа {@link List} - таблицы в виде "таблица"
+     * и колонки в виде "таблица.колонка".
+     * @throws SQLException Ошибка чтения метаданных базы данных.
+     */
+    public List<String> findMissing() throws SQLException {
+        final List<String> missing = new ArrayList<>();
+        try (Connection connection = this.dataSource.getConnection()) {
+            final DatabaseMetaData metaData = connection.getMetaData();
+            for (Map.Entry<String, Collection<String>> table : this.tables.entrySet()) {
+                final Set<String> existing = readColumns(metaData, connection.getCatalog(), table.getKey());
+                if (existing.isEmpty()) {
+                    missing.add(table.getKey());
+                    continue;
+                }
+                for (String column : table.getValue()) {
+                    if (!existing.contains(column.toLowerCase(Locale.ROOT))) {
+                        missing.add(table.getKey() + "." + column);
+                    }
+                }
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Читает колонки таблицы из метаданных базы данных. Имя таблицы
+     * пробуется как есть и в верхнем и нижнем регистре, так как базы
+     * данных хранят имена по-разному.
+     *
+     * @param metaData Метаданные базы данных.
+     * @param catalog  Каталог базы данных.
+     * @param table    Имя таблицы.
+     * @return Объект типа {@link Set} - имена колонок в нижнем регистре,
+     * пустой, если таблицы нет.
+     * @throws SQLException Ошибка чтения метаданных базы данных.
+     */
+    private static Set<String> readColumns(
+            final DatabaseMetaData metaData,
+            final String catalog,
+            final String table
+    ) throws SQLException {
+        final String[] names = {
+                table, table.toUpperCase(Locale.ROOT), table.toLowerCase(Locale.ROOT)
+        };
+        final Set<String> columns = new HashSet<>();
+        for (String name : names) {
+            try (ResultSet resultSet = metaData.getColumns(catalog, null, name, null)) {
+                while (resultSet.next()) {
+                    columns.add(resultSet.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+            if (!columns.isEmpty()) {
+                break;
+            }
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,85 @@
+package ua.com.alexcoffee.service.schema;
+
+import org.apache.log4j.Logger;
+import org.flywaydb.core.Flyway;
+
+import javax.sql.DataSource;
+
+/**
+ * Класс применяет версионные миграции схемы базы данных при старте
+ * приложения. Миграции хранятся в файлах "V{номер}__{описание}.sql",
+ * каждая применяется один раз, применённые версии записываются в
+ * таблицу истории. База данных, созданная до появления миграций,
+ * получает в истории начальную версию без выполнения её скрипта.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see IndexCheck
+ */
+public final class SchemaMigration {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SchemaMigration.class);
+
+    /**
+     * Источник соединений с базой данных.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Применять ли миграции.
+     */
+    private final boolean enabled;
+
+    /**
+     * Каталоги со скриптами миграций.
+     */
+    private final String[] locations;
+
+    /**
+     * Версия схемы существующей базы данных без истории миграций.
+     */
+    private final String baselineVersion;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param dataSource      Источник соединений с базой данных.
+     * @param enabled         Применять ли миграции.
+     * @param locations       Каталоги со скриптами миграций через запятую.
+     * @param baselineVersion Версия схемы существующей базы данных без истории миграций.
+     */
+    public SchemaMigration(
+            final DataSource dataSource,
+            final boolean enabled,
+            final String locations,
+            final String baselineVersion
+    ) {
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+        this.locations = locations.split("\\s*,\\s*");
+        this.baselineVersion = baselineVersion;
+    }
+
+    /**
+     * Применяет миграции, которых ещё нет в истории.
+     *
+     * @return Значение типа int - количество применённых миграций.
+     */
+    public int migrate() {
+        if (!this.enabled) {
+            LOGGER.info("Schema migrations are disabled");
+            return 0;
+        }
+        final int applied = Flyway.configure()
+                .dataSource(this.dataSource)
+                .locations(this.locations)
+                .baselineOnMigrate(true)
+                .baselineVersion(this.baselineVersion)
+                .load()
+                .migrate();
+        LOGGER.info("Schema migrations applied: " + applied);
+        return applied;
+    }
+}
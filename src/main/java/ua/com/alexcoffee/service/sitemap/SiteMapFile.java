@@ -0,0 +1,118 @@
+package ua.com.alexcoffee.service.sitemap;
+
+import java.io.File;
+
+/**
+ * Класс описывает сгенерированный файл sitemap на диске вместе
+ * со сжатой копией и заголовками для условных запросов.
+ * ETag вычисляется по содержимому файла, поэтому повторная генерация
+ * с тем же содержимым не заставляет поисковые системы перекачивать файл.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SiteMapStore
+ */
+public final class SiteMapFile {
+    /**
+     * Имя файла.
+     */
+    private final String name;
+
+    /**
+     * Файл без сжатия.
+     */
+    private final File file;
+
+    /**
+     * Сжатая копия файла.
+     */
+    private final File gzipFile;
+
+    /**
+     * Контрольная сумма содержимого файла.
+     */
+    private final long checksum;
+
+    /**
+     * Время последнего изменения содержимого в миллисекундах.
+     */
+    private final long lastModified;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param name         Имя файла.
+     * @param file         Файл без сжатия.
+     * @param gzipFile     Сжатая копия файла.
+     * @param checksum     Контрольная сумма содержимого файла.
+     * @param lastModified Время последнего изменения содержимого в миллисекундах.
+     */
+    public SiteMapFile(
+            final String name,
+            final File file,
+            final File gzipFile,
+            final long checksum,
+            final long lastModified
+    ) {
+        this.name = name;
+        this.file = file;
+        this.gzipFile = gzipFile;
+        this.checksum = checksum;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Возвращает имя файла.
+     *
+     * @return Значение типа {@link String} - имя файла.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Возвращает файл без сжатия.
+     *
+     * @return Объект класса {@link File}.
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Возвращает сжатую копию файла.
+     *
+     * @return Объект класса {@link File}.
+     */
+    public File getGzipFile() {
+        return this.gzipFile;
+    }
+
+    /**
+     * Возвращает контрольную сумму содержимого файла.
+     *
+     * @return Значение типа long - контрольная сумма.
+     */
+    public long getChecksum() {
+        return this.checksum;
+    }
+
+    /**
+     * Возвращает ETag файла или его сжатой копии.
+     *
+     * @param gzip true - ETag сжатой копии.
+     * @return Значение типа {@link String} - ETag в кавычках.
+     */
+    public String getETag(final boolean gzip) {
+        return "\"" + Long.toHexString(this.checksum) + (gzip ? "-gz" : "") + "\"";
+    }
+
+    /**
+     * Возвращает время последнего изменения содержимого.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    public long getLastModified() {
+        return this.lastModified;
+    }
+}
@@ -0,0 +1,22 @@
+package ua.com.alexcoffee.service.sitemap;
+
+import java.io.IOException;
+
+/**
+ * Интерфейс источника ссылок для генерации sitemap.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SiteMapStore
+ * @see SiteMapWriter
+ */
+@FunctionalInterface
+public interface SiteMapSource {
+    /**
+     * Записывает все ссылки сайта.
+     *
+     * @param writer Объект для записи ссылок.
+     * @throws IOException Ошибка записи файла.
+     */
+    void writeTo(SiteMapWriter writer) throws IOException;
+}
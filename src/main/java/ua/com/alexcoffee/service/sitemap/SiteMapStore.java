@@ -0,0 +1,250 @@
+package ua.com.alexcoffee.service.sitemap;
+
+import org.apache.log4j.Logger;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Класс хранит сгенерированные файлы sitemap на диске.
+ * Файлы генерируются заново только тогда, когда меняется номер версии
+ * каталога, поэтому запросы поисковых систем между изменениями каталога
+ * не обращаются к базе данных. Каждая генерация пишется в новый
+ * каталог и публикуется целиком, предыдущая генерация хранится,
+ * пока её файлы могут дочитываться, более старые удаляются.
+ * Генерацию одновременно выполняет только один поток.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SiteMapWriter
+ * @see SiteMapFile
+ */
+public final class SiteMapStore {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SiteMapStore.class);
+
+    /**
+     * Префикс имени каталога одной генерации.
+     */
+    private static final String GENERATION_PREFIX = "generation-";
+
+    /**
+     * Каталог для файлов sitemap.
+     */
+    private final File directory;
+
+    /**
+     * Адрес сайта.
+     */
+    private final String baseUrl;
+
+    /**
+     * Максимальное количество ссылок в одном файле.
+     */
+    private final int maxUrls;
+
+    /**
+     * Последняя опубликованная генерация, null до первой генерации.
+     */
+    private volatile Generation generation;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param directory Каталог для файлов sitemap.
+     * @param baseUrl   Адрес сайта без завершающего "/".
+     * @param maxUrls   Максимальное количество ссылок в одном файле.
+     */
+    public SiteMapStore(final String directory, final String baseUrl, final int maxUrls) {
+        this.directory = new File(directory);
+        this.baseUrl = baseUrl;
+        this.maxUrls = maxUrls;
+    }
+
+    /**
+     * Возвращает адрес сайта.
+     *
+     * @return Значение типа {@link String} - адрес сайта без завершающего "/".
+     */
+    public String getBaseUrl() {
+        return this.baseUrl;
+    }
+
+    /**
+     * Возвращает файл sitemap с указанным именем. Если файлы были
+     * сгенерированы для другой версии каталога, сначала генерирует их заново.
+     *
+     * @param name    Имя файла.
+     * @param version Текущий номер версии каталога.
+     * @param source  Источник ссылок для генерации.
+     * @return Объект класса {@link SiteMapFile} или null, если файла с таким именем нет.
+     * @throws IOException Ошибка записи файлов.
+     */
+    public SiteMapFile get(
+            final String name,
+            final long version,
+            final SiteMapSource source
+    ) throws IOException {
+        Generation current = this.generation;
+        if (isNull(current) || (current.version != version)) {
+            current = regenerate(version, source);
+        }
+        return current.files.get(name);
+    }
+
+    /**
+     * Генерирует файлы sitemap для версии каталога, если другой поток
+     * не сделал этого раньше, и публикует их. Время изменения файла
+     * сохраняется, если его содержимое не изменилось.
+     *
+     * @param version Номер версии каталога.
+     * @param source  Источник ссылок для генерации.
+     * @return Опубликованная генерация.
+     * @throws IOException Ошибка записи файлов.
+     */
+    private synchronized Generation regenerate(
+            final long version,
+            final SiteMapSource source
+    ) throws IOException {
+        final Generation previous = this.generation;
+        if (isNotNull(previous) && (previous.version == version)) {
+            return previous;
+        }
+        Files.createDirectories(this.directory.toPath());
+        final File target = Files.createTempDirectory(
+                this.directory.toPath(), GENERATION_PREFIX
+        ).toFile();
+        final List<String> names;
+        try (SiteMapWriter writer = new SiteMapWriter(target, this.baseUrl, this.maxUrls)) {
+            source.writeTo(writer);
+            names = writer.finish();
+        } catch (IOException | RuntimeException ex) {
+            delete(target);
+            throw ex;
+        }
+        final long now = System.currentTimeMillis() / 1000 * 1000;
+        final Map<String, SiteMapFile> files = new HashMap<>();
+        for (String name : names) {
+            final File file = new File(target, name);
+            final long checksum = checksum(file);
+            final SiteMapFile old = isNotNull(previous) ? previous.files.get(name) : null;
+            final long lastModified = isNotNull(old) && (old.getChecksum() == checksum) ?
+                    old.getLastModified() : now;
+            files.put(name, new SiteMapFile(
+                    name, file, new File(target, name + SiteMapWriter.GZIP_SUFFIX), checksum, lastModified
+            ));
+        }
+        final Generation generation = new Generation(version, target, files);
+        this.generation = generation;
+        removeGenerations(target, isNotNull(previous) ? previous.directory : null);
+        LOGGER.info("Sitemap is generated: " + names.size() + " file(s) for catalog version " + version);
+        return generation;
+    }
+
+    /**
+     * Удаляет каталоги генераций, кроме текущей и предыдущей.
+     *
+     * @param current  Каталог текущей генерации.
+     * @param previous Каталог предыдущей генерации или null.
+     */
+    private void removeGenerations(final File current, final File previous) {
+        final File[] children = this.directory.listFiles();
+        if (isNull(children)) {
+            return;
+        }
+        for (File child : children) {
+            if (child.isDirectory() && child.getName().startsWith(GENERATION_PREFIX) &&
+                    !child.equals(current) && !child.equals(previous)) {
+                delete(child);
+            }
+        }
+    }
+
+    /**
+     * Удаляет каталог генерации вместе с файлами.
+     *
+     * @param directory Каталог генерации.
+     */
+    private static void delete(final File directory) {
+        final File[] files = directory.listFiles();
+        if (isNotNull(files)) {
+            for (File file : files) {
+                if (!file.delete()) {
+                    LOGGER.warn("Can't delete sitemap file " + file);
+                }
+            }
+        }
+        if (!directory.delete()) {
+            LOGGER.warn("Can't delete sitemap directory " + directory);
+        }
+    }
+
+    /**
+     * Вычисляет контрольную сумму содержимого файла.
+     *
+     * @param file Файл.
+     * @return Значение типа long - контрольная сумма CRC32.
+     * @throws IOException Ошибка чтения файла.
+     */
+    private static long checksum(final File file) throws IOException {
+        final CRC32 crc = new CRC32();
+        try (InputStream in = new FileInputStream(file)) {
+            final byte[] buffer = new byte[8192];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, length);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Неизменяемое описание одной опубликованной генерации.
+     */
+    private static final class Generation {
+        /**
+         * Номер версии каталога, для которой сгенерированы файлы.
+         */
+        private final long version;
+
+        /**
+         * Каталог генерации.
+         */
+        private final File directory;
+
+        /**
+         * Файлы генерации по имени.
+         */
+        private final Map<String, SiteMapFile> files;
+
+        /**
+         * Конструктор для инициализации основных переменных.
+         *
+         * @param version   Номер версии каталога.
+         * @param directory Каталог генерации.
+         * @param files     Файлы генерации по имени.
+         */
+        private Generation(
+                final long version,
+                final File directory,
+                final Map<String, SiteMapFile> files
+        ) {
+            this.version = version;
+            this.directory = directory;
+            this.files = Collections.unmodifiableMap(files);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package ua.com.alexcoffee.service.sitemap;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotNull;
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * Класс потоково записывает sitemap.xml в файлы каталога.
+ * Ссылки записываются сразу на диск, поэтому память не зависит от
+ * количества ссылок. Когда в файле набирается максимальное количество
+ * ссылок, начинается следующий файл sitemap-N.xml, а sitemap.xml
+ * становится индексом этих файлов. Если все ссылки поместились в один
+ * файл, индекс не создается. Для каждого файла создается сжатая копия.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SiteMapStore
+ */
+public final class SiteMapWriter implements Closeable {
+    /**
+     * Имя основного файла: списка ссылок или индекса.
+     */
+    public static final String INDEX_NAME = "sitemap.xml";
+
+    /**
+     * Суффикс имени сжатой копии файла.
+     */
+    public static final String GZIP_SUFFIX = ".gz";
+
+    /**
+     * Максимальное количество ссылок в одном файле по протоколу Sitemaps.
+     */
+    public static final int MAX_URLS = 50000;
+
+    /**
+     * Шаблон имени файла со ссылками.
+     */
+    private static final String PART_NAME = "sitemap-%d.xml";
+
+    /**
+     * Пространство имен протокола Sitemaps.
+     */
+    private static final String XMLNS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+
+    /**
+     * Частота изменения страниц.
+     */
+    private static final String CHANGE_FREQUENCY = "weekly";
+
+    /**
+     * Каталог для файлов.
+     */
+    private final File directory;
+
+    /**
+     * Адрес сайта, по которому доступны файлы индекса.
+     */
+    private final String baseUrl;
+
+    /**
+     * Максимальное количество ссылок в одном файле.
+     */
+    private final int maxUrls;
+
+    /**
+     * Имена записанных файлов со ссылками.
+     */
+    private final List<String> parts = new ArrayList<>();
+
+    /**
+     * Текущий файл со ссылками.
+     */
+    private Writer writer;
+
+    /**
+     * Количество ссылок в текущем файле.
+     */
+    private int count;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     *
+     * @param directory Каталог для файлов.
+     * @param baseUrl   Адрес сайта, по которому доступны файлы индекса.
+     * @param maxUrls   Максимальное количество ссылок в одном файле.
+     */
+    public SiteMapWriter(final File directory, final String baseUrl, final int maxUrls) {
+        this.directory = directory;
+        this.baseUrl = baseUrl;
+        this.maxUrls = Math.min(Math.max(maxUrls, 1), MAX_URLS);
+    }
+
+    /**
+     * Записывает ссылку в текущий файл, при заполнении
+     * файла начинает следующий.
+     *
+     * @param location Абсолютный адрес страницы.
+     * @param priority Приоритет страницы от 0.0 до 1.0.
+     * @throws IOException Ошибка записи файла.
+     */
+    public void write(final String location, final String priority) throws IOException {
+        if (isNull(this.writer) || (this.count >= this.maxUrls)) {
+            closePart();
+            openPart();
+        }
+        this.writer.write("<url><loc>");
+        this.writer.write(escape(location));
+        this.writer.write("</loc><changefreq>");
+        this.writer.write(CHANGE_FREQUENCY);
+        this.writer.write("</changefreq><priority>");
+        this.writer.write(priority);
+        this.writer.write("</priority></url>\n");
+        this.count++;
+    }
+
+    /**
+     * Завершает запись: закрывает текущий файл, создает индекс,
+     * если файлов со ссылками больше одного, и сжатые копии файлов.
+     *
+     * @return Объект типа {@link List} - имена созданных файлов,
+     * первым идет {@link #INDEX_NAME}.
+     * @throws IOException Ошибка записи файла.
+     */
+    public List<String> finish() throws IOException {
+        if (this.parts.isEmpty()) {
+            openPart();
+        }
+        closePart();
+        final List<String> names = new ArrayList<>();
+        names.add(INDEX_NAME);
+        if (this.parts.size() == 1) {
+            Files.move(
+                    new File(this.directory, this.parts.get(0)).toPath(),
+                    new File(this.directory, INDEX_NAME).toPath(),
+                    StandardCopyOption.REPLACE_EXISTING
+            );
+        } else {
+            writeIndex();
+            names.addAll(this.parts);
+        }
+        for (String name : names) {
+            gzip(new File(this.directory, name));
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Закрывает текущий файл, если он открыт.
+     *
+     * @throws IOException Ошибка закрытия файла.
+     */
+    @Override
+    public void close() throws IOException {
+        if (isNotNull(this.writer)) {
+            this.writer.close();
+            this.writer = null;
+        }
+    }
+
+    /**
+     * Начинает следующий файл со ссылками.
+     *
+     * @throws IOException Ошибка создания файла.
+     */
+    private void openPart() throws IOException {
+        final String name = String.format(PART_NAME, this.parts.size() + 1);
+        this.writer = open(new File(this.directory, name));
+        this.writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        this.writer.write("<urlset xmlns=\"" + XMLNS + "\">\n");
+        this.parts.add(name);
+        this.count = 0;
+    }
+
+    /**
+     * Закрывает текущий файл со ссылками.
+     *
+     * @throws IOException Ошибка записи файла.
+     */
+    private void closePart() throws IOException {
+        if (isNotNull(this.writer)) {
+            this.writer.write("</urlset>\n");
+            close();
+        }
+    }
+
+    /**
+     * Записывает индекс файлов со ссылками.
+     *
+     * @throws IOException Ошибка записи файла.
+     */
+    private void writeIndex() throws IOException {
+        try (Writer index = open(new File(this.directory, INDEX_NAME))) {
+            index.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            index.write("<sitemapindex xmlns=\"" + XMLNS + "\">\n");
+            for (String part : this.parts) {
+                index.write("<sitemap><loc>");
+                index.write(escape(this.baseUrl + "/" + part));
+                index.write("</loc></sitemap>\n");
+            }
+            index.write("</sitemapindex>\n");
+        }
+    }
+
+    /**
+     * Открывает файл для записи в кодировке UTF-8.
+     *
+     * @param file Файл для записи.
+     * @return Объект класса {@link Writer}.
+     * @throws IOException Ошибка создания файла.
+     */
+    private static Writer open(final File file) throws IOException {
+        return new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Создает сжатую копию файла рядом с ним.
+     *
+     * @param file Файл для сжатия.
+     * @throws IOException Ошибка чтения или записи файла.
+     */
+    private static void gzip(final File file) throws IOException {
+        final File target = new File(file.getParentFile(), file.getName() + GZIP_SUFFIX);
+        try (InputStream in = new FileInputStream(file);
+             OutputStream out = new GZIPOutputStream(new FileOutputStream(target))) {
+            final byte[] buffer = new byte[8192];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                out.write(buffer, 0, length);
+            }
+        }
+    }
+
+    /**
+     * Экранирует специальные символы XML.
+     *
+     * @param value Строка для экранирования.
+     * @return Значение типа {@link String} - экранированная строка.
+     */
+    private static String escape(final String value) {
+        final StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            switch (ch) {
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '>':
+                    sb.append("&gt;");
+                    break;
+                case '"':
+                    sb.append("&quot;");
+                    break;
+                case '\'':
+                    sb.append("&apos;");
+                    break;
+                default:
+                    sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package ua.com.alexcoffee.util.cache;
+
+/**
+ * The interface describes a set of methods
+ * for working with an in-memory key-value cache.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of cached values.
+ * @author Yuriy Salimov (yuriy.alex.salimov@gmail.com)
+ * @see LruCache
+ */
+public interface Cache<K, V> {
+
+    /**
+     * Returns the value mapped to the key.
+     *
+     * @param key the key of the value to return.
+     * @return The cached value or null if the key is absent or expired.
+     */
+    V get(K key);
+
+    /**
+     * Maps the value to the key.
+     * Null keys and null values are ignored.
+     *
+     * @param key   the key of the value.
+     * @param value the value to cache.
+     */
+    void put(K key, V value);
+
+    /**
+     * Removes the value mapped to the key.
+     *
+     * @param key the key of the value to remove.
+     */
+    void remove(K key);
+
+    /**
+     * Removes all values from the cache.
+     */
+    void clear();
+
+    /**
+     * Returns the number of values in the cache.
+     *
+     * @return The cache size.
+     */
+    int size();
+
+    /**
+     * Returns the number of successful lookups.
+     *
+     * @return The number of hits.
+     */
+    long getHits();
+
+    /**
+     * Returns the number of failed lookups.
+     *
+     * @return The number of misses.
+     */
+    long getMisses();
+}
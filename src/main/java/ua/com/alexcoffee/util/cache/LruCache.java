@@ -0,0 +1,204 @@
+package ua.com.alexcoffee.util.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isNull;
+
+/**
+ * The class implements a size-bounded cache with
+ * least-recently-used eviction and time-to-live expiration.
+ * All methods are synchronized, the instance can be shared between threads.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of cached values.
+ * @author Yuriy Salimov (yuriy.alex.salimov@gmail.com)
+ * @see Cache
+ */
+public final class LruCache<K, V> implements Cache<K, V> {
+
+    /**
+     * Default maximum number of values.
+     */
+    private final static int DEFAULT_MAX_SIZE = 1000;
+
+    /**
+     * Initial capacity of the map.
+     */
+    private final static int INITIAL_CAPACITY = 16;
+
+    /**
+     * Load factor of the map.
+     */
+    private final static float LOAD_FACTOR = 0.75f;
+
+    /**
+     * Maximum number of values.
+     */
+    private final int maxSize;
+
+    /**
+     * Time-to-live of the values in milliseconds,
+     * zero or negative means the values never expire.
+     */
+    private final long timeToLive;
+
+    /**
+     * The map in access order, the eldest entry is
+     * the least recently used one.
+     */
+    private final Map<K, Entry<V>> entries;
+
+    /**
+     * The number of successful lookups.
+     */
+    private long hits;
+
+    /**
+     * The number of failed lookups.
+     */
+    private long misses;
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize    the maximum number of values.
+     * @param timeToLive the time-to-live of the values in milliseconds.
+     */
+    public LruCache(final int maxSize, final long timeToLive) {
+        this.maxSize = (maxSize > 0) ? maxSize : DEFAULT_MAX_SIZE;
+        this.timeToLive = timeToLive;
+        this.entries = new LinkedHashMap<K, Entry<V>>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                return size() > LruCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the value mapped to the key.
+     *
+     * @param key the key of the value to return.
+     * @return The cached value or null if the key is absent or expired.
+     */
+    @Override
+    public synchronized V get(final K key) {
+        final Entry<V> entry = this.entries.get(key);
+        if (isNull(entry)) {
+            this.misses++;
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            this.entries.remove(key);
+            this.misses++;
+            return null;
+        }
+        this.hits++;
+        return entry.value;
+    }
+
+    /**
+     * Maps the value to the key.
+     * Null keys and null values are ignored.
+     *
+     * @param key   the key of the value.
+     * @param value the value to cache.
+     */
+    @Override
+    public synchronized void put(final K key, final V value) {
+        if (isNull(key) || isNull(value)) {
+            return;
+        }
+        final long expiresAt = (this.timeToLive > 0) ?
+                System.currentTimeMillis() + this.timeToLive : Long.MAX_VALUE;
+        this.entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    /**
+     * Removes the value mapped to the key.
+     *
+     * @param key the key of the value to remove.
+     */
+    @Override
+    public synchronized void remove(final K key) {
+        this.entries.remove(key);
+    }
+
+    /**
+     * Removes all values from the cache.
+     */
+    @Override
+    public synchronized void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Returns the number of values in the cache.
+     *
+     * @return The cache size.
+     */
+    @Override
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the number of successful lookups.
+     *
+     * @return The number of hits.
+     */
+    @Override
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of failed lookups.
+     *
+     * @return The number of misses.
+     */
+    @Override
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * The cached value with its expiration time.
+     *
+     * @param <V> the type of cached value.
+     */
+    private static final class Entry<V> {
+
+        /**
+         * The cached value.
+         */
+        private final V value;
+
+        /**
+         * The expiration time in milliseconds.
+         */
+        private final long expiresAt;
+
+        /**
+         * Constructor.
+         *
+         * @param value     the cached value.
+         * @param expiresAt the expiration time in milliseconds.
+         */
+        private Entry(final V value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Checks whether the value is expired.
+         *
+         * @param now the current time in milliseconds.
+         * @return true if the value is expired, false otherwise.
+         */
+        private boolean isExpired(final long now) {
+            return now >= this.expiresAt;
+        }
+    }
+}
@@ -1,31 +1,48 @@
 package ua.com.alexcoffee.util.generator;
 
+import java.security.SecureRandom;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static ua.com.alexcoffee.util.validator.ObjectValidator.isNotEmpty;
 
 /**
  * The class implements a set of methods for generating random string.
+ * Instances are immutable and thread-safe, so one generator can be
+ * shared by all threads. By default the characters are drawn from
+ * the {@link ThreadLocalRandom} of the calling thread, which threads
+ * do not contend for. Generators created by {@link #secure(long)}
+ * draw from a {@link SecureRandom} and are meant for tokens that
+ * must not be guessed.
  *
  * @author Yuriy Salimov (yuriy.alex.salimov@gmail.com)
  */
 public final class StringGenerator implements Generator<String> {
 
     /**
-     * An instance of Random class is used to generate
-     * a stream of pseudorandom numbers.
+     * Default pattern to generated new string.
      */
-    private final static Random RANDOM;
+    private final static char[] DEFAULT_PATTERN;
 
     /**
-     * Default pattern to generated new string.
+     * Pattern of the URL-safe base64 alphabet for tokens.
      */
-    private final static char[] DEFAULT_PATTERN;
+    private final static char[] TOKEN_PATTERN;
 
     /**
      * Default length to generate string.
      */
-    private final static long DEFAULT_LENGTH;
+    private final static int DEFAULT_LENGTH;
+
+    /**
+     * Number of values of a byte.
+     */
+    private final static int BYTE_VALUES = 256;
+
+    /**
+     * Strong random numbers for secure generators.
+     */
+    private final static SecureRandom SECURE_RANDOM;
 
     /**
      * Pattern to generated new string.
@@ -35,16 +52,22 @@ public final class StringGenerator implements Generator<String> {
     /**
      * Length to generate string.
      */
-    private final long length;
+    private final int length;
+
+    /**
+     * Whether the characters are drawn from the secure random.
+     */
+    private final boolean secure;
 
     /**
      * Static block.
      * Default pattern initialization.
      */
     static {
-        RANDOM = new Random();
         DEFAULT_PATTERN = ("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789").toCharArray();
+        TOKEN_PATTERN = ("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_").toCharArray();
         DEFAULT_LENGTH = 6;
+        SECURE_RANDOM = new SecureRandom();
     }
 
     /**
@@ -77,56 +100,100 @@ public final class StringGenerator implements Generator<String> {
      *
      * @param pattern the pattern to generated new string.
      * @param length  the length to generate string.
+     * @throws IllegalArgumentException if the length does not fit in a string.
      */
-    public StringGenerator(final char[] pattern, final long length) {
+    public StringGenerator(final char[] pattern, final long length) throws IllegalArgumentException {
+        this(pattern, length, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pattern the pattern to generated new string.
+     * @param length  the length to generate string.
+     * @param secure  whether the characters are drawn from the secure random.
+     * @throws IllegalArgumentException if the length does not fit in a string.
+     */
+    private StringGenerator(final char[] pattern, final long length, final boolean secure)
+            throws IllegalArgumentException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too long string to generate: " + length + "!");
+        }
         if (isNotEmpty(pattern)) {
-            this.pattern = pattern;
+            this.pattern = pattern.clone();
         } else {
             this.pattern = DEFAULT_PATTERN;
         }
-        this.length = (length > 0) ? length : DEFAULT_LENGTH;
+        this.length = (length > 0) ? (int) length : DEFAULT_LENGTH;
+        this.secure = secure;
     }
 
     /**
-     * Generates random string.
+     * Returns a generator of unguessable tokens
+     * of the URL-safe base64 alphabet.
      *
-     * @return The generated string (newer null).
+     * @param length the length of a token, 22 characters carry 132 random bits.
+     * @return The secure generator.
      */
-    @Override
-    public String generate() {
-        final StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < this.length; i++) {
-            sb.append(getRandomChar());
-        }
-        return sb.toString();
+    public static StringGenerator secure(final long length) {
+        return secure(TOKEN_PATTERN, length);
     }
 
     /**
-     * Returns random char.
+     * Returns a generator of unguessable strings.
      *
-     * @return The random char.
+     * @param pattern the pattern to generated new string.
+     * @param length  the length to generate string.
+     * @return The secure generator.
      */
-    private char getRandomChar() {
-        final int charNumber = getRandomPatternNumber();
-        return this.pattern[charNumber];
+    public static StringGenerator secure(final char[] pattern, final long length) {
+        return new StringGenerator(pattern, length, true);
     }
 
     /**
-     * Returns random integer.
+     * Generates random string.
+     * The characters are written straight into an array
+     * of the final length.
      *
-     * @return The random integer.
+     * @return The generated string (newer null).
      */
-    private int getRandomPatternNumber() {
-        final int bound = patternLength();
-        return RANDOM.nextInt(bound);
+    @Override
+    public String generate() {
+        if (this.secure && (this.pattern.length <= BYTE_VALUES)) {
+            return generateSecure();
+        }
+        final Random random = this.secure ? SECURE_RANDOM : ThreadLocalRandom.current();
+        final char[] pattern = this.pattern;
+        final char[] chars = new char[this.length];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = pattern[random.nextInt(pattern.length)];
+        }
+        return new String(chars);
     }
 
     /**
-     * Return the pattern array length.
+     * Generates random string from the secure random, taking
+     * all random bytes of the string in one call. The bytes
+     * past the largest multiple of the pattern length are skipped,
+     * so every character of the pattern is equally likely.
      *
-     * @return The pattern length.
+     * @return The generated string (newer null).
      */
-    private int patternLength() {
-        return this.pattern.length;
+    private String generateSecure() {
+        final char[] pattern = this.pattern;
+        final int limit = BYTE_VALUES - (BYTE_VALUES % pattern.length);
+        final char[] chars = new char[this.length];
+        final byte[] bytes = new byte[this.length];
+        int count = 0;
+        while (count < chars.length) {
+            SECURE_RANDOM.nextBytes(bytes);
+            for (int i = 0; (i < bytes.length) && (count < chars.length); i++) {
+                final int value = bytes[i] & 0xFF;
+                if (value < limit) {
+                    chars[count++] = pattern[value % pattern.length];
+                }
+            }
+        }
+        return new String(chars);
     }
 }
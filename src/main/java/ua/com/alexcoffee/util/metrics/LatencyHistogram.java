@@ -0,0 +1,175 @@
+package ua.com.alexcoffee.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The class implements a lock-free histogram of latencies
+ * with log-linear buckets in the manner of HdrHistogram.
+ * Values below 64 are counted exactly, every next power of two
+ * is split into 32 buckets, so a percentile is reported with
+ * a relative error of at most 1/32 and the memory does not
+ * depend on the number of recorded values.
+ * The instance can be shared between threads.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Number of linear buckets below the first power-of-two range.
+     */
+    private final static int LINEAR_BUCKETS = 64;
+
+    /**
+     * Number of buckets in every power-of-two range.
+     */
+    private final static int SUB_BUCKETS = 32;
+
+    /**
+     * Number of bits of a sub-bucket index.
+     */
+    private final static int SUB_BUCKET_BITS = 5;
+
+    /**
+     * Number of power-of-two ranges above the linear buckets.
+     */
+    private final static int RANGES = Long.SIZE - 1 - SUB_BUCKET_BITS - 1;
+
+    /**
+     * Counts of values per bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(LINEAR_BUCKETS + RANGES * SUB_BUCKETS);
+
+    /**
+     * The number of recorded values.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * The sum of recorded values.
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * The maximum recorded value.
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value, negative values are recorded as zero.
+     *
+     * @param value the value to record, for example nanoseconds.
+     */
+    public void record(final long value) {
+        final long positive = Math.max(value, 0);
+        this.counts.incrementAndGet(indexOf(positive));
+        this.count.increment();
+        this.sum.add(positive);
+        this.max.accumulateAndGet(positive, Math::max);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return The number of recorded values.
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Returns the sum of recorded values.
+     *
+     * @return The sum of recorded values.
+     */
+    public long getSum() {
+        return this.sum.sum();
+    }
+
+    /**
+     * Returns the maximum recorded value.
+     *
+     * @return The maximum value or zero if nothing is recorded.
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Returns the mean of recorded values.
+     *
+     * @return The mean value or zero if nothing is recorded.
+     */
+    public double getMean() {
+        final long count = getCount();
+        return (count > 0) ? (double) getSum() / count : 0;
+    }
+
+    /**
+     * Returns the value below which the given percent of recorded values fall.
+     * The value is the upper bound of its bucket, but never above the maximum.
+     * <pre>
+     *     getValueAtPercentile(50) = median
+     *     getValueAtPercentile(99.9) = the value 99.9% of values are not above
+     *     getValueAtPercentile(100) = maximum
+     * </pre>
+     *
+     * @param percentile the percentile from 0 to 100.
+     * @return The value at the percentile or zero if nothing is recorded.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        long total = 0;
+        final int length = this.counts.length();
+        final long[] snapshot = new long[length];
+        for (int i = 0; i < length; i++) {
+            snapshot[i] = this.counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final double bounded = Math.min(Math.max(percentile, 0), 100);
+        final long rank = Math.max((long) Math.ceil(bounded / 100 * total), 1);
+        long seen = 0;
+        for (int i = 0; i < length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns the bucket index of a value.
+     *
+     * @param value the non-negative value.
+     * @return The bucket index.
+     */
+    static int indexOf(final long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the highest value counted by a bucket.
+     *
+     * @param index the bucket index.
+     * @return The highest value of the bucket.
+     */
+    static long highestValueOf(final int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        final int offset = index - LINEAR_BUCKETS;
+        final int shift = offset / SUB_BUCKETS + 1;
+        final long subBucket = offset % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,95 @@
+package ua.com.alexcoffee.util.metrics;
+
+import java.util.Locale;
+
+/**
+ * The class writes metrics in the Prometheus text exposition
+ * format, version 0.0.4. Every metric name gets the prefix
+ * passed to the constructor. The instance is not thread-safe,
+ * create one per scrape.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ */
+public final class PrometheusWriter {
+    /**
+     * The prefix of every metric name.
+     */
+    private final String prefix;
+
+    /**
+     * The written metrics.
+     */
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * Constructor.
+     *
+     * @param prefix the prefix of every metric name, for example "alexcoffee_".
+     */
+    public PrometheusWriter(final String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Writes the HELP and TYPE lines of a metric.
+     *
+     * @param name the metric name without the prefix.
+     * @param type the metric type: counter, gauge or summary.
+     * @param help the metric description.
+     * @return This writer.
+     */
+    public PrometheusWriter header(final String name, final String type, final String help) {
+        this.text.append("# HELP ").append(this.prefix).append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(this.prefix).append(name).append(' ').append(type).append('\n');
+        return this;
+    }
+
+    /**
+     * Writes a sample of a metric.
+     *
+     * @param name   the metric name without the prefix.
+     * @param labels the labels built with {@link #label(String, Object)}
+     *               and joined with commas, or an empty string.
+     * @param value  the sample value.
+     * @return This writer.
+     */
+    public PrometheusWriter sample(final String name, final String labels, final double value) {
+        this.text.append(this.prefix).append(name);
+        if (!labels.isEmpty()) {
+            this.text.append('{').append(labels).append('}');
+        }
+        this.text.append(' ');
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            this.text.append((long) value);
+        } else {
+            this.text.append(String.format(Locale.ROOT, "%.6f", value));
+        }
+        this.text.append('\n');
+        return this;
+    }
+
+    /**
+     * Returns a label with an escaped value.
+     *
+     * @param name  the label name.
+     * @param value the label value.
+     * @return The label as name="value".
+     */
+    public static String label(final String name, final Object value) {
+        final String escaped = String.valueOf(value)
+                .replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("\n", "\\n");
+        return name + "=\"" + escaped + "\"";
+    }
+
+    /**
+     * Returns the written metrics.
+     *
+     * @return The metrics in the Prometheus text format.
+     */
+    @Override
+    public String toString() {
+        return this.text.toString();
+    }
+}
@@ -0,0 +1,121 @@
+package ua.com.alexcoffee.util.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * The class implements a set of methods for exact amounts of money of the
+ * shop currency kept as a whole number of minor units (kopiykas) in a long.
+ * Totals are summed with {@link #add(long, long)}, {@link #subtract(long, long)}
+ * and {@link #multiply(long, int)}, which do not allocate and fail on overflow
+ * instead of wrapping. Amounts are converted to decimals and doubles only
+ * at the edges where they are parsed, stored or printed.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ */
+public final class Money {
+
+    /**
+     * Number of minor digits of the shop currency.
+     */
+    private static final int SCALE = Currency.getInstance("UAH").getDefaultFractionDigits();
+
+    /**
+     * Number of minor units in a major unit of the shop currency.
+     */
+    private static final double FACTOR = Math.pow(10, SCALE);
+
+    /**
+     * Private Constructor.
+     */
+    private Money() {
+    }
+
+    /**
+     * Converts a decimal amount of the shop currency to minor units,
+     * rounding half up to the nearest minor unit.
+     *
+     * @param amount the amount in major units, e.g. 12.5.
+     * @return The amount in minor units, e.g. 1250.
+     * @throws ArithmeticException if the amount does not fit in a long.
+     */
+    public static long toMinor(final BigDecimal amount) throws ArithmeticException {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converts a decimal amount of the shop currency to minor units,
+     * rounding half up to the nearest minor unit. The shortest decimal
+     * representation of the double is used, so 0.1 becomes exactly 10.
+     *
+     * @param amount the amount in major units, e.g. 12.5.
+     * @return The amount in minor units, e.g. 1250.
+     * @throws ArithmeticException if the amount is not finite or does not fit in a long.
+     */
+    public static long toMinor(final double amount) throws ArithmeticException {
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            throw new ArithmeticException("Amount " + amount + " is not finite!");
+        }
+        return toMinor(BigDecimal.valueOf(amount));
+    }
+
+    /**
+     * Converts minor units of the shop currency to a decimal amount.
+     *
+     * @param minor the amount in minor units.
+     * @return The amount in major units.
+     */
+    public static BigDecimal toDecimal(final long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    /**
+     * Converts minor units of the shop currency to the closest double,
+     * for callers and views that still expect a double. The division
+     * is correctly rounded, so the double prints back as the same
+     * decimal amount.
+     *
+     * @param minor the amount in minor units.
+     * @return The amount in major units.
+     */
+    public static double toDouble(final long minor) {
+        return minor / FACTOR;
+    }
+
+    /**
+     * Returns the price of a number of items.
+     *
+     * @param minor  the price of an item in minor units.
+     * @param number the number of items.
+     * @return The total in minor units.
+     * @throws ArithmeticException if the result overflows a long.
+     */
+    public static long multiply(final long minor, final int number) throws ArithmeticException {
+        return Math.multiplyExact(minor, number);
+    }
+
+    /**
+     * Returns the sum of two amounts.
+     *
+     * @param first  the first amount in minor units.
+     * @param second the second amount in minor units.
+     * @return The sum in minor units.
+     * @throws ArithmeticException if the result overflows a long.
+     */
+    public static long add(final long first, final long second) throws ArithmeticException {
+        return Math.addExact(first, second);
+    }
+
+    /**
+     * Returns the difference of two amounts.
+     *
+     * @param first  the amount in minor units to subtract from.
+     * @param second the amount in minor units to subtract.
+     * @return The difference in minor units.
+     * @throws ArithmeticException if the result overflows a long.
+     */
+    public static long subtract(final long first, final long second) throws ArithmeticException {
+        return Math.subtractExact(first, second);
+    }
+}
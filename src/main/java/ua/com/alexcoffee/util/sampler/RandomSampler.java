@@ -0,0 +1,126 @@
+package ua.com.alexcoffee.util.sampler;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static ua.com.alexcoffee.util.validator.ObjectValidator.isEmpty;
+
+/**
+ * The class implements a set of methods for drawing
+ * random distinct values from an array of identifiers.
+ * Uses Floyd's algorithm, so drawing k values costs O(k)
+ * regardless of the array length.
+ *
+ * @author Yuriy Salimov (yuriy.alex.salimov@gmail.com)
+ */
+public final class RandomSampler {
+
+    /**
+     * Private constructor.
+     */
+    private RandomSampler() {
+    }
+
+    /**
+     * Returns random distinct values of the array in random order.
+     *
+     * @param values the array to draw values from.
+     * @param size   the number of values to draw.
+     * @return The array of drawn values (never null).
+     */
+    public static long[] sample(final long[] values, final int size) {
+        if (isEmpty(values) || (size <= 0)) {
+            return new long[0];
+        }
+        return sample(values, values.length, -1, size);
+    }
+
+    /**
+     * Returns random distinct values of the array in random order,
+     * the excluded value never gets into the result.
+     *
+     * @param values   the array to draw values from.
+     * @param size     the number of values to draw.
+     * @param excluded the value to skip.
+     * @return The array of drawn values (never null).
+     */
+    public static long[] sample(final long[] values, final int size, final long excluded) {
+        if (isEmpty(values) || (size <= 0)) {
+            return new long[0];
+        }
+        final int excludedIndex = indexOf(values, excluded);
+        if (excludedIndex < 0) {
+            return sample(values, values.length, -1, size);
+        }
+        return sample(values, values.length - 1, excludedIndex, size);
+    }
+
+    /**
+     * Draws values from the first bound indexes of the array.
+     * If the hole index is not negative, the value at that index
+     * is replaced with the value at the bound index, so the hole
+     * is skipped without copying the array.
+     *
+     * @param values the array to draw values from.
+     * @param bound  the number of indexes to draw from.
+     * @param hole   the index to skip or -1.
+     * @param size   the number of values to draw.
+     * @return The array of drawn values.
+     */
+    private static long[] sample(
+            final long[] values,
+            final int bound,
+            final int hole,
+            final int size
+    ) {
+        final int count = Math.min(size, bound);
+        final long[] result = new long[count];
+        if (count == 0) {
+            return result;
+        }
+        final Random random = ThreadLocalRandom.current();
+        final Set<Integer> chosen = new HashSet<>(count * 2);
+        int position = 0;
+        for (int j = bound - count; j < bound; j++) {
+            final int index = random.nextInt(j + 1);
+            final int next = chosen.add(index) ? index : j;
+            chosen.add(next);
+            result[position++] = values[(next == hole) ? bound : next];
+        }
+        shuffle(result, random);
+        return result;
+    }
+
+    /**
+     * Shuffles the array in place.
+     *
+     * @param array  the array to shuffle.
+     * @param random the source of randomness.
+     */
+    private static void shuffle(final long[] array, final Random random) {
+        for (int i = array.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final long temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+
+    /**
+     * Returns the index of the value in the array.
+     *
+     * @param values the array to search.
+     * @param value  the value to find.
+     * @return The index of the value or -1 if the array does not contain it.
+     */
+    private static int indexOf(final long[] values, final long value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,15 @@
+--
+-- Names the unique keys of the initial schema after the entity mappings
+-- and adds indexes for the user lookups by username, name and role.
+-- Product lookups by category use the index of the category_id foreign key.
+--
+
+ALTER TABLE `photos` RENAME INDEX `title` TO `uk_photos_title`;
+ALTER TABLE `categories` RENAME INDEX `url` TO `uk_categories_url`;
+ALTER TABLE `products` RENAME INDEX `url` TO `uk_products_url`;
+ALTER TABLE `products` RENAME INDEX `article` TO `uk_products_article`;
+ALTER TABLE `orders` RENAME INDEX `number` TO `uk_orders_number`;
+
+CREATE INDEX `idx_users_username` ON `users` (`username`);
+CREATE INDEX `idx_users_name` ON `users` (`name`);
+CREATE INDEX `idx_users_role` ON `users` (`role`);
@@ -0,0 +1,10 @@
+--
+-- Stores the checkout key the client submitted the order form with.
+-- The unique key lets a repeated submit of the same form find the order
+-- created by the first one instead of creating a duplicate.
+-- Orders created before this version and without a key keep NULL.
+--
+
+ALTER TABLE `orders` ADD COLUMN `checkout_key` VARCHAR(32) DEFAULT NULL;
+
+CREATE UNIQUE INDEX `uk_orders_checkout_key` ON `orders` (`checkout_key`);
@@ -0,0 +1,15 @@
+--
+-- Adds the counter the application nodes reserve blocks of order numbers from.
+-- Order numbers are ten digit numbers starting from 1000000000,
+-- they never match the six character numbers of the earlier orders.
+--
+
+CREATE TABLE `order_sequence` (
+  `id`         INT             NOT NULL,
+  `next_value` BIGINT UNSIGNED NOT NULL,
+  PRIMARY KEY (`id`)
+)
+  ENGINE = InnoDB
+  DEFAULT CHARSET = utf8;
+
+INSERT INTO `order_sequence` (`id`, `next_value`) VALUES (1, 1000000000);
@@ -43,6 +43,7 @@
                     <jsp:include page="/WEB-INF/views/product/in_cart.jsp"/>
                     <div class="row">
                         <form action="checkout" method="post">
+                            <input type="hidden" name="checkout_key" value="${checkout_key}">
                             <div class="col-xs-12 col-sm-2 col-sm-offset-2 col-md-2 col-md-offset-2 col-lg-2 col-lg-offset-2 col-xl-2 col-xl-offset-2 input-padding text-center">
                                 <input class="input" type="text" name="user_name" placeholder=" Введите имя"
                                        minlength="2" maxlength="50" required autofocus>
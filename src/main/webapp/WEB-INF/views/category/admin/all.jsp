@@ -80,6 +80,7 @@
                                 </tr>
                             </c:forEach>
                         </table>
+                        <jsp:include page="/WEB-INF/views/other/pagination.jsp"/>
                     </div>
                 </c:if>
             </div>
@@ -40,6 +40,16 @@
                     </h3>
                 </div>
                 <jsp:include page="/WEB-INF/views/product/list.jsp"/>
+                <c:if test="${not empty next_after}">
+                    <div class="col-xs-10 col-xs-offset-1 col-sm-10 col-sm-offset-1 col-md-10 col-md-offset-1 col-lg-10 col-lg-offset-1 col-xl-10 col-xl-offset-1">
+                        <h4 class="text-all-products text-shadow">
+                            <a href="<c:url value="/category/${category.url}?after=${next_after}"/>"
+                               title="Показать следующие товары категории">
+                                Показать еще
+                            </a>
+                        </h4>
+                    </div>
+                </c:if>
                 <div class="col-xs-10 col-xs-offset-1 col-sm-10 col-sm-offset-1 col-md-10 col-md-offset-1 col-lg-10 col-lg-offset-1 col-xl-10 col-xl-offset-1">
                     <h4 class="text-all-products text-shadow">
                         <a href="<c:url value="/product/all"/>" title="Перейти ко всем товарам">
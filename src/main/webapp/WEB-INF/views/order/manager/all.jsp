@@ -60,7 +60,7 @@
                                            title="Смотреть заказ ${order.number}">
                                             <button class="btn btn-info" type="submit">Смотреть</button>
                                         </a>
-                                        <c:if test="${(order.status eq status_new) or (order.manager eq auth_user)}">
+                                        <c:if test="${(order.status eq status_new) or (order.managerId eq auth_user.id)}">
                                             <a href="<c:url value="/managers/order/edit/${order.id}"/>"
                                                title="Редактировать заказ ${order.number}">
                                                 <button class="btn btn-success" type="submit">Редактировать</button>
@@ -70,6 +70,7 @@
                                 </tr>
                             </c:forEach>
                         </table>
+                        <jsp:include page="/WEB-INF/views/other/pagination.jsp"/>
                     </div>
                 </c:if>
             </div>
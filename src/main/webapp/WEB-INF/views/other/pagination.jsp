@@ -0,0 +1,26 @@
+<%@ page contentType="text/html;charset=UTF-8" language="java" %>
+<%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
+
+<c:if test="${page.totalPages gt 1}">
+    <div class="text-center">
+        <ul class="pagination">
+            <c:if test="${page.hasPrevious()}">
+                <li>
+                    <a href="<c:url value="${page_url}?page=${page.number - 1}&size=${page.size}&sort=${page_sort}"/>"
+                       title="Предыдущая страница">&laquo;</a>
+                </li>
+            </c:if>
+            <li class="active">
+                <span>${page.number + 1} из ${page.totalPages}</span>
+            </li>
+            <c:if test="${page.hasNext()}">
+                <li>
+                    <a href="<c:url value="${page_url}?page=${page.number + 1}&size=${page.size}&sort=${page_sort}"/>"
+                       title="Следующая страница">&raquo;</a>
+                </li>
+            </c:if>
+        </ul>
+    </div>
+</c:if>
+
+<%-- Yurii Salimov (yuriy.alex.salimov@gmail.com) --%>
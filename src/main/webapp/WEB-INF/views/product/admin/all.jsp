@@ -62,9 +62,9 @@
                                            title="Перейти к товару ${product.title}">${product.title}</a>
                                     </td>
                                     <td class="hidden-xs">
-                                        <a href="<c:url value="/admin/category/view/${product.category.id}"/>"
-                                           title="Смотреть категорию ${product.category.title}">
-                                                ${product.category.title}</a>
+                                        <a href="<c:url value="/admin/category/view/${product.categoryId}"/>"
+                                           title="Смотреть категорию ${product.categoryTitle}">
+                                                ${product.categoryTitle}</a>
                                     </td>
                                     <td>
                                         <a href="<c:url value="/admin/product/view/${product.id}"/>"
@@ -83,6 +83,7 @@
                                 </tr>
                             </c:forEach>
                         </table>
+                        <jsp:include page="/WEB-INF/views/other/pagination.jsp"/>
                     </div>
                 </c:if>
             </div>
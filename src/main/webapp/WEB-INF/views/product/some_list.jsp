@@ -18,6 +18,14 @@
                 </h3>
                 <%-- PRODUCTS LIST --%>
                 <jsp:include page="/WEB-INF/views/product/list.jsp"/>
+                <c:if test="${not empty next_after}">
+                    <h4 class="text-all-products text-shadow">
+                        <a href="<c:url value="/product/all?after=${next_after}"/>"
+                           title="Показать следующие товары">
+                            Показать еще
+                        </a>
+                    </h4>
+                </c:if>
             </div>
         </div>
     </section>
@@ -0,0 +1,59 @@
+package ua.com.alexcoffee.config;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import ua.com.alexcoffee.repository.cart.CookieCartStore;
+
+import static org.junit.Assert.assertTrue;
+
+public class CartConfigTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"CartConfig\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"CartConfig\" - FINISH.\n");
+    }
+
+    @Test
+    public void cookieCartStoreTest() throws Exception {
+        System.out.print("-> cartStore() cookie - ");
+        assertTrue(newCartConfig("cookie", "secret").cartStore() instanceof CookieCartStore);
+        System.out.println("OK!");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void emptySecretTest() throws Exception {
+        System.out.print("-> cartStore() empty secret - ");
+        try {
+            newCartConfig("cookie", "").cartStore();
+        } finally {
+            System.out.println("OK!");
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void externalCartStoreTest() throws Exception {
+        System.out.print("-> cartStore() external - ");
+        try {
+            newCartConfig("external", "secret").cartStore();
+        } finally {
+            System.out.println("OK!");
+        }
+    }
+
+    private static CartConfig newCartConfig(final String store, final String secret) {
+        CartConfig config = new CartConfig();
+        ReflectionTestUtils.setField(config, "store", store);
+        ReflectionTestUtils.setField(config, "cookieName", "cart");
+        ReflectionTestUtils.setField(config, "cookieSecret", secret);
+        ReflectionTestUtils.setField(config, "cookieMaxAge", 3600);
+        ReflectionTestUtils.setField(config, "maxLines", 50);
+        return config;
+    }
+}
@@ -3,11 +3,20 @@ package ua.com.alexcoffee.controller;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 import ua.com.alexcoffee.controller.seo.SEOController;
 import ua.com.alexcoffee.tools.MockController;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
 public class SEOControllerTest {
 
@@ -35,8 +44,46 @@ public class SEOControllerTest {
     @Test
     public void getSiteMapXmlTest() throws Exception {
         System.out.print("-> getSiteMapXml() - ");
-        assertNotNull(seoController.getSiteMapXml());
-        assertFalse(seoController.getSiteMapXml().isEmpty());
+        ResponseEntity<Resource> response = seoController.getSiteMapXml(getRequest(null, null));
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertNotNull(response.getHeaders().getETag());
         System.out.println("OK!");
     }
+
+    @Test
+    public void getGzipSiteMapXmlTest() throws Exception {
+        System.out.print("-> getGzipSiteMapXml() - ");
+        ResponseEntity<Resource> response = seoController.getSiteMapXml(getRequest("gzip, deflate", null));
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getNotModifiedSiteMapXmlTest() throws Exception {
+        System.out.print("-> getNotModifiedSiteMapXml() - ");
+        String eTag = seoController.getSiteMapXml(getRequest(null, null)).getHeaders().getETag();
+        assertNull(seoController.getSiteMapXml(getRequest(null, eTag)));
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getUnknownSiteMapPartTest() throws Exception {
+        System.out.print("-> getUnknownSiteMapPart() - ");
+        ResponseEntity<Resource> response = seoController.getSiteMapPart(2, getRequest(null, null));
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        System.out.println("OK!");
+    }
+
+    private static ServletWebRequest getRequest(final String encoding, final String eTag) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/sitemap.xml");
+        if (encoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, encoding);
+        }
+        if (eTag != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
@@ -31,7 +31,7 @@ public class AdminCategoriesControllerTest {
     public void viewAllCategoriesTest() throws Exception {
         System.out.print("-> viewAllCategories() - ");
 
-        ModelAndView modelAndView = adminCategoriesController.viewAllCategories();
+        ModelAndView modelAndView = adminCategoriesController.viewAllCategories(0, 20, "id");
         String[] keys = { "categories" };
         checkModelAndView(modelAndView, "category/admin/all", keys);
 
@@ -0,0 +1,65 @@
+package ua.com.alexcoffee.controller.admin;
+
+import org.hibernate.stat.Statistics;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ua.com.alexcoffee.service.metrics.CacheMetrics;
+import ua.com.alexcoffee.service.metrics.PoolMetrics;
+import ua.com.alexcoffee.service.metrics.RequestMetrics;
+import ua.com.alexcoffee.service.metrics.StartupMetrics;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+public class AdminMetricsControllerTest {
+
+    private static RequestMetrics requestMetrics;
+    private static AdminMetricsController adminMetricsController;
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"AdminMetricsController\" - START.\n");
+        requestMetrics = new RequestMetrics(10);
+        requestMetrics.record("GET /", 1_000_000, 200, null);
+        adminMetricsController = new AdminMetricsController(
+                requestMetrics, new PoolMetrics(), new CacheMetrics(mock(Statistics.class)), new StartupMetrics(100)
+        );
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"AdminMetricsController\" - FINISH.\n");
+    }
+
+    @Test
+    public void getMetricsTest() throws Exception {
+        System.out.print("-> getMetrics() - ");
+
+        Map<String, Object> metrics = adminMetricsController.getMetrics();
+        assertNotNull(metrics.get("uptime"));
+        assertEquals(1, ((List) metrics.get("routes")).size());
+        assertNotNull(metrics.get("outcomes"));
+        assertNotNull(metrics.get("pool"));
+        assertNotNull(metrics.get("cache"));
+        assertNotNull(metrics.get("startup"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getPrometheusMetricsTest() throws Exception {
+        System.out.print("-> getPrometheusMetrics() - ");
+
+        String text = adminMetricsController.getPrometheusMetrics();
+        assertTrue(text.contains("alexcoffee_http_requests_total{route=\"GET /\",status=\"200\"} 1"));
+        assertTrue(text.contains("# TYPE alexcoffee_pool_connections gauge"));
+        assertTrue(text.contains("alexcoffee_query_cache_requests_total{result=\"hit\"} 0"));
+        assertTrue(text.contains("alexcoffee_ready 0"));
+
+        System.out.println("OK!");
+    }
+}
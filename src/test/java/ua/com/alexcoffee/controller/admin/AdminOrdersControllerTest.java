@@ -31,7 +31,7 @@ public class AdminOrdersControllerTest {
     public void viewAllOrdersTest() throws Exception {
         System.out.print("-> viewAllOrders() - ");
 
-        ModelAndView modelAndView = adminOrdersController.viewAllOrders();
+        ModelAndView modelAndView = adminOrdersController.viewAllOrders(0, 20, "-id");
         String[] keys = { "orders", "status_new" };
         String viewName = "order/admin/all";
         checkModelAndView(modelAndView, viewName, keys);
@@ -31,8 +31,8 @@ public class AdminProductsControllerTest {
     public void viewAllProductsTest() throws Exception {
         System.out.print("-> viewAllOrders() - ");
 
-        ModelAndView modelAndView = adminProductsController.viewAllProducts();
-        String[] keys = { "products" };
+        ModelAndView modelAndView = adminProductsController.viewAllProducts(0, 20, "id");
+        String[] keys = { "products", "page" };
         String viewName = "product/admin/all";
         checkModelAndView(modelAndView, viewName, keys);
 
@@ -0,0 +1,45 @@
+package ua.com.alexcoffee.controller.client;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import ua.com.alexcoffee.service.metrics.StartupMetrics;
+
+import static org.junit.Assert.*;
+
+public class HealthControllerTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"HealthController\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"HealthController\" - FINISH.\n");
+    }
+
+    @Test
+    public void liveTest() throws Exception {
+        System.out.print("-> live() - ");
+
+        HealthController controller = new HealthController(new StartupMetrics(100));
+        assertEquals(HttpStatus.OK, controller.live().getStatusCode());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void readyTest() throws Exception {
+        System.out.print("-> ready() - ");
+
+        StartupMetrics metrics = new StartupMetrics(100);
+        HealthController controller = new HealthController(metrics);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, controller.ready().getStatusCode());
+        metrics.markReady(0);
+        assertEquals(HttpStatus.OK, controller.ready().getStatusCode());
+
+        System.out.println("OK!");
+    }
+}
@@ -3,12 +3,25 @@ package ua.com.alexcoffee.controller.client;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.mapping.model.IllegalMappingException;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.ModelAndView;
+import ua.com.alexcoffee.model.order.Order;
+import ua.com.alexcoffee.service.interfaces.CheckoutService;
+import ua.com.alexcoffee.service.interfaces.ShoppingCartService;
 import ua.com.alexcoffee.tools.MockController;
 
+import java.sql.SQLException;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static ua.com.alexcoffee.tools.MockModel.*;
 import static ua.com.alexcoffee.tools.ModelAndViews.checkModelAndView;
 
@@ -45,7 +58,7 @@ public class HomeControllerTest {
     public void viewProductsInCategoryTest() throws Exception {
         System.out.print("-> viewProductsInCategory() - ");
 
-        ModelAndView modelAndView = homeController.viewProductsInCategory(URL);
+        ModelAndView modelAndView = homeController.viewProductsInCategory(URL, 0, 12);
         String[] keys = {"category", "products", "cart_size"};
         String viewName = "category/one";
         checkModelAndView(modelAndView, viewName, keys);
@@ -58,7 +71,7 @@ public class HomeControllerTest {
     public void viewAllProductsTest() throws Exception {
         System.out.print("-> viewAllProducts() - ");
 
-        ModelAndView modelAndView = homeController.viewAllProducts();
+        ModelAndView modelAndView = homeController.viewAllProducts(0, 12);
         String[] keys = {"products", "cart_size"};
         String viewName = "product/all";
         checkModelAndView(modelAndView, viewName, keys);
@@ -88,7 +101,7 @@ public class HomeControllerTest {
         System.out.print("-> viewCart() - ");
 
         ModelAndView modelAndView = homeController.viewCart();
-        String[] keys = {"sale_positions", "price_of_cart", "cart_size"};
+        String[] keys = {"sale_positions", "price_of_cart", "cart_size", "checkout_key"};
         String viewName = "cart/cart";
         checkModelAndView(modelAndView, viewName, keys);
 
@@ -156,7 +169,7 @@ public class HomeControllerTest {
     public void viewCheckoutTest() throws Exception {
         System.out.print("-> viewCheckout() RequestMethod.GET - ");
 
-        ModelAndView modelAndView = homeController.viewCheckout("Name", "email", "phone");
+        ModelAndView modelAndView = homeController.viewCheckout("Name", "email", "phone", null, null);
         String[] keys = {};
         String viewName = "client/checkout";
 
@@ -184,4 +197,55 @@ public class HomeControllerTest {
 
         System.out.println("OK!");
     }
+
+    @Test
+    public void viewCheckoutDuplicateKeyTest() throws Exception {
+        System.out.print("-> viewCheckout() duplicate checkout key - ");
+
+        Order order = Order.getBuilder().build();
+        CheckoutService checkoutService = mockCheckoutService(Order.CHECKOUT_KEY_INDEX.toUpperCase());
+        when(checkoutService.get("generated-key-0001")).thenReturn(order);
+        HomeController controller = new HomeController(null, null, mockCart(), checkoutService);
+
+        ModelAndView modelAndView = controller.viewCheckout("Name", "email", "phone", "bad key", null);
+        assertSame(order, modelAndView.getModel().get("order"));
+        verify(checkoutService).get("generated-key-0001");
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = DataIntegrityViolationException.class)
+    public void viewCheckoutOtherViolationTest() throws Exception {
+        System.out.print("-> viewCheckout() other constraint violation - ");
+
+        CheckoutService checkoutService = mockCheckoutService("uk_orders_number");
+        HomeController controller = new HomeController(null, null, mockCart(), checkoutService);
+
+        try {
+            controller.viewCheckout("Name", "email", "phone", null, null);
+        } finally {
+            System.out.println("OK!");
+        }
+    }
+
+    private static CheckoutService mockCheckoutService(final String constraint) {
+        CheckoutService checkoutService = mock(CheckoutService.class);
+        when(checkoutService.checkKey(any())).thenReturn("generated-key-0001");
+        when(checkoutService.checkout(anyString(), anyString(), anyString(), anyString(), any()))
+                .thenThrow(new DataIntegrityViolationException(
+                        "could not execute statement",
+                        new ConstraintViolationException(
+                                "could not execute statement",
+                                new SQLException("Unique index or primary key violation"),
+                                constraint
+                        )
+                ));
+        return checkoutService;
+    }
+
+    private static ShoppingCartService mockCart() {
+        ShoppingCartService shoppingCartService = mock(ShoppingCartService.class);
+        when(shoppingCartService.getSize()).thenReturn(1);
+        return shoppingCartService;
+    }
 }
@@ -32,7 +32,7 @@ public class ManagerOrdersControllerTest {
     public void viewAllOrdersTest() throws Exception {
         System.out.print("-> viewAllOrders() - ");
 
-        ModelAndView modelAndView = managerOrdersController.viewAllOrders();
+        ModelAndView modelAndView = managerOrdersController.viewAllOrders(0, 20, "-id");
         String[] keys = { "orders", "status_new" };
         String viewName = "order/manager/all";
         checkModelAndView(modelAndView, viewName, keys);
@@ -9,6 +9,7 @@ import ua.com.alexcoffee.model.position.SalePosition;
 import ua.com.alexcoffee.model.product.Product;
 import ua.com.alexcoffee.model.user.User;
 import ua.com.alexcoffee.model.user.UserRole;
+import ua.com.alexcoffee.util.money.Money;
 
 import java.util.Date;
 import java.util.List;
@@ -439,7 +440,7 @@ public class OrderTest {
         Order order = Order.getBuilder().build();
         Product product;
         SalePosition salePosition;
-        double price = 0;
+        long price = 0;
 
         for (int i = 0; i < 10; i++) {
             product = new Product();
@@ -450,10 +451,11 @@ public class OrderTest {
 
             order.addSalePosition(salePosition);
 
-            price += product.getPrice();
+            price += product.getPriceMinor();
         }
 
-        assertTrue(order.getPrice() == price);
+        assertTrue(order.getPriceMinor() == price);
+        assertTrue(order.getPrice() == Money.toDouble(price));
 
         System.out.println("OK!");
     }
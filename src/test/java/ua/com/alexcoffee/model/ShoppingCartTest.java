@@ -8,6 +8,7 @@ import ua.com.alexcoffee.model.position.SalePosition;
 import ua.com.alexcoffee.model.product.Product;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -184,4 +185,42 @@ public class ShoppingCartTest {
 
         System.out.println("OK!");
     }
+
+    @Test
+    public void runningTotalsTest() {
+        System.out.print("-> running totals - ");
+
+        final ShoppingCart cart = new ShoppingCart();
+        for (int i = 1; i <= 3; i++) {
+            final Product product = new Product();
+            product.setId(i);
+            product.setPrice(10 * i);
+            final SalePosition position = new SalePosition();
+            position.setProduct(product);
+            position.setNumber(i);
+            cart.addSalePosition(position);
+        }
+        final Collection<SalePosition> positions = cart.getSalePositions();
+        assertEquals(3, positions.size());
+        assertEquals(6, cart.getSize());
+        assertTrue(cart.getPrice() == 140);
+
+        final Product product = new Product();
+        product.setId(2);
+        final SalePosition position = new SalePosition();
+        position.setProduct(product);
+        cart.removeSalePosition(position);
+        assertEquals(2, positions.size());
+        assertEquals(4, cart.getSize());
+        assertTrue(cart.getPrice() == 100);
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void salePositionsReadOnlyTest() {
+        System.out.println("-> getSalePositions() read only - OK!");
+
+        new ShoppingCart().getSalePositions().clear();
+    }
 }
@@ -0,0 +1,252 @@
+package ua.com.alexcoffee.repository;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ua.com.alexcoffee.config.DatabaseConfig;
+import ua.com.alexcoffee.config.RootConfig;
+import ua.com.alexcoffee.model.category.Category;
+import ua.com.alexcoffee.model.order.Order;
+import ua.com.alexcoffee.model.order.OrderStatus;
+import ua.com.alexcoffee.model.photo.Photo;
+import ua.com.alexcoffee.model.position.SalePosition;
+import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.model.projection.OrderRow;
+import ua.com.alexcoffee.model.user.User;
+import ua.com.alexcoffee.model.user.UserRole;
+import ua.com.alexcoffee.service.metrics.QueryProfile;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class EntityGraphTest {
+
+    private static final String CHECKOUT_KEY = "entity-graph-key";
+
+    private static AnnotationConfigApplicationContext context;
+
+    private static TransactionTemplate transaction;
+
+    private static OrderRepository orderRepository;
+
+    private static ProductRepository productRepository;
+
+    private static CategoryRepository categoryRepository;
+
+    private static long orderId;
+
+    private static long managerId;
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting entity graphs - START.\n");
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("jdbc.driver", "org.h2.Driver");
+        properties.put("jdbc.driver.url", "jdbc:h2:mem");
+        properties.put("database.name", "entity-graph;DB_CLOSE_DELAY=-1");
+        properties.put("database.username", "sa");
+        properties.put("database.password", "");
+        properties.put("database.pool.min-idle", "1");
+        properties.put("database.pool.max-size", "2");
+        properties.put("database.migration.enabled", "false");
+        properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("hibernate.ddl-auto", "update");
+        properties.put("hibernate.cache.use-second-level-cache", "false");
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+        context.register(RootConfig.class, DatabaseConfig.class);
+        context.refresh();
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        orderRepository = context.getBean(OrderRepository.class);
+        productRepository = context.getBean(ProductRepository.class);
+        categoryRepository = context.getBean(CategoryRepository.class);
+        transaction.execute(status -> {
+            final Category category = Category.getBuilder()
+                    .addTitle("Beans")
+                    .addUrl("beans")
+                    .addPhoto(Photo.getBuilder().addTitle("beans").build())
+                    .build();
+            categoryRepository.save(category);
+            final Product product = Product.getBuilder()
+                    .addArticle(1)
+                    .addTitle("Coffee")
+                    .addUrl("coffee")
+                    .addParameters("250 g")
+                    .addDescription("Arabica")
+                    .addCategory(category)
+                    .addPhoto(
+                            Photo.getBuilder()
+                                    .addTitle("coffee")
+                                    .addSmallUrl("coffee-small.jpg")
+                                    .addLongUrl("coffee-long.jpg")
+                                    .build()
+                    ).addPrice(12.5)
+                    .build();
+            productRepository.save(product);
+            final User manager = User.getBuilder()
+                    .addName("Manager")
+                    .addRole(UserRole.MANAGER)
+                    .build();
+            managerId = context.getBean(UserRepository.class).save(manager).getId();
+            final SalePosition position = new SalePosition();
+            position.setProduct(product);
+            position.setNumber(2);
+            final Order order = Order.getBuilder()
+                    .addNumber("0001")
+                    .addStatus(OrderStatus.WORK)
+                    .addClient(
+                            User.getBuilder()
+                                    .addName("Client")
+                                    .addEmail("client@mail.com")
+                                    .addPhone("0000000000")
+                                    .build()
+                    ).addManager(manager)
+                    .addSalePosition(position)
+                    .build();
+            order.setCheckoutKey(CHECKOUT_KEY);
+            orderId = orderRepository.save(order).getId();
+            return null;
+        });
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        context.close();
+        System.out.println("Testing entity graphs - FINISH.\n");
+    }
+
+    @Test
+    public void orderListTest() {
+        System.out.print("-> orderList() - ");
+
+        final Page<OrderRow>[] rows = new Page[1];
+        assertTrue(countStatements(() -> rows[0] = orderRepository.findAllRows(new PageRequest(0, 10))) <= 2);
+        final OrderRow row = rows[0].getContent().get(0);
+        assertEquals(orderId, row.getId());
+        assertEquals("0001", row.getNumber());
+        assertNotNull(row.getDate());
+        assertEquals(OrderStatus.WORK.getDescription(), row.getStatus().getDescription());
+        assertEquals(Long.valueOf(managerId), row.getManagerId());
+
+        final Page<Order>[] orders = new Page[1];
+        assertTrue(countStatements(() -> orders[0] = orderRepository.findAll(new PageRequest(0, 10))) <= 2);
+        final Order order = orders[0].getContent().get(0);
+        assertEquals("0001", order.getNumber());
+        assertEquals(OrderStatus.WORK, order.getStatus());
+        assertEquals(managerId, order.getManager().getId());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void orderDetailTest() {
+        System.out.print("-> orderDetail() - ");
+
+        final Order[] order = new Order[1];
+        assertEquals(1, countStatements(() -> order[0] = orderRepository.findOne(orderId)));
+        assertRendersDetail(order[0]);
+        assertEquals(1, countStatements(() -> order[0] = orderRepository.findByNumber("0001")));
+        assertRendersDetail(order[0]);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void checkoutReplayTest() {
+        System.out.print("-> checkoutReplay() - ");
+
+        final Order[] order = new Order[1];
+        assertEquals(1, countStatements(() -> order[0] = orderRepository.findByCheckoutKey(CHECKOUT_KEY)));
+        assertEquals("Client", order[0].getClient().getName());
+        assertEquals("0001", order[0].getNumber());
+        final SalePosition position = order[0].getSalePositions().iterator().next();
+        assertEquals(2, position.getNumber());
+        final Product product = position.getProduct();
+        assertEquals("Coffee", product.getTitle());
+        assertEquals("coffee", product.getUrl());
+        assertEquals(12.5, product.getPrice(), 0);
+        assertEquals("Beans", product.getCategory().getTitle());
+        assertEquals("beans", product.getCategory().getUrl());
+        assertEquals("coffee-small.jpg", product.getPhoto().getSmallUrl());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void productCardTest() {
+        System.out.print("-> productCard() - ");
+
+        final Product[] product = new Product[1];
+        assertEquals(1, countStatements(() -> product[0] = productRepository.findByUrl("coffee")));
+        assertTrue(product[0].getId() > 0);
+        assertEquals(1, product[0].getArticle());
+        assertEquals("Coffee", product[0].getTitle());
+        assertEquals("Arabica", product[0].getDescription());
+        assertEquals("250 g", product[0].getParameters());
+        assertEquals(12.5, product[0].getPrice(), 0);
+        assertEquals("coffee-small.jpg", product[0].getPhoto().getSmallUrl());
+        assertEquals("coffee-long.jpg", product[0].getPhoto().getLongUrl());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void sitemapTest() {
+        System.out.print("-> sitemap() - ");
+
+        final List<String>[] urls = new List[1];
+        assertEquals(1, countStatements(() -> urls[0] = collect(productRepository.streamAllUrls())));
+        assertEquals("coffee", urls[0].get(0));
+        assertEquals(1, countStatements(() -> urls[0] = collect(categoryRepository.streamAllUrls())));
+        assertEquals("beans", urls[0].get(0));
+
+        System.out.println("OK!");
+    }
+
+    private static void assertRendersDetail(final Order order) {
+        assertEquals("0001", order.getNumber());
+        assertEquals("Client", order.getClient().getName());
+        assertEquals("client@mail.com", order.getClient().getEmail());
+        assertEquals("0000000000", order.getClient().getPhone());
+        assertEquals(managerId, order.getManager().getId());
+        assertEquals("Manager", order.getManager().getName());
+        assertEquals(UserRole.MANAGER.getDescription(), order.getManager().getRole().getDescription());
+        final SalePosition position = order.getSalePositions().iterator().next();
+        assertEquals(2, position.getNumber());
+        assertTrue(position.getProduct().getId() > 0);
+        assertEquals("Coffee", position.getProduct().getTitle());
+        assertEquals("coffee", position.getProduct().getUrl());
+        assertEquals(12.5, position.getProduct().getPrice(), 0);
+    }
+
+    private static List<String> collect(final Stream<String> urls) {
+        try (Stream<String> stream = urls) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    private static int countStatements(final Supplier<?> action) {
+        QueryProfile.begin();
+        try {
+            transaction.execute(status -> action.get());
+        } catch (RuntimeException ex) {
+            QueryProfile.end();
+            throw ex;
+        }
+        return QueryProfile.end().getStatementCount();
+    }
+}
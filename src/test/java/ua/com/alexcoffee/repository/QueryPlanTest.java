@@ -0,0 +1,282 @@
+package ua.com.alexcoffee.repository;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ua.com.alexcoffee.config.DatabaseConfig;
+import ua.com.alexcoffee.config.RootConfig;
+import ua.com.alexcoffee.model.order.Order;
+import ua.com.alexcoffee.model.projection.ProductRow;
+import ua.com.alexcoffee.model.user.UserRole;
+import ua.com.alexcoffee.service.metrics.QueryProfile;
+import ua.com.alexcoffee.service.schema.CheckMode;
+import ua.com.alexcoffee.service.schema.IndexCheck;
+import ua.com.alexcoffee.service.schema.SchemaCheck;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class QueryPlanTest {
+
+    private static final int CATEGORIES = 20;
+
+    private static final int PRODUCTS = 2000;
+
+    private static final int USERS = 1000;
+
+    private static AnnotationConfigApplicationContext context;
+
+    private static TransactionTemplate transaction;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private static ProductRepository productRepository;
+
+    private static CategoryRepository categoryRepository;
+
+    private static PhotoRepository photoRepository;
+
+    private static OrderRepository orderRepository;
+
+    private static UserRepository userRepository;
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting query plans - START.\n");
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("jdbc.driver", "org.h2.Driver");
+        properties.put("jdbc.driver.url", "jdbc:h2:mem");
+        properties.put("database.name", "query-plan;DB_CLOSE_DELAY=-1");
+        properties.put("database.username", "sa");
+        properties.put("database.password", "");
+        properties.put("database.pool.min-idle", "1");
+        properties.put("database.pool.max-size", "2");
+        properties.put("database.migration.enabled", "false");
+        properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("hibernate.ddl-auto", "update");
+        properties.put("hibernate.cache.use-second-level-cache", "false");
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+        context.register(RootConfig.class, DatabaseConfig.class);
+        context.refresh();
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        productRepository = context.getBean(ProductRepository.class);
+        categoryRepository = context.getBean(CategoryRepository.class);
+        photoRepository = context.getBean(PhotoRepository.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        fillTables();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        context.close();
+        System.out.println("Testing query plans - FINISH.\n");
+    }
+
+    @Test
+    public void declaredIndexesTest() throws Exception {
+        System.out.print("-> declaredIndexes() - ");
+
+        assertTrue(context.getBean(IndexCheck.class).findMissing().isEmpty());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void mappedSchemaTest() throws Exception {
+        System.out.print("-> mappedSchema() - ");
+
+        assertTrue(context.getBean(SchemaCheck.class).findMissing().isEmpty());
+
+        final Map<String, Collection<String>> tables = new HashMap<>();
+        tables.put("products", Arrays.asList("url", "weight"));
+        tables.put("coupons", Collections.singletonList("code"));
+        final List<String> missing = new SchemaCheck(
+                context.getBean(DataSource.class), tables, CheckMode.FAIL
+        ).findMissing();
+        assertEquals(2, missing.size());
+        assertTrue(missing.contains("products.weight"));
+        assertTrue(missing.contains("coupons"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void productFindersTest() {
+        System.out.print("-> productFinders() - ");
+
+        assertIndexed(() -> productRepository.findByUrl("url"));
+        assertIndexed(() -> productRepository.findByArticle(1));
+        assertIndexed(() -> productRepository.findByCategoryId(1));
+        assertIndexed(() -> productRepository.findByCategoryUrl("url"));
+        assertIndexed(() -> productRepository.findIdsByCategoryId(1));
+        assertIndexed(() -> productRepository.findByIdGreaterThan(1, firstPage()));
+        assertIndexed(() -> productRepository.findByCategoryUrlAndIdGreaterThan("url", 1, firstPage()));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void categoryFindersTest() {
+        System.out.print("-> categoryFinders() - ");
+
+        assertIndexed(() -> categoryRepository.findByUrl("url"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void photoFindersTest() {
+        System.out.print("-> photoFinders() - ");
+
+        assertIndexed(() -> photoRepository.findByTitle("title"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void orderFindersTest() {
+        System.out.print("-> orderFinders() - ");
+
+        assertIndexed(() -> orderRepository.findByNumber("number"));
+        assertIndexed(() -> orderRepository.findByCheckoutKey("key"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void checkoutKeyTest() {
+        System.out.print("-> checkoutKey() - ");
+
+        final String key = "checkout-key-0123456789";
+        final Order order = Order.getBuilder().addNumber("checkout-1").build();
+        order.setCheckoutKey(key);
+        transaction.execute(status -> orderRepository.save(order));
+        assertEquals(order.getId(), transaction.execute(status -> orderRepository.findByCheckoutKey(key)).getId());
+        final Order duplicate = Order.getBuilder().addNumber("checkout-2").build();
+        duplicate.setCheckoutKey(key);
+        try {
+            transaction.execute(status -> orderRepository.save(duplicate));
+            fail("The checkout key must be unique");
+        } catch (DataIntegrityViolationException ex) {
+            assertNull(transaction.execute(status -> orderRepository.findByNumber("checkout-2")));
+        }
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void exactPriceTest() {
+        System.out.print("-> exactPrice() - ");
+
+        jdbcTemplate.update("update products set price = 12.34 where url = 'product-7'");
+        assertEquals(1234, transaction.execute(status -> productRepository.findByUrl("product-7")).getPriceMinor());
+        final ProductRow row = transaction.execute(
+                status -> productRepository.findAllRows(firstPage()).getContent().get(6)
+        );
+        assertEquals("product-7", row.getUrl());
+        assertEquals(1234, row.getPriceMinor());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void userFindersTest() {
+        System.out.print("-> userFinders() - ");
+
+        assertIndexed(() -> userRepository.findByName("name"));
+        assertIndexed(() -> userRepository.findByUsername("username"));
+        assertIndexed(() -> userRepository.findByRole(UserRole.ADMIN));
+        assertIndexed(() -> userRepository.findAllByRole(UserRole.MANAGER));
+        assertIndexed(() -> userRepository.findAllRowsByRoleIn(Collections.singleton(UserRole.ADMIN)));
+
+        System.out.println("OK!");
+    }
+
+    private static void fillTables() {
+        final List<Object[]> categories = new ArrayList<>();
+        for (int i = 1; i <= CATEGORIES; i++) {
+            categories.add(new Object[]{"category-" + i, "Category " + i, ""});
+        }
+        jdbcTemplate.batchUpdate("insert into categories (url, title, description) values (?, ?, ?)", categories);
+        final List<Object[]> products = new ArrayList<>();
+        for (int i = 1; i <= PRODUCTS; i++) {
+            products.add(new Object[]{i, "Product " + i, "product-" + i, "", "", i % CATEGORIES + 1, i});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into products (article, title, url, parameters, description, category_id, price) " +
+                        "values (?, ?, ?, ?, ?, ?, ?)",
+                products
+        );
+        final List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= USERS; i++) {
+            users.add(new Object[]{i % 50 == 0 ? "MANAGER" : "CLIENT", "User " + i, "", "", "", "", "", "", "", ""});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into users (role, name, username, password, email, phone, vkontakte, facebook, skype, description) " +
+                        "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                users
+        );
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static PageRequest firstPage() {
+        return new PageRequest(0, 10, new Sort(Sort.Direction.ASC, "id"));
+    }
+
+    private static void assertIndexed(final Supplier<?> finder) {
+        QueryProfile.begin();
+        final Set<String> statements;
+        try {
+            transaction.execute(status -> finder.get());
+        } finally {
+            statements = QueryProfile.end().getStatements().keySet();
+        }
+        assertFalse(statements.isEmpty());
+        for (String sql : statements) {
+            final String plan = explain(sql);
+            assertFalse(sql + "\n" + plan, plan.contains("tableScan"));
+        }
+    }
+
+    private static String explain(final String sql) {
+        return jdbcTemplate.execute(
+                "EXPLAIN " + sql,
+                (PreparedStatement statement) -> {
+                    for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                        statement.setObject(i, null);
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                        return resultSet.getString(1);
+                    }
+                }
+        );
+    }
+}
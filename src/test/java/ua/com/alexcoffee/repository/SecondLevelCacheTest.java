@@ -0,0 +1,227 @@
+package ua.com.alexcoffee.repository;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ua.com.alexcoffee.config.DatabaseConfig;
+import ua.com.alexcoffee.config.RootConfig;
+import ua.com.alexcoffee.model.category.Category;
+import ua.com.alexcoffee.model.photo.Photo;
+import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.service.metrics.CacheMetrics;
+import ua.com.alexcoffee.service.metrics.QueryProfile;
+import ua.com.alexcoffee.util.metrics.PrometheusWriter;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SecondLevelCacheTest {
+
+    private static AnnotationConfigApplicationContext context;
+
+    private static TransactionTemplate transaction;
+
+    private static CategoryRepository categoryRepository;
+
+    private static ProductRepository productRepository;
+
+    private static Statistics statistics;
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting second-level cache - START.\n");
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("jdbc.driver", "org.h2.Driver");
+        properties.put("jdbc.driver.url", "jdbc:h2:mem");
+        properties.put("database.name", "second-level-cache;DB_CLOSE_DELAY=-1");
+        properties.put("database.username", "sa");
+        properties.put("database.password", "");
+        properties.put("database.pool.min-idle", "1");
+        properties.put("database.pool.max-size", "2");
+        properties.put("database.migration.enabled", "false");
+        properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("hibernate.ddl-auto", "update");
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+        context.register(RootConfig.class, DatabaseConfig.class);
+        context.refresh();
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        categoryRepository = context.getBean(CategoryRepository.class);
+        productRepository = context.getBean(ProductRepository.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        transaction.execute(status -> {
+            final Category category = Category.getBuilder()
+                    .addTitle("Coffee")
+                    .addUrl("coffee")
+                    .addPhoto(Photo.getBuilder().addTitle("coffee").build())
+                    .build();
+            categoryRepository.save(category);
+            for (int i = 1; i <= 3; i++) {
+                productRepository.save(
+                        Product.getBuilder()
+                                .addArticle(i)
+                                .addTitle("Product " + i)
+                                .addUrl("product-" + i)
+                                .addCategory(category)
+                                .addPhoto(Photo.getBuilder().addTitle("product-" + i).build())
+                                .addPrice(i)
+                                .build()
+                );
+            }
+            return null;
+        });
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        context.close();
+        System.out.println("Testing second-level cache - FINISH.\n");
+    }
+
+    @Before
+    public void clearStatistics() {
+        statistics.clear();
+    }
+
+    @Test
+    public void repeatedProductPageTest() {
+        System.out.print("-> repeatedProductPage() - ");
+
+        final int first = countStatements(() -> productRepository.findByUrl("product-1"));
+        final int second = countStatements(() -> productRepository.findByUrl("product-1"));
+        assertTrue(first > 0);
+        assertEquals(0, second);
+        assertTrue(statistics.getQueryCacheHitCount() > 0);
+
+        final Product[] product = new Product[1];
+        assertEquals(0, countStatements(() -> {
+            product[0] = productRepository.findByUrl("product-1");
+            Hibernate.initialize(product[0].getCategory());
+            Hibernate.initialize(product[0].getPhoto());
+            return product[0];
+        }));
+        assertEquals("Coffee", product[0].getCategory().getTitle());
+        assertEquals("product-1", product[0].getPhoto().getTitle());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void repeatedCategoryPageTest() {
+        System.out.print("-> repeatedCategoryPage() - ");
+
+        final int first = countStatements(() -> productRepository.findByCategoryUrl("coffee")) +
+                countStatements(() -> categoryRepository.findByUrl("coffee"));
+        final int second = countStatements(() -> productRepository.findByCategoryUrl("coffee")) +
+                countStatements(() -> categoryRepository.findByUrl("coffee"));
+        assertTrue(first > 0);
+        assertEquals(0, second);
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void repeatedFindOneTest() {
+        System.out.print("-> repeatedFindOne() - ");
+
+        final long id = inTransaction(() -> productRepository.findByArticle(2)).getId();
+        countStatements(() -> productRepository.findOne(id));
+        assertEquals(0, countStatements(() -> productRepository.findOne(id)));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void cacheMetricsTest() {
+        System.out.print("-> cacheMetrics() - ");
+
+        final CacheMetrics metrics = new CacheMetrics(statistics);
+        inTransaction(() -> productRepository.findByUrl("product-2"));
+        inTransaction(() -> productRepository.findByUrl("product-2"));
+        assertTrue(metrics.getQueryHits() > 0);
+        assertTrue(metrics.getQueryMisses() > 0);
+        assertTrue(metrics.getRegions().containsKey(Product.class.getName()));
+        assertTrue(metrics.getRegions().get(Product.class.getName()).get("size") > 0);
+
+        final PrometheusWriter writer = new PrometheusWriter("test_");
+        metrics.writeTo(writer);
+        assertTrue(writer.toString().contains("test_cache_size{region=\"" + Product.class.getName() + "\"}"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void updateEvictsTest() {
+        System.out.print("-> updateEvicts() - ");
+
+        inTransaction(() -> productRepository.findByArticle(3));
+        transaction.execute(status -> {
+            final Product product = productRepository.findByArticle(3);
+            product.setTitle("Renamed");
+            return productRepository.save(product);
+        });
+        assertEquals("Renamed", inTransaction(() -> productRepository.findByArticle(3)).getTitle());
+        assertEquals("Renamed", inTransaction(() -> productRepository.findByUrl("product-3")).getTitle());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void insertEvictsQueriesTest() {
+        System.out.print("-> insertEvictsQueries() - ");
+
+        final int before = inTransaction(() -> productRepository.findByCategoryUrl("coffee")).size();
+        transaction.execute(status -> {
+            final Category category = categoryRepository.findByUrl("coffee");
+            return productRepository.save(
+                    Product.getBuilder()
+                            .addArticle(100)
+                            .addTitle("New product")
+                            .addUrl("new-product")
+                            .addCategory(category)
+                            .addPrice(100)
+                            .build()
+            );
+        });
+        final Collection<Product> after = inTransaction(() -> productRepository.findByCategoryUrl("coffee"));
+        assertEquals(before + 1, after.size());
+
+        transaction.execute(status -> {
+            productRepository.deleteByUrl("new-product");
+            return null;
+        });
+        assertEquals(before, inTransaction(() -> productRepository.findByCategoryUrl("coffee")).size());
+
+        System.out.println("OK!");
+    }
+
+    private static <T> T inTransaction(final Supplier<T> action) {
+        return transaction.execute(status -> action.get());
+    }
+
+    private static int countStatements(final Supplier<?> action) {
+        QueryProfile.begin();
+        try {
+            inTransaction(action);
+        } catch (RuntimeException ex) {
+            QueryProfile.end();
+            throw ex;
+        }
+        return QueryProfile.end().getStatementCount();
+    }
+}
@@ -1,39 +1,32 @@
 package ua.com.alexcoffee.repository;
 
+import org.junit.After;
 import org.junit.AfterClass;
+import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.test.context.ContextConfiguration;
-import org.springframework.test.context.ContextHierarchy;
-import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
-import org.springframework.test.context.web.WebAppConfiguration;
-import ua.com.alexcoffee.config.RootConfig;
-import ua.com.alexcoffee.config.WebConfig;
-import ua.com.alexcoffee.model.product.Product;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import ua.com.alexcoffee.model.position.SalePosition;
-import ua.com.alexcoffee.model.basket.ShoppingCart;
+import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.repository.cart.CookieCartStore;
+import ua.com.alexcoffee.service.interfaces.ProductService;
 
-import java.util.ArrayList;
+import javax.servlet.http.Cookie;
 import java.util.Collection;
-import java.util.List;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
-@RunWith(SpringJUnit4ClassRunner.class)
-@WebAppConfiguration
-@ContextHierarchy({
-        @ContextConfiguration(classes = RootConfig.class),
-        @ContextConfiguration(classes = WebConfig.class)
-})
 public class ShoppingCartRepositoryImplTest {
 
-    @Autowired
+    private ProductService productService;
+
     private ShoppingCartRepository shoppingCartRepository;
 
-    @Autowired
-    private ShoppingCart shoppingCart;
+    private MockHttpServletResponse response;
 
     @BeforeClass
     public static void setUp() {
@@ -45,46 +38,52 @@ public class ShoppingCartRepositoryImplTest {
         System.out.println("Testing class \"ShoppingCartRepositoryImpl\" - FINISH.\n");
     }
 
-    @Test
-    public void shoppingCartDAONotNull() throws Exception {
-        System.out.print("-> shoppingCartRepository Not Null - ");
-
-        assertNotNull(shoppingCartRepository);
-
-        System.out.println("OK!");
+    @Before
+    public void beforeTest() {
+        productService = mock(ProductService.class);
+        when(productService.get(1L)).thenReturn(getProduct(1, 10));
+        when(productService.get(2L)).thenReturn(getProduct(2, 25));
+        when(productService.get(3L)).thenThrow(new NullPointerException());
+        shoppingCartRepository = new ShoppingCartRepositoryImpl(
+                new CookieCartStore("cart", "secret", 3600, 50), productService
+        );
+        newRequest(null);
     }
 
-    @Test
-    public void shoppingCartNotNull() throws Exception {
-        System.out.print("-> shoppingCart Not Null - ");
-
-        assertNotNull(shoppingCart);
-
-        System.out.println("OK!");
+    @After
+    public void afterTest() {
+        RequestContextHolder.resetRequestAttributes();
     }
 
     @Test
     public void addAndGetAndRemoveSalePositions() throws Exception {
         System.out.print("-> Add and Get and Remove - ");
 
-        final List<SalePosition> positions1 = new ArrayList<>();
-        final Product product = new Product();
-        product.setTitle("Title");
-        product.setUrl("URL");
-        product.setPrice(10);
-        final SalePosition position = new SalePosition();
-        position.setProduct(product);
-        position.setNumber(100);
-        positions1.add(position);
-
+        final SalePosition position = getPosition(1, 10, 2);
         shoppingCartRepository.addSalePosition(position);
 
-        Collection<SalePosition> positions2 = shoppingCartRepository.getSalePositions();
-        assertNotNull(positions2);
-        assertEquals(positions1, positions2);
+        Collection<SalePosition> positions = shoppingCartRepository.getSalePositions();
+        assertEquals(1, positions.size());
+        assertEquals(2, positions.iterator().next().getNumber());
 
         shoppingCartRepository.removeSalePosition(position);
-        assertFalse(shoppingCartRepository.getSalePositions().contains(position));
+        assertTrue(shoppingCartRepository.getSalePositions().isEmpty());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void cartSurvivesRequestsTest() throws Exception {
+        System.out.print("-> cart survives requests - ");
+
+        shoppingCartRepository.addSalePosition(getPosition(1, 10, 1));
+        newRequest(lastCookie());
+        shoppingCartRepository.addSalePosition(getPosition(1, 10, 1));
+        shoppingCartRepository.addSalePosition(getPosition(2, 25, 1));
+        newRequest(lastCookie());
+
+        assertEquals(3, shoppingCartRepository.getSize());
+        assertTrue(shoppingCartRepository.getPrice() == 45);
 
         System.out.println("OK!");
     }
@@ -93,17 +92,12 @@ public class ShoppingCartRepositoryImplTest {
     public void clearSalePositionsTest() throws Exception {
         System.out.print("-> clearSalePositions() - ");
 
-        final Product product = new Product();
-        product.setTitle("Title");
-        product.setUrl("URL");
-        product.setPrice(10);
-        final SalePosition position = new SalePosition();
-        position.setProduct(product);
-        shoppingCartRepository.addSalePosition(position);
+        shoppingCartRepository.addSalePosition(getPosition(1, 10, 1));
         shoppingCartRepository.clearSalePositions();
 
         assertNotNull(shoppingCartRepository.getSalePositions());
-        assertTrue(shoppingCartRepository.getSize() == 0);
+        assertEquals(0, shoppingCartRepository.getSize());
+        assertEquals(0, lastCookie().getMaxAge());
 
         System.out.println("OK!");
     }
@@ -114,6 +108,10 @@ public class ShoppingCartRepositoryImplTest {
 
         assertNotNull(shoppingCartRepository.get());
 
+        shoppingCartRepository.addSalePosition(getPosition(2, 25, 1));
+        shoppingCartRepository.addSalePosition(getPosition(3, 5, 1));
+        assertEquals(1, shoppingCartRepository.get().getSalePositions().size());
+
         System.out.println("OK!");
     }
 
@@ -121,18 +119,11 @@ public class ShoppingCartRepositoryImplTest {
     public void getSizeTest() throws Exception {
         System.out.print("-> getSize() - ");
 
-        assertTrue(shoppingCartRepository.getSize() == 0);
+        assertEquals(0, shoppingCartRepository.getSize());
 
-        final Product product = new Product();
-        product.setTitle("Title");
-        product.setUrl("URL");
-        product.setPrice(10);
-        final SalePosition position = new SalePosition();
-        position.setProduct(product);
-        position.setNumber(2);
-        shoppingCartRepository.addSalePosition(position);
-
-        assertTrue(shoppingCartRepository.getSize() == 2);
+        shoppingCartRepository.addSalePosition(getPosition(1, 10, 2));
+        assertEquals(2, shoppingCartRepository.getSize());
+        verify(productService, never()).get(anyLong());
 
         System.out.println("OK!");
     }
@@ -143,17 +134,39 @@ public class ShoppingCartRepositoryImplTest {
 
         assertTrue(shoppingCartRepository.getPrice() == 0);
 
-        final Product product = new Product();
-        product.setTitle("Title");
-        product.setUrl("URL");
-        product.setPrice(10);
-        final SalePosition position = new SalePosition();
-        position.setProduct(product);
-        position.setNumber(1);
-        shoppingCartRepository.addSalePosition(position);
-
-        assertTrue(shoppingCartRepository.getPrice() == position.getPrice());
+        shoppingCartRepository.addSalePosition(getPosition(1, 999, 1));
+        assertTrue(shoppingCartRepository.getPrice() == 10);
 
         System.out.println("OK!");
     }
+
+    private void newRequest(final Cookie cookie) {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        if (cookie != null) {
+            request.setCookies(cookie);
+        }
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    private Cookie lastCookie() {
+        final Cookie[] cookies = response.getCookies();
+        return cookies[cookies.length - 1];
+    }
+
+    private static SalePosition getPosition(final long id, final double price, final int number) {
+        final SalePosition position = new SalePosition();
+        position.setProduct(getProduct(id, price));
+        position.setNumber(number);
+        return position;
+    }
+
+    private static Product getProduct(final long id, final double price) {
+        final Product product = new Product();
+        product.setId(id);
+        product.setTitle("Title " + id);
+        product.setUrl("url-" + id);
+        product.setPrice(price);
+        return product;
+    }
 }
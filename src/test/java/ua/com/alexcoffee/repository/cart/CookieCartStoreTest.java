@@ -0,0 +1,115 @@
+package ua.com.alexcoffee.repository.cart;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.Cookie;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class CookieCartStoreTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"CookieCartStore\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"CookieCartStore\" - FINISH.\n");
+    }
+
+    @Test
+    public void saveAndLoadTest() throws Exception {
+        System.out.print("-> save() and load() - ");
+
+        final CookieCartStore store = new CookieCartStore("cart", "secret", 3600, 50);
+        final Map<Long, Integer> lines = new LinkedHashMap<>();
+        lines.put(12L, 1);
+        lines.put(15L, 3);
+        final Cookie cookie = save(store, lines);
+
+        assertTrue(cookie.isHttpOnly());
+        assertEquals(3600, cookie.getMaxAge());
+        assertTrue(cookie.getValue().startsWith("12x1.15x3~"));
+        assertEquals(lines, load(store, cookie));
+        assertEquals(lines, load(new CookieCartStore("cart", "secret", 3600, 50), cookie));
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptySecretTest() throws Exception {
+        System.out.print("-> empty secret - ");
+        try {
+            new CookieCartStore("cart", "", 3600, 50);
+        } finally {
+            System.out.println("OK!");
+        }
+    }
+
+    @Test
+    public void tamperedCookieTest() throws Exception {
+        System.out.print("-> tampered cookie - ");
+
+        final CookieCartStore store = new CookieCartStore("cart", "secret", 3600, 50);
+        final Map<Long, Integer> lines = new LinkedHashMap<>();
+        lines.put(12L, 1);
+        final Cookie cookie = save(store, lines);
+
+        final Cookie tampered = new Cookie("cart", cookie.getValue().replace("12x1", "12x9"));
+        assertTrue(load(store, tampered).isEmpty());
+        assertTrue(load(new CookieCartStore("cart", "other", 3600, 50), cookie).isEmpty());
+        assertTrue(load(store, new Cookie("cart", "garbage")).isEmpty());
+        assertTrue(load(store, null).isEmpty());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void maxLinesTest() throws Exception {
+        System.out.print("-> max lines - ");
+
+        final CookieCartStore store = new CookieCartStore("cart", "secret", 3600, 2);
+        final Map<Long, Integer> lines = new LinkedHashMap<>();
+        lines.put(1L, 1);
+        lines.put(2L, 1);
+        lines.put(3L, 1);
+
+        assertEquals(2, load(store, save(store, lines)).size());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void saveEmptyTest() throws Exception {
+        System.out.print("-> save empty - ");
+
+        final CookieCartStore store = new CookieCartStore("cart", "secret", 3600, 50);
+        final Cookie cookie = save(store, new LinkedHashMap<>());
+
+        assertEquals("", cookie.getValue());
+        assertEquals(0, cookie.getMaxAge());
+
+        System.out.println("OK!");
+    }
+
+    private static Cookie save(final CartStore store, final Map<Long, Integer> lines) {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        store.save(new MockHttpServletRequest(), response, lines);
+        return response.getCookie("cart");
+    }
+
+    private static Map<Long, Integer> load(final CartStore store, final Cookie cookie) {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        if (cookie != null) {
+            request.setCookies(cookie);
+        }
+        return store.load(request);
+    }
+}
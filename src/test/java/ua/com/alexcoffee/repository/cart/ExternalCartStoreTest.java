@@ -0,0 +1,97 @@
+package ua.com.alexcoffee.repository.cart;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ua.com.alexcoffee.util.cache.Cache;
+import ua.com.alexcoffee.util.cache.LruCache;
+
+import javax.servlet.http.Cookie;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class ExternalCartStoreTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"ExternalCartStore\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"ExternalCartStore\" - FINISH.\n");
+    }
+
+    @Test
+    public void saveAndLoadTest() throws Exception {
+        System.out.print("-> save() and load() - ");
+
+        final Cache<String, String> cache = new LruCache<>(100, 60000);
+        final ExternalCartStore store = new ExternalCartStore(cache, "cart", 3600, 50);
+        final Map<Long, Integer> lines = new LinkedHashMap<>();
+        lines.put(12L, 2);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        store.save(new MockHttpServletRequest(), response, lines);
+        final Cookie cookie = response.getCookie("cart");
+        assertNotNull(cookie);
+        assertFalse(cookie.getValue().contains("12"));
+        assertEquals("12x2", cache.get(cookie.getValue()));
+
+        lines.put(15L, 1);
+        response = new MockHttpServletResponse();
+        store.save(request(cookie), response, lines);
+        assertNull(response.getCookie("cart"));
+        assertEquals(lines, store.load(request(cookie)));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void clearTest() throws Exception {
+        System.out.print("-> clear - ");
+
+        final Cache<String, String> cache = new LruCache<>(100, 60000);
+        final ExternalCartStore store = new ExternalCartStore(cache, "cart", 3600, 50);
+        final Map<Long, Integer> lines = new LinkedHashMap<>();
+        lines.put(12L, 2);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        store.save(new MockHttpServletRequest(), response, lines);
+        final Cookie cookie = response.getCookie("cart");
+
+        response = new MockHttpServletResponse();
+        store.save(request(cookie), response, new LinkedHashMap<>());
+        assertEquals(0, cache.size());
+        assertEquals(0, response.getCookie("cart").getMaxAge());
+        assertTrue(store.load(request(cookie)).isEmpty());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void unknownIdTest() throws Exception {
+        System.out.print("-> unknown id - ");
+
+        final ExternalCartStore store = new ExternalCartStore(new LruCache<>(100, 60000), "cart", 3600, 50);
+        final Cookie cookie = new Cookie("cart", "unknown");
+        assertTrue(store.load(request(cookie)).isEmpty());
+
+        final Map<Long, Integer> lines = new LinkedHashMap<>();
+        lines.put(12L, 2);
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        store.save(request(cookie), response, lines);
+        assertNotEquals("unknown", response.getCookie("cart").getValue());
+
+        System.out.println("OK!");
+    }
+
+    private static MockHttpServletRequest request(final Cookie cookie) {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookie);
+        return request;
+    }
+}
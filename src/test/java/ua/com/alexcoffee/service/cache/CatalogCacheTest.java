@@ -0,0 +1,172 @@
+package ua.com.alexcoffee.service.cache;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ua.com.alexcoffee.model.category.Category;
+import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.repository.ProductRepository;
+import ua.com.alexcoffee.service.impl.ProductServiceImpl;
+import ua.com.alexcoffee.service.interfaces.ProductService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class CatalogCacheTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"CatalogCache\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"CatalogCache\" - FINISH.\n");
+    }
+
+    @Test
+    public void productIndexesTest() throws Exception {
+        System.out.print("-> productIndexes() - ");
+
+        CatalogCache cache = new CatalogCache(10, 0);
+        Product product = createProduct(5L, "url", 100);
+        cache.putProduct(product);
+        assertSame(product, cache.getProduct(5L));
+        assertSame(product, cache.getProductByUrl("url"));
+        assertSame(product, cache.getProductByArticle(100));
+
+        product.setUrl("new_url");
+        assertNull(cache.getProductByUrl("url"));
+
+        cache.evictProduct(5L);
+        assertNull(cache.getProduct(5L));
+        assertNull(cache.getProductByArticle(100));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void evictAfterCommitTest() throws Exception {
+        System.out.print("-> evictAfterCommit() - ");
+
+        CatalogCache cache = new CatalogCache(10, 0);
+        Product product = createProduct(5L, "url", 100);
+        cache.putProduct(product);
+        long version = cache.getVersion();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evictProduct(5L);
+            cache.evictCategories();
+            assertSame(product, cache.getProduct(5L));
+            assertEquals(version, cache.getVersion());
+            for (TransactionSynchronization synchronization
+                    : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertNull(cache.getProduct(5L));
+        assertNotEquals(version, cache.getVersion());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void evictCategoriesTest() throws Exception {
+        System.out.print("-> evictCategories() - ");
+
+        CatalogCache cache = new CatalogCache(10, 0);
+        Category category = Category.getBuilder().addId(1L).addUrl("category").build();
+        cache.putCategory(category);
+        cache.putProduct(createProduct(5L, "url", 100));
+        List<Category> categories = new ArrayList<>();
+        categories.add(category);
+        cache.putAllCategories(categories);
+        assertSame(category, cache.getCategoryByUrl("category"));
+
+        cache.evictCategories();
+        assertNull(cache.getCategory(1L));
+        assertNull(cache.getAllCategories());
+        assertNull(cache.getProduct(5L));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void readThroughTest() throws Exception {
+        System.out.print("-> readThrough() - ");
+
+        Product product = createProduct(7L, "product", 200);
+        List<Product> products = new ArrayList<>();
+        products.add(product);
+        ProductRepository repository = mock(ProductRepository.class);
+        when(repository.findOne(7L)).thenReturn(product);
+        when(repository.findByCategoryUrl("category")).thenReturn(products);
+        ProductService service = new ProductServiceImpl(repository, new CatalogCache(10, 0));
+
+        service.get(7L);
+        service.get(7L);
+        service.getByUrl("product");
+        service.getByArticle(200);
+        verify(repository, times(1)).findOne(7L);
+        verify(repository, never()).findByUrl("product");
+        verify(repository, never()).findByArticle(200);
+
+        Collection<Product> first = service.getByCategoryUrl("category");
+        Collection<Product> second = service.getByCategoryUrl("category");
+        assertSame(first, second);
+        verify(repository, times(1)).findByCategoryUrl("category");
+
+        service.update(product);
+        service.get(7L);
+        service.getByCategoryUrl("category");
+        verify(repository, times(2)).findOne(7L);
+        verify(repository, times(2)).findByCategoryUrl("category");
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void randomByCategoryTest() throws Exception {
+        System.out.print("-> randomByCategory() - ");
+
+        List<Long> ids = new ArrayList<>();
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            ids.add(id);
+            products.add(createProduct(id, "url" + id, (int) id));
+        }
+        ProductRepository repository = mock(ProductRepository.class);
+        when(repository.findIdsByCategoryId(3L)).thenReturn(ids);
+        when(repository.findAll(anyListOf(Long.class))).thenReturn(products);
+        ProductService service = new ProductServiceImpl(repository, new CatalogCache(10, 0));
+
+        for (int i = 0; i < 10; i++) {
+            Collection<Product> result = service.getRandomByCategoryId(4, 3L, 2L);
+            assertEquals(4, result.size());
+            for (Product product : result) {
+                assertNotEquals(2L, product.getId());
+            }
+        }
+        verify(repository, times(1)).findIdsByCategoryId(3L);
+        verify(repository, never()).findOne(anyLong());
+        verify(repository, never()).findByCategoryId(anyLong());
+
+        System.out.println("OK!");
+    }
+
+    private static Product createProduct(final long id, final String url, final int article) {
+        Product product = new Product();
+        product.setId(id);
+        product.setUrl(url);
+        product.setArticle(article);
+        return product;
+    }
+}
@@ -0,0 +1,134 @@
+package ua.com.alexcoffee.service.cache;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import ua.com.alexcoffee.model.category.Category;
+import ua.com.alexcoffee.service.interfaces.CategoryService;
+import ua.com.alexcoffee.service.interfaces.ProductService;
+import ua.com.alexcoffee.service.metrics.StartupMetrics;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class WarmUpTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"WarmUp\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"WarmUp\" - FINISH.\n");
+    }
+
+    @Test
+    public void warmUpTest() throws Exception {
+        System.out.print("-> warmUp() - ");
+
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        CategoryService categoryService = mockCategoryService();
+        ProductService productService = mock(ProductService.class);
+        StartupMetrics metrics = new StartupMetrics(100);
+
+        WarmUp warmUp = new WarmUp(dataSource, categoryService, productService, metrics, true, 3, 12, 10);
+        refresh(warmUp);
+        awaitReady(metrics);
+
+        verify(dataSource, times(3)).getConnection();
+        verify(connection, times(3)).close();
+        verify(productService).getRandom(12);
+        verify(productService).getAfter(0, 12);
+        verify(categoryService).get("coffee");
+        verify(productService).getByCategoryUrlAfter("coffee", 0, 12);
+        assertTrue(metrics.getContextMillis() >= 0);
+        assertTrue(metrics.getWarmUpMillis() >= 0);
+        warmUp.destroy();
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void retryTest() throws Exception {
+        System.out.print("-> retry() - ");
+
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection())
+                .thenThrow(new SQLException("Connection refused"))
+                .thenReturn(mock(Connection.class));
+        StartupMetrics metrics = new StartupMetrics(100);
+
+        WarmUp warmUp = new WarmUp(
+                dataSource, mockCategoryService(), mock(ProductService.class), metrics, true, 1, 12, 10
+        );
+        refresh(warmUp);
+        awaitReady(metrics);
+        verify(dataSource, times(2)).getConnection();
+        warmUp.destroy();
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void disabledTest() throws Exception {
+        System.out.print("-> disabled() - ");
+
+        DataSource dataSource = mock(DataSource.class);
+        StartupMetrics metrics = new StartupMetrics(100);
+
+        WarmUp warmUp = new WarmUp(
+                dataSource, mockCategoryService(), mock(ProductService.class), metrics, false, 1, 12, 10
+        );
+        refresh(warmUp);
+        assertTrue(metrics.isReady());
+        verify(dataSource, never()).getConnection();
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void otherContextTest() throws Exception {
+        System.out.print("-> otherContext() - ");
+
+        StartupMetrics metrics = new StartupMetrics(100);
+        WarmUp warmUp = new WarmUp(
+                mock(DataSource.class), mockCategoryService(), mock(ProductService.class), metrics, false, 1, 12, 10
+        );
+        warmUp.setApplicationContext(mock(ApplicationContext.class));
+        warmUp.onApplicationEvent(new ContextRefreshedEvent(mock(ApplicationContext.class)));
+        assertFalse(metrics.isReady());
+
+        System.out.println("OK!");
+    }
+
+    private static CategoryService mockCategoryService() {
+        CategoryService categoryService = mock(CategoryService.class);
+        Category category = Category.getBuilder().addUrl("coffee").build();
+        when(categoryService.getAll()).thenReturn(Collections.singletonList(category));
+        return categoryService;
+    }
+
+    private static void refresh(final WarmUp warmUp) {
+        ApplicationContext context = mock(ApplicationContext.class);
+        when(context.getStartupDate()).thenReturn(System.currentTimeMillis());
+        warmUp.setApplicationContext(context);
+        warmUp.onApplicationEvent(new ContextRefreshedEvent(context));
+    }
+
+    private static void awaitReady(final StartupMetrics metrics) throws InterruptedException {
+        for (int i = 0; (i < 500) && !metrics.isReady(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(metrics.isReady());
+    }
+}
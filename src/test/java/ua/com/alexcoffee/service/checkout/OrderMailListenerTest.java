@@ -0,0 +1,162 @@
+package ua.com.alexcoffee.service.checkout;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ua.com.alexcoffee.config.DatabaseConfig;
+import ua.com.alexcoffee.config.RootConfig;
+import ua.com.alexcoffee.model.category.Category;
+import ua.com.alexcoffee.model.order.Order;
+import ua.com.alexcoffee.model.photo.Photo;
+import ua.com.alexcoffee.model.position.SalePosition;
+import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.repository.CategoryRepository;
+import ua.com.alexcoffee.repository.OrderRepository;
+import ua.com.alexcoffee.repository.ProductRepository;
+import ua.com.alexcoffee.service.impl.CheckoutServiceImpl;
+import ua.com.alexcoffee.service.interfaces.CheckoutService;
+import ua.com.alexcoffee.service.interfaces.SenderService;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+public class OrderMailListenerTest {
+
+    private static AnnotationConfigApplicationContext context;
+
+    private static TransactionTemplate transaction;
+
+    private static CheckoutService checkoutService;
+
+    private static SenderService senderService;
+
+    private static Product product;
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"OrderMailListener\" - START.\n");
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("jdbc.driver", "org.h2.Driver");
+        properties.put("jdbc.driver.url", "jdbc:h2:mem");
+        properties.put("database.name", "order-mail;DB_CLOSE_DELAY=-1");
+        properties.put("database.username", "sa");
+        properties.put("database.password", "");
+        properties.put("database.pool.min-idle", "1");
+        properties.put("database.pool.max-size", "2");
+        properties.put("database.migration.enabled", "false");
+        properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("hibernate.ddl-auto", "update");
+        properties.put("hibernate.cache.use-second-level-cache", "false");
+        senderService = mock(SenderService.class);
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+        context.register(RootConfig.class, DatabaseConfig.class);
+        context.getBeanFactory().registerSingleton("senderService", senderService);
+        context.register(OrderMailListener.class, CheckoutConfig.class);
+        context.refresh();
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        checkoutService = context.getBean(CheckoutService.class);
+        final Category category = Category.getBuilder()
+                .addTitle("Beans")
+                .addUrl("beans")
+                .addPhoto(Photo.getBuilder().addTitle("beans").build())
+                .build();
+        context.getBean(CategoryRepository.class).save(category);
+        product = Product.getBuilder()
+                .addTitle("Coffee")
+                .addUrl("coffee")
+                .addCategory(category)
+                .addPhoto(Photo.getBuilder().addTitle("coffee").addSmallUrl("coffee.jpg").build())
+                .build();
+        product.setPriceMinor(1250);
+        context.getBean(ProductRepository.class).save(product);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        context.close();
+        System.out.println("Testing class \"OrderMailListener\" - FINISH.\n");
+    }
+
+    @Before
+    public void resetSender() {
+        reset(senderService);
+    }
+
+    @Test
+    public void sendAfterCommitTest() throws Exception {
+        System.out.print("-> sendAfterCommit() - ");
+
+        final String key = checkoutService.createKey();
+        final Order order = checkoutService.checkout(key, "Name", "email", "phone", getSalePositions());
+        verify(senderService).send(order);
+        assertEquals(10, order.getNumber().length());
+
+        final Order repeated = checkoutService.checkout(key, "Name", "email", "phone", getSalePositions());
+        assertEquals(order.getId(), repeated.getId());
+        assertEquals(order.getPriceMinor(), repeated.getPriceMinor());
+        verify(senderService, times(1)).send(any(Order.class));
+        assertEquals(1, context.getBean(OrderRepository.class).count());
+        assertRenderable(repeated);
+        assertRenderable(checkoutService.get(key));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void noSendAfterRollbackTest() throws Exception {
+        System.out.print("-> noSendAfterRollback() - ");
+
+        transaction.execute(status -> {
+            checkoutService.checkout(checkoutService.createKey(), "Name", "email", "phone", getSalePositions());
+            status.setRollbackOnly();
+            return null;
+        });
+        verify(senderService, never()).send(any(Order.class));
+
+        System.out.println("OK!");
+    }
+
+    @Configuration
+    static class CheckoutConfig {
+
+        @Bean
+        public CheckoutService checkoutService(
+                final OrderRepository repository,
+                final OrderNumberGenerator numberGenerator,
+                final ApplicationEventPublisher publisher
+        ) {
+            return new CheckoutServiceImpl(repository, numberGenerator, publisher);
+        }
+    }
+
+    private static void assertRenderable(final Order order) {
+        assertEquals("Name", order.getClient().getName());
+        final SalePosition position = order.getSalePositions().iterator().next();
+        assertEquals("coffee", position.getProduct().getUrl());
+        assertEquals("coffee.jpg", position.getProduct().getPhoto().getSmallUrl());
+        assertEquals("beans", position.getProduct().getCategory().getUrl());
+        assertEquals("Beans", position.getProduct().getCategory().getTitle());
+    }
+
+    private static Collection<SalePosition> getSalePositions() {
+        final SalePosition position = new SalePosition();
+        position.setProduct(product);
+        position.setNumber(2);
+        return Collections.singletonList(position);
+    }
+}
@@ -0,0 +1,126 @@
+package ua.com.alexcoffee.service.checkout;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import ua.com.alexcoffee.config.DatabaseConfig;
+import ua.com.alexcoffee.config.RootConfig;
+import ua.com.alexcoffee.repository.OrderSequenceRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class OrderNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+
+    private static final int NUMBERS = 500;
+
+    private static AnnotationConfigApplicationContext context;
+
+    private static OrderSequenceRepository repository;
+
+    private static PlatformTransactionManager transactionManager;
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"OrderNumberGenerator\" - START.\n");
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("jdbc.driver", "org.h2.Driver");
+        properties.put("jdbc.driver.url", "jdbc:h2:mem");
+        properties.put("database.name", "order-number;DB_CLOSE_DELAY=-1");
+        properties.put("database.username", "sa");
+        properties.put("database.password", "");
+        properties.put("database.pool.min-idle", "1");
+        properties.put("database.pool.max-size", "4");
+        properties.put("database.migration.enabled", "false");
+        properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("hibernate.ddl-auto", "update");
+        properties.put("hibernate.cache.use-second-level-cache", "false");
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+        context.register(RootConfig.class, DatabaseConfig.class);
+        context.refresh();
+        repository = context.getBean(OrderSequenceRepository.class);
+        transactionManager = context.getBean(PlatformTransactionManager.class);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        context.close();
+        System.out.println("Testing class \"OrderNumberGenerator\" - FINISH.\n");
+    }
+
+    @Test
+    public void uniqueAcrossNodesTest() throws Exception {
+        System.out.print("-> uniqueAcrossNodes() - ");
+
+        final OrderNumberGenerator first = new OrderNumberGenerator(repository, transactionManager, 10);
+        final OrderNumberGenerator second = new OrderNumberGenerator(repository, transactionManager, 7);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final List<Future<List<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            final OrderNumberGenerator generator = (i % 2 == 0) ? first : second;
+            final Callable<List<String>> task = () -> {
+                final List<String> numbers = new ArrayList<>(NUMBERS);
+                for (int j = 0; j < NUMBERS; j++) {
+                    numbers.add(generator.generate());
+                }
+                return numbers;
+            };
+            futures.add(executor.submit(task));
+        }
+        final Set<String> all = new HashSet<>();
+        for (Future<List<String>> future : futures) {
+            String previous = "";
+            for (String number : future.get()) {
+                assertEquals(10, number.length());
+                assertTrue(number.compareTo(previous) > 0);
+                assertTrue(all.add(number));
+                previous = number;
+            }
+        }
+        executor.shutdown();
+        assertEquals(THREADS * NUMBERS, all.size());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void blockIsReservedOnceTest() throws Exception {
+        System.out.print("-> blockIsReservedOnce() - ");
+
+        final OrderNumberGenerator generator = new OrderNumberGenerator(repository, transactionManager, 50);
+        final long first = Long.parseLong(generator.generate());
+        final long end = repository.findNextValue(1);
+        for (int i = 1; i < 50; i++) {
+            assertEquals(first + i, Long.parseLong(generator.generate()));
+        }
+        assertEquals(end, (long) repository.findNextValue(1));
+        assertEquals(end, Long.parseLong(generator.generate()));
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidBlockSizeTest() throws Exception {
+        System.out.print("-> invalidBlockSize() - ");
+
+        new OrderNumberGenerator(mock(OrderSequenceRepository.class), transactionManager, 0);
+    }
+}
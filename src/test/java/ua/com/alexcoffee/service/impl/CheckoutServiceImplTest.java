@@ -0,0 +1,189 @@
+package ua.com.alexcoffee.service.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import ua.com.alexcoffee.model.order.Order;
+import ua.com.alexcoffee.model.position.SalePosition;
+import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.model.user.UserRole;
+import ua.com.alexcoffee.repository.OrderRepository;
+import ua.com.alexcoffee.service.checkout.OrderCreatedEvent;
+import ua.com.alexcoffee.service.interfaces.CheckoutService;
+import ua.com.alexcoffee.util.generator.StringGenerator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class CheckoutServiceImplTest {
+
+    private static final String KEY = "AAAAAAAAAAAAAAAAAAAAAA";
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"CheckoutServiceImpl\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"CheckoutServiceImpl\" - FINISH.\n");
+    }
+
+    @Test
+    public void checkoutTest() throws Exception {
+        System.out.print("-> checkout() - ");
+
+        OrderRepository repository = mock(OrderRepository.class);
+        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+        CheckoutService checkoutService = newCheckoutService(repository, publisher);
+
+        Order order = checkoutService.checkout(KEY, "Name", "email", "phone", getSalePositions());
+        assertEquals(KEY, order.getCheckoutKey());
+        assertEquals(UserRole.CLIENT, order.getClient().getRole());
+        assertEquals("Name", order.getClient().getName());
+        assertEquals(2, order.getSalePositions().size());
+        assertEquals(1250L * 3, order.getPriceMinor());
+        verify(repository).save(order);
+        verify(publisher).publishEvent(any(OrderCreatedEvent.class));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void repeatedCheckoutTest() throws Exception {
+        System.out.print("-> repeatedCheckout() - ");
+
+        OrderRepository repository = mock(OrderRepository.class);
+        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+        CheckoutService checkoutService = newCheckoutService(repository, publisher);
+
+        Order order = checkoutService.checkout(KEY, "Name", "email", "phone", getSalePositions());
+        when(repository.findByCheckoutKey(KEY)).thenReturn(order);
+        Order repeated = checkoutService.checkout(KEY, "Name", "email", "phone", getSalePositions());
+        assertSame(order, repeated);
+        verify(repository, times(1)).save(any(Order.class));
+        verify(publisher, times(1)).publishEvent(any(OrderCreatedEvent.class));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void invalidKeyTest() throws Exception {
+        System.out.print("-> invalidKey() - ");
+
+        OrderRepository repository = mock(OrderRepository.class);
+        CheckoutService checkoutService = newCheckoutService(repository, mock(ApplicationEventPublisher.class));
+
+        Order first = checkoutService.checkout("1", "Name", "email", "phone", getSalePositions());
+        Order second = checkoutService.checkout(null, "Name", "email", "phone", getSalePositions());
+        assertNotEquals("1", first.getCheckoutKey());
+        assertNotNull(second.getCheckoutKey());
+        assertNotEquals(first.getCheckoutKey(), second.getCheckoutKey());
+        verify(repository, never()).findByCheckoutKey("1");
+        verify(repository, times(2)).findByCheckoutKey(anyString());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void checkKeyTest() throws Exception {
+        System.out.print("-> checkKey() - ");
+
+        CheckoutService checkoutService = newCheckoutService(
+                mock(OrderRepository.class), mock(ApplicationEventPublisher.class)
+        );
+        assertEquals(KEY, checkoutService.checkKey(KEY));
+        String key = checkoutService.checkKey("bad key");
+        assertNotEquals("bad key", key);
+        assertEquals(key, checkoutService.checkKey(key));
+        assertNotNull(checkoutService.checkKey(null));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void createKeyTest() throws Exception {
+        System.out.print("-> createKey() - ");
+
+        CheckoutService checkoutService = newCheckoutService(
+                mock(OrderRepository.class), mock(ApplicationEventPublisher.class)
+        );
+        String key = checkoutService.createKey();
+        assertEquals(22, key.length());
+        assertTrue(key.matches("[A-Za-z0-9_-]+"));
+        assertNotEquals(key, checkoutService.createKey());
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void checkoutWithoutPositionsTest() throws Exception {
+        System.out.print("-> checkoutWithoutPositions() - ");
+
+        CheckoutService checkoutService = newCheckoutService(
+                mock(OrderRepository.class), mock(ApplicationEventPublisher.class)
+        );
+        checkoutService.checkout(KEY, "Name", "email", "phone", Collections.emptyList());
+    }
+
+    @Test
+    public void getTest() throws Exception {
+        System.out.print("-> get() - ");
+
+        OrderRepository repository = mock(OrderRepository.class);
+        CheckoutService checkoutService = newCheckoutService(repository, mock(ApplicationEventPublisher.class));
+        Order order = checkoutService.checkout(KEY, "Name", "email", "phone", getSalePositions());
+        when(repository.findByCheckoutKey(KEY)).thenReturn(order);
+        assertSame(order, checkoutService.get(KEY));
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void getUnknownKeyTest() throws Exception {
+        System.out.print("-> getUnknownKey() - ");
+
+        CheckoutService checkoutService = newCheckoutService(
+                mock(OrderRepository.class), mock(ApplicationEventPublisher.class)
+        );
+        checkoutService.get(KEY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getInvalidKeyTest() throws Exception {
+        System.out.print("-> getInvalidKey() - ");
+
+        CheckoutService checkoutService = newCheckoutService(
+                mock(OrderRepository.class), mock(ApplicationEventPublisher.class)
+        );
+        checkoutService.get("1");
+    }
+
+    private static CheckoutService newCheckoutService(
+            OrderRepository repository,
+            ApplicationEventPublisher publisher
+    ) {
+        return new CheckoutServiceImpl(repository, new StringGenerator(), publisher);
+    }
+
+    private static Collection<SalePosition> getSalePositions() {
+        Collection<SalePosition> positions = new ArrayList<>();
+        for (long id = 1; id <= 2; id++) {
+            Product product = new Product();
+            product.setId(id);
+            product.setPriceMinor(1250);
+            SalePosition position = new SalePosition();
+            position.setProduct(product);
+            position.setNumber((int) id);
+            positions.add(position);
+        }
+        return positions;
+    }
+}
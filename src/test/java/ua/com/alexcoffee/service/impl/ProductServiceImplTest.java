@@ -3,7 +3,14 @@ package ua.com.alexcoffee.service.impl;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.model.projection.ProductRow;
+import ua.com.alexcoffee.repository.ProductRepository;
+import ua.com.alexcoffee.service.cache.CatalogCache;
 import ua.com.alexcoffee.service.interfaces.ProductService;
 import ua.com.alexcoffee.tools.MockService;
 
@@ -11,8 +18,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static ua.com.alexcoffee.tools.MockModel.*;
 
 public class ProductServiceImplTest {
@@ -247,4 +261,68 @@ public class ProductServiceImplTest {
 
         System.out.println("OK!");
     }
+
+    @Test
+    public void getPageTest() throws Exception {
+        System.out.print("-> getPage() - ");
+
+        assertFalse(productService.getPage(0, 20, "-price").getContent().isEmpty());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getPageUnknownSortTest() throws Exception {
+        System.out.print("-> getPageUnknownSort() - ");
+
+        ProductRepository repository = mock(ProductRepository.class);
+        when(repository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(new ArrayList<Product>()));
+        new ProductServiceImpl(repository, new CatalogCache(100, 60000)).getPage(-1, 1000, "-password");
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(repository).findAll(captor.capture());
+        Pageable pageable = captor.getValue();
+        assertEquals(0, pageable.getPageNumber());
+        assertEquals(100, pageable.getPageSize());
+        assertEquals(Sort.Direction.ASC, pageable.getSort().getOrderFor("id").getDirection());
+        assertTrue(pageable.getSort().getOrderFor("password") == null);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getRowsTest() throws Exception {
+        System.out.print("-> getRows() - ");
+
+        ProductRepository repository = mock(ProductRepository.class);
+        when(repository.findAllRows(any(Pageable.class))).thenReturn(new PageImpl<>(new ArrayList<ProductRow>()));
+        new ProductServiceImpl(repository, new CatalogCache(100, 60000)).getRows(2, 10, "-title");
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(repository).findAllRows(captor.capture());
+        verify(repository, never()).findAll(any(Pageable.class));
+        assertEquals(2, captor.getValue().getPageNumber());
+        assertEquals(Sort.Direction.DESC, captor.getValue().getSort().getOrderFor("title").getDirection());
+        List<String> urls = new ArrayList<>();
+        productService.forEachUrl(urls::add);
+        assertEquals(1, urls.size());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getAfterTest() throws Exception {
+        System.out.print("-> getAfter() - ");
+
+        assertFalse(productService.getAfter(0, 12).getContent().isEmpty());
+        assertFalse(productService.getByCategoryUrlAfter(URL, ID, 12).getContent().isEmpty());
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getByEmptyCategoryUrlAfterTest() throws Exception {
+        System.out.println("-> getByEmptyCategoryUrlAfter() - OK!");
+        productService.getByCategoryUrlAfter(null, 0, 12);
+    }
 }
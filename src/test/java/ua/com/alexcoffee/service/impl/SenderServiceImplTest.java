@@ -4,12 +4,24 @@ import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import ua.com.alexcoffee.model.order.Order;
+import ua.com.alexcoffee.model.user.User;
 import ua.com.alexcoffee.service.interfaces.SenderService;
+import ua.com.alexcoffee.service.interfaces.UserService;
+import ua.com.alexcoffee.service.notification.DeadLetterStore;
+import ua.com.alexcoffee.service.notification.NotificationDispatcher;
+import ua.com.alexcoffee.service.notification.SmtpSettings;
 import ua.com.alexcoffee.tools.MockService;
+import ua.com.alexcoffee.tools.MockSmtpServer;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static ua.com.alexcoffee.tools.MockModel.getOrderEntity;
 
 public class SenderServiceImplTest {
@@ -50,4 +62,35 @@ public class SenderServiceImplTest {
 
         System.out.println("OK!");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void sendOverOneConnectionTest() throws Exception {
+        System.out.print("-> sendOverOneConnection() - ");
+
+        try (MockSmtpServer server = new MockSmtpServer()) {
+            List<User> managers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                managers.add(User.getBuilder().addEmail("manager" + i + "@alexcoffee.com.ua").build());
+            }
+            UserService userService = mock(UserService.class);
+            when(userService.getMainAdministrator()).thenReturn(
+                    User.getBuilder().addEmail("admin@alexcoffee.com.ua").addPassword("password").build()
+            );
+            when(userService.getManagers()).thenReturn(managers);
+            NotificationDispatcher dispatcher = new NotificationDispatcher(1, 10, 3, 10, new DeadLetterStore(10));
+            SmtpSettings settings = new SmtpSettings("localhost", server.getPort(), server.getPort(), "info@alexcoffee.com.ua");
+            SenderService sender = new SenderServiceImpl(userService, dispatcher, settings);
+
+            sender.send(getOrderEntity());
+
+            assertTrue(server.awaitMessages(1, 5000));
+            assertEquals(1, server.getMessages());
+            assertEquals(1, server.getConnections());
+            assertEquals(3, server.getRecipients().size());
+            dispatcher.shutdown();
+            assertEquals(0, dispatcher.getDeadLetters().size());
+        }
+
+        System.out.println("OK!");
+    }
+}
@@ -4,17 +4,29 @@ import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ua.com.alexcoffee.model.user.User;
 import ua.com.alexcoffee.model.user.UserRole;
+import ua.com.alexcoffee.repository.UserRepository;
+import ua.com.alexcoffee.service.cache.RoleDirectory;
 import ua.com.alexcoffee.service.interfaces.UserService;
 import ua.com.alexcoffee.tools.MockService;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static ua.com.alexcoffee.tools.MockModel.*;
 
 
@@ -209,4 +221,81 @@ public class UserServiceImplTest {
 
         System.out.println("OK!");
     }
+
+    @Test
+    public void roleDirectoryTest() throws Exception {
+        System.out.print("-> roleDirectory() - ");
+
+        User admin = getUser();
+        List<User> admins = new ArrayList<>();
+        admins.add(admin);
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.findAllByRole(UserRole.ADMIN)).thenReturn(admins);
+        when(repository.findAllByRole(UserRole.MANAGER)).thenReturn(getTenUsers());
+        UserService service = new UserServiceImpl(repository, new RoleDirectory(60000));
+
+        assertEquals(admin, service.getMainAdministrator());
+        assertEquals(10, service.getManagers().size());
+        assertEquals(11, service.getPersonnel().size());
+        verify(repository, times(1)).findAllByRole(UserRole.ADMIN);
+        verify(repository, times(1)).findAllByRole(UserRole.MANAGER);
+
+        service.update(admin);
+        service.getPersonnel();
+        verify(repository, times(2)).findAllByRole(UserRole.ADMIN);
+        verify(repository, times(2)).findAllByRole(UserRole.MANAGER);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void roleDirectoryAfterCommitTest() throws Exception {
+        System.out.print("-> roleDirectoryAfterCommit() - ");
+
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.findAllByRole(UserRole.MANAGER)).thenReturn(getTenUsers());
+        UserService service = new UserServiceImpl(repository, new RoleDirectory(60000));
+        service.getManagers();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.add(getUser());
+            service.removeByRole(UserRole.MANAGER);
+            service.getManagers();
+            verify(repository, times(1)).findAllByRole(UserRole.MANAGER);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        service.getManagers();
+        verify(repository, times(1)).findAllByRole(UserRole.MANAGER);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.remove(getUser());
+            for (TransactionSynchronization synchronization
+                    : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        service.getManagers();
+        verify(repository, times(2)).findAllByRole(UserRole.MANAGER);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getPersonnelRowsTest() throws Exception {
+        System.out.print("-> getPersonnelRows() - ");
+
+        UserRepository repository = mock(UserRepository.class);
+        UserService service = new UserServiceImpl(repository, new RoleDirectory(60000));
+        service.getPersonnelRows();
+
+        verify(repository).findAllRowsByRoleIn(Arrays.asList(UserRole.ADMIN, UserRole.MANAGER));
+        verify(repository, never()).findAllByRole(any(UserRole.class));
+
+        System.out.println("OK!");
+    }
 }
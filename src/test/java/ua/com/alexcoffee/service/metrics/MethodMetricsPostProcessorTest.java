@@ -0,0 +1,72 @@
+package ua.com.alexcoffee.service.metrics;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import ua.com.alexcoffee.service.interfaces.CategoryService;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MethodMetricsPostProcessorTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"MethodMetricsPostProcessor\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"MethodMetricsPostProcessor\" - FINISH.\n");
+    }
+
+    @Test
+    public void instrumentProxyTest() throws Exception {
+        System.out.print("-> instrumentProxy() - ");
+
+        RequestMetrics metrics = new RequestMetrics(10);
+        MethodMetricsPostProcessor postProcessor = new MethodMetricsPostProcessor(metrics);
+        CategoryService target = mock(CategoryService.class);
+        when(target.get("url")).thenThrow(new IllegalArgumentException());
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addInterface(CategoryService.class);
+        CategoryService service = (CategoryService) postProcessor.postProcessAfterInitialization(
+                factory.getProxy(), "categoryService"
+        );
+
+        service.getAll();
+        service.getAll();
+        try {
+            service.get("url");
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        service.toString();
+
+        assertEquals(2, metrics.getMethod("CategoryService.getAll").getCalls());
+        assertEquals(0, metrics.getMethod("CategoryService.getAll").getErrors());
+        assertEquals(1, metrics.getMethod("CategoryService.get").getErrors());
+        assertEquals(2, metrics.getMethods().size());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void ignoreOtherBeansTest() throws Exception {
+        System.out.print("-> ignoreOtherBeans() - ");
+
+        MethodMetricsPostProcessor postProcessor = new MethodMetricsPostProcessor(new RequestMetrics(10));
+        Object bean = new Object();
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "bean"));
+        Runnable target = () -> { };
+        Advised proxy = (Advised) new ProxyFactory(target).getProxy();
+        assertSame(proxy, postProcessor.postProcessAfterInitialization(proxy, "runnable"));
+        assertEquals(0, proxy.getAdvisors().length);
+
+        System.out.println("OK!");
+    }
+}
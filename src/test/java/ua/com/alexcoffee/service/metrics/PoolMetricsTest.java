@@ -0,0 +1,72 @@
+package ua.com.alexcoffee.service.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import org.apache.tomcat.dbcp.dbcp.BasicDataSource;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ua.com.alexcoffee.util.metrics.PrometheusWriter;
+
+import static org.junit.Assert.*;
+
+public class PoolMetricsTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"PoolMetrics\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"PoolMetrics\" - FINISH.\n");
+    }
+
+    @Test
+    public void notStartedTest() throws Exception {
+        System.out.print("-> notStarted() - ");
+
+        PoolMetrics metrics = new PoolMetrics();
+        assertNull(metrics.getName());
+        assertEquals(0, metrics.getActive());
+        assertEquals(0, metrics.getIdle());
+        assertEquals(0, metrics.getWaiting());
+        assertEquals(0, metrics.getAcquired());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void trackerTest() throws Exception {
+        System.out.print("-> tracker() - ");
+
+        PoolMetrics metrics = new PoolMetrics();
+        BasicDataSource dataSource = new BasicDataSource();
+        dataSource.setMaxActive(20);
+        IMetricsTracker tracker = metrics.create("test", new BasicDataSourceStats(dataSource));
+        tracker.recordConnectionCreatedMillis(5);
+        tracker.recordConnectionAcquiredNanos(1_000_000);
+        tracker.recordConnectionAcquiredNanos(3_000_000);
+        tracker.recordConnectionUsageMillis(10);
+        tracker.recordConnectionTimeout();
+        tracker.close();
+
+        assertEquals("test", metrics.getName());
+        assertEquals(20, metrics.getMax());
+        assertEquals(0, metrics.getActive());
+        assertEquals(2, metrics.getAcquired());
+        assertEquals(2.0, metrics.getAcquireMeanMillis(), 0.001);
+        assertEquals(3.0, metrics.getAcquireMaxMillis(), 0.001);
+        assertEquals(10, metrics.getUsageP99Millis());
+        assertEquals(1, metrics.getCreated());
+        assertEquals(1, metrics.getTimeouts());
+
+        PrometheusWriter writer = new PrometheusWriter("alexcoffee_");
+        metrics.writeTo(writer);
+        String text = writer.toString();
+        assertTrue(text.contains("alexcoffee_pool_connections{pool=\"test\",state=\"max\"} 20"));
+        assertTrue(text.contains("alexcoffee_pool_acquire_seconds_count{pool=\"test\"} 2"));
+        assertTrue(text.contains("alexcoffee_pool_timeouts_total{pool=\"test\"} 1"));
+
+        System.out.println("OK!");
+    }
+}
@@ -0,0 +1,66 @@
+package ua.com.alexcoffee.service.metrics;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class QueryProfileTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"QueryProfile\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"QueryProfile\" - FINISH.\n");
+    }
+
+    @Test
+    public void statementsTest() throws Exception {
+        System.out.print("-> statements() - ");
+
+        StatementCounter counter = new StatementCounter();
+        assertEquals("select 1", counter.inspect("select 1"));
+
+        QueryProfile profile = QueryProfile.begin();
+        counter.inspect("select * from products where id=?");
+        counter.inspect("select * from categories where id=?");
+        counter.inspect("select * from categories where id=?");
+        assertSame(profile, QueryProfile.end());
+        counter.inspect("select * from categories where id=?");
+
+        assertEquals(3, profile.getStatementCount());
+        Map.Entry<String, Integer> repeated = profile.getMostRepeated();
+        assertEquals("select * from categories where id=?", repeated.getKey());
+        assertEquals(Integer.valueOf(2), repeated.getValue());
+        assertNull(QueryProfile.end());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void transactionsTest() throws Exception {
+        System.out.print("-> transactions() - ");
+
+        QueryProfile profile = QueryProfile.begin();
+        QueryProfile.onTransactionBegin();
+        QueryProfile.onTransactionBegin();
+        Thread.sleep(5);
+        QueryProfile.onTransactionEnd();
+        assertEquals(0, profile.getTransactionNanos());
+        QueryProfile.onTransactionEnd();
+        QueryProfile.onTransactionEnd();
+        QueryProfile.end();
+
+        assertEquals(2, profile.getTransactionCount());
+        assertTrue(profile.getTransactionNanos() >= 5_000_000);
+        assertNull(new QueryProfile().getMostRepeated());
+
+        System.out.println("OK!");
+    }
+}
@@ -0,0 +1,170 @@
+package ua.com.alexcoffee.service.metrics;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import ua.com.alexcoffee.controller.interceptor.MetricsInterceptor;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class RequestMetricsTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"RequestMetrics\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"RequestMetrics\" - FINISH.\n");
+    }
+
+    @Test
+    public void recordTest() throws Exception {
+        System.out.print("-> record() - ");
+
+        RequestMetrics metrics = new RequestMetrics(10);
+        metrics.record("GET /", 1_000_000, 200, null);
+        metrics.record("GET /", 3_000_000, 404, "NoHandlerFoundException");
+        RouteMetrics route = metrics.getRoute("GET /");
+        assertEquals(2, route.getRequests());
+        assertEquals(1, route.getErrors());
+        assertEquals(Long.valueOf(1), route.getStatuses().get(200));
+        assertEquals(Long.valueOf(1), route.getStatuses().get(404));
+        assertEquals(Long.valueOf(1), route.getOutcomes().get("NoHandlerFoundException"));
+        assertEquals(2.0, route.getMeanMillis(), 0.001);
+        assertEquals(3.0, route.getMaxMillis(), 0.001);
+        assertNull(metrics.getRoute("GET /cart"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void routesSortedByP99Test() throws Exception {
+        System.out.print("-> getRoutes() - ");
+
+        RequestMetrics metrics = new RequestMetrics(10);
+        metrics.record("GET /fast", 1_000, 200, null);
+        metrics.record("GET /slow", 1_000_000_000, 200, null);
+        List<RouteMetrics> routes = metrics.getRoutes();
+        assertEquals("GET /slow", routes.get(0).getRoute());
+        assertEquals("GET /fast", routes.get(1).getRoute());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void recordOutcomeTest() throws Exception {
+        System.out.print("-> recordOutcome() - ");
+
+        RequestMetrics metrics = new RequestMetrics(10);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        metrics.recordOutcome(request, new IllegalArgumentException());
+        assertEquals("IllegalArgumentException", request.getAttribute(RequestMetrics.OUTCOME_ATTRIBUTE));
+        assertEquals(Long.valueOf(1), metrics.getOutcomes().get("IllegalArgumentException"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void toPrometheusTest() throws Exception {
+        System.out.print("-> toPrometheus() - ");
+
+        RequestMetrics metrics = new RequestMetrics(10);
+        metrics.record("GET /product/{url}", 2_000_000, 200, null);
+        metrics.recordOutcome(null, new NullPointerException());
+        String text = metrics.toPrometheus();
+        assertTrue(text.contains("# TYPE alexcoffee_http_request_duration_seconds summary"));
+        assertTrue(text.contains("alexcoffee_http_request_duration_seconds_count{route=\"GET /product/{url}\"} 1"));
+        assertTrue(text.contains("alexcoffee_http_requests_total{route=\"GET /product/{url}\",status=\"200\"} 1"));
+        assertTrue(text.contains("alexcoffee_http_exceptions_total{outcome=\"NullPointerException\"} 1"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void recordQueriesTest() throws Exception {
+        System.out.print("-> recordQueries() - ");
+
+        RequestMetrics metrics = new RequestMetrics(3);
+        StatementCounter counter = new StatementCounter();
+
+        QueryProfile profile = QueryProfile.begin();
+        counter.inspect("select * from products");
+        counter.inspect("select * from categories where id=?");
+        counter.inspect("select * from categories where id=?");
+        metrics.recordQueries("GET /product/all", QueryProfile.end());
+
+        profile = QueryProfile.begin();
+        for (int i = 0; i < 3; i++) {
+            counter.inspect("select * from photos where id=?");
+        }
+        metrics.recordQueries("GET /product/all", QueryProfile.end());
+
+        RouteMetrics route = metrics.getRoute("GET /product/all");
+        assertEquals(3, route.getStatementsMax());
+        assertEquals(3.0, route.getStatementsMean(), 0);
+        assertEquals(1, route.getSuspectedNPlusOne());
+        assertTrue(metrics.toPrometheus().contains(
+                "alexcoffee_http_request_n_plus_one_total{route=\"GET /product/all\"} 1"
+        ));
+        assertNotNull(profile);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void recordMethodTest() throws Exception {
+        System.out.print("-> recordMethod() - ");
+
+        RequestMetrics metrics = new RequestMetrics(10);
+        metrics.recordMethod("ProductRepository.findByUrl", 1_000_000, false);
+        metrics.recordMethod("ProductRepository.findByUrl", 3_000_000, true);
+        metrics.recordMethod("CategoryService.getAll", 10_000_000, false);
+        MethodMetrics method = metrics.getMethod("ProductRepository.findByUrl");
+        assertEquals(2, method.getCalls());
+        assertEquals(1, method.getErrors());
+        assertEquals(4.0, method.getTotalMillis(), 0.001);
+        assertEquals("CategoryService.getAll", metrics.getMethods().get(0).getName());
+        assertTrue(metrics.toPrometheus().contains(
+                "alexcoffee_method_duration_seconds_count{method=\"ProductRepository.findByUrl\"} 2"
+        ));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void interceptorTest() throws Exception {
+        System.out.print("-> MetricsInterceptor - ");
+
+        RequestMetrics metrics = new RequestMetrics(10);
+        MetricsInterceptor interceptor = new MetricsInterceptor(metrics);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/product/coffee");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(request, response, null));
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/product/{url}");
+        interceptor.afterCompletion(request, response, null, null);
+
+        request = new MockHttpServletRequest("POST", "/cart/add");
+        response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        new StatementCounter().inspect("select * from products");
+        interceptor.afterCompletion(request, response, null, new IllegalStateException());
+
+        assertEquals(1, metrics.getRoute("GET /product/{url}").getRequests());
+        assertEquals(0, metrics.getRoute("GET /product/{url}").getStatementsMax());
+        RouteMetrics unmapped = metrics.getRoute("POST UNMAPPED");
+        assertEquals(1, unmapped.getErrors());
+        assertEquals(Long.valueOf(1), unmapped.getStatuses().get(500));
+        assertEquals(1, unmapped.getStatementsMax());
+        assertNull(QueryProfile.end());
+
+        System.out.println("OK!");
+    }
+}
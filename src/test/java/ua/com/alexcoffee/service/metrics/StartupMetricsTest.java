@@ -0,0 +1,97 @@
+package ua.com.alexcoffee.service.metrics;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ua.com.alexcoffee.util.metrics.PrometheusWriter;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class StartupMetricsTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"StartupMetrics\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"StartupMetrics\" - FINISH.\n");
+    }
+
+    @Test
+    public void notReadyTest() throws Exception {
+        System.out.print("-> notReady() - ");
+
+        StartupMetrics metrics = new StartupMetrics(100);
+        assertFalse(metrics.isReady());
+        assertEquals(-1, metrics.getContextMillis());
+        assertEquals(-1, metrics.getWarmUpMillis());
+        assertEquals(-1, metrics.getTotalMillis());
+
+        PrometheusWriter writer = new PrometheusWriter("test_");
+        metrics.writeTo(writer);
+        assertTrue(writer.toString().contains("test_ready 0"));
+        assertFalse(writer.toString().contains("test_startup_seconds{"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void markReadyTest() throws Exception {
+        System.out.print("-> markReady() - ");
+
+        StartupMetrics metrics = new StartupMetrics(100);
+        metrics.markStarted(2500);
+        metrics.markReady(700);
+        assertTrue(metrics.isReady());
+        assertEquals(2500, metrics.getContextMillis());
+        assertEquals(700, metrics.getWarmUpMillis());
+        assertTrue(metrics.getTotalMillis() > 0);
+
+        PrometheusWriter writer = new PrometheusWriter("test_");
+        metrics.writeTo(writer);
+        assertTrue(writer.toString().contains("test_ready 1"));
+        assertTrue(writer.toString().contains("test_startup_seconds{phase=\"context\"} 2.500000"));
+        assertTrue(writer.toString().contains("test_startup_seconds{phase=\"warm_up\"} 0.700000"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void slowBeansTest() throws Exception {
+        System.out.print("-> slowBeans() - ");
+
+        StartupMetrics metrics = new StartupMetrics(100);
+        metrics.recordBean("fast", 1_000_000);
+        metrics.recordBean("slow", 200_000_000);
+        metrics.recordBean("slowest", 3_000_000_000L);
+
+        Map<String, Long> beans = metrics.getSlowBeans();
+        assertEquals(2, beans.size());
+        assertEquals("slowest", new ArrayList<>(beans.keySet()).get(0));
+        assertEquals(3000, beans.get("slowest").longValue());
+        assertEquals(200, beans.get("slow").longValue());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void postProcessorTest() throws Exception {
+        System.out.print("-> postProcessor() - ");
+
+        StartupMetrics metrics = new StartupMetrics(0);
+        StartupMetricsPostProcessor processor = new StartupMetricsPostProcessor(metrics);
+        Object bean = new Object();
+        assertSame(bean, processor.postProcessBeforeInitialization(bean, "bean"));
+        assertSame(bean, processor.postProcessAfterInitialization(bean, "bean"));
+        assertSame(bean, processor.postProcessAfterInitialization(bean, "other"));
+        assertEquals(1, metrics.getSlowBeans().size());
+        assertTrue(metrics.getSlowBeans().containsKey("bean"));
+
+        System.out.println("OK!");
+    }
+}
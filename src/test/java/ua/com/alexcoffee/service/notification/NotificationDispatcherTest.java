@@ -0,0 +1,204 @@
+package ua.com.alexcoffee.service.notification;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NotificationDispatcherTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"NotificationDispatcher\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"NotificationDispatcher\" - FINISH.\n");
+    }
+
+    @Test
+    public void retryTest() throws Exception {
+        System.out.print("-> retry() - ");
+
+        NotificationDispatcher dispatcher = new NotificationDispatcher(1, 10, 3, 1, new DeadLetterStore(10));
+        FailingNotification notification = new FailingNotification(2);
+        assertTrue(dispatcher.submit(notification));
+        assertTrue(notification.awaitDelivery());
+        assertEquals(3, notification.getAttempts());
+        dispatcher.shutdown();
+        assertEquals(0, dispatcher.getDeadLetters().size());
+        assertEquals(0, dispatcher.getPending());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void deadLetterTest() throws Exception {
+        System.out.print("-> deadLetter() - ");
+
+        NotificationDispatcher dispatcher = new NotificationDispatcher(1, 10, 2, 1, new DeadLetterStore(10));
+        FailingNotification notification = new FailingNotification(3);
+        assertTrue(dispatcher.submit(notification));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (dispatcher.getDeadLetters().size() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        DeadLetter letter = dispatcher.getDeadLetters().getAll().iterator().next();
+        assertEquals(2, letter.getAttempts());
+        assertEquals(0, dispatcher.getPending());
+
+        assertEquals(1, dispatcher.retryDeadLetters());
+        assertTrue(notification.awaitDelivery());
+        dispatcher.shutdown();
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void errorTest() throws Exception {
+        System.out.print("-> error() - ");
+
+        NotificationDispatcher dispatcher = new NotificationDispatcher(1, 1, 3, 1, new DeadLetterStore(10));
+        assertTrue(dispatcher.submit(new ErrorNotification()));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (dispatcher.getDeadLetters().size() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        DeadLetter letter = dispatcher.getDeadLetters().getAll().iterator().next();
+        assertEquals(1, letter.getAttempts());
+        assertTrue(letter.getReason().contains(LinkageError.class.getName()));
+        assertEquals(0, dispatcher.getPending());
+
+        FailingNotification next = new FailingNotification(0);
+        assertTrue(dispatcher.submit(next));
+        assertTrue(next.awaitDelivery());
+        dispatcher.shutdown();
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void shutdownTest() throws Exception {
+        System.out.print("-> shutdown() - ");
+
+        NotificationDispatcher dispatcher = new NotificationDispatcher(1, 10, 3, 60000, new DeadLetterStore(10));
+        FailingNotification retried = new FailingNotification(3);
+        assertTrue(dispatcher.submit(retried));
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingNotification blocking = new BlockingNotification(release);
+        assertTrue(dispatcher.submit(blocking));
+        assertTrue(blocking.awaitStart());
+        FailingNotification queued = new FailingNotification(0);
+        assertTrue(dispatcher.submit(queued));
+
+        new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ignored) {
+            }
+            release.countDown();
+        }).start();
+        long started = System.nanoTime();
+        dispatcher.shutdown();
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started) < 5);
+        assertEquals(1, retried.getAttempts());
+        assertEquals(0, queued.getAttempts());
+        assertEquals(2, dispatcher.getDeadLetters().size());
+        assertEquals(0, dispatcher.getPending());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void backpressureTest() throws Exception {
+        System.out.print("-> backpressure() - ");
+
+        NotificationDispatcher dispatcher = new NotificationDispatcher(1, 1, 1, 0, new DeadLetterStore(10));
+        CountDownLatch release = new CountDownLatch(1);
+        assertTrue(dispatcher.submit(new BlockingNotification(release)));
+        assertFalse(dispatcher.submit(new FailingNotification(0)));
+        assertEquals(1, dispatcher.getDeadLetters().size());
+        release.countDown();
+        dispatcher.shutdown();
+
+        System.out.println("OK!");
+    }
+
+    private static final class FailingNotification implements Notification {
+
+        private final int failures;
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final CountDownLatch delivered = new CountDownLatch(1);
+
+        private FailingNotification(final int failures) {
+            this.failures = failures;
+        }
+
+        @Override
+        public String getName() {
+            return "failing";
+        }
+
+        @Override
+        public void deliver() throws Exception {
+            if (this.attempts.incrementAndGet() <= this.failures) {
+                throw new Exception("Attempt " + this.attempts.get() + " failed");
+            }
+            this.delivered.countDown();
+        }
+
+        private int getAttempts() {
+            return this.attempts.get();
+        }
+
+        private boolean awaitDelivery() throws InterruptedException {
+            return this.delivered.await(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static final class ErrorNotification implements Notification {
+
+        @Override
+        public String getName() {
+            return "error";
+        }
+
+        @Override
+        public void deliver() throws Exception {
+            throw new LinkageError("Class is not found");
+        }
+    }
+
+    private static final class BlockingNotification implements Notification {
+
+        private final CountDownLatch release;
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private BlockingNotification(final CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String getName() {
+            return "blocking";
+        }
+
+        @Override
+        public void deliver() throws Exception {
+            this.started.countDown();
+            this.release.await(5, TimeUnit.SECONDS);
+        }
+
+        private boolean awaitStart() throws InterruptedException {
+            return this.started.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
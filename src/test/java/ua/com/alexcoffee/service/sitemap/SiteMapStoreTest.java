@@ -0,0 +1,57 @@
+package ua.com.alexcoffee.service.sitemap;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+public class SiteMapStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"SiteMapStore\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"SiteMapStore\" - FINISH.\n");
+    }
+
+    @Test
+    public void regenerateOnVersionTest() throws Exception {
+        System.out.print("-> regenerateOnVersion() - ");
+
+        SiteMapStore store = new SiteMapStore(folder.getRoot().getPath(), "http://localhost", 10);
+        AtomicInteger scans = new AtomicInteger();
+        SiteMapSource source = writer -> {
+            scans.incrementAndGet();
+            writer.write("http://localhost/", "1.0");
+        };
+
+        SiteMapFile first = store.get(SiteMapWriter.INDEX_NAME, 1, source);
+        store.get(SiteMapWriter.INDEX_NAME, 1, source);
+        assertEquals(1, scans.get());
+        assertNull(store.get("sitemap-2.xml", 1, source));
+
+        SiteMapFile second = store.get(SiteMapWriter.INDEX_NAME, 2, source);
+        assertEquals(2, scans.get());
+        assertNotEquals(first.getFile(), second.getFile());
+        assertEquals(first.getETag(false), second.getETag(false));
+        assertEquals(first.getLastModified(), second.getLastModified());
+
+        store.get(SiteMapWriter.INDEX_NAME, 3, source);
+        assertEquals(2, folder.getRoot().listFiles().length);
+
+        System.out.println("OK!");
+    }
+}
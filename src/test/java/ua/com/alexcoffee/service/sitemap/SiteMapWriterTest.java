@@ -0,0 +1,93 @@
+package ua.com.alexcoffee.service.sitemap;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SiteMapWriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"SiteMapWriter\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"SiteMapWriter\" - FINISH.\n");
+    }
+
+    @Test
+    public void singleFileTest() throws Exception {
+        System.out.print("-> singleFile() - ");
+
+        File directory = folder.newFolder();
+        List<String> names;
+        try (SiteMapWriter writer = new SiteMapWriter(directory, "http://localhost", 10)) {
+            writer.write("http://localhost/product/a&b", "0.8");
+            names = writer.finish();
+        }
+        assertEquals(Arrays.asList(SiteMapWriter.INDEX_NAME), names);
+        String xml = read(new File(directory, SiteMapWriter.INDEX_NAME));
+        assertTrue(xml.contains("<urlset"));
+        assertTrue(xml.contains("<loc>http://localhost/product/a&amp;b</loc>"));
+        assertEquals(xml, readGzip(new File(directory, SiteMapWriter.INDEX_NAME + SiteMapWriter.GZIP_SUFFIX)));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void indexTest() throws Exception {
+        System.out.print("-> index() - ");
+
+        File directory = folder.newFolder();
+        List<String> names;
+        try (SiteMapWriter writer = new SiteMapWriter(directory, "http://localhost", 2)) {
+            for (int i = 0; i < 5; i++) {
+                writer.write("http://localhost/product/" + i, "0.8");
+            }
+            names = writer.finish();
+        }
+        assertEquals(Arrays.asList("sitemap.xml", "sitemap-1.xml", "sitemap-2.xml", "sitemap-3.xml"), names);
+        String index = read(new File(directory, SiteMapWriter.INDEX_NAME));
+        assertTrue(index.contains("<sitemapindex"));
+        assertTrue(index.contains("<loc>http://localhost/sitemap-3.xml</loc>"));
+        assertTrue(read(new File(directory, "sitemap-3.xml")).contains("/product/4<"));
+        assertTrue(new File(directory, "sitemap-2.xml" + SiteMapWriter.GZIP_SUFFIX).isFile());
+
+        System.out.println("OK!");
+    }
+
+    private static String read(final File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    private static String readGzip(final File file) throws IOException {
+        try (InputStream in = new GZIPInputStream(new FileInputStream(file))) {
+            StringBuilder sb = new StringBuilder();
+            byte[] buffer = new byte[1024];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                sb.append(new String(buffer, 0, length, StandardCharsets.UTF_8));
+            }
+            return sb.toString();
+        }
+    }
+}
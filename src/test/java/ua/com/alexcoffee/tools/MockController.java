@@ -10,6 +10,7 @@ import ua.com.alexcoffee.controller.manager.ManagerOrdersController;
 import ua.com.alexcoffee.controller.manager.ManagerUsersController;
 import ua.com.alexcoffee.controller.seo.SEOController;
 import ua.com.alexcoffee.service.interfaces.*;
+import ua.com.alexcoffee.service.metrics.RequestMetrics;
 
 import static ua.com.alexcoffee.tools.MockService.*;
 
@@ -118,11 +119,10 @@ public final class MockController {
         ProductService productService = getProductService();
         CategoryService categoryService = getCategoryService();
         ShoppingCartService shoppingCartService = getShoppingCartService();
-        OrderService orderService = getOrderService();
-        SenderService senderService = getSenderService();
+        CheckoutService checkoutService = getCheckoutService();
         return new HomeController(
                 productService, categoryService, shoppingCartService,
-                orderService, senderService
+                checkoutService
         );
     }
 
@@ -140,12 +140,11 @@ public final class MockController {
     private static AdviceController initAdviceController() {
         ShoppingCartService shoppingCartService = getShoppingCartService();
         UserService userService = getUserService();
-        return new AdviceController(shoppingCartService, userService);
+        return new AdviceController(shoppingCartService, userService, new RequestMetrics(10));
     }
 
     private static SEOController initSeoController() {
-        ProductService productService = getProductService();
-        CategoryService categoryService = getCategoryService();
-        return new SEOController(productService, categoryService);
+        SiteMapService siteMapService = getSiteMapService();
+        return new SEOController(siteMapService);
     }
 }
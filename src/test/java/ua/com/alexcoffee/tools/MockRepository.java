@@ -1,17 +1,31 @@
 package ua.com.alexcoffee.tools;
 
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import ua.com.alexcoffee.model.basket.ShoppingCart;
 import ua.com.alexcoffee.model.category.Category;
 import ua.com.alexcoffee.model.order.Order;
 import ua.com.alexcoffee.model.photo.Photo;
 import ua.com.alexcoffee.model.position.SalePosition;
 import ua.com.alexcoffee.model.product.Product;
+import ua.com.alexcoffee.model.projection.CategoryRow;
+import ua.com.alexcoffee.model.projection.OrderRow;
+import ua.com.alexcoffee.model.projection.ProductRow;
+import ua.com.alexcoffee.model.projection.UserRow;
 import ua.com.alexcoffee.model.user.User;
 import ua.com.alexcoffee.repository.*;
+import ua.com.alexcoffee.util.money.Money;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static ua.com.alexcoffee.tools.MockModel.*;
@@ -92,6 +106,11 @@ public final class MockRepository {
         when(categoryRepository.findByUrl(URL)).thenReturn(category);
         when(categoryRepository.findByUrl(ANY_STRING)).thenReturn(null);
         when(categoryRepository.findAll()).thenReturn(categories);
+        when(categoryRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(categories));
+        when(categoryRepository.findAllRows(any(Pageable.class))).thenReturn(new PageImpl<>(
+                Collections.singletonList(new CategoryRow(ID, TITLE, URL))
+        ));
+        when(categoryRepository.streamAllUrls()).thenAnswer(invocation -> Stream.of(URL));
         return categoryRepository;
     }
 
@@ -104,6 +123,10 @@ public final class MockRepository {
         when(orderRepository.findByNumber(NUMBER)).thenReturn(orderEntity);
         when(orderRepository.findByNumber(ANY_STRING)).thenReturn(null);
         when(orderRepository.findAll()).thenReturn(orderEntities);
+        when(orderRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(orderEntities));
+        when(orderRepository.findAllRows(any(Pageable.class))).thenReturn(new PageImpl<>(
+                Collections.singletonList(new OrderRow(ID, NUMBER, orderEntity.getDate(), STATUS_ENUM, ID))
+        ));
         return orderRepository;
     }
 
@@ -132,6 +155,20 @@ public final class MockRepository {
         when(productRepository.findByCategoryId(ID)).thenReturn(products);
         when(productRepository.findByCategoryId(UNKNOWN_ID)).thenReturn(new ArrayList<>());
         when(productRepository.findAll()).thenReturn(products);
+        when(productRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(products));
+        when(productRepository.findAllRows(any(Pageable.class))).thenReturn(new PageImpl<>(
+                Collections.singletonList(new ProductRow(ID, TITLE, URL, Money.toMinor(PRICE), ID, TITLE))
+        ));
+        when(productRepository.streamAllUrls()).thenAnswer(invocation -> Stream.of(URL));
+        when(productRepository.findByIdGreaterThan(anyLong(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(products));
+        when(productRepository.findByCategoryUrlAndIdGreaterThan(anyString(), anyLong(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(products));
+        List<Long> ids = new ArrayList<>();
+        ids.add(ID);
+        when(productRepository.findAllIds()).thenReturn(ids);
+        when(productRepository.findAll(ids)).thenReturn(products);
+        when(productRepository.findIdsByCategoryId(ID)).thenReturn(ids);
         return productRepository;
     }
 
@@ -166,6 +203,9 @@ public final class MockRepository {
         when(userRepository.findByUsername(USERNAME)).thenReturn(user);
         when(userRepository.findByUsername(ANY_STRING)).thenReturn(null);
         when(userRepository.findAll()).thenReturn(users);
+        when(userRepository.findAllRowsByRoleIn(any(Collection.class))).thenReturn(
+                Collections.singletonList(new UserRow(ID, NAME, USERNAME, ANY_STRING, ROLE_ENUM))
+        );
         return userRepository;
     }
 }
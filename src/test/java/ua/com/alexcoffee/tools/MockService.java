@@ -1,22 +1,51 @@
 package ua.com.alexcoffee.tools;
 
+import org.springframework.context.ApplicationEventPublisher;
 import ua.com.alexcoffee.repository.*;
+import ua.com.alexcoffee.service.cache.CatalogCache;
+import ua.com.alexcoffee.service.cache.RoleDirectory;
 import ua.com.alexcoffee.service.impl.*;
 import ua.com.alexcoffee.service.interfaces.*;
+import ua.com.alexcoffee.service.notification.DeadLetterStore;
+import ua.com.alexcoffee.service.notification.NotificationDispatcher;
+import ua.com.alexcoffee.service.notification.SmtpSettings;
+import ua.com.alexcoffee.service.sitemap.SiteMapStore;
+import ua.com.alexcoffee.util.generator.StringGenerator;
 
+import java.io.File;
+
+import static org.mockito.Mockito.mock;
 import static ua.com.alexcoffee.tools.MockRepository.*;
 
 public final class MockService {
 
+    private static CatalogCache catalogCache;
+    private static NotificationDispatcher notificationDispatcher;
     private static CategoryService categoryService;
+    private static CheckoutService checkoutService;
     private static OrderService orderService;
     private static PhotoService photoService;
     private static ProductService productService;
     private static SalePositionService salePositionService;
     private static SenderService senderService;
     private static ShoppingCartService shoppingCartService;
+    private static SiteMapService siteMapService;
     private static UserService userService;
 
+    public static CatalogCache getCatalogCache() {
+        if (catalogCache == null) {
+            catalogCache = new CatalogCache(100, 60000);
+        }
+        return catalogCache;
+    }
+
+    public static NotificationDispatcher getNotificationDispatcher() {
+        if (notificationDispatcher == null) {
+            notificationDispatcher = new NotificationDispatcher(1, 10, 1, 0, new DeadLetterStore(10));
+        }
+        return notificationDispatcher;
+    }
+
     public static CategoryService getCategoryService() {
         if (categoryService == null) {
             categoryService = initCategoryService();
@@ -24,6 +53,13 @@ public final class MockService {
         return categoryService;
     }
 
+    public static CheckoutService getCheckoutService() {
+        if (checkoutService == null) {
+            checkoutService = initCheckoutService();
+        }
+        return checkoutService;
+    }
+
     public static OrderService getOrderService() {
         if (orderService == null) {
             orderService = initOrderService();
@@ -66,6 +102,13 @@ public final class MockService {
         return shoppingCartService;
     }
 
+    public static SiteMapService getSiteMapService() {
+        if (siteMapService == null) {
+            siteMapService = initSiteMapService();
+        }
+        return siteMapService;
+    }
+
     public static UserService getUserService() {
         if (userService == null) {
             userService = initUserService();
@@ -75,7 +118,14 @@ public final class MockService {
 
     private static CategoryService initCategoryService() {
         CategoryRepository categoryRepository = getCategoryRepository();
-        return new CategoryServiceImpl(categoryRepository);
+        return new CategoryServiceImpl(categoryRepository, getCatalogCache());
+    }
+
+    private static CheckoutService initCheckoutService() {
+        OrderRepository orderRepository = getOrderRepository();
+        return new CheckoutServiceImpl(
+                orderRepository, new StringGenerator(), mock(ApplicationEventPublisher.class)
+        );
     }
 
     private static OrderService initOrderService() {
@@ -90,7 +140,7 @@ public final class MockService {
 
     private static ProductService initProductService() {
         ProductRepository productRepository = getProductRepository();
-        return new ProductServiceImpl(productRepository);
+        return new ProductServiceImpl(productRepository, getCatalogCache());
     }
 
     private static SalePositionService initSalePositionService() {
@@ -100,7 +150,8 @@ public final class MockService {
 
     private static SenderService initSenderService() {
         UserService userService = getUserService();
-        return new SenderServiceImpl(userService);
+        SmtpSettings settings = new SmtpSettings("localhost", 25, 465, "info@alexcoffee.com.ua");
+        return new SenderServiceImpl(userService, getNotificationDispatcher(), settings);
     }
 
     private static ShoppingCartService initShoppingCartService() {
@@ -108,8 +159,14 @@ public final class MockService {
         return new ShoppingCartServiceImpl(shoppingCartRepository);
     }
 
+    private static SiteMapService initSiteMapService() {
+        File directory = new File(System.getProperty("java.io.tmpdir"), "alexcoffee-test-sitemap");
+        SiteMapStore store = new SiteMapStore(directory.getPath(), "http://localhost", 50000);
+        return new SiteMapServiceImpl(getProductService(), getCategoryService(), getCatalogCache(), store);
+    }
+
     private static UserService initUserService() {
         UserRepository userRepository = getUserRepository();
-        return new UserServiceImpl(userRepository);
+        return new UserServiceImpl(userRepository, new RoleDirectory(60000));
     }
 }
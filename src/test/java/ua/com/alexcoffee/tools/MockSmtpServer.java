@@ -0,0 +1,109 @@
+package ua.com.alexcoffee.tools;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal local SMTP server for tests: accepts plain connections,
+ * answers every command positively and counts connections,
+ * recipients and messages.
+ */
+public final class MockSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger messages = new AtomicInteger();
+    private final List<String> recipients = new ArrayList<>();
+
+    public MockSmtpServer() throws IOException {
+        this.serverSocket = new ServerSocket(0);
+        final Thread thread = new Thread(this::acceptAll, "mock-smtp");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    public int getConnections() {
+        return this.connections.get();
+    }
+
+    public int getMessages() {
+        return this.messages.get();
+    }
+
+    public synchronized List<String> getRecipients() {
+        return new ArrayList<>(this.recipients);
+    }
+
+    public boolean awaitMessages(final int count, final long timeout) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeout;
+        while (getMessages() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        return getMessages() >= count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.serverSocket.close();
+    }
+
+    private void acceptAll() {
+        while (!this.serverSocket.isClosed()) {
+            try (Socket socket = this.serverSocket.accept()) {
+                this.connections.incrementAndGet();
+                handle(socket);
+            } catch (IOException ex) {
+                // server socket is closed
+            }
+        }
+    }
+
+    private void handle(final Socket socket) throws IOException {
+        final BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII)
+        );
+        final OutputStream out = socket.getOutputStream();
+        reply(out, "220 localhost");
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final String command = line.toUpperCase();
+            if (command.startsWith("RCPT TO:")) {
+                addRecipient(line.substring("RCPT TO:".length()).trim());
+                reply(out, "250 OK");
+            } else if (command.startsWith("DATA")) {
+                reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                while ((line = reader.readLine()) != null && !".".equals(line)) {
+                    // skip message content
+                }
+                this.messages.incrementAndGet();
+                reply(out, "250 OK");
+            } else if (command.startsWith("QUIT")) {
+                reply(out, "221 Bye");
+                return;
+            } else {
+                reply(out, "250 OK");
+            }
+        }
+    }
+
+    private synchronized void addRecipient(final String recipient) {
+        this.recipients.add(recipient);
+    }
+
+    private static void reply(final OutputStream out, final String line) throws IOException {
+        out.write((line + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+}
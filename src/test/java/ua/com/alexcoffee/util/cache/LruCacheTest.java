@@ -0,0 +1,92 @@
+package ua.com.alexcoffee.util.cache;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LruCacheTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"LruCache\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"LruCache\" - FINISH.\n");
+    }
+
+    @Test
+    public void putAndGetTest() throws Exception {
+        System.out.print("-> putAndGet() - ");
+
+        Cache<Long, String> cache = new LruCache<>(10, 0);
+        cache.put(1L, "one");
+        assertEquals("one", cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void ignoreNullTest() throws Exception {
+        System.out.print("-> ignoreNull() - ");
+
+        Cache<Long, String> cache = new LruCache<>(10, 0);
+        cache.put(null, "one");
+        cache.put(1L, null);
+        assertEquals(0, cache.size());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void evictLeastRecentlyUsedTest() throws Exception {
+        System.out.print("-> evictLeastRecentlyUsed() - ");
+
+        Cache<Long, String> cache = new LruCache<>(2, 0);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.get(1L);
+        cache.put(3L, "three");
+        assertEquals(2, cache.size());
+        assertEquals("one", cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals("three", cache.get(3L));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void expireTest() throws Exception {
+        System.out.print("-> expire() - ");
+
+        Cache<Long, String> cache = new LruCache<>(10, 1);
+        cache.put(1L, "one");
+        Thread.sleep(5);
+        assertNull(cache.get(1L));
+        assertEquals(0, cache.size());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void removeAndClearTest() throws Exception {
+        System.out.print("-> removeAndClear() - ");
+
+        Cache<Long, String> cache = new LruCache<>(10, 0);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.remove(1L);
+        assertNull(cache.get(1L));
+        assertEquals(1, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+
+        System.out.println("OK!");
+    }
+}
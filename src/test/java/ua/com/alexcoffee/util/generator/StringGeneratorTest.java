@@ -0,0 +1,105 @@
+package ua.com.alexcoffee.util.generator;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StringGeneratorTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"StringGenerator\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"StringGenerator\" - FINISH.\n");
+    }
+
+    @Test
+    public void defaultGenerateTest() throws Exception {
+        System.out.print("-> defaultGenerate() - ");
+
+        Generator<String> generator = new StringGenerator();
+        for (int i = 0; i < 1000; i++) {
+            String value = generator.generate();
+            assertEquals(6, value.length());
+            assertTrue(value.matches("[A-Za-z0-9]+"));
+        }
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void patternGenerateTest() throws Exception {
+        System.out.print("-> patternGenerate() - ");
+
+        char[] pattern = "01".toCharArray();
+        Generator<String> generator = new StringGenerator(pattern, 64);
+        pattern[0] = 'x';
+        Set<Character> chars = new HashSet<>();
+        for (char c : generator.generate().toCharArray()) {
+            chars.add(c);
+        }
+        assertTrue(chars.size() <= 2);
+        assertTrue("01".contains(String.valueOf(chars.iterator().next())));
+        assertEquals(64, generator.generate().length());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void secureGenerateTest() throws Exception {
+        System.out.print("-> secureGenerate() - ");
+
+        Generator<String> generator = StringGenerator.secure(22);
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            String token = generator.generate();
+            assertEquals(22, token.length());
+            assertTrue(token.matches("[A-Za-z0-9_-]+"));
+            tokens.add(token);
+        }
+        assertEquals(1000, tokens.size());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void sharedBetweenThreadsTest() throws Exception {
+        System.out.print("-> sharedBetweenThreads() - ");
+
+        Generator<String> generator = new StringGenerator(16);
+        Set<String> values = Collections.synchronizedSet(new HashSet<>());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    values.add(generator.generate());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(4000, values.size());
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooLongTest() throws Exception {
+        System.out.print("-> tooLong() - ");
+
+        new StringGenerator(Integer.MAX_VALUE + 1L);
+    }
+}
@@ -0,0 +1,85 @@
+package ua.com.alexcoffee.util.metrics;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"LatencyHistogram\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"LatencyHistogram\" - FINISH.\n");
+    }
+
+    @Test
+    public void emptyTest() throws Exception {
+        System.out.print("-> empty() - ");
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(99), 0);
+        assertEquals(0, histogram.getMean(), 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void recordTest() throws Exception {
+        System.out.print("-> record() - ");
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10);
+        histogram.record(20);
+        histogram.record(-5);
+        assertEquals(3, histogram.getCount());
+        assertEquals(30, histogram.getSum());
+        assertEquals(20, histogram.getMax());
+        assertEquals(10, histogram.getMean(), 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void percentileTest() throws Exception {
+        System.out.print("-> getValueAtPercentile() - ");
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1_000_000; i++) {
+            histogram.record(i * 1000);
+        }
+        assertRelative(500_000_000L, histogram.getValueAtPercentile(50));
+        assertRelative(990_000_000L, histogram.getValueAtPercentile(99));
+        assertRelative(999_000_000L, histogram.getValueAtPercentile(99.9));
+        assertEquals(1_000_000_000L, histogram.getValueAtPercentile(100));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void bucketsTest() throws Exception {
+        System.out.print("-> buckets() - ");
+
+        for (long value : new long[]{0, 1, 63, 64, 65, 127, 128, 1000, 123_456_789L, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(value <= LatencyHistogram.highestValueOf(index));
+            if (index > 0) {
+                assertTrue(value > LatencyHistogram.highestValueOf(index - 1));
+            }
+        }
+
+        System.out.println("OK!");
+    }
+
+    private static void assertRelative(long expected, long actual) {
+        assertTrue(actual + " is not close to " + expected,
+                Math.abs(actual - expected) <= expected / 32);
+    }
+}
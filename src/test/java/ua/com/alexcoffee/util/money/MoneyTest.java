@@ -0,0 +1,116 @@
+package ua.com.alexcoffee.util.money;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ua.com.alexcoffee.model.basket.ShoppingCart;
+import ua.com.alexcoffee.model.position.SalePosition;
+import ua.com.alexcoffee.model.product.Product;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.*;
+
+public class MoneyTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"Money\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"Money\" - FINISH.\n");
+    }
+
+    @Test
+    public void toMinorTest() throws Exception {
+        System.out.print("-> toMinor() - ");
+
+        assertEquals(10, Money.toMinor(0.1));
+        assertEquals(1250, Money.toMinor(12.5));
+        assertEquals(1235, Money.toMinor(12.345));
+        assertEquals(-1235, Money.toMinor(-12.345));
+        assertEquals(999999, Money.toMinor(new BigDecimal("9999.99")));
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void toMinorNotFiniteTest() throws Exception {
+        System.out.println("-> toMinor() not finite - OK!");
+
+        Money.toMinor(Double.NaN);
+    }
+
+    @Test
+    public void toDoubleTest() throws Exception {
+        System.out.print("-> toDouble() - ");
+
+        assertTrue(Money.toDouble(10) == 0.1);
+        assertTrue(Money.toDouble(30) == 0.3);
+        assertEquals("0.3", Double.toString(Money.toDouble(30)));
+        assertEquals(new BigDecimal("0.30"), Money.toDecimal(30));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void exactSumTest() throws Exception {
+        System.out.print("-> exact sum - ");
+
+        double doubles = 0;
+        long minor = 0;
+        for (int i = 0; i < 10; i++) {
+            doubles += 0.1;
+            minor = Money.add(minor, Money.toMinor(0.1));
+        }
+        assertFalse(doubles == 1.0);
+        assertEquals(100, minor);
+        assertEquals(100, Money.multiply(10, 10));
+        assertEquals(10, Money.subtract(30, 20));
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void overflowTest() throws Exception {
+        System.out.println("-> overflow - OK!");
+
+        Money.multiply(Long.MAX_VALUE / 2, 3);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void subtractOverflowTest() throws Exception {
+        System.out.println("-> subtract overflow - OK!");
+
+        Money.subtract(Long.MIN_VALUE, 1);
+    }
+
+    @Test
+    public void cartTotalTest() throws Exception {
+        System.out.print("-> cart total - ");
+
+        final ShoppingCart cart = new ShoppingCart();
+        for (int i = 1; i <= 3; i++) {
+            final Product product = new Product();
+            product.setId(i);
+            product.setPrice(0.1);
+            final SalePosition position = new SalePosition();
+            position.setProduct(product);
+            position.setNumber(1);
+            cart.addSalePosition(position);
+        }
+        assertEquals(30, cart.getPriceMinor());
+        assertTrue(cart.getPrice() == 0.3);
+
+        final Product removed = new Product();
+        removed.setId(2);
+        final SalePosition position = new SalePosition();
+        position.setProduct(removed);
+        cart.removeSalePosition(position);
+        assertEquals(20, cart.getPriceMinor());
+
+        System.out.println("OK!");
+    }
+}
@@ -0,0 +1,99 @@
+package ua.com.alexcoffee.util.sampler;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RandomSamplerTest {
+
+    private static final long[] VALUES = { 10, 20, 30, 40, 50, 60, 70, 80, 90, 100 };
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"RandomSampler\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"RandomSampler\" - FINISH.\n");
+    }
+
+    @Test
+    public void sampleDistinctTest() throws Exception {
+        System.out.print("-> sampleDistinct() - ");
+
+        for (int i = 0; i < 1000; i++) {
+            long[] result = RandomSampler.sample(VALUES, 4);
+            assertEquals(4, result.length);
+            assertEquals(4, toSet(result).size());
+            assertTrue(contains(result));
+        }
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void sampleMoreThanLengthTest() throws Exception {
+        System.out.print("-> sampleMoreThanLength() - ");
+
+        long[] result = RandomSampler.sample(VALUES, 20);
+        assertEquals(VALUES.length, result.length);
+        assertEquals(VALUES.length, toSet(result).size());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void sampleExcludedTest() throws Exception {
+        System.out.print("-> sampleExcluded() - ");
+
+        for (int i = 0; i < 1000; i++) {
+            long[] result = RandomSampler.sample(VALUES, 4, 30);
+            assertEquals(4, result.length);
+            assertEquals(4, toSet(result).size());
+            assertFalse(toSet(result).contains(30L));
+        }
+        long[] all = RandomSampler.sample(VALUES, 20, 100);
+        assertEquals(VALUES.length - 1, all.length);
+        assertFalse(toSet(all).contains(100L));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void sampleEmptyTest() throws Exception {
+        System.out.print("-> sampleEmpty() - ");
+
+        assertEquals(0, RandomSampler.sample(new long[0], 4).length);
+        assertEquals(0, RandomSampler.sample(null, 4).length);
+        assertEquals(0, RandomSampler.sample(VALUES, 0).length);
+        assertEquals(0, RandomSampler.sample(new long[] { 1 }, 4, 1).length);
+
+        System.out.println("OK!");
+    }
+
+    private static Set<Long> toSet(final long[] array) {
+        Set<Long> set = new HashSet<>();
+        for (long value : array) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    private static boolean contains(final long[] array) {
+        Set<Long> values = toSet(VALUES);
+        for (long value : array) {
+            if (!values.contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}